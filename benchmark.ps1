@@ -14,6 +14,8 @@ $MAYBE_PROGUARD="pre-integration-test"
 cd betterrandom
 mvn "-DskipTests" "-Darguments=-DskipTests" "-Dmaven.test.skip=true" "$MAYBE_ANDROID_FLAG" `
     "clean" "$MAYBE_PROGUARD" install
+cd ../vector
+mvn "-DskipTests" "$MAYBE_ANDROID_FLAG" install
 cd ../benchmark
 mvn "-DskipTests" "$MAYBE_ANDROID_FLAG" package
 cd target
@@ -11,6 +11,8 @@ cd betterrandom
 mvn -B -DskipTests -Darguments=-DskipTests\
     -Dmaven.test.skip=true ${MAYBE_ANDROID_FLAG}\
     clean install &&\
+cd ../vector &&\
+mvn -B -DskipTests ${MAYBE_ANDROID_FLAG} install &&\
 cd ../benchmark &&\
 mvn -DskipTests ${MAYBE_ANDROID_FLAG} package &&\
 cd target &&\
@@ -34,7 +34,8 @@ abstract class AbstractRandomBenchmark {
     final ChainedOptionsBuilder options =
         new OptionsBuilder().syncIterations(false).shouldFailOnError(true)
             .forks(1).resultFormat(ResultFormatType.CSV).detectJvmArgs();
-    for (int nThreads = 1; nThreads <= 2; nThreads++) {
+    for (final int nThreads : ContentionBenchmark
+        .threadCounts(Runtime.getRuntime().availableProcessors())) {
       new Runner(
           options.threads(nThreads).output(String.format("%d-thread_bench_results.csv", nThreads))
               .build()).run();
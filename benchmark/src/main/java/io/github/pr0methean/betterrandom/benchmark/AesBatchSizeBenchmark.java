@@ -0,0 +1,60 @@
+package io.github.pr0methean.betterrandom.benchmark;
+
+import static io.github.pr0methean.betterrandom.seed.SecureRandomSeedGenerator.SECURE_RANDOM_SEED_GENERATOR;
+
+import io.github.pr0methean.betterrandom.prng.AesCounterRandom;
+import io.github.pr0methean.betterrandom.seed.SeedException;
+import io.github.pr0methean.betterrandom.util.EntryPoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Timeout;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of {@link AesCounterRandom} in bytes per second, as a function of the
+ * number of 16-byte blocks it encrypts per call to the cipher. Each operation is one byte.
+ */
+@EntryPoint
+@State(Scope.Benchmark)
+public class AesBatchSizeBenchmark {
+
+  private static final int BYTES_PER_INVOCATION = 1 << 20;
+  private static final int LONGS_PER_INVOCATION = 1 << 12;
+
+  @Param({"16", "64", "256", "1024", "4096"}) public int blocksAtOnce;
+  private AesCounterRandom prng;
+  private final byte[] bytes = new byte[BYTES_PER_INVOCATION];
+
+  @Setup(Level.Trial) public void setUp() throws SeedException {
+    prng = new AesCounterRandom(SECURE_RANDOM_SEED_GENERATOR.generateSeed(32), blocksAtOnce);
+  }
+
+  /** A large request, which is encrypted a batch at a time directly into the array. */
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @OperationsPerInvocation(BYTES_PER_INVOCATION)
+  @Benchmark public byte[] testNextBytes() {
+    prng.nextBytes(bytes);
+    return bytes;
+  }
+
+  /** Many small requests, which are served from the current batch. */
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @OperationsPerInvocation(LONGS_PER_INVOCATION * Long.BYTES)
+  @Benchmark public long testNextLong() {
+    long total = 0;
+    for (int i = 0; i < LONGS_PER_INVOCATION; i++) {
+      total += prng.nextLong();
+    }
+    return total;
+  }
+}
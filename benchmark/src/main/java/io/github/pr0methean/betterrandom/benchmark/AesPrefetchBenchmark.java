@@ -0,0 +1,52 @@
+package io.github.pr0methean.betterrandom.benchmark;
+
+import static io.github.pr0methean.betterrandom.seed.SecureRandomSeedGenerator.SECURE_RANDOM_SEED_GENERATOR;
+
+import io.github.pr0methean.betterrandom.prng.AesCounterRandom;
+import io.github.pr0methean.betterrandom.prng.CipherCounterRandom;
+import io.github.pr0methean.betterrandom.seed.SeedException;
+import io.github.pr0methean.betterrandom.util.EntryPoint;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Timeout;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Samples the latency of {@link AesCounterRandom#nextLong()} with and without {@link
+ * CipherCounterRandom#setPrefetchExecutor(java.util.concurrent.Executor) prefetching}, so that the
+ * stalls when a batch of blocks runs out show up in the upper percentiles.
+ */
+@EntryPoint
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AesPrefetchBenchmark {
+
+  @Param({"false", "true"}) public boolean prefetch;
+  @Param({"256", "4096"}) public int blocksAtOnce;
+  private AesCounterRandom prng;
+
+  @Setup(Level.Trial) public void setUp() throws SeedException {
+    prng = new AesCounterRandom(SECURE_RANDOM_SEED_GENERATOR.generateSeed(32), blocksAtOnce);
+    if (prefetch) {
+      prng.setPrefetchExecutor(ForkJoinPool.commonPool());
+    }
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @Benchmark public long testNextLong() {
+    return prng.nextLong();
+  }
+}
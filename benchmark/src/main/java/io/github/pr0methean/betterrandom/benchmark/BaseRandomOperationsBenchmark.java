@@ -0,0 +1,142 @@
+package io.github.pr0methean.betterrandom.benchmark;
+
+import io.github.pr0methean.betterrandom.prng.BaseRandom;
+import io.github.pr0methean.betterrandom.seed.SeedException;
+import io.github.pr0methean.betterrandom.util.EntryPoint;
+import java.util.Arrays;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Timeout;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures each of the public single-value and stream operations of {@link BaseRandom} for every
+ * {@link PrngType}. {@link #main(String[])} runs them with the GC profiler, so that the
+ * {@code gc.alloc.rate.norm} column shows any per-call allocation; the same is available from the
+ * JMH command line with {@code -prof gc}.
+ */
+@EntryPoint
+@State(Scope.Benchmark)
+public class BaseRandomOperationsBenchmark {
+
+  private static final int INT_BOUND = 1_000_000_007;
+  // The range isn't a power of 2, so that bounded nextLong sometimes has to retry
+  private static final long LONG_ORIGIN = -1_000_000_000_000L;
+  private static final long LONG_BOUND = 3_000_000_000_000L;
+  private static final double PROBABILITY = 0.3;
+  private static final int STREAM_SIZE = 1024;
+  private static final Integer[] ELEMENTS = {2, 3, 5, 7, 11, 13, 17, 19, 23, 29, 31};
+  private static final List<Integer> ELEMENT_LIST = Arrays.asList(ELEMENTS);
+
+  @Param public PrngType prngType;
+  private BaseRandom prng;
+
+  @Setup(Level.Trial) public void setUp() throws SeedException {
+    prng = prngType.create();
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @Benchmark public int testNextIntBounded() {
+    return prng.nextInt(INT_BOUND);
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @Benchmark public long testNextLongOriginBound() {
+    return prng.nextLong(LONG_ORIGIN, LONG_BOUND);
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @Benchmark public double testNextDouble() {
+    return prng.nextDouble();
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @Benchmark public double testNextGaussian() {
+    return prng.nextGaussian();
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @Benchmark public double testNextNormal() {
+    return prng.nextNormal();
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @Benchmark public double testNextExponential() {
+    return prng.nextExponential();
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @Benchmark public boolean testWithProbability() {
+    return prng.withProbability(PROBABILITY);
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @Benchmark public Integer testNextElementArray() {
+    return prng.nextElement(ELEMENTS);
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @Benchmark public Integer testNextElementList() {
+    return prng.nextElement(ELEMENT_LIST);
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @Benchmark public long testIntsSum() {
+    return prng.ints(STREAM_SIZE).asLongStream().sum();
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @Benchmark public long testLongsSum() {
+    return prng.longs(STREAM_SIZE).sum();
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @Benchmark public double testDoublesSum() {
+    return prng.doubles(STREAM_SIZE).sum();
+  }
+
+  public static void main(final String[] args)
+      throws RunnerException, CommandLineOptionException {
+    new Runner(new OptionsBuilder().parent(new CommandLineOptions(args))
+        .include(BaseRandomOperationsBenchmark.class.getSimpleName()).addProfiler(GCProfiler.class)
+        .forks(1).shouldFailOnError(true).resultFormat(ResultFormatType.CSV)
+        .result("operations_results.csv").build()).run();
+  }
+}
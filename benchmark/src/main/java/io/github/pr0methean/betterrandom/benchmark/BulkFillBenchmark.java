@@ -0,0 +1,115 @@
+package io.github.pr0methean.betterrandom.benchmark;
+
+import io.github.pr0methean.betterrandom.prng.BaseRandom;
+import io.github.pr0methean.betterrandom.seed.SeedException;
+import io.github.pr0methean.betterrandom.util.EntryPoint;
+import java.nio.ByteBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Timeout;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares filling arrays with the bulk methods of {@link BaseRandom} to filling them one element
+ * at a time.
+ */
+@EntryPoint
+@State(Scope.Benchmark)
+public class BulkFillBenchmark {
+
+  @Param public PrngType prngType;
+  @Param({"1024", "65536"}) public int arraySize;
+  private BaseRandom prng;
+  private int[] ints;
+  private long[] longs;
+  private double[] doubles;
+  private byte[] bytes;
+  private ByteBuffer directBuffer;
+
+  @Setup(Level.Trial) public void setUp() throws SeedException {
+    prng = prngType.create();
+    ints = new int[arraySize];
+    longs = new long[arraySize];
+    doubles = new double[arraySize];
+    bytes = new byte[arraySize];
+    directBuffer = ByteBuffer.allocateDirect(arraySize);
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @Benchmark public int[] testIntsBulk() {
+    prng.nextInts(ints, 0, arraySize);
+    return ints;
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @Benchmark public int[] testIntsLoop() {
+    for (int i = 0; i < arraySize; i++) {
+      ints[i] = prng.nextInt();
+    }
+    return ints;
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @Benchmark public long[] testLongsBulk() {
+    prng.nextLongs(longs, 0, arraySize);
+    return longs;
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @Benchmark public long[] testLongsLoop() {
+    for (int i = 0; i < arraySize; i++) {
+      longs[i] = prng.nextLong();
+    }
+    return longs;
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @Benchmark public double[] testDoublesBulk() {
+    prng.nextDoubles(doubles, 0, arraySize);
+    return doubles;
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @Benchmark public double[] testDoublesLoop() {
+    for (int i = 0; i < arraySize; i++) {
+      doubles[i] = prng.nextDouble();
+    }
+    return doubles;
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @Benchmark public ByteBuffer testDirectBufferBulk() {
+    directBuffer.clear();
+    prng.nextBytes(directBuffer);
+    return directBuffer;
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @Benchmark public ByteBuffer testDirectBufferViaArray() {
+    directBuffer.clear();
+    prng.nextBytes(bytes);
+    directBuffer.put(bytes);
+    return directBuffer;
+  }
+}
@@ -0,0 +1,17 @@
+package io.github.pr0methean.betterrandom.benchmark;
+
+import io.github.pr0methean.betterrandom.prng.ChaCha20CounterRandom;
+import io.github.pr0methean.betterrandom.seed.SeedException;
+import java.util.Random;
+import org.openjdk.jmh.annotations.Param;
+
+import static io.github.pr0methean.betterrandom.seed.SecureRandomSeedGenerator.SECURE_RANDOM_SEED_GENERATOR;
+
+public class ChaCha20CounterRandomBenchmark extends AbstractRandomBenchmarkWithReseeding {
+
+  @Param({"16", "32"}) public int seedSize;
+
+  @Override protected Random createPrng() throws SeedException {
+    return new ChaCha20CounterRandom(SECURE_RANDOM_SEED_GENERATOR.generateSeed(seedSize));
+  }
+}
@@ -0,0 +1,17 @@
+package io.github.pr0methean.betterrandom.benchmark;
+
+import io.github.pr0methean.betterrandom.prng.ConcurrentPcg64Random;
+import io.github.pr0methean.betterrandom.seed.SecureRandomSeedGenerator;
+import io.github.pr0methean.betterrandom.seed.SeedException;
+import java.util.Random;
+import org.openjdk.jmh.annotations.Param;
+
+public class ConcurrentPcg64RandomBenchmark extends AbstractRandomBenchmarkWithReseeding {
+
+  @Param({"1", "64"}) public int stripes;
+
+  @Override protected Random createPrng() throws SeedException {
+    return new ConcurrentPcg64Random(
+        SecureRandomSeedGenerator.SECURE_RANDOM_SEED_GENERATOR.generateSeed(Long.BYTES), stripes);
+  }
+}
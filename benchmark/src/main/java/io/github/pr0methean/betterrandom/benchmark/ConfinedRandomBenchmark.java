@@ -0,0 +1,62 @@
+package io.github.pr0methean.betterrandom.benchmark;
+
+import io.github.pr0methean.betterrandom.prng.BaseRandom;
+import io.github.pr0methean.betterrandom.seed.SeedException;
+import io.github.pr0methean.betterrandom.util.EntryPoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Timeout;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares each PRNG's single-thread throughput with and without {@link
+ * BaseRandom#confineTo(Thread)}. Each benchmark thread gets its own instance.
+ */
+@EntryPoint
+@State(Scope.Thread)
+public class ConfinedRandomBenchmark {
+
+  @Param public PrngType prngType;
+  @Param({"false", "true"}) public boolean confined;
+  private BaseRandom prng;
+
+  @Setup(Level.Trial) public void setUp() throws SeedException {
+    prng = prngType.create();
+    if (confined) {
+      prng.confineTo(Thread.currentThread());
+    }
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @Benchmark public int testNextInt() {
+    return prng.nextInt();
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @Benchmark public long testNextLong() {
+    return prng.nextLong();
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @Benchmark public long testNextLongBounded() {
+    return prng.nextLong(1_000_000_007L);
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @Benchmark public double testNextDouble() {
+    return prng.nextDouble();
+  }
+}
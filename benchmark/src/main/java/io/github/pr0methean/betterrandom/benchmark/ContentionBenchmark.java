@@ -0,0 +1,186 @@
+package io.github.pr0methean.betterrandom.benchmark;
+
+import io.github.pr0methean.betterrandom.prng.BaseRandom;
+import io.github.pr0methean.betterrandom.seed.SeedException;
+import io.github.pr0methean.betterrandom.util.EntryPoint;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Timeout;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures how the throughput of each {@link PrngType} scales with the number of threads calling
+ * it. Each operation runs both with every thread sharing one instance ({@link Sharing#SHARED}) and
+ * with each thread owning one ({@link Sharing#THREAD_LOCAL}). {@link #main(String[])} runs the suite
+ * at 1, 2, 4, ... threads up to the number of processors, and writes a throughput-vs-threads table
+ * to {@code contention_table.csv}; it accepts the usual JMH options, such as {@code -p
+ * prngType=PCG64}, to narrow the run.
+ */
+@EntryPoint
+public class ContentionBenchmark {
+
+  private static final int STREAM_SIZE = 1024;
+  /** Not a power of 2, so that bounded {@code nextLong} sometimes has to retry. */
+  private static final long LONG_BOUND = 1_000_000_000_000L;
+  private static final String TABLE_FILE = "contention_table.csv";
+
+  /** Whether the benchmark threads share a PRNG. */
+  public enum Sharing {
+    /** All threads use one instance. */
+    SHARED,
+    /** Each thread creates its own instance. */
+    THREAD_LOCAL
+  }
+
+  /** The PRNG type and sharing mode, and the shared instance if there is one. */
+  @State(Scope.Benchmark)
+  public static class SharedPrng {
+    @Param public PrngType prngType;
+    @Param public Sharing sharing;
+    private BaseRandom prng;
+
+    @Setup(Level.Trial) public void setUp() throws SeedException {
+      prng = (sharing == Sharing.SHARED) ? prngType.create() : null;
+    }
+  }
+
+  /** The PRNG that a benchmark thread calls. */
+  @State(Scope.Thread)
+  public static class ThreadPrng {
+    private BaseRandom prng;
+
+    @Setup(Level.Trial) public void setUp(final SharedPrng shared) throws SeedException {
+      prng = (shared.sharing == Sharing.SHARED) ? shared.prng : shared.prngType.create();
+    }
+  }
+
+  /** A per-thread output array for {@link #testNextBytes(ThreadPrng, ByteArray)}. */
+  @State(Scope.Thread)
+  public static class ByteArray {
+    @Param({"16", "1024", "65536"}) public int size;
+    private byte[] array;
+
+    @Setup(Level.Trial) public void setUp() {
+      array = new byte[size];
+    }
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @Benchmark public int testNextInt(final ThreadPrng state) {
+    return state.prng.nextInt();
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @Benchmark public long testNextLongBounded(final ThreadPrng state) {
+    return state.prng.nextLong(LONG_BOUND);
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @Benchmark public double testNextGaussian(final ThreadPrng state) {
+    return state.prng.nextGaussian();
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @Benchmark public byte testNextBytes(final ThreadPrng state, final ByteArray output) {
+    state.prng.nextBytes(output.array);
+    return output.array[0];
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @Benchmark public long testIntsSum(final ThreadPrng state) {
+    return state.prng.ints(STREAM_SIZE).asLongStream().sum();
+  }
+
+  /**
+   * Returns the thread counts to sweep: the powers of 2 below {@code maxThreads}, then {@code
+   * maxThreads} itself.
+   * @param maxThreads the largest thread count; at least 2 is always used
+   * @return the thread counts in increasing order
+   */
+  static List<Integer> threadCounts(final int maxThreads) {
+    final int max = Math.max(maxThreads, 2);
+    final List<Integer> counts = new ArrayList<>();
+    for (int threads = 1; threads < max; threads *= 2) {
+      counts.add(threads);
+    }
+    counts.add(max);
+    return counts;
+  }
+
+  @SuppressWarnings("ObjectAllocationInLoop") public static void main(final String[] args)
+      throws RunnerException, CommandLineOptionException, IOException {
+    final CommandLineOptions commandLine = new CommandLineOptions(args);
+    final List<Integer> threadCounts = threadCounts(Runtime.getRuntime().availableProcessors());
+    // row label -> thread count -> ops/s
+    final Map<String, Map<Integer, Double>> table = new TreeMap<>();
+    for (final int threads : threadCounts) {
+      final Options options = new OptionsBuilder().parent(commandLine)
+          .include(ContentionBenchmark.class.getSimpleName()).threads(threads).forks(1)
+          .shouldFailOnError(true).resultFormat(ResultFormatType.CSV)
+          .result(String.format("contention_%d-thread_results.csv", threads)).build();
+      for (final RunResult result : new Runner(options).run()) {
+        table.computeIfAbsent(rowLabel(result.getParams()), label -> new TreeMap<>())
+            .put(threads, result.getPrimaryResult().getScore());
+      }
+    }
+    try (PrintStream out = new PrintStream(TABLE_FILE, "UTF-8")) {
+      out.print("benchmark");
+      for (final int threads : threadCounts) {
+        out.printf(",%d threads (ops/s)", threads);
+      }
+      out.println();
+      for (final Map.Entry<String, Map<Integer, Double>> row : table.entrySet()) {
+        out.print(row.getKey());
+        for (final int threads : threadCounts) {
+          final Double score = row.getValue().get(threads);
+          out.print(',');
+          if (score != null) {
+            out.printf("%.1f", score);
+          }
+        }
+        out.println();
+      }
+    }
+    System.out.println("Throughput-vs-threads table written to " + TABLE_FILE);
+  }
+
+  private static String rowLabel(final BenchmarkParams params) {
+    final String benchmark = params.getBenchmark();
+    final StringBuilder label =
+        new StringBuilder(benchmark.substring(benchmark.lastIndexOf('.') + 1));
+    for (final String key : params.getParamsKeys()) {
+      label.append(' ').append(key).append('=').append(params.getParam(key));
+    }
+    return label.toString();
+  }
+}
@@ -0,0 +1,69 @@
+package io.github.pr0methean.betterrandom.benchmark;
+
+import io.github.pr0methean.betterrandom.prng.BaseRandom;
+import io.github.pr0methean.betterrandom.prng.ConcurrentPcg64Random;
+import io.github.pr0methean.betterrandom.util.EntryPoint;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Timeout;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the cost of entropy accounting when many threads share one PRNG. The PRNG is a
+ * {@link ConcurrentPcg64Random} with {@link ConcurrentPcg64Random#MAX_STRIPES} stripes, so that the
+ * entropy count is the only state its callers would otherwise all write to. {@link
+ * #testNextLong()} uses the striped entropy debits of {@link BaseRandom}; {@link
+ * #testNextLongWithSharedDebit()} adds the single shared {@link AtomicLong} decrement that every
+ * output used to cost, so the gap between the two, as the thread count grows, is the contention
+ * that striping removes. {@link #main(String[])} runs both at 1, 2, 4, ... threads up to the number
+ * of processors.
+ */
+@EntryPoint
+@State(Scope.Benchmark)
+public class EntropyDebitBenchmark {
+
+  private BaseRandom prng;
+  private final AtomicLong sharedEntropyBits = new AtomicLong(Long.MAX_VALUE);
+
+  @Setup(Level.Trial) public void setUp() {
+    prng = new ConcurrentPcg64Random(new byte[Long.BYTES], ConcurrentPcg64Random.MAX_STRIPES);
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @Benchmark public long testNextLong() {
+    return prng.nextLong();
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @Benchmark public long testNextLongWithSharedDebit() {
+    sharedEntropyBits.addAndGet(-Long.SIZE);
+    return prng.nextLong();
+  }
+
+  @SuppressWarnings("ObjectAllocationInLoop") public static void main(final String[] args)
+      throws RunnerException, CommandLineOptionException {
+    final CommandLineOptions commandLine = new CommandLineOptions(args);
+    for (final int threads : ContentionBenchmark.threadCounts(
+        Runtime.getRuntime().availableProcessors())) {
+      new Runner(new OptionsBuilder().parent(commandLine)
+          .include(EntropyDebitBenchmark.class.getSimpleName()).threads(threads).forks(1)
+          .shouldFailOnError(true).resultFormat(ResultFormatType.CSV)
+          .result(String.format("entropy_debit_%d-thread_results.csv", threads)).build()).run();
+    }
+  }
+}
@@ -0,0 +1,49 @@
+package io.github.pr0methean.betterrandom.benchmark;
+
+import io.github.pr0methean.betterrandom.prng.BaseRandom;
+import io.github.pr0methean.betterrandom.seed.SeedException;
+import io.github.pr0methean.betterrandom.util.EntryPoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Timeout;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares sequential and parallel consumption of the streams returned by {@link BaseRandom}.
+ * Since each split of a parallel stream gets its own PRNG, the parallel case should scale with the
+ * size of the common {@link java.util.concurrent.ForkJoinPool}.
+ */
+@EntryPoint
+@State(Scope.Benchmark)
+public class ParallelStreamBenchmark {
+
+  @Param public PrngType prngType;
+  @Param({"false", "true"}) public boolean parallel;
+  @Param({"1048576"}) public long streamSize;
+  private BaseRandom prng;
+
+  @Setup(Level.Trial) public void setUp() throws SeedException {
+    prng = prngType.create();
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @Benchmark public long testIntsSum() {
+    return parallel ? prng.ints(streamSize).parallel().asLongStream().sum()
+        : prng.ints(streamSize).sequential().asLongStream().sum();
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @Benchmark public double testDoublesSum() {
+    return parallel ? prng.doubles(streamSize).parallel().sum()
+        : prng.doubles(streamSize).sequential().sum();
+  }
+}
@@ -0,0 +1,82 @@
+package io.github.pr0methean.betterrandom.benchmark;
+
+import static io.github.pr0methean.betterrandom.seed.SecureRandomSeedGenerator.SECURE_RANDOM_SEED_GENERATOR;
+
+import io.github.pr0methean.betterrandom.prng.AesCounterRandom;
+import io.github.pr0methean.betterrandom.prng.BaseRandom;
+import io.github.pr0methean.betterrandom.prng.ChaCha20CounterRandom;
+import io.github.pr0methean.betterrandom.prng.Cmwc4096Random;
+import io.github.pr0methean.betterrandom.prng.ConcurrentPcg64Random;
+import io.github.pr0methean.betterrandom.prng.MersenneTwisterRandom;
+import io.github.pr0methean.betterrandom.prng.Pcg128Random;
+import io.github.pr0methean.betterrandom.prng.Pcg64Random;
+import io.github.pr0methean.betterrandom.prng.XorShiftRandom;
+import io.github.pr0methean.betterrandom.prng.concurrent.RandomWrapper;
+import io.github.pr0methean.betterrandom.prng.concurrent.SplittableRandomAdapter;
+import io.github.pr0methean.betterrandom.prng.concurrent.ThreadLocalRandomWrapper;
+import io.github.pr0methean.betterrandom.seed.SeedException;
+
+/**
+ * The {@link BaseRandom} implementations that benchmarks can be parameterized over, including the
+ * wrappers and adapters in {@link io.github.pr0methean.betterrandom.prng.concurrent}.
+ */
+public enum PrngType {
+  AES_COUNTER {
+    @Override BaseRandom create() throws SeedException {
+      return new AesCounterRandom(SECURE_RANDOM_SEED_GENERATOR);
+    }
+  },
+  CHACHA20_COUNTER {
+    @Override BaseRandom create() throws SeedException {
+      return new ChaCha20CounterRandom(SECURE_RANDOM_SEED_GENERATOR);
+    }
+  },
+  CMWC4096 {
+    @Override BaseRandom create() throws SeedException {
+      return new Cmwc4096Random(SECURE_RANDOM_SEED_GENERATOR);
+    }
+  },
+  CONCURRENT_PCG64 {
+    @Override BaseRandom create() throws SeedException {
+      return new ConcurrentPcg64Random(SECURE_RANDOM_SEED_GENERATOR);
+    }
+  },
+  MERSENNE_TWISTER {
+    @Override BaseRandom create() throws SeedException {
+      return new MersenneTwisterRandom(SECURE_RANDOM_SEED_GENERATOR);
+    }
+  },
+  PCG64 {
+    @Override BaseRandom create() throws SeedException {
+      return new Pcg64Random(SECURE_RANDOM_SEED_GENERATOR);
+    }
+  },
+  PCG128 {
+    @Override BaseRandom create() throws SeedException {
+      return new Pcg128Random(SECURE_RANDOM_SEED_GENERATOR);
+    }
+  },
+  XOR_SHIFT {
+    @Override BaseRandom create() throws SeedException {
+      return new XorShiftRandom(SECURE_RANDOM_SEED_GENERATOR);
+    }
+  },
+  RANDOM_WRAPPER {
+    @Override BaseRandom create() throws SeedException {
+      return new RandomWrapper(SECURE_RANDOM_SEED_GENERATOR);
+    }
+  },
+  SPLITTABLE_RANDOM_ADAPTER {
+    @Override BaseRandom create() throws SeedException {
+      return new SplittableRandomAdapter(SECURE_RANDOM_SEED_GENERATOR);
+    }
+  },
+  THREAD_LOCAL_PCG64 {
+    @Override BaseRandom create() throws SeedException {
+      return new ThreadLocalRandomWrapper(Long.BYTES, SECURE_RANDOM_SEED_GENERATOR,
+          Pcg64Random::new);
+    }
+  };
+
+  abstract BaseRandom create() throws SeedException;
+}
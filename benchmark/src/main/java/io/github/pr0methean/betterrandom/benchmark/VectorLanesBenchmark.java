@@ -0,0 +1,108 @@
+package io.github.pr0methean.betterrandom.benchmark;
+
+import io.github.pr0methean.betterrandom.prng.Pcg64Random;
+import io.github.pr0methean.betterrandom.prng.XorShiftRandom;
+import io.github.pr0methean.betterrandom.util.EntryPoint;
+import io.github.pr0methean.betterrandom.vector.Pcg64Lanes;
+import io.github.pr0methean.betterrandom.vector.XorShiftLanes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Timeout;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the bulk methods of {@link XorShiftLanes} and {@link Pcg64Lanes}, with the preferred lane
+ * count, to those of a single {@link XorShiftRandom} or {@link Pcg64Random}. The lanes only run in
+ * SIMD registers on Java 17 and later, and only if the benchmark JVMs get the incubator module: add
+ * {@code -jvmArgsAppend --add-modules=jdk.incubator.vector} to the command line.
+ */
+@EntryPoint
+@State(Scope.Benchmark)
+public class VectorLanesBenchmark {
+
+  @Param({"1024", "65536"}) public int arraySize;
+  private XorShiftRandom xorShift;
+  private XorShiftLanes xorShiftLanes;
+  private Pcg64Random pcg;
+  private Pcg64Lanes pcgLanes;
+  private int[] ints;
+  private long[] longs;
+
+  @Setup(Level.Trial) public void setUp() {
+    xorShift = new XorShiftRandom();
+    xorShiftLanes = new XorShiftLanes(xorShift, XorShiftLanes.getPreferredLanes());
+    pcg = new Pcg64Random();
+    pcgLanes = new Pcg64Lanes(pcg, Pcg64Lanes.getPreferredLanes());
+    ints = new int[arraySize];
+    longs = new long[arraySize];
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @Benchmark public int[] testXorShiftRandomInts() {
+    xorShift.nextInts(ints, 0, arraySize);
+    return ints;
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @Benchmark public int[] testXorShiftLanesInts() {
+    xorShiftLanes.nextInts(ints);
+    return ints;
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @Benchmark public long[] testXorShiftRandomLongs() {
+    xorShift.nextLongs(longs, 0, arraySize);
+    return longs;
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @Benchmark public long[] testXorShiftLanesLongs() {
+    xorShiftLanes.nextLongs(longs);
+    return longs;
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @Benchmark public int[] testPcg64RandomInts() {
+    pcg.nextInts(ints, 0, arraySize);
+    return ints;
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @Benchmark public int[] testPcg64LanesInts() {
+    pcgLanes.nextInts(ints);
+    return ints;
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @Benchmark public long[] testPcg64RandomLongs() {
+    pcg.nextLongs(longs, 0, arraySize);
+    return longs;
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @Benchmark public long[] testPcg64LanesLongs() {
+    pcgLanes.nextLongs(longs);
+    return longs;
+  }
+}
@@ -0,0 +1,91 @@
+package io.github.pr0methean.betterrandom.benchmark;
+
+import io.github.pr0methean.betterrandom.distribution.WeightedSampler;
+import io.github.pr0methean.betterrandom.prng.BaseRandom;
+import io.github.pr0methean.betterrandom.seed.SeedException;
+import io.github.pr0methean.betterrandom.util.EntryPoint;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Timeout;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link WeightedSampler} with a binary search of cumulative weights, which is what
+ * weighted choice costs without alias tables, on large tables.
+ */
+@EntryPoint
+@State(Scope.Benchmark)
+public class WeightedSamplerBenchmark {
+
+  private static final int BULK_SIZE = 1024;
+
+  @Param({"PCG64"}) public PrngType prngType;
+  @Param({"1000", "100000", "1000000"}) public int tableSize;
+  private BaseRandom prng;
+  private WeightedSampler<Integer> sampler;
+  private double[] cumulativeWeights;
+  private final int[] bulkOutput = new int[BULK_SIZE];
+
+  @Setup(Level.Trial) public void setUp() throws SeedException {
+    prng = prngType.create();
+    final List<Integer> elements = new ArrayList<>(tableSize);
+    final double[] weights = new double[tableSize];
+    cumulativeWeights = new double[tableSize];
+    double total = 0;
+    for (int i = 0; i < tableSize; i++) {
+      elements.add(i);
+      weights[i] = prng.nextExponential();
+      total += weights[i];
+      cumulativeWeights[i] = total;
+    }
+    sampler = new WeightedSampler<>(elements, weights);
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @Benchmark public Integer testNextWeightedElement() {
+    return prng.nextWeightedElement(sampler);
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @Benchmark public int testSampleIndex() {
+    return sampler.sampleIndex(prng);
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @Benchmark public int[] testBulkSample() {
+    sampler.sample(prng, bulkOutput);
+    return bulkOutput;
+  }
+
+  /** Measures the amortized cost of a rebuild after a weight change. */
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @Benchmark public int testSetWeightThenSample() {
+    sampler.setWeight(prng.nextInt(tableSize), prng.nextExponential());
+    return sampler.sampleIndex(prng);
+  }
+
+  @Timeout(time = 60) // seconds per iteration
+  @Measurement(iterations = 5, time = 4)
+  @Warmup(iterations = 5, time = 4)
+  @Benchmark public int testBinarySearchBaseline() {
+    final double target = prng.nextDouble() * cumulativeWeights[tableSize - 1];
+    final int index = Arrays.binarySearch(cumulativeWeights, target);
+    return (index >= 0) ? (index + 1) : (-index - 1);
+  }
+}
@@ -0,0 +1,126 @@
+package io.github.pr0methean.betterrandom.distribution;
+
+import io.github.pr0methean.betterrandom.prng.BaseRandom;
+
+/**
+ * A discrete distribution over the indices {@code 0} through {@code weights.length - 1} of an array
+ * of weights, sampled in constant time from a single {@link BaseRandom#nextDouble()} using the
+ * alias tables of Vose, "A linear algorithm for generating random numbers with a given
+ * distribution," IEEE Transactions on Software Engineering 17(9) (1991). Building the tables takes
+ * linear time.
+ */
+public final class AliasDistribution implements IntDistribution {
+
+  /** Uniform draws per {@link BaseRandom#nextDoubles(double[], int, int)} call in bulk sampling. */
+  private static final int BULK_CHUNK = 1024;
+
+  /** Probability of keeping each column's own index rather than taking its alias. */
+  private final double[] probability;
+  private final int[] alias;
+
+  /**
+   * Creates an instance.
+   * @param weights the relative probability of each index; must be non-empty, finite and
+   *     non-negative, with a positive sum
+   */
+  public AliasDistribution(final double[] weights) {
+    this(weights, weights.length, new double[weights.length], new int[weights.length]);
+  }
+
+  /**
+   * Builds the tables from the first {@code n} weights, using caller-supplied scratch space so that
+   * {@link WeightedSampler} can rebuild without allocating it each time.
+   * @param weights the relative probability of each index
+   * @param n how many of {@code weights} to use
+   * @param scaled scratch space of length at least {@code n}
+   * @param work scratch space of length at least {@code n}
+   */
+  AliasDistribution(final double[] weights, final int n, final double[] scaled, final int[] work) {
+    if (n == 0) {
+      throw new IllegalArgumentException("weights must not be empty");
+    }
+    double sum = 0;
+    for (int i = 0; i < n; i++) {
+      final double weight = weights[i];
+      if (!(weight >= 0) || Double.isInfinite(weight)) {
+        throw new IllegalArgumentException(
+            "weights must be finite and non-negative; found " + weight);
+      }
+      sum += weight;
+    }
+    if (!(sum > 0) || Double.isInfinite(sum)) {
+      throw new IllegalArgumentException("weights must have a finite, positive sum; was " + sum);
+    }
+    probability = new double[n];
+    alias = new int[n];
+    // Scaled so that the average is 1; the small and large work lists share one array
+    int small = 0;
+    int large = n;
+    for (int i = 0; i < n; i++) {
+      scaled[i] = (weights[i] * n) / sum;
+      if (scaled[i] < 1) {
+        work[small++] = i;
+      } else {
+        work[--large] = i;
+      }
+    }
+    while ((small > 0) && (large < n)) {
+      final int less = work[--small];
+      final int more = work[large++];
+      probability[less] = scaled[less];
+      alias[less] = more;
+      scaled[more] = (scaled[more] + scaled[less]) - 1;
+      if (scaled[more] < 1) {
+        work[small++] = more;
+      } else {
+        work[--large] = more;
+      }
+    }
+    // Whatever remains is 1 up to rounding error
+    while (large < n) {
+      probability[work[large++]] = 1;
+    }
+    while (small > 0) {
+      probability[work[--small]] = 1;
+    }
+  }
+
+  /**
+   * Returns the number of indices.
+   * @return the length of the weights array this was built from
+   */
+  public int size() {
+    return probability.length;
+  }
+
+  private int fromUniform(final double uniform) {
+    final double scaled = uniform * probability.length;
+    final int column = (int) scaled;
+    return ((scaled - column) < probability[column]) ? column : alias[column];
+  }
+
+  @Override public int sample(final BaseRandom rng) {
+    return fromUniform(rng.nextDouble());
+  }
+
+  /**
+   * {@inheritDoc} Draws the uniform input in chunks with {@link BaseRandom#nextDoubles(double[],
+   * int, int)}, so the PRNG's lock is acquired and its entropy debited once per chunk.
+   */
+  @Override public void sample(final BaseRandom rng, final int[] dest, final int offset,
+      final int length) {
+    DistributionUtils.checkArrayRange(dest.length, offset, length);
+    final double[] uniforms = new double[Math.min(length, BULK_CHUNK)];
+    for (int done = 0; done < length; done += uniforms.length) {
+      final int chunk = Math.min(uniforms.length, length - done);
+      rng.nextDoubles(uniforms, 0, chunk);
+      for (int i = 0; i < chunk; i++) {
+        dest[offset + done + i] = fromUniform(uniforms[i]);
+      }
+    }
+  }
+
+  @Override public String toString() {
+    return "AliasDistribution(size=" + probability.length + ")";
+  }
+}
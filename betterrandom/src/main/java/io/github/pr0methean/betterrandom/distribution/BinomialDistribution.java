@@ -0,0 +1,170 @@
+package io.github.pr0methean.betterrandom.distribution;
+
+import io.github.pr0methean.betterrandom.prng.BaseRandom;
+
+/**
+ * The binomial distribution of the number of successes in a fixed number of independent trials.
+ * When the expected number of successes or failures (whichever is less) is at least 10, this uses
+ * the transformed rejection method with decomposition (BTRD) of Hörmann, "The generation of
+ * binomial random variates," Journal of Statistical Computation and Simulation 46(1-2) (1993),
+ * which takes a small, constant expected number of uniform draws. Otherwise it uses inversion by
+ * sequential search from a single uniform draw.
+ */
+public final class BinomialDistribution implements IntDistribution {
+
+  /** The smallest value of {@code trials * min(p, 1 - p)} that uses BTRD. */
+  private static final double BTRD_THRESHOLD = 10;
+
+  private final int trials;
+  private final double probability;
+  /** Whether we sample the number of failures, because successes are more likely. */
+  private final boolean flipped;
+  /** min(probability, 1 - probability). */
+  private final double p;
+  private final boolean useBtrd;
+
+  // Inversion setup
+  private final double oddsRatio; // p / (1 - p)
+  private final double zeroProbability; // (1 - p) ^ trials
+
+  // BTRD setup; names follow the paper
+  private final int m;
+  private final double nr;
+  private final double npq;
+  private final double b;
+  private final double a;
+  private final double c;
+  private final double alpha;
+  private final double vr;
+  private final double urvr;
+  private final double h;
+
+  /**
+   * Creates an instance.
+   * @param trials the number of trials; must be non-negative
+   * @param probability the probability that each trial succeeds; must be between 0 and 1
+   *     inclusive
+   */
+  public BinomialDistribution(final int trials, final double probability) {
+    if (trials < 0) {
+      throw new IllegalArgumentException("trials must be non-negative; was " + trials);
+    }
+    DistributionUtils.checkProbability("probability", probability);
+    this.trials = trials;
+    this.probability = probability;
+    flipped = probability > 0.5;
+    p = flipped ? (1 - probability) : probability;
+    final double q = 1 - p;
+    oddsRatio = p / q;
+    zeroProbability = Math.pow(q, trials);
+    useBtrd = (trials * p) >= BTRD_THRESHOLD;
+    m = (int) Math.floor((trials + 1.0) * p);
+    nr = (trials + 1.0) * oddsRatio;
+    npq = trials * p * q;
+    final double sqrtNpq = Math.sqrt(npq);
+    b = 1.15 + (2.53 * sqrtNpq);
+    a = -0.0873 + (0.0248 * b) + (0.01 * p);
+    c = (trials * p) + 0.5;
+    alpha = (2.83 + (5.1 / b)) * sqrtNpq;
+    vr = 0.92 - (4.2 / b);
+    urvr = 0.86 * vr;
+    final double nm = (trials - m) + 1.0;
+    h = ((m + 0.5) * Math.log((m + 1.0) / (oddsRatio * nm)))
+        + DistributionUtils.stirlingCorrection(m)
+        + DistributionUtils.stirlingCorrection(trials - m);
+  }
+
+  @Override public int sample(final BaseRandom rng) {
+    final int successes = useBtrd ? sampleBtrd(rng) : sampleInversion(rng);
+    return flipped ? (trials - successes) : successes;
+  }
+
+  private int sampleInversion(final BaseRandom rng) {
+    while (true) {
+      double u = rng.nextDouble();
+      double probability = zeroProbability;
+      int k = 0;
+      while (u >= probability) {
+        u -= probability;
+        k++;
+        if (k > trials) {
+          break; // Rounding error left u above the total probability; try again
+        }
+        probability *= (((trials + 1.0) / k) - 1) * oddsRatio;
+      }
+      if (k <= trials) {
+        return k;
+      }
+    }
+  }
+
+  private int sampleBtrd(final BaseRandom rng) {
+    while (true) {
+      double v = rng.nextDouble();
+      double u;
+      if (v <= urvr) {
+        // Step 1: the triangle in the middle of the hat, accepted without evaluating f(k)
+        u = (v / vr) - 0.43;
+        return (int) Math.floor(((((2 * a) / (0.5 - Math.abs(u))) + b) * u) + c);
+      }
+      // Step 2: generate (u, v)
+      if (v >= vr) {
+        u = rng.nextDouble() - 0.5;
+      } else {
+        u = (v / vr) - 0.93;
+        u = (Math.signum(u) * 0.5) - u;
+        v = rng.nextDouble() * vr;
+      }
+      // Step 3.0
+      final double us = 0.5 - Math.abs(u);
+      final double kDouble = Math.floor(((((2 * a) / us) + b) * u) + c);
+      if ((kDouble < 0) || (kDouble > trials)) {
+        continue;
+      }
+      final int k = (int) kDouble;
+      v = (v * alpha) / ((a / (us * us)) + b);
+      final int km = Math.abs(k - m);
+      if (km <= 15) {
+        // Step 3.1: recursive evaluation of f(k)
+        double f = 1;
+        if (m < k) {
+          for (long i = m + 1L; i <= k; i++) {
+            f *= (nr / i) - oddsRatio;
+          }
+        } else if (m > k) {
+          for (long i = k + 1L; i <= m; i++) {
+            v *= (nr / i) - oddsRatio;
+          }
+        }
+        if (v <= f) {
+          return k;
+        }
+        continue;
+      }
+      // Step 3.2: squeeze acceptance or rejection
+      v = Math.log(v);
+      final double rho =
+          (km / npq) * (((((km / 3.0) + 0.625) * km) + (1.0 / 6)) / npq + 0.5);
+      final double t = (-km * (double) km) / (2 * npq);
+      if (v < (t - rho)) {
+        return k;
+      }
+      if (v > (t + rho)) {
+        continue;
+      }
+      // Steps 3.3 and 3.4: final acceptance or rejection
+      final double nm = (trials - m) + 1.0;
+      final double nk = (trials - k) + 1.0;
+      if (v <= (h + ((trials + 1.0) * Math.log(nm / nk))
+          + ((k + 0.5) * Math.log((nk * oddsRatio) / (k + 1.0)))
+          - DistributionUtils.stirlingCorrection(k)
+          - DistributionUtils.stirlingCorrection(trials - k))) {
+        return k;
+      }
+    }
+  }
+
+  @Override public String toString() {
+    return "BinomialDistribution(trials=" + trials + ", probability=" + probability + ")";
+  }
+}
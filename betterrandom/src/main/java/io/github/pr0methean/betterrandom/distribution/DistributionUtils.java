@@ -0,0 +1,81 @@
+package io.github.pr0methean.betterrandom.distribution;
+
+/**
+ * Argument checks and special functions shared by the samplers in this package.
+ */
+enum DistributionUtils {
+  ;
+
+  private static final double HALF_LOG_2_PI = 0.5 * Math.log(2 * Math.PI);
+  /** {@link #stirlingCorrection(long)} for 0 through 9, where its series converges too slowly. */
+  private static final double[] STIRLING_CORRECTIONS = {0.08106146679532726, 0.04134069595540929,
+      0.02767792568499834, 0.02079067210376509, 0.01664469118982119, 0.01387612882307075,
+      0.01189670994589177, 0.01041126526197209, 0.009255462182712733, 0.008330563433362871};
+
+  /**
+   * Checks that the given offset and length describe a valid range within an array.
+   * @param arrayLength the length of the array
+   * @param offset the index of the first element in the range
+   * @param length the number of elements in the range
+   * @throws IndexOutOfBoundsException if {@code offset} or {@code length} is negative, or {@code
+   *     offset + length > arrayLength}
+   */
+  static void checkArrayRange(final int arrayLength, final int offset, final int length) {
+    if (offset < 0 || length < 0 || length > arrayLength - offset) {
+      throw new IndexOutOfBoundsException(String.format(
+          "Range of %d elements starting at %d is out of bounds for length %d", length, offset,
+          arrayLength));
+    }
+  }
+
+  /**
+   * Checks that a parameter is finite and positive.
+   * @param name the parameter's name, for the exception message
+   * @param value the parameter's value
+   * @throws IllegalArgumentException if {@code value} is not finite and positive
+   */
+  static void checkPositive(final String name, final double value) {
+    if (!(value > 0) || Double.isInfinite(value)) {
+      throw new IllegalArgumentException(
+          String.format("%s must be finite and positive; was %s", name, value));
+    }
+  }
+
+  /**
+   * Checks that a parameter is a probability.
+   * @param name the parameter's name, for the exception message
+   * @param value the parameter's value
+   * @throws IllegalArgumentException if {@code value} is not between 0 and 1 inclusive
+   */
+  static void checkProbability(final String name, final double value) {
+    if (!(value >= 0 && value <= 1)) {
+      throw new IllegalArgumentException(
+          String.format("%s must be between 0 and 1; was %s", name, value));
+    }
+  }
+
+  /**
+   * Returns the error of Stirling's approximation to ln(k!), that is, {@code ln(k!) - ((k + 1/2)
+   * ln(k + 1) - (k + 1) + ln(2 pi) / 2)}.
+   * @param k a non-negative integer
+   * @return the correction term
+   */
+  static double stirlingCorrection(final long k) {
+    if (k < STIRLING_CORRECTIONS.length) {
+      return STIRLING_CORRECTIONS[(int) k];
+    }
+    final double kPlus1 = k + 1.0;
+    final double kPlus1Squared = kPlus1 * kPlus1;
+    return ((1.0 / 12) - (((1.0 / 360) - ((1.0 / 1260) / kPlus1Squared)) / kPlus1Squared)) / kPlus1;
+  }
+
+  /**
+   * Returns ln(k!).
+   * @param k a non-negative integer
+   * @return the natural logarithm of k factorial
+   */
+  static double logFactorial(final long k) {
+    final double kPlus1 = k + 1.0;
+    return ((k + 0.5) * Math.log(kPlus1)) - kPlus1 + HALF_LOG_2_PI + stirlingCorrection(k);
+  }
+}
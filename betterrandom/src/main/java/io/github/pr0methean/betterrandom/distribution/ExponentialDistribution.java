@@ -0,0 +1,29 @@
+package io.github.pr0methean.betterrandom.distribution;
+
+import io.github.pr0methean.betterrandom.prng.BaseRandom;
+
+/**
+ * The exponential distribution with a given rate, sampled with {@link
+ * BaseRandom#nextExponential()}'s ziggurat.
+ */
+public final class ExponentialDistribution implements DoubleDistribution {
+
+  private final double mean;
+
+  /**
+   * Creates an instance.
+   * @param rate the rate parameter (the inverse of the mean); must be finite and positive
+   */
+  public ExponentialDistribution(final double rate) {
+    DistributionUtils.checkPositive("rate", rate);
+    mean = 1 / rate;
+  }
+
+  @Override public double sample(final BaseRandom rng) {
+    return rng.nextExponential() * mean;
+  }
+
+  @Override public String toString() {
+    return "ExponentialDistribution(rate=" + (1 / mean) + ")";
+  }
+}
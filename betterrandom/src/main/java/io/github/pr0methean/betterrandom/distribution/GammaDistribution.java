@@ -0,0 +1,64 @@
+package io.github.pr0methean.betterrandom.distribution;
+
+import io.github.pr0methean.betterrandom.prng.BaseRandom;
+
+/**
+ * The gamma distribution with a given shape and scale, sampled with the method of Marsaglia and
+ * Tsang, "A Simple Method for Generating Gamma Variables," ACM Transactions on Mathematical
+ * Software 26(3) (2000). Each attempt takes one {@link BaseRandom#nextNormal()} and usually one
+ * {@link BaseRandom#nextDouble()}, and fewer than 5% of attempts are rejected for any shape. A shape
+ * below 1 uses the same method with the shape plus 1, and one more uniform draw.
+ */
+public final class GammaDistribution implements DoubleDistribution {
+
+  private final double shape;
+  private final double scale;
+  private final double d;
+  private final double c;
+  /** 1 / shape if shape < 1, otherwise 0. */
+  private final double boostExponent;
+
+  /**
+   * Creates an instance.
+   * @param shape the shape parameter k; must be finite and positive
+   * @param scale the scale parameter theta; must be finite and positive
+   */
+  public GammaDistribution(final double shape, final double scale) {
+    DistributionUtils.checkPositive("shape", shape);
+    DistributionUtils.checkPositive("scale", scale);
+    this.shape = shape;
+    this.scale = scale;
+    final double effectiveShape = (shape < 1) ? (shape + 1) : shape;
+    d = effectiveShape - (1.0 / 3);
+    c = 1 / Math.sqrt(9 * d);
+    boostExponent = (shape < 1) ? (1 / shape) : 0;
+  }
+
+  @Override public double sample(final BaseRandom rng) {
+    double result;
+    while (true) {
+      final double x = rng.nextNormal();
+      double v = 1 + (c * x);
+      if (v <= 0) {
+        continue;
+      }
+      v = v * v * v;
+      final double u = rng.nextDouble();
+      final double xSquared = x * x;
+      if ((u < (1 - (0.0331 * xSquared * xSquared)))
+          || (Math.log(u) < ((0.5 * xSquared) + (d * ((1 - v) + Math.log(v)))))) {
+        result = d * v;
+        break;
+      }
+    }
+    if (boostExponent != 0) {
+      // 1 - nextDouble() is in (0, 1], so the result stays positive
+      result *= Math.pow(1 - rng.nextDouble(), boostExponent);
+    }
+    return result * scale;
+  }
+
+  @Override public String toString() {
+    return "GammaDistribution(shape=" + shape + ", scale=" + scale + ")";
+  }
+}
@@ -0,0 +1,56 @@
+package io.github.pr0methean.betterrandom.distribution;
+
+import io.github.pr0methean.betterrandom.prng.BaseRandom;
+
+/**
+ * The geometric distribution of the number of failures before the first success in a series of
+ * independent trials, sampled by inversion from a single uniform draw. Values too large for a
+ * {@code long} are returned as {@link Long#MAX_VALUE}.
+ */
+public final class GeometricDistribution implements LongDistribution {
+
+  private static final double LONG_TO_UNIT_DOUBLE = 0x1.0p-53;
+
+  private final double probability;
+  /** ln(1 - probability). */
+  private final double logFailureProbability;
+
+  /**
+   * Creates an instance.
+   * @param probability the probability that each trial succeeds; must be greater than 0 and at most
+   *     1
+   */
+  public GeometricDistribution(final double probability) {
+    DistributionUtils.checkProbability("probability", probability);
+    if (probability == 0) {
+      throw new IllegalArgumentException("probability must be greater than 0");
+    }
+    this.probability = probability;
+    logFailureProbability = Math.log1p(-probability);
+  }
+
+  private long fromUniform(final double uniform) {
+    // 1 - uniform is in (0, 1], so its logarithm is finite and non-positive
+    return (long) Math.floor(Math.log(1 - uniform) / logFailureProbability);
+  }
+
+  @Override public long sample(final BaseRandom rng) {
+    return fromUniform(rng.nextDouble());
+  }
+
+  /**
+   * {@inheritDoc} Draws all the uniform input with one call to {@link BaseRandom#nextLongs(long[],
+   * int, int)}, so the PRNG's lock is acquired and its entropy debited only once.
+   */
+  @Override public void sample(final BaseRandom rng, final long[] dest, final int offset,
+      final int length) {
+    rng.nextLongs(dest, offset, length);
+    for (int i = offset; i < offset + length; i++) {
+      dest[i] = fromUniform((dest[i] >>> (Long.SIZE - 53)) * LONG_TO_UNIT_DOUBLE);
+    }
+  }
+
+  @Override public String toString() {
+    return "GeometricDistribution(probability=" + probability + ")";
+  }
+}
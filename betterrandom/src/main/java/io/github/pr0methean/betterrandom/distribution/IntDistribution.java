@@ -0,0 +1,45 @@
+package io.github.pr0methean.betterrandom.distribution;
+
+import io.github.pr0methean.betterrandom.prng.BaseRandom;
+import java.util.stream.IntStream;
+
+/**
+ * A probability distribution over {@code int} values.
+ */
+public interface IntDistribution {
+
+  /**
+   * Returns one value from this distribution.
+   * @param rng the source of pseudorandom input
+   * @return a pseudorandom value with this distribution
+   */
+  int sample(BaseRandom rng);
+
+  /**
+   * Fills part of an array with independent values from this distribution.
+   * @param rng the source of pseudorandom input
+   * @param dest the array to fill
+   * @param offset the index of the first element to fill
+   * @param length the number of elements to fill
+   * @throws IndexOutOfBoundsException if {@code offset} or {@code length} is negative, or {@code
+   *     offset + length > dest.length}
+   */
+  default void sample(final BaseRandom rng, final int[] dest, final int offset,
+      final int length) {
+    DistributionUtils.checkArrayRange(dest.length, offset, length);
+    for (int i = offset; i < offset + length; i++) {
+      dest[i] = sample(rng);
+    }
+  }
+
+  /**
+   * Returns a stream of independent values from this distribution. In a parallel stream, each
+   * split draws from its own PRNG, as with {@link BaseRandom#ints(long)}.
+   * @param rng the source of pseudorandom input
+   * @param streamSize the number of values to generate
+   * @return a stream of {@code streamSize} pseudorandom values with this distribution
+   */
+  default IntStream samples(final BaseRandom rng, final long streamSize) {
+    return rng.ints(streamSize, this::sample);
+  }
+}
@@ -0,0 +1,90 @@
+package io.github.pr0methean.betterrandom.distribution;
+
+import io.github.pr0methean.betterrandom.prng.BaseRandom;
+
+/**
+ * The Poisson distribution with a given mean. Means of at least 10 use the transformed rejection
+ * method with squeeze (PTRS) of Hörmann, "The transformed rejection method for generating Poisson
+ * random variables," Insurance: Mathematics and Economics 12(1) (1993), which takes about 2.3
+ * uniform draws per sample regardless of the mean. Smaller means use inversion by sequential
+ * search from a single uniform draw.
+ */
+public final class PoissonDistribution implements LongDistribution {
+
+  /** The smallest mean that uses PTRS. */
+  private static final double PTRS_THRESHOLD = 10;
+
+  private final double mean;
+  private final double expMinusMean;
+  private final double logMean;
+  private final double b;
+  private final double a;
+  private final double logInvAlpha;
+  private final double vr;
+
+  /**
+   * Creates an instance.
+   * @param mean the mean (and variance); must be finite and non-negative
+   */
+  public PoissonDistribution(final double mean) {
+    if (!(mean >= 0) || Double.isInfinite(mean)) {
+      throw new IllegalArgumentException(
+          String.format("mean must be finite and non-negative; was %s", mean));
+    }
+    this.mean = mean;
+    expMinusMean = Math.exp(-mean);
+    logMean = Math.log(mean);
+    final double sqrtMean = Math.sqrt(mean);
+    b = 0.931 + (2.53 * sqrtMean);
+    a = -0.059 + (0.02483 * b);
+    logInvAlpha = Math.log(1.1239 + (1.1328 / (b - 3.4)));
+    vr = 0.9277 - (3.6224 / (b - 2));
+  }
+
+  @Override public long sample(final BaseRandom rng) {
+    return (mean >= PTRS_THRESHOLD) ? sampleTransformedRejection(rng) : sampleInversion(rng);
+  }
+
+  private long sampleInversion(final BaseRandom rng) {
+    while (true) {
+      final double u = rng.nextDouble();
+      double probability = expMinusMean;
+      double cumulative = probability;
+      long k = 0;
+      while (u >= cumulative) {
+        k++;
+        probability *= mean / k;
+        if (probability == 0) {
+          break; // Rounding error left u above the final cumulative probability; try again
+        }
+        cumulative += probability;
+      }
+      if (u < cumulative) {
+        return k;
+      }
+    }
+  }
+
+  private long sampleTransformedRejection(final BaseRandom rng) {
+    while (true) {
+      final double u = rng.nextDouble() - 0.5;
+      final double v = rng.nextDouble();
+      final double us = 0.5 - Math.abs(u);
+      final long k = (long) Math.floor(((((2 * a) / us) + b) * u) + mean + 0.43);
+      if ((us >= 0.07) && (v <= vr)) {
+        return k;
+      }
+      if ((k < 0) || ((us < 0.013) && (v > us))) {
+        continue;
+      }
+      if ((Math.log(v) + logInvAlpha) - Math.log((a / (us * us)) + b)
+          <= ((-mean + (k * logMean)) - DistributionUtils.logFactorial(k))) {
+        return k;
+      }
+    }
+  }
+
+  @Override public String toString() {
+    return "PoissonDistribution(mean=" + mean + ")";
+  }
+}
@@ -0,0 +1,240 @@
+package io.github.pr0methean.betterrandom.distribution;
+
+import io.github.pr0methean.betterrandom.prng.BaseRandom;
+import java.util.Arrays;
+import java.util.List;
+import javax.annotation.Nullable;
+
+/**
+ * Chooses elements at random in proportion to their weights, in constant time per sample, using the
+ * alias tables of an {@link AliasDistribution}. Weights can be changed and elements added after
+ * construction: each update takes constant time, and the tables are rebuilt (in linear time) only
+ * when next sampled, so a batch of updates costs one rebuild. Sampling doesn't lock, and always sees
+ * either the tables from before an update or those from after it.
+ * @param <E> the element type
+ */
+public final class WeightedSampler<E> {
+
+  private static final int DEFAULT_CAPACITY = 16;
+
+  /** Guarded by this; only ever appended to, so snapshots can share it. */
+  private Object[] elements;
+  /** Guarded by this. */
+  private double[] weights;
+  /** Guarded by this. */
+  private int size;
+  /** Scratch space for rebuilding; guarded by this. */
+  private double[] scaled;
+  /** Scratch space for rebuilding; guarded by this. */
+  private int[] work;
+  /** Null when an update has made the tables stale. */
+  @Nullable private volatile Snapshot snapshot;
+
+  /** Creates an instance with no elements; at least one must be added before sampling. */
+  public WeightedSampler() {
+    elements = new Object[DEFAULT_CAPACITY];
+    weights = new double[DEFAULT_CAPACITY];
+  }
+
+  /**
+   * Creates an instance.
+   * @param elements the elements to choose from
+   * @param weights the relative probability of each element; must be finite and non-negative, and
+   *     the same length as {@code elements}
+   */
+  public WeightedSampler(final List<? extends E> elements, final double[] weights) {
+    if (elements.size() != weights.length) {
+      throw new IllegalArgumentException(String.format(
+          "Got %d elements but %d weights", elements.size(), weights.length));
+    }
+    for (final double weight : weights) {
+      checkWeight(weight);
+    }
+    this.elements = elements.toArray();
+    this.weights = weights.clone();
+    size = weights.length;
+  }
+
+  private static void checkWeight(final double weight) {
+    if (!(weight >= 0) || Double.isInfinite(weight)) {
+      throw new IllegalArgumentException(
+          "weight must be finite and non-negative; was " + weight);
+    }
+  }
+
+  /**
+   * Returns the number of elements, including any with zero weight.
+   * @return the number of elements
+   */
+  public synchronized int size() {
+    return size;
+  }
+
+  /**
+   * Returns an element by index.
+   * @param index the index, which is also what {@link #sampleIndex(BaseRandom)} returns for it
+   * @return the element
+   */
+  @SuppressWarnings("unchecked") public synchronized E get(final int index) {
+    checkIndex(index);
+    return (E) elements[index];
+  }
+
+  /**
+   * Returns an element's weight.
+   * @param index the element's index
+   * @return the element's weight
+   */
+  public synchronized double getWeight(final int index) {
+    checkIndex(index);
+    return weights[index];
+  }
+
+  /**
+   * Changes an element's weight. A weight of zero means the element is never sampled.
+   * @param index the element's index
+   * @param weight the new weight; must be finite and non-negative
+   */
+  public synchronized void setWeight(final int index, final double weight) {
+    checkIndex(index);
+    checkWeight(weight);
+    weights[index] = weight;
+    snapshot = null;
+  }
+
+  /**
+   * Adds an element.
+   * @param element the element
+   * @param weight its weight; must be finite and non-negative
+   * @return the new element's index
+   */
+  public synchronized int add(final E element, final double weight) {
+    checkWeight(weight);
+    if (size == weights.length) {
+      final int newCapacity = Math.max(DEFAULT_CAPACITY, size * 2);
+      // Snapshots may still be reading the old elements array, so copy rather than reuse it
+      elements = Arrays.copyOf(elements, newCapacity);
+      weights = Arrays.copyOf(weights, newCapacity);
+    }
+    elements[size] = element;
+    weights[size] = weight;
+    snapshot = null;
+    return size++;
+  }
+
+  private void checkIndex(final int index) {
+    if ((index < 0) || (index >= size)) {
+      throw new IndexOutOfBoundsException(String.format("Index %d, size %d", index, size));
+    }
+  }
+
+  private Snapshot getSnapshot() {
+    Snapshot current = snapshot;
+    if (current == null) {
+      synchronized (this) {
+        current = snapshot;
+        if (current == null) {
+          current = rebuild();
+          snapshot = current;
+        }
+      }
+    }
+    return current;
+  }
+
+  /** Must be called while holding this object's monitor. */
+  private Snapshot rebuild() {
+    if ((scaled == null) || (scaled.length < size)) {
+      scaled = new double[weights.length];
+      work = new int[weights.length];
+    }
+    final AliasDistribution distribution;
+    try {
+      distribution = new AliasDistribution(weights, size, scaled, work);
+    } catch (final IllegalArgumentException e) {
+      double total = 0;
+      for (int i = 0; i < size; i++) {
+        total += weights[i];
+      }
+      throw new IllegalStateException(Double.isInfinite(total)
+          ? "Can't sample: the total weight overflows to infinity"
+          : "Can't sample: no element has positive weight", e);
+    }
+    return new Snapshot(elements, distribution);
+  }
+
+  /**
+   * Returns the distribution of indices as it stands. It won't reflect any later updates.
+   * @return an immutable distribution of indices
+   * @throws IllegalStateException if no element has positive weight, or if the total weight
+   *     overflows
+   */
+  public IntDistribution getIndexDistribution() {
+    return getSnapshot().distribution;
+  }
+
+  /**
+   * Chooses the index of an element at random.
+   * @param rng the source of randomness
+   * @return an index, with probability proportional to the weight at that index
+   * @throws IllegalStateException if no element has positive weight, or if the total weight
+   *     overflows
+   */
+  public int sampleIndex(final BaseRandom rng) {
+    return getSnapshot().distribution.sample(rng);
+  }
+
+  /**
+   * Chooses an element at random.
+   * @param rng the source of randomness
+   * @return an element, with probability proportional to its weight
+   * @throws IllegalStateException if no element has positive weight, or if the total weight
+   *     overflows
+   */
+  @SuppressWarnings("unchecked") public E sample(final BaseRandom rng) {
+    final Snapshot current = getSnapshot();
+    return (E) current.elements[current.distribution.sample(rng)];
+  }
+
+  /**
+   * Fills an array with the indices of elements chosen at random. All of them come from the same
+   * version of the tables.
+   * @param rng the source of randomness
+   * @param out the array to fill
+   * @throws IllegalStateException if no element has positive weight, or if the total weight
+   *     overflows
+   */
+  public void sample(final BaseRandom rng, final int[] out) {
+    sample(rng, out, 0, out.length);
+  }
+
+  /**
+   * Fills part of an array with the indices of elements chosen at random. All of them come from the
+   * same version of the tables.
+   * @param rng the source of randomness
+   * @param out the array to fill
+   * @param offset the first index of {@code out} to fill
+   * @param length the number of indices to generate
+   * @throws IllegalStateException if no element has positive weight, or if the total weight
+   *     overflows
+   */
+  public void sample(final BaseRandom rng, final int[] out, final int offset, final int length) {
+    DistributionUtils.checkArrayRange(out.length, offset, length);
+    getSnapshot().distribution.sample(rng, out, offset, length);
+  }
+
+  @Override public synchronized String toString() {
+    return "WeightedSampler(size=" + size + ")";
+  }
+
+  /** Elements and tables that are consistent with each other. */
+  private static final class Snapshot {
+    final Object[] elements;
+    final AliasDistribution distribution;
+
+    Snapshot(final Object[] elements, final AliasDistribution distribution) {
+      this.elements = elements;
+      this.distribution = distribution;
+    }
+  }
+}
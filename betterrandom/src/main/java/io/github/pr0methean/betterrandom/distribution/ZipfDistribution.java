@@ -0,0 +1,93 @@
+package io.github.pr0methean.betterrandom.distribution;
+
+import io.github.pr0methean.betterrandom.prng.BaseRandom;
+
+/**
+ * The Zipf distribution over the integers 1 through {@code n}, where the probability of {@code k}
+ * is proportional to k<sup>-exponent</sup>. Sampled with the rejection-inversion method of Hörmann
+ * and Derflinger, "Rejection-inversion to generate variates from monotone discrete distributions,"
+ * ACM Transactions on Modeling and Computer Simulation 6(3) (1996), which needs no tables, takes
+ * constant time for any {@code n}, and usually accepts its first uniform draw.
+ */
+public final class ZipfDistribution implements IntDistribution {
+
+  private final int n;
+  private final double exponent;
+  private final double hIntegralX1;
+  private final double hIntegralN;
+  /** Values of k this close to the inverse of H are accepted without evaluating H again. */
+  private final double threshold;
+
+  /**
+   * Creates an instance.
+   * @param n the largest value; must be positive
+   * @param exponent the exponent; must be finite and positive
+   */
+  public ZipfDistribution(final int n, final double exponent) {
+    if (n < 1) {
+      throw new IllegalArgumentException("n must be positive; was " + n);
+    }
+    DistributionUtils.checkPositive("exponent", exponent);
+    this.n = n;
+    this.exponent = exponent;
+    hIntegralX1 = hIntegral(1.5) - 1;
+    hIntegralN = hIntegral(n + 0.5);
+    threshold = 2 - hIntegralInverse(hIntegral(2.5) - h(2));
+  }
+
+  @Override public int sample(final BaseRandom rng) {
+    while (true) {
+      final double u = hIntegralN + (rng.nextDouble() * (hIntegralX1 - hIntegralN));
+      final double x = hIntegralInverse(u);
+      int k = (int) (x + 0.5);
+      if (k < 1) {
+        k = 1;
+      } else if (k > n) {
+        k = n;
+      }
+      if (((k - x) <= threshold) || (u >= (hIntegral(k + 0.5) - h(k)))) {
+        return k;
+      }
+    }
+  }
+
+  /** The unnormalized probability, x<sup>-exponent</sup>. */
+  private double h(final double x) {
+    return Math.exp(-exponent * Math.log(x));
+  }
+
+  /** An antiderivative of {@link #h(double)}, continuous in the exponent (even at 1). */
+  private double hIntegral(final double x) {
+    final double logX = Math.log(x);
+    return expm1OverX((1 - exponent) * logX) * logX;
+  }
+
+  /** The inverse of {@link #hIntegral(double)}. */
+  private double hIntegralInverse(final double x) {
+    double t = x * (1 - exponent);
+    if (t < -1) {
+      t = -1; // Rounding error could otherwise give a NaN
+    }
+    return Math.exp(log1pOverX(t) * x);
+  }
+
+  /** {@code log1p(x) / x}, continuous at 0. */
+  private static double log1pOverX(final double x) {
+    if (Math.abs(x) > 1e-8) {
+      return Math.log1p(x) / x;
+    }
+    return 1 - (x * (0.5 - (x * ((1.0 / 3) - (0.25 * x)))));
+  }
+
+  /** {@code expm1(x) / x}, continuous at 0. */
+  private static double expm1OverX(final double x) {
+    if (Math.abs(x) > 1e-8) {
+      return Math.expm1(x) / x;
+    }
+    return 1 + (x * 0.5 * (1 + ((x / 3) * (1 + (0.25 * x)))));
+  }
+
+  @Override public String toString() {
+    return "ZipfDistribution(n=" + n + ", exponent=" + exponent + ")";
+  }
+}
@@ -0,0 +1,9 @@
+/**
+ * Samplers for non-uniform probability distributions, drawing their pseudorandom input from a
+ * {@link io.github.pr0methean.betterrandom.prng.BaseRandom}. Every sampler draws through the public
+ * methods of {@code BaseRandom}, so the PRNG's entropy count is debited for all the output a sample
+ * consumes (including any rejected attempts), and the wrappers in {@link
+ * io.github.pr0methean.betterrandom.prng.concurrent} delegate each draw as usual. Each sampler is
+ * immutable, and so can be shared between threads.
+ */
+package io.github.pr0methean.betterrandom.distribution;
@@ -20,6 +20,7 @@ import io.github.pr0methean.betterrandom.seed.DefaultSeedGenerator;
 import io.github.pr0methean.betterrandom.seed.SeedException;
 import io.github.pr0methean.betterrandom.seed.SeedGenerator;
 import io.github.pr0methean.betterrandom.util.BinaryUtils;
+import java.nio.ByteBuffer;
 import java.security.GeneralSecurityException;
 import java.security.InvalidKeyException;
 import java.security.MessageDigest;
@@ -57,15 +58,23 @@ public class AesCounterRandom extends CipherCounterRandom {
   @SuppressWarnings("InstanceVariableMayNotBeInitializedByReadObject")
   protected transient Cipher
       cipher;
+  /** Zero until the constructor has assigned it, which is after the superclass constructor. */
+  private int blocksAtOnce;
 
+  /**
+   * Returns the number of blocks encrypted per call to the cipher, which is {@link
+   * #DEFAULT_BLOCKS_AT_ONCE} unless a different value was passed to {@link
+   * #AesCounterRandom(byte[], int)}.
+   * @return the number of blocks (counter values) to encrypt at once
+   */
   @Override
   public int getBlocksAtOnce() {
-    return BLOCKS_AT_ONCE;
+    return (blocksAtOnce == 0) ? DEFAULT_BLOCKS_AT_ONCE : blocksAtOnce;
   }
 
   @Override
   public int getBytesAtOnce() {
-    return BYTES_AT_ONCE;
+    return COUNTER_SIZE_BYTES * getBlocksAtOnce();
   }
 
   @Override
@@ -81,19 +90,21 @@ public class AesCounterRandom extends CipherCounterRandom {
   private static final int COUNTER_SIZE_BYTES = 16;
   private static final int INTS_PER_BLOCK = COUNTER_SIZE_BYTES / Integer.BYTES;
   /**
-   * Number of blocks to encrypt at once, to construct/GC fewer arrays. This takes advantage of the
-   * fact that in ECB mode, concatenating and then encrypting gives the same output as encrypting
-   * and then concatenating, as long as both plaintexts are a whole number of blocks. (The AES block
-   * size is 128 bits at all key lengths.)
+   * Default number of blocks to encrypt at once (4 KiB), to make fewer calls to the cipher. This
+   * takes advantage of the fact that in ECB mode, concatenating and then encrypting gives the same
+   * output as encrypting and then concatenating, as long as both plaintexts are a whole number of
+   * blocks. (The AES block size is 128 bits at all key lengths.) Thus, the batch size affects only
+   * performance and memory use, and never the output.
    */
-  private static final int BLOCKS_AT_ONCE = 16;
+  public static final int DEFAULT_BLOCKS_AT_ONCE = 256;
+  /** Largest number of blocks that can be encrypted at once (64 KiB). */
+  public static final int MAX_BLOCKS_AT_ONCE = 4096;
 
   @Override
   public int getCounterSizeBytes() {
     return COUNTER_SIZE_BYTES;
   }
 
-  private static final int BYTES_AT_ONCE = COUNTER_SIZE_BYTES * BLOCKS_AT_ONCE;
   private static final String HASH_ALGORITHM = "SHA-256";
   private static final int MAX_TOTAL_SEED_LENGTH_BYTES;
   @SuppressWarnings("CanBeFinal") private static int MAX_KEY_LENGTH_BYTES = 0;
@@ -145,7 +156,28 @@ public class AesCounterRandom extends CipherCounterRandom {
    */
   public AesCounterRandom(final byte[] seed) {
     super(seed);
-    index = BYTES_AT_ONCE; // force generation of first block on demand
+    index = getBytesAtOnce(); // force generation of first block on demand
+  }
+
+  /**
+   * Creates an RNG and seeds it with the specified seed data, encrypting the given number of
+   * blocks per call to the cipher. Larger batches amortize the overhead of each cipher call over
+   * more output, at the cost of {@code 32 * blocksAtOnce} bytes of buffers and a longer delay
+   * whenever a batch is generated. The output is the same at any batch size.
+   * @param seed The seed data used to initialize the RNG. Length must be at least 16 and no
+   *     more than {@link #getMaxKeyLengthBytes()} + 16.
+   * @param blocksAtOnce the number of 16-byte blocks to encrypt at once, from 1 to {@link
+   *     #MAX_BLOCKS_AT_ONCE}
+   * @throws IllegalArgumentException if {@code blocksAtOnce} is out of range
+   */
+  public AesCounterRandom(final byte[] seed, final int blocksAtOnce) {
+    super(seed);
+    if ((blocksAtOnce < 1) || (blocksAtOnce > MAX_BLOCKS_AT_ONCE)) {
+      throw new IllegalArgumentException(String.format(
+          "blocksAtOnce is %d; must be from 1 to %d", blocksAtOnce, MAX_BLOCKS_AT_ONCE));
+    }
+    this.blocksAtOnce = blocksAtOnce;
+    resizeBlockBuffers();
   }
 
   @Override
@@ -195,4 +227,15 @@ public class AesCounterRandom extends CipherCounterRandom {
   protected void doCipher(byte[] input, byte[] output) throws GeneralSecurityException {
     cipher.doFinal(input, 0, getBytesAtOnce(), output);
   }
+
+  @Override
+  protected void doCipher(byte[] input, byte[] output, int offset)
+      throws GeneralSecurityException {
+    cipher.doFinal(input, 0, getBytesAtOnce(), output, offset);
+  }
+
+  @Override
+  protected void doCipher(byte[] input, ByteBuffer output) throws GeneralSecurityException {
+    cipher.update(ByteBuffer.wrap(input, 0, getBytesAtOnce()), output);
+  }
 }
@@ -1,10 +1,13 @@
 package io.github.pr0methean.betterrandom.prng;
 
+import static io.github.pr0methean.betterrandom.util.Byte16ArrayArithmetic.unsignedMultiplyHigh;
+
 import com.google.common.base.MoreObjects;
 import com.google.common.base.MoreObjects.ToStringHelper;
 import io.github.pr0methean.betterrandom.ByteArrayReseedableRandom;
 import io.github.pr0methean.betterrandom.EntropyCountingRandom;
 import io.github.pr0methean.betterrandom.RepeatableRandom;
+import io.github.pr0methean.betterrandom.distribution.WeightedSampler;
 import io.github.pr0methean.betterrandom.seed.DefaultSeedGenerator;
 import io.github.pr0methean.betterrandom.seed.RandomSeederThread;
 import io.github.pr0methean.betterrandom.seed.SeedException;
@@ -15,16 +18,25 @@ import io.github.pr0methean.betterrandom.util.EntryPoint;
 import java.io.IOException;
 import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Constructor;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.DoubleSupplier;
-import java.util.stream.BaseStream;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.DoubleStream;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
 import javax.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -43,7 +55,29 @@ public abstract class BaseRandom extends Random
   protected static final int ENTROPY_OF_DOUBLE = 53;
 
   private static final long NAN_LONG_BITS = Double.doubleToRawLongBits(Double.NaN);
+  /** Distance between stripes in {@link #entropyDebits}: 8 longs, so each has its own cache line. */
+  private static final int DEBIT_STRIPE_STRIDE = 8;
+  /** The most stripes {@link #entropyDebits} will have, no matter how many CPUs there are. */
+  private static final int MAX_DEBIT_STRIPES = 64;
+  /**
+   * Bits of entropy a stripe of {@link #entropyDebits} can accumulate before it must be flushed to
+   * {@link #entropyBits}. Bounds how late a reseeding can be triggered: by less than this many bits
+   * per stripe.
+   */
+  private static final long DEBIT_FLUSH_THRESHOLD = 1 << 10;
   private static final Logger LOG = LoggerFactory.getLogger(BaseRandom.class);
+  /** Each subclass's public constructor that takes a {@code byte[]} seed, or null if it has none. */
+  private static final ClassValue<Constructor<?>> SEED_CONSTRUCTORS =
+      new ClassValue<Constructor<?>>() {
+        @Nullable @Override protected Constructor<?> computeValue(final Class<?> type) {
+          try {
+            return type.getConstructor(byte[].class);
+          } catch (final NoSuchMethodException e) {
+            LOG.debug("Can't split {}; parallel streams will share each instance", type.getName());
+            return null;
+          }
+        }
+      };
   private static final long serialVersionUID = -1556392727255964947L;
   /**
    * If the referent is non-null, it will be invoked to reseed this PRNG whenever random output is
@@ -51,10 +85,22 @@ public abstract class BaseRandom extends Random
    * negative.
    */
   protected final AtomicReference<RandomSeederThread> randomSeeder = new AtomicReference<>(null);
-  /** Lock to prevent concurrent modification of the RNG's internal state. */
-  protected final ReentrantLock lock = new ReentrantLock();
-  /** Stores the entropy estimate backing {@link #getEntropyBits()}. */
+  /**
+   * Lock to prevent concurrent modification of the RNG's internal state. Becomes a no-op that only
+   * checks the calling thread while this PRNG is confined with {@link #confineTo(Thread)}.
+   */
+  protected final ReentrantLock lock = new ThreadConfinableLock();
+  /**
+   * Stores the entropy estimate backing {@link #getEntropyBits()}, except for any debits still held
+   * in stripes; call {@link #flushEntropyDebits()} before reading or replacing it.
+   */
   protected final AtomicLong entropyBits = new AtomicLong(0);
+  /**
+   * Null until {@link #debitEntropy(long)} first loses a race to update {@link #entropyBits}; then
+   * holds entropy debits not yet subtracted from it, striped by thread so that concurrent callers
+   * don't all write to the same cache line.
+   */
+  @Nullable private transient volatile AtomicLongArray entropyDebits;
   // Stored as a long since there's no atomic double
   private final AtomicLong nextNextGaussian = new AtomicLong(NAN_LONG_BITS);
   /**
@@ -199,6 +245,17 @@ public abstract class BaseRandom extends Random
     return list.get(nextInt(list.size()));
   }
 
+  /**
+   * Chooses a random element from the given {@link WeightedSampler}, in constant time.
+   * @param sampler A sampler having at least one element with positive weight.
+   * @param <E> The element type of {@code sampler}; usually inferred by the compiler.
+   * @return An element chosen from {@code sampler} at random, with probability proportional to its
+   *     weight.
+   */
+  public <E> E nextWeightedElement(final WeightedSampler<E> sampler) {
+    return sampler.sample(this);
+  }
+
   /**
    * Chooses a random value of the given enum class.
    * @param enumClass An enum class having at least one value.
@@ -221,13 +278,87 @@ public abstract class BaseRandom extends Random
   /**
    * Generates random bytes and places them into a user-supplied byte array. The number of random
    * bytes produced is equal to the length of the byte array. Reimplemented for entropy-counting
-   * purposes.
+   * purposes, and so that the lock is only acquired once.
+   */
+  @Override public void nextBytes(final byte[] bytes) {
+    lock.lock();
+    try {
+      nextBytesNoEntropyDebit(bytes, 0, bytes.length);
+    } finally {
+      lock.unlock();
+    }
+    debitEntropy(Byte.SIZE * (long) bytes.length);
+  }
+
+  /**
+   * Fills the remaining bytes of a buffer with random bytes, and advances its position to its
+   * limit. Works with heap, direct and memory-mapped buffers. The output is written in big-endian
+   * order regardless of {@link ByteBuffer#order()}.
+   * @param buffer the buffer to fill
+   * @throws java.nio.ReadOnlyBufferException if {@code buffer} is read-only
+   */
+  public void nextBytes(final ByteBuffer buffer) {
+    final int length = buffer.remaining();
+    lock.lock();
+    try {
+      nextBytesNoEntropyDebit(buffer);
+    } finally {
+      lock.unlock();
+    }
+    debitEntropy(Byte.SIZE * (long) length);
+  }
+
+  /**
+   * Core of {@link #nextBytes(ByteBuffer)}. Does not debit entropy, and is always called with the
+   * lock held. If the buffer has an accessible backing array, this implementation fills it using
+   * {@link #nextBytesNoEntropyDebit(byte[], int, int)}; otherwise it writes 8 bytes at a time with
+   * {@link ByteBuffer#putLong(long)}.
+   * @param buffer the buffer to fill from its position to its limit
+   */
+  @SuppressWarnings("NumericCastThatLosesPrecision")
+  protected void nextBytesNoEntropyDebit(final ByteBuffer buffer) {
+    if (buffer.hasArray()) {
+      nextBytesNoEntropyDebit(buffer.array(), buffer.arrayOffset() + buffer.position(),
+          buffer.remaining());
+      buffer.position(buffer.limit());
+      return;
+    }
+    final boolean reverse = buffer.order() != ByteOrder.BIG_ENDIAN;
+    while (buffer.remaining() >= Long.BYTES) {
+      final long output = nextLongNoEntropyDebit();
+      buffer.putLong(reverse ? Long.reverseBytes(output) : output);
+    }
+    if (buffer.hasRemaining()) {
+      long lastLong = nextLongNoEntropyDebit();
+      while (buffer.hasRemaining()) {
+        buffer.put((byte) (lastLong >>> (Long.SIZE - Byte.SIZE)));
+        lastLong <<= Byte.SIZE;
+      }
+    }
+  }
+
+  /**
+   * Core of {@link #nextBytes(byte[])}. Does not debit entropy, and is always called with the lock
+   * held. This implementation uses all 8 bytes of each {@link #nextLongNoEntropyDebit()} result,
+   * in big-endian order; subclasses should override it if they can produce bytes faster.
+   * @param bytes the array to fill
+   * @param offset the index of the first byte to fill
+   * @param length the number of bytes to fill
    */
-  @SuppressWarnings("NumericCastThatLosesPrecision") @Override public void nextBytes(
-      final byte[] bytes) {
-    for (int i = 0; i < bytes.length; i++) {
-      bytes[i] = (byte) next(Byte.SIZE);
-      debitEntropy(Byte.SIZE);
+  @SuppressWarnings("NumericCastThatLosesPrecision")
+  protected void nextBytesNoEntropyDebit(final byte[] bytes, final int offset, final int length) {
+    final int end = offset + length;
+    final int wholeLongsEnd = end - (length % Long.BYTES);
+    int i = offset;
+    for (; i < wholeLongsEnd; i += Long.BYTES) {
+      BinaryUtils.convertLongToBytes(nextLongNoEntropyDebit(), bytes, i);
+    }
+    if (i < end) {
+      long lastLong = nextLongNoEntropyDebit();
+      for (; i < end; i++) {
+        bytes[i] = (byte) (lastLong >>> (Long.SIZE - Byte.SIZE));
+        lastLong <<= Byte.SIZE;
+      }
     }
   }
 
@@ -236,9 +367,45 @@ public abstract class BaseRandom extends Random
     return super.nextInt();
   }
 
+  /**
+   * Returns a pseudorandom {@code int} value between zero (inclusive) and the specified bound
+   * (exclusive). Unlike the inherited implementation, this uses Lemire's nearly-divisionless
+   * multiply-shift method, which usually needs no division at all.
+   * @param bound the upper bound (exclusive). Must be positive.
+   * @return a pseudorandom {@code int} value between zero (inclusive) and the bound (exclusive)
+   * @throws IllegalArgumentException if {@code bound} is not positive
+   */
   @Override public int nextInt(final int bound) {
+    if (bound <= 0) {
+      throw new IllegalArgumentException("bound must be positive");
+    }
     debitEntropy(entropyOfInt(0, bound));
-    return super.nextInt(bound);
+    return nextIntNoEntropyDebit(bound);
+  }
+
+  /**
+   * Core of {@link #nextInt(int)} and {@link #nextInt(int, int)}, using the method of Lemire, "Fast
+   * Random Integer Generation in an Interval," ACM Transactions on Modeling and Computer Simulation
+   * 29(1) (2019): the high half of the product of a random 32-bit value and {@code range} is the
+   * output, unless the low half shows that value to be one of the {@code 2**32 % range} that would
+   * make the result biased. Only then is a division needed, to find that remainder. Does not debit
+   * entropy or validate the argument. Doesn't lock, except within each call to {@link #next(int)},
+   * so concurrent callers can interleave between retries.
+   * @param range the number of possible outputs, between 1 and {@code 2**32 - 1} inclusive
+   * @return a pseudorandom value between 0 (inclusive) and {@code range} (exclusive), as an unsigned
+   *     {@code int}
+   */
+  private int nextIntNoEntropyDebit(final long range) {
+    long product = Integer.toUnsignedLong(next(Integer.SIZE)) * range;
+    long low = product & 0xFFFF_FFFFL;
+    if (low < range) {
+      final long threshold = ((1L << Integer.SIZE) - range) % range;
+      while (low < threshold) {
+        product = Integer.toUnsignedLong(next(Integer.SIZE)) * range;
+        low = product & 0xFFFF_FFFFL;
+      }
+    }
+    return (int) (product >>> Integer.SIZE);
   }
 
   /**
@@ -297,8 +464,99 @@ public abstract class BaseRandom extends Random
     return out;
   }
 
-  @SuppressWarnings("unchecked") private <T extends BaseStream<?, T>> T maybeParallel(final T in) {
-    return usesParallelStreams() ? in.parallel() : in;
+  /**
+   * Creates a PRNG for one split of a parallel stream, so that the stream's worker threads don't
+   * contend for this PRNG's lock. Each new split of a stream calls this on the PRNG of the split it
+   * came from. The default implementation seeds a new instance of this PRNG's class from this
+   * PRNG's output (which debits this PRNG's entropy), using the public constructor that takes a
+   * {@code byte[]} seed; if there is no such constructor, it returns this PRNG without using any of
+   * its output. Subclasses whose instances are already uncontended when shared between threads
+   * should override this to return {@code this}.
+   * @return a PRNG that is independent of this one, or this PRNG
+   */
+  protected BaseRandom splitForStream() {
+    final Constructor<?> constructor = SEED_CONSTRUCTORS.get(getClass());
+    if (constructor == null) {
+      return this;
+    }
+    final byte[] childSeed = new byte[getNewSeedLength()];
+    nextBytes(childSeed);
+    try {
+      return (BaseRandom) constructor.newInstance((Object) childSeed);
+    } catch (final ReflectiveOperationException e) {
+      LOG.debug("Can't split {}; parallel streams will share it", this, e);
+      return this;
+    }
+  }
+
+  private IntStream intStream(final long streamSize, final ToIntFunction<BaseRandom> generator) {
+    return StreamSupport.intStream(
+        new RandomSpliterators.IntSpliterator(this, 0, streamSize, generator),
+        usesParallelStreams());
+  }
+
+  private LongStream longStream(final long streamSize,
+      final ToLongFunction<BaseRandom> generator) {
+    return StreamSupport.longStream(
+        new RandomSpliterators.LongSpliterator(this, 0, streamSize, generator),
+        usesParallelStreams());
+  }
+
+  private DoubleStream doubleStream(final long streamSize,
+      final ToDoubleFunction<BaseRandom> generator) {
+    return StreamSupport.doubleStream(
+        new RandomSpliterators.DoubleSpliterator(this, 0, streamSize, generator),
+        usesParallelStreams());
+  }
+
+  private static void checkStreamSize(final long streamSize) {
+    if (streamSize < 0) {
+      throw new IllegalArgumentException("Stream size must be non-negative");
+    }
+  }
+
+  /**
+   * Returns a stream of the given number of values, each produced by applying {@code sampler} to
+   * this PRNG, or (when the stream is consumed in parallel) to a PRNG split from this one by {@link
+   * #splitForStream()}. Used by the samplers in {@link
+   * io.github.pr0methean.betterrandom.distribution}.
+   * @param streamSize the number of values to generate
+   * @param sampler generates one value from a PRNG
+   * @return a stream of {@code streamSize} values
+   */
+  public IntStream ints(final long streamSize, final ToIntFunction<? super BaseRandom> sampler) {
+    checkStreamSize(streamSize);
+    return intStream(streamSize, sampler::applyAsInt);
+  }
+
+  /**
+   * Returns a stream of the given number of values, each produced by applying {@code sampler} to
+   * this PRNG, or (when the stream is consumed in parallel) to a PRNG split from this one by {@link
+   * #splitForStream()}. Used by the samplers in {@link
+   * io.github.pr0methean.betterrandom.distribution}.
+   * @param streamSize the number of values to generate
+   * @param sampler generates one value from a PRNG
+   * @return a stream of {@code streamSize} values
+   */
+  public LongStream longs(final long streamSize,
+      final ToLongFunction<? super BaseRandom> sampler) {
+    checkStreamSize(streamSize);
+    return longStream(streamSize, sampler::applyAsLong);
+  }
+
+  /**
+   * Returns a stream of the given number of values, each produced by applying {@code sampler} to
+   * this PRNG, or (when the stream is consumed in parallel) to a PRNG split from this one by {@link
+   * #splitForStream()}. Used by the samplers in {@link
+   * io.github.pr0methean.betterrandom.distribution}.
+   * @param streamSize the number of values to generate
+   * @param sampler generates one value from a PRNG
+   * @return a stream of {@code streamSize} values
+   */
+  public DoubleStream doubles(final long streamSize,
+      final ToDoubleFunction<? super BaseRandom> sampler) {
+    checkStreamSize(streamSize);
+    return doubleStream(streamSize, sampler::applyAsDouble);
   }
 
   /**
@@ -308,8 +566,8 @@ public abstract class BaseRandom extends Random
    */
   @Override public DoubleStream doubles(final double randomNumberOrigin,
       final double randomNumberBound) {
-    return maybeParallel(
-        DoubleStream.generate(() -> nextDouble(randomNumberOrigin, randomNumberBound)));
+    return doubleStream(Long.MAX_VALUE,
+        rng -> rng.nextDouble(randomNumberOrigin, randomNumberBound));
   }
 
   /**
@@ -318,15 +576,12 @@ public abstract class BaseRandom extends Random
    * generate these numbers.</p>
    */
   @Override public DoubleStream doubles() {
-    return maybeParallel(DoubleStream.generate(this::nextDouble));
+    return doubleStream(Long.MAX_VALUE, BaseRandom::nextDouble);
   }
 
   @Override public DoubleStream doubles(final long streamSize) {
-    return streamOfSize(streamSize).mapToDouble(ignored -> nextDouble());
-  }
-
-  private LongStream streamOfSize(final long streamSize) {
-    return maybeParallel(LongStream.range(0, streamSize).unordered());
+    checkStreamSize(streamSize);
+    return doubleStream(streamSize, BaseRandom::nextDouble);
   }
 
   /**
@@ -336,8 +591,8 @@ public abstract class BaseRandom extends Random
    */
   @Override public DoubleStream doubles(final long streamSize, final double randomNumberOrigin,
       final double randomNumberBound) {
-    return streamOfSize(streamSize)
-        .mapToDouble(ignored -> nextDouble(randomNumberOrigin, randomNumberBound));
+    checkStreamSize(streamSize);
+    return doubleStream(streamSize, rng -> rng.nextDouble(randomNumberOrigin, randomNumberBound));
   }
 
   /**
@@ -347,7 +602,7 @@ public abstract class BaseRandom extends Random
    * @return a stream of normally-distributed random doubles.
    */
   public DoubleStream gaussians() {
-    return maybeParallel(DoubleStream.generate(this::nextGaussian));
+    return doubleStream(Long.MAX_VALUE, BaseRandom::nextGaussian);
   }
 
   /**
@@ -358,7 +613,8 @@ public abstract class BaseRandom extends Random
    * @return a stream of {@code streamSize} normally-distributed random doubles.
    */
   public DoubleStream gaussians(final long streamSize) {
-    return streamOfSize(streamSize).mapToDouble(ignored -> nextGaussian());
+    checkStreamSize(streamSize);
+    return doubleStream(streamSize, BaseRandom::nextGaussian);
   }
 
   @Override public boolean nextBoolean() {
@@ -450,12 +706,36 @@ public abstract class BaseRandom extends Random
     lock.unlock();
   }
 
+  /**
+   * Returns the next pseudorandom, normally distributed double value with mean 0.0 and standard
+   * deviation 1.0, using the ziggurat algorithm. This is usually much faster than {@link
+   * #nextGaussian()}: most samples need only one {@link #nextLong()}'s worth of output, with no
+   * cached second value and no lock beyond the one that output takes. For the same seed, the
+   * results differ from those of {@link #nextGaussian()}.
+   * @return a normally distributed pseudorandom {@code double}
+   */
+  public double nextNormal() {
+    debitEntropy(ENTROPY_OF_DOUBLE);
+    return Ziggurat.nextNormal(this);
+  }
+
+  /**
+   * Returns the next pseudorandom, exponentially distributed double value with mean 1.0, using the
+   * ziggurat algorithm. Most samples need only one {@link #nextLong()}'s worth of output.
+   * @return a non-negative, exponentially distributed pseudorandom {@code double}
+   */
+  public double nextExponential() {
+    debitEntropy(ENTROPY_OF_DOUBLE);
+    return Ziggurat.nextExponential(this);
+  }
+
   @Override public IntStream ints(final long streamSize) {
-    return streamOfSize(streamSize).mapToInt(ignored -> nextInt());
+    checkStreamSize(streamSize);
+    return intStream(streamSize, BaseRandom::nextInt);
   }
 
   @Override public IntStream ints() {
-    return maybeParallel(IntStream.generate(this::nextInt));
+    return intStream(Long.MAX_VALUE, BaseRandom::nextInt);
   }
 
   /**
@@ -465,8 +745,8 @@ public abstract class BaseRandom extends Random
    */
   @Override public IntStream ints(final long streamSize, final int randomNumberOrigin,
       final int randomNumberBound) {
-    return streamOfSize(streamSize)
-        .mapToInt(ignored -> nextInt(randomNumberOrigin, randomNumberBound));
+    checkStreamSize(streamSize);
+    return intStream(streamSize, rng -> rng.nextInt(randomNumberOrigin, randomNumberBound));
   }
 
   /**
@@ -484,18 +764,9 @@ public abstract class BaseRandom extends Random
       throw new IllegalArgumentException(
           String.format("Bound %d must be greater than origin %d", bound, origin));
     }
-    final int range = bound - origin;
-    if (range >= 0) {
-      // range is no more than Integer.MAX_VALUE
-      return nextInt(range) + origin;
-    } else {
-      int output;
-      do {
-        output = super.nextInt();
-      } while ((output < origin) || (output >= bound));
-      debitEntropy(entropyOfInt(origin, bound));
-      return output;
-    }
+    debitEntropy(entropyOfInt(origin, bound));
+    // The range may exceed Integer.MAX_VALUE, but always fits in an unsigned int
+    return origin + nextIntNoEntropyDebit(Integer.toUnsignedLong(bound - origin));
   }
 
   /**
@@ -504,11 +775,12 @@ public abstract class BaseRandom extends Random
    * {@link #nextInt(int, int)} to generate these numbers.</p>
    */
   @Override public IntStream ints(final int randomNumberOrigin, final int randomNumberBound) {
-    return maybeParallel(IntStream.generate(() -> nextInt(randomNumberOrigin, randomNumberBound)));
+    return intStream(Long.MAX_VALUE, rng -> rng.nextInt(randomNumberOrigin, randomNumberBound));
   }
 
   @Override public LongStream longs(final long streamSize) {
-    return streamOfSize(streamSize).map(ignored -> nextLong());
+    checkStreamSize(streamSize);
+    return longStream(streamSize, BaseRandom::nextLong);
   }
 
   /**
@@ -517,7 +789,7 @@ public abstract class BaseRandom extends Random
    * consumed.</p>
    */
   @Override public LongStream longs() {
-    return maybeParallel(LongStream.generate(this::nextLong));
+    return longStream(Long.MAX_VALUE, BaseRandom::nextLong);
   }
 
   /**
@@ -527,13 +799,14 @@ public abstract class BaseRandom extends Random
    */
   @Override public LongStream longs(final long streamSize, final long randomNumberOrigin,
       final long randomNumberBound) {
-    return streamOfSize(streamSize).map(ignored -> nextLong(randomNumberOrigin, randomNumberBound));
+    checkStreamSize(streamSize);
+    return longStream(streamSize, rng -> rng.nextLong(randomNumberOrigin, randomNumberBound));
   }
 
   /**
    * Returns a pseudorandom {@code long} value between the specified origin (inclusive) and the
-   * specified bound (exclusive). This implementation is adapted from the reference implementation
-   * of {@link Random#longs(long, long)} in that method's Javadoc.
+   * specified bound (exclusive). This implementation uses Lemire's nearly-divisionless
+   * multiply-shift method, and doesn't hold the lock between retries.
    * @param origin the least value returned
    * @param bound the upper bound (exclusive)
    * @return a pseudorandom {@code long} value between the origin (inclusive) and the bound
@@ -541,36 +814,38 @@ public abstract class BaseRandom extends Random
    * @throws IllegalArgumentException if {@code origin} is greater than or equal to {@code
    *     bound}
    */
-  @SuppressWarnings({"StatementWithEmptyBody", "NestedAssignment"}) public long nextLong(
-      final long origin, final long bound) {
+  public long nextLong(final long origin, final long bound) {
     if (bound <= origin) {
       throw new IllegalArgumentException(
           String.format("Bound %d must be greater than origin %d", bound, origin));
     }
-    lock.lock();
-    try {
-      long r = nextLongNoEntropyDebit();
-      final long n = bound - origin;
-      final long m = n - 1;
-      if ((n & m) == 0L)  // power of two
-      {
-        return (r & m) + origin;
-      } else if (n > 0L) {  // reject over-represented candidates
-        for (long u = r >>> 1;            // ensure nonnegative
-            ((u + m) - ((r = u % n))) < 0L;    // rejection check
-            u = nextLongNoEntropyDebit() >>> 1) {
-        } // retry
-        r += origin;
-      } else {              // range not representable as long
-        while ((r < origin) || (r >= bound)) {
-          r = nextLongNoEntropyDebit();
-        }
+    final long output = nextLongNoEntropyDebit(origin, bound);
+    debitEntropy(entropyOfLong(origin, bound));
+    return output;
+  }
+
+  /**
+   * Core of {@link #nextLong(long, long)}; the 64-bit counterpart of {@link
+   * #nextIntNoEntropyDebit(long)}, which describes the method. Does not debit entropy or validate
+   * the arguments. Doesn't lock, except within each call to {@link #nextLongNoEntropyDebit()}.
+   * @param origin the least value returned
+   * @param bound the upper bound (exclusive); must be greater than {@code origin}
+   * @return a pseudorandom {@code long} value between the origin (inclusive) and the bound
+   *     (exclusive)
+   */
+  private long nextLongNoEntropyDebit(final long origin, final long bound) {
+    // The range may exceed Long.MAX_VALUE, but always fits in an unsigned long
+    final long range = bound - origin;
+    long random = nextLongNoEntropyDebit();
+    long low = random * range;
+    if (Long.compareUnsigned(low, range) < 0) {
+      final long threshold = Long.remainderUnsigned(-range, range);
+      while (Long.compareUnsigned(low, threshold) < 0) {
+        random = nextLongNoEntropyDebit();
+        low = random * range;
       }
-      return r;
-    } finally {
-      lock.unlock();
-      debitEntropy(entropyOfLong(origin, bound));
     }
+    return origin + unsignedMultiplyHigh(random, range);
   }
 
   /**
@@ -592,8 +867,233 @@ public abstract class BaseRandom extends Random
    * {@link #nextLong(long, long)} to generate these numbers.</p>
    */
   @Override public LongStream longs(final long randomNumberOrigin, final long randomNumberBound) {
-    return maybeParallel(
-        LongStream.generate(() -> nextLong(randomNumberOrigin, randomNumberBound)));
+    return longStream(Long.MAX_VALUE, rng -> rng.nextLong(randomNumberOrigin, randomNumberBound));
+  }
+
+  /**
+   * Fills part of an array with pseudorandom {@code int} values, all possible values being equally
+   * likely. Equivalent to assigning each element the result of {@link #nextInt()}, but acquires the
+   * lock and debits entropy only once.
+   * @param dest the array to fill
+   * @param offset the index of the first element to fill
+   * @param length the number of elements to fill
+   * @throws IndexOutOfBoundsException if {@code offset} or {@code length} is negative, or {@code
+   *     offset + length > dest.length}
+   */
+  public void nextInts(final int[] dest, final int offset, final int length) {
+    checkArrayRange(dest.length, offset, length);
+    lock.lock();
+    try {
+      nextIntsNoEntropyDebit(dest, offset, length);
+    } finally {
+      lock.unlock();
+    }
+    debitEntropy(Integer.SIZE * (long) length);
+  }
+
+  /**
+   * Fills part of an array with pseudorandom {@code int} values between the specified origin
+   * (inclusive) and bound (exclusive). Acquires the lock and debits entropy only once.
+   * @param dest the array to fill
+   * @param offset the index of the first element to fill
+   * @param length the number of elements to fill
+   * @param origin the least value returned
+   * @param bound the upper bound (exclusive)
+   * @throws IndexOutOfBoundsException if {@code offset} or {@code length} is negative, or {@code
+   *     offset + length > dest.length}
+   * @throws IllegalArgumentException if {@code origin} is greater than or equal to {@code
+   *     bound}
+   */
+  public void nextInts(final int[] dest, final int offset, final int length, final int origin,
+      final int bound) {
+    checkArrayRange(dest.length, offset, length);
+    if (bound <= origin) {
+      throw new IllegalArgumentException(
+          String.format("Bound %d must be greater than origin %d", bound, origin));
+    }
+    final long range = Integer.toUnsignedLong(bound - origin);
+    lock.lock();
+    try {
+      for (int i = offset; i < offset + length; i++) {
+        dest[i] = origin + nextIntNoEntropyDebit(range);
+      }
+    } finally {
+      lock.unlock();
+    }
+    debitEntropy(entropyOfInt(origin, bound) * (long) length);
+  }
+
+  /**
+   * Fills part of an array with pseudorandom {@code long} values, all possible values being equally
+   * likely. Equivalent to assigning each element the result of {@link #nextLong()}, but acquires
+   * the lock and debits entropy only once.
+   * @param dest the array to fill
+   * @param offset the index of the first element to fill
+   * @param length the number of elements to fill
+   * @throws IndexOutOfBoundsException if {@code offset} or {@code length} is negative, or {@code
+   *     offset + length > dest.length}
+   */
+  public void nextLongs(final long[] dest, final int offset, final int length) {
+    checkArrayRange(dest.length, offset, length);
+    lock.lock();
+    try {
+      nextLongsNoEntropyDebit(dest, offset, length);
+    } finally {
+      lock.unlock();
+    }
+    debitEntropy(Long.SIZE * (long) length);
+  }
+
+  /**
+   * Fills part of an array with pseudorandom {@code long} values between the specified origin
+   * (inclusive) and bound (exclusive). Equivalent to assigning each element the result of {@link
+   * #nextLong(long, long)}, but acquires the lock and debits entropy only once.
+   * @param dest the array to fill
+   * @param offset the index of the first element to fill
+   * @param length the number of elements to fill
+   * @param origin the least value returned
+   * @param bound the upper bound (exclusive)
+   * @throws IndexOutOfBoundsException if {@code offset} or {@code length} is negative, or {@code
+   *     offset + length > dest.length}
+   * @throws IllegalArgumentException if {@code origin} is greater than or equal to {@code
+   *     bound}
+   */
+  public void nextLongs(final long[] dest, final int offset, final int length, final long origin,
+      final long bound) {
+    checkArrayRange(dest.length, offset, length);
+    if (bound <= origin) {
+      throw new IllegalArgumentException(
+          String.format("Bound %d must be greater than origin %d", bound, origin));
+    }
+    lock.lock();
+    try {
+      for (int i = offset; i < offset + length; i++) {
+        dest[i] = nextLongNoEntropyDebit(origin, bound);
+      }
+    } finally {
+      lock.unlock();
+    }
+    debitEntropy(entropyOfLong(origin, bound) * (long) length);
+  }
+
+  /**
+   * Fills part of an array with pseudorandom {@code double} values between 0.0 (inclusive) and 1.0
+   * (exclusive). Equivalent to assigning each element the result of {@link #nextDouble()}, but
+   * acquires the lock and debits entropy only once.
+   * @param dest the array to fill
+   * @param offset the index of the first element to fill
+   * @param length the number of elements to fill
+   * @throws IndexOutOfBoundsException if {@code offset} or {@code length} is negative, or {@code
+   *     offset + length > dest.length}
+   */
+  public void nextDoubles(final double[] dest, final int offset, final int length) {
+    checkArrayRange(dest.length, offset, length);
+    lock.lock();
+    try {
+      nextDoublesNoEntropyDebit(dest, offset, length);
+    } finally {
+      lock.unlock();
+    }
+    debitEntropy(ENTROPY_OF_DOUBLE * (long) length);
+  }
+
+  /**
+   * Fills part of an array with pseudorandom {@code double} values between the specified origin
+   * (inclusive) and bound (exclusive). Equivalent to assigning each element the result of {@link
+   * #nextDouble(double, double)}, but acquires the lock and debits entropy only once.
+   * @param dest the array to fill
+   * @param offset the index of the first element to fill
+   * @param length the number of elements to fill
+   * @param origin the least value returned
+   * @param bound the upper bound (exclusive)
+   * @throws IndexOutOfBoundsException if {@code offset} or {@code length} is negative, or {@code
+   *     offset + length > dest.length}
+   * @throws IllegalArgumentException if {@code origin} is greater than or equal to {@code
+   *     bound}
+   */
+  public void nextDoubles(final double[] dest, final int offset, final int length,
+      final double origin, final double bound) {
+    checkArrayRange(dest.length, offset, length);
+    if (bound <= origin) {
+      throw new IllegalArgumentException(
+          String.format("Bound %f must be greater than origin %f", bound, origin));
+    }
+    final double range = bound - origin;
+    final double maxOutput = Double.longBitsToDouble(Double.doubleToRawLongBits(bound) - 1);
+    lock.lock();
+    try {
+      nextDoublesNoEntropyDebit(dest, offset, length);
+    } finally {
+      lock.unlock();
+    }
+    for (int i = offset; i < offset + length; i++) {
+      final double out = (dest[i] * range) + origin;
+      // correct for rounding
+      dest[i] = (out >= bound) ? maxOutput : out;
+    }
+    debitEntropy(ENTROPY_OF_DOUBLE * (long) length);
+  }
+
+  /**
+   * Core of {@link #nextInts(int[], int, int)}; should be overridden by subclasses that can
+   * generate multiple {@code int} values faster than repeated calls to {@link #next(int)}. Does not
+   * debit entropy or validate the arguments, and is always called with the lock held.
+   * @param dest the array to fill
+   * @param offset the index of the first element to fill
+   * @param length the number of elements to fill
+   */
+  protected void nextIntsNoEntropyDebit(final int[] dest, final int offset, final int length) {
+    for (int i = offset; i < offset + length; i++) {
+      dest[i] = next(Integer.SIZE);
+    }
+  }
+
+  /**
+   * Core of {@link #nextLongs(long[], int, int)}; should be overridden by subclasses that can
+   * generate multiple {@code long} values faster than repeated calls to {@link
+   * #nextLongNoEntropyDebit()}. Does not debit entropy or validate the arguments, and is always
+   * called with the lock held.
+   * @param dest the array to fill
+   * @param offset the index of the first element to fill
+   * @param length the number of elements to fill
+   */
+  protected void nextLongsNoEntropyDebit(final long[] dest, final int offset, final int length) {
+    for (int i = offset; i < offset + length; i++) {
+      dest[i] = nextLongNoEntropyDebit();
+    }
+  }
+
+  /**
+   * Core of {@link #nextDoubles(double[], int, int)} and {@link #nextDoubles(double[], int, int,
+   * double, double)}; should be overridden by subclasses that can generate multiple {@code double}
+   * values faster than repeated calls to {@link #nextDoubleNoEntropyDebit()}. Does not debit
+   * entropy or validate the arguments, and is always called with the lock held.
+   * @param dest the array to fill with values between 0.0 (inclusive) and 1.0 (exclusive)
+   * @param offset the index of the first element to fill
+   * @param length the number of elements to fill
+   */
+  protected void nextDoublesNoEntropyDebit(final double[] dest, final int offset,
+      final int length) {
+    for (int i = offset; i < offset + length; i++) {
+      dest[i] = nextDoubleNoEntropyDebit();
+    }
+  }
+
+  /**
+   * Checks that the given offset and length describe a valid range within an array.
+   * @param arrayLength the length of the array
+   * @param offset the index of the first element in the range
+   * @param length the number of elements in the range
+   * @throws IndexOutOfBoundsException if {@code offset} or {@code length} is negative, or {@code
+   *     offset + length > arrayLength}
+   */
+  protected static void checkArrayRange(final int arrayLength, final int offset,
+      final int length) {
+    if (offset < 0 || length < 0 || length > arrayLength - offset) {
+      throw new IndexOutOfBoundsException(String.format(
+          "Range of %d elements starting at %d is out of bounds for length %d", length, offset,
+          arrayLength));
+    }
   }
 
   @Override public String dump() {
@@ -601,7 +1101,7 @@ public abstract class BaseRandom extends Random
     try {
       return addSubclassFields(
           MoreObjects.toStringHelper(this).add("seed", BinaryUtils.convertBytesToHexString(seed))
-              .add("entropyBits", entropyBits.get()).add("randomSeeder", randomSeeder))
+              .add("entropyBits", getEntropyBits()).add("randomSeeder", randomSeeder))
           .toString();
     } finally {
       lock.unlock();
@@ -667,7 +1167,17 @@ public abstract class BaseRandom extends Random
    *     to reseed this PRNG, or null to stop using one.
    */
   public void setRandomSeeder(@Nullable final RandomSeederThread randomSeeder) {
-    RandomSeederThread old = this.randomSeeder.getAndSet(randomSeeder);
+    final RandomSeederThread old;
+    // Checked under the lock, so that confineTo can't succeed at the same time
+    lock.lock();
+    try {
+      if (randomSeeder != null && getConfinedThread() != null) {
+        throw new IllegalStateException("Can't reseed a PRNG that is confined to one thread");
+      }
+      old = this.randomSeeder.getAndSet(randomSeeder);
+    } finally {
+      lock.unlock();
+    }
     if (old != randomSeeder) {
       if (old != null) {
         old.remove(this);
@@ -678,6 +1188,30 @@ public abstract class BaseRandom extends Random
     }
   }
 
+  /**
+   * Reseeds this PRNG from the given {@link SeedGenerator} without blocking the caller. Until the
+   * new seed arrives, this PRNG keeps using its current seed, so it can be constructed with a
+   * provisional seed from a fast source and upgraded once a slow source (such as {@link
+   * io.github.pr0methean.betterrandom.seed.DevRandomSeedGenerator}) delivers.
+   * @param seedGenerator the source of the new seed
+   * @return a future that completes once the new seed is in use, or exceptionally if {@code
+   *     seedGenerator} fails or if this PRNG is confined to one thread before the seed arrives (with
+   *     an {@link IllegalStateException})
+   * @throws IllegalStateException if this PRNG is confined to one thread
+   */
+  public CompletableFuture<Void> reseedAsync(final SeedGenerator seedGenerator) {
+    // Checked under the lock, so that confineTo can't succeed at the same time
+    lock.lock();
+    try {
+      if (getConfinedThread() != null) {
+        throw new IllegalStateException("Can't reseed a PRNG that is confined to one thread");
+      }
+    } finally {
+      lock.unlock();
+    }
+    return seedGenerator.generateSeedAsync(getNewSeedLength()).thenAccept(this::setSeed);
+  }
+
   /**
    * Returns the current seed generator for this PRNG.
    * @return the current seed generator, or null if there is none
@@ -686,6 +1220,47 @@ public abstract class BaseRandom extends Random
     return randomSeeder.get();
   }
 
+  /**
+   * Confines this PRNG to a single thread, or makes it shareable again. While confined, the PRNG
+   * skips locking and atomic read-modify-write operations on its entropy count, and any access
+   * from another thread fails fast with an {@link IllegalStateException}. A confined PRNG can't be
+   * registered with a {@link RandomSeederThread}, since that thread would need to access it.
+   * @param owner the only thread that will be allowed to use this PRNG, or null to allow any
+   *     thread to use it
+   * @throws IllegalStateException if this PRNG is already confined to a different thread, or if
+   *     {@code owner} is non-null and this PRNG has a {@link RandomSeederThread}
+   * @throws UnsupportedOperationException if {@code owner} is non-null and this PRNG is already
+   *     thread-local
+   */
+  public void confineTo(@Nullable final Thread owner) {
+    if (owner != null && isThreadLocal()) {
+      throw new UnsupportedOperationException("Already thread-local");
+    }
+    ((ThreadConfinableLock) lock).confineTo(owner, () -> {
+      if (owner != null && getRandomSeeder() != null) {
+        throw new IllegalStateException("Can't confine a PRNG that has a RandomSeederThread");
+      }
+    });
+  }
+
+  /**
+   * Returns whether each thread that uses this PRNG has its own independent state. Such a PRNG
+   * can't be {@linkplain #confineTo(Thread) confined}, since it already is.
+   * @return true if this PRNG is thread-local; false by default
+   */
+  protected boolean isThreadLocal() {
+    return false;
+  }
+
+  /**
+   * Returns the thread this PRNG is confined to.
+   * @return the thread passed to the last call to {@link #confineTo(Thread)}, or null if this PRNG
+   *     can be used from any thread
+   */
+  @Nullable public Thread getConfinedThread() {
+    return ((ThreadConfinableLock) lock).getOwnerThread();
+  }
+
   @Override public boolean preferSeedWithLong() {
     return getNewSeedLength() <= Long.BYTES;
   }
@@ -716,6 +1291,7 @@ public abstract class BaseRandom extends Random
    */
   protected void creditEntropyForNewSeed(final int seedLength) {
     final long effectiveBits = Math.min(seedLength, getNewSeedLength()) * 8L;
+    flushEntropyDebits();
     entropyBits.updateAndGet(oldCount -> Math.max(oldCount, effectiveBits));
   }
 
@@ -755,8 +1331,23 @@ public abstract class BaseRandom extends Random
     }
   }
 
+  private void writeObject(final ObjectOutputStream out) throws IOException {
+    flushEntropyDebits();
+    out.defaultWriteObject();
+  }
+
+  /**
+   * {@inheritDoc} Exact unless other threads are concurrently spending entropy.
+   */
   @Override public long getEntropyBits() {
-    return entropyBits.get();
+    long bits = entropyBits.get();
+    final AtomicLongArray debits = entropyDebits;
+    if (debits != null) {
+      for (int i = 0; i < debits.length(); i += DEBIT_STRIPE_STRIDE) {
+        bits -= debits.get(i);
+      }
+    }
+    return bits;
   }
 
   /**
@@ -765,9 +1356,76 @@ public abstract class BaseRandom extends Random
    * @param bits The number of bits of entropy spent.
    */
   protected void debitEntropy(final long bits) {
-    if (entropyBits.addAndGet(-bits) <= 0) {
-      asyncReseedIfPossible();
+    final Thread owner = getConfinedThread();
+    if (owner != null) {
+      // Only the owner can write, so a plain read and an ordered write are enough
+      ThreadConfinableLock.checkOwner(owner);
+      entropyBits.lazySet(entropyBits.get() - bits);
+      return;
+    }
+    AtomicLongArray debits = entropyDebits;
+    if (debits == null) {
+      final long oldBits = entropyBits.get();
+      if (entropyBits.compareAndSet(oldBits, oldBits - bits)) {
+        if (oldBits <= bits) {
+          asyncReseedIfPossible();
+        }
+        return;
+      }
+      debits = inflateEntropyDebits();
     }
+    // As with LongAdder: each thread adds to its own stripe, and only this thread's stripe and a
+    // rarely-written central count are touched, until the stripe is flushed.
+    final int index = debitStripeIndex(debits);
+    final long pending = debits.addAndGet(index, bits);
+    if ((pending >= DEBIT_FLUSH_THRESHOLD) || (pending >= entropyBits.get())) {
+      if (entropyBits.addAndGet(-debits.getAndSet(index, 0)) <= 0) {
+        asyncReseedIfPossible();
+      }
+    }
+  }
+
+  /**
+   * Moves any debits held in stripes into {@link #entropyBits}, so that it alone is the entropy
+   * count. Subclasses must call this before replacing the value of {@link #entropyBits}.
+   */
+  protected void flushEntropyDebits() {
+    final AtomicLongArray debits = entropyDebits;
+    if (debits != null) {
+      for (int i = 0; i < debits.length(); i += DEBIT_STRIPE_STRIDE) {
+        entropyBits.addAndGet(-debits.getAndSet(i, 0));
+      }
+    }
+  }
+
+  /**
+   * Switches to striped entropy debits, if not already using them.
+   * @return the stripes
+   */
+  AtomicLongArray inflateEntropyDebits() {
+    lock.lock();
+    try {
+      AtomicLongArray debits = entropyDebits;
+      if (debits == null) {
+        final int stripes = Math.min(MAX_DEBIT_STRIPES,
+            Integer.highestOneBit((2 * Runtime.getRuntime().availableProcessors()) - 1));
+        debits = new AtomicLongArray(Math.max(stripes, 2) * DEBIT_STRIPE_STRIDE);
+        entropyDebits = debits;
+      }
+      return debits;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private static int debitStripeIndex(final AtomicLongArray debits) {
+    // Finalizer of MurmurHash3, so that consecutive thread IDs spread across the stripes
+    long hash = Thread.currentThread().getId();
+    hash = (hash ^ (hash >>> 33)) * 0xff51afd7ed558ccdL;
+    hash = (hash ^ (hash >>> 33)) * 0xc4ceb9fe1a85ec53L;
+    hash ^= hash >>> 33;
+    final int stripeMask = (debits.length() / DEBIT_STRIPE_STRIDE) - 1;
+    return ((int) hash & stripeMask) * DEBIT_STRIPE_STRIDE;
   }
 
   private void asyncReseedIfPossible() {
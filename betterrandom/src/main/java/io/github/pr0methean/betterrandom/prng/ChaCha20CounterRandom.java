@@ -0,0 +1,257 @@
+package io.github.pr0methean.betterrandom.prng;
+
+import com.google.common.base.MoreObjects;
+import io.github.pr0methean.betterrandom.seed.DefaultSeedGenerator;
+import io.github.pr0methean.betterrandom.seed.SeedException;
+import io.github.pr0methean.betterrandom.seed.SeedGenerator;
+import io.github.pr0methean.betterrandom.util.BinaryUtils;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * <p>CipherCounterRandom using the ChaCha20 stream cipher. The cipher is implemented in pure Java
+ * on {@code int} state, so unlike {@link AesCounterRandom}, this class doesn't depend on the JCE
+ * and performs well on CPUs without AES instructions.</p>
+ *
+ * <p>The 128-bit counter occupies the last 4 words of the ChaCha20 state (the block counter and
+ * nonce in RFC 7539), least-significant word first, and each counter value yields a 64-byte block.
+ * Seeds can be 16 to 48 bytes long: the first 32 bytes (or 16 bytes if the seed is shorter than
+ * 32) become the key, and the rest becomes the counter's initial value.</p>
+ */
+public class ChaCha20CounterRandom extends CipherCounterRandom {
+
+  private static final long serialVersionUID = -4096478929487564453L;
+  private static final int DEFAULT_SEED_SIZE_BYTES = 32;
+  private static final int LARGE_KEY_LENGTH = 32;
+  private static final int SMALL_KEY_LENGTH = 16;
+  private static final int BLOCK_SIZE_BYTES = 64;
+  private static final int WORDS_PER_BLOCK = BLOCK_SIZE_BYTES / Integer.BYTES;
+  /** Number of 64-byte blocks (4 KiB) to generate at once. */
+  private static final int BLOCKS_AT_ONCE = 64;
+  private static final int KEY_STATE_WORDS = 12;
+  private static final int ROUNDS = 20;
+  private static final String HASH_ALGORITHM = "SHA-256";
+  /** "expand 32-byte k" in little-endian words. */
+  private static final int[] SIGMA = {0x61707865, 0x3320646e, 0x79622d32, 0x6b206574};
+  /** "expand 16-byte k" in little-endian words. */
+  private static final int[] TAU = {0x61707865, 0x3120646e, 0x79622d36, 0x6b206574};
+
+  // WARNING: Don't initialize any instance fields at declaration; they may be initialized too late!
+  /** The constant and key words of the ChaCha20 state, which don't change between blocks. */
+  @SuppressWarnings("InstanceVariableMayNotBeInitializedByReadObject")
+  private transient int[] keyState;
+  /** Holds each block's output words before they're serialized. */
+  @SuppressWarnings("InstanceVariableMayNotBeInitializedByReadObject")
+  private transient int[] outputWords;
+
+  /**
+   * Creates a new RNG and seeds it using 256 bits from the {@link DefaultSeedGenerator}.
+   * @throws SeedException if the {@link DefaultSeedGenerator} fails to generate a seed.
+   */
+  public ChaCha20CounterRandom() throws SeedException {
+    this(DEFAULT_SEED_SIZE_BYTES);
+  }
+
+  /**
+   * Seed the RNG using the provided seed generation strategy to create a 256-bit seed.
+   * @param seedGenerator The seed generation strategy that will provide the seed value for this
+   *     RNG.
+   * @throws SeedException if there is a problem generating a seed.
+   */
+  public ChaCha20CounterRandom(final SeedGenerator seedGenerator) throws SeedException {
+    this(seedGenerator.generateSeed(DEFAULT_SEED_SIZE_BYTES));
+  }
+
+  /**
+   * Seed the RNG using the {@link DefaultSeedGenerator} to create a seed of the specified size.
+   * @param seedSizeBytes The number of bytes to use for seed data. Valid values range from 16
+   *     to 48.
+   * @throws SeedException if the {@link DefaultSeedGenerator} fails to generate a seed.
+   */
+  public ChaCha20CounterRandom(final int seedSizeBytes) throws SeedException {
+    this(DefaultSeedGenerator.DEFAULT_SEED_GENERATOR.generateSeed(seedSizeBytes));
+  }
+
+  /**
+   * Creates an RNG and seeds it with the specified seed data.
+   * @param seed The seed data used to initialize the RNG. Length must be at least 16 and no
+   *     more than 48.
+   */
+  public ChaCha20CounterRandom(final byte[] seed) {
+    super(seed);
+  }
+
+  @Override public int getMaxKeyLengthBytes() {
+    return LARGE_KEY_LENGTH;
+  }
+
+  @Override protected int getKeyLength(final int inputLength) {
+    return (inputLength >= LARGE_KEY_LENGTH) ? LARGE_KEY_LENGTH : SMALL_KEY_LENGTH;
+  }
+
+  @Override protected int getMinSeedLength() {
+    return SMALL_KEY_LENGTH;
+  }
+
+  @Override public int getBlocksAtOnce() {
+    return BLOCKS_AT_ONCE;
+  }
+
+  /**
+   * Returns 64, the size of a ChaCha20 block.
+   * @return 64
+   */
+  @Override public int getBlockSizeBytes() {
+    return BLOCK_SIZE_BYTES;
+  }
+
+  @Override protected MessageDigest createHash() {
+    try {
+      return MessageDigest.getInstance(HASH_ALGORITHM);
+    } catch (final NoSuchAlgorithmException e) {
+      throw new InternalError("Required hash algorithm missing");
+    }
+  }
+
+  @Override protected void createCipher() {
+    keyState = new int[KEY_STATE_WORDS];
+    outputWords = new int[WORDS_PER_BLOCK];
+  }
+
+  @Override protected void setKey(final byte[] key) throws InvalidKeyException {
+    if ((key.length != LARGE_KEY_LENGTH) && (key.length != SMALL_KEY_LENGTH)) {
+      throw new InvalidKeyException("ChaCha20 key must be 16 or 32 bytes; got " + key.length);
+    }
+    System.arraycopy((key.length == LARGE_KEY_LENGTH) ? SIGMA : TAU, 0, keyState, 0, SIGMA.length);
+    // A 16-byte key is repeated to fill 8 words
+    for (int i = 0; i < 8; i++) {
+      keyState[SIGMA.length + i] = littleEndianInt(key, (i * Integer.BYTES) % key.length);
+    }
+  }
+
+  private static int littleEndianInt(final byte[] bytes, final int offset) {
+    return Integer.reverseBytes(BinaryUtils.convertBytesToInt(bytes, offset));
+  }
+
+  @Override protected void doCipher(final byte[] input, final byte[] output) {
+    doCipher(input, output, 0);
+  }
+
+  @Override protected void doCipher(final byte[] input, final byte[] output, int offset) {
+    final int[] words = outputWords;
+    for (int inputOffset = 0; inputOffset < input.length;
+        inputOffset += DEFAULT_COUNTER_SIZE_BYTES) {
+      chachaBlock(input, inputOffset, words);
+      for (final int word : words) {
+        output[offset] = (byte) word;
+        output[offset + 1] = (byte) (word >>> 8);
+        output[offset + 2] = (byte) (word >>> 16);
+        output[offset + 3] = (byte) (word >>> 24);
+        offset += Integer.BYTES;
+      }
+    }
+  }
+
+  @Override protected void doCipher(final byte[] input, final ByteBuffer output) {
+    final int[] words = outputWords;
+    final boolean reverse = output.order() != ByteOrder.LITTLE_ENDIAN;
+    for (int inputOffset = 0; inputOffset < input.length;
+        inputOffset += DEFAULT_COUNTER_SIZE_BYTES) {
+      chachaBlock(input, inputOffset, words);
+      for (final int word : words) {
+        output.putInt(reverse ? Integer.reverseBytes(word) : word);
+      }
+    }
+  }
+
+  /**
+   * Computes one ChaCha20 block.
+   * @param input the array holding the counter value, as a 128-bit big-endian integer
+   * @param inputOffset the index of the counter value's first byte
+   * @param output the 16 words of the block, in the order they're serialized
+   */
+  private void chachaBlock(final byte[] input, final int inputOffset, final int[] output) {
+    final int[] k = keyState;
+    final int j12 = BinaryUtils.convertBytesToInt(input, inputOffset + 12);
+    final int j13 = BinaryUtils.convertBytesToInt(input, inputOffset + 8);
+    final int j14 = BinaryUtils.convertBytesToInt(input, inputOffset + 4);
+    final int j15 = BinaryUtils.convertBytesToInt(input, inputOffset);
+    int x0 = k[0];
+    int x1 = k[1];
+    int x2 = k[2];
+    int x3 = k[3];
+    int x4 = k[4];
+    int x5 = k[5];
+    int x6 = k[6];
+    int x7 = k[7];
+    int x8 = k[8];
+    int x9 = k[9];
+    int x10 = k[10];
+    int x11 = k[11];
+    int x12 = j12;
+    int x13 = j13;
+    int x14 = j14;
+    int x15 = j15;
+    for (int i = 0; i < ROUNDS; i += 2) {
+      // Column round
+      x0 += x4; x12 = Integer.rotateLeft(x12 ^ x0, 16);
+      x8 += x12; x4 = Integer.rotateLeft(x4 ^ x8, 12);
+      x0 += x4; x12 = Integer.rotateLeft(x12 ^ x0, 8);
+      x8 += x12; x4 = Integer.rotateLeft(x4 ^ x8, 7);
+      x1 += x5; x13 = Integer.rotateLeft(x13 ^ x1, 16);
+      x9 += x13; x5 = Integer.rotateLeft(x5 ^ x9, 12);
+      x1 += x5; x13 = Integer.rotateLeft(x13 ^ x1, 8);
+      x9 += x13; x5 = Integer.rotateLeft(x5 ^ x9, 7);
+      x2 += x6; x14 = Integer.rotateLeft(x14 ^ x2, 16);
+      x10 += x14; x6 = Integer.rotateLeft(x6 ^ x10, 12);
+      x2 += x6; x14 = Integer.rotateLeft(x14 ^ x2, 8);
+      x10 += x14; x6 = Integer.rotateLeft(x6 ^ x10, 7);
+      x3 += x7; x15 = Integer.rotateLeft(x15 ^ x3, 16);
+      x11 += x15; x7 = Integer.rotateLeft(x7 ^ x11, 12);
+      x3 += x7; x15 = Integer.rotateLeft(x15 ^ x3, 8);
+      x11 += x15; x7 = Integer.rotateLeft(x7 ^ x11, 7);
+      // Diagonal round
+      x0 += x5; x15 = Integer.rotateLeft(x15 ^ x0, 16);
+      x10 += x15; x5 = Integer.rotateLeft(x5 ^ x10, 12);
+      x0 += x5; x15 = Integer.rotateLeft(x15 ^ x0, 8);
+      x10 += x15; x5 = Integer.rotateLeft(x5 ^ x10, 7);
+      x1 += x6; x12 = Integer.rotateLeft(x12 ^ x1, 16);
+      x11 += x12; x6 = Integer.rotateLeft(x6 ^ x11, 12);
+      x1 += x6; x12 = Integer.rotateLeft(x12 ^ x1, 8);
+      x11 += x12; x6 = Integer.rotateLeft(x6 ^ x11, 7);
+      x2 += x7; x13 = Integer.rotateLeft(x13 ^ x2, 16);
+      x8 += x13; x7 = Integer.rotateLeft(x7 ^ x8, 12);
+      x2 += x7; x13 = Integer.rotateLeft(x13 ^ x2, 8);
+      x8 += x13; x7 = Integer.rotateLeft(x7 ^ x8, 7);
+      x3 += x4; x14 = Integer.rotateLeft(x14 ^ x3, 16);
+      x9 += x14; x4 = Integer.rotateLeft(x4 ^ x9, 12);
+      x3 += x4; x14 = Integer.rotateLeft(x14 ^ x3, 8);
+      x9 += x14; x4 = Integer.rotateLeft(x4 ^ x9, 7);
+    }
+    output[0] = x0 + k[0];
+    output[1] = x1 + k[1];
+    output[2] = x2 + k[2];
+    output[3] = x3 + k[3];
+    output[4] = x4 + k[4];
+    output[5] = x5 + k[5];
+    output[6] = x6 + k[6];
+    output[7] = x7 + k[7];
+    output[8] = x8 + k[8];
+    output[9] = x9 + k[9];
+    output[10] = x10 + k[10];
+    output[11] = x11 + k[11];
+    output[12] = x12 + j12;
+    output[13] = x13 + j13;
+    output[14] = x14 + j14;
+    output[15] = x15 + j15;
+  }
+
+  @Override public MoreObjects.ToStringHelper addSubclassFields(
+      final MoreObjects.ToStringHelper original) {
+    return original.add("counter", BinaryUtils.convertBytesToHexString(counter))
+        .add("index", index);
+  }
+}
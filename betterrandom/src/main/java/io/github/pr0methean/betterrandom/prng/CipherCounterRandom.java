@@ -3,10 +3,16 @@ package io.github.pr0methean.betterrandom.prng;
 import io.github.pr0methean.betterrandom.SeekableRandom;
 import io.github.pr0methean.betterrandom.util.BinaryUtils;
 import io.github.pr0methean.betterrandom.util.Byte16ArrayArithmetic;
+import java.nio.ByteBuffer;
 import java.security.GeneralSecurityException;
 import java.security.InvalidKeyException;
 import java.security.MessageDigest;
 import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import javax.annotation.Nullable;
 
 /**
  * <p>Non-linear random number generator based on a cipher that encrypts an incrementing counter.
@@ -28,13 +34,23 @@ public abstract class CipherCounterRandom extends BaseRandom implements Seekable
 
   static final int DEFAULT_COUNTER_SIZE_BYTES = 16;
   private static final long serialVersionUID = -7872636191973295031L;
-  protected final byte[] currentBlock;
+  protected byte[] currentBlock;
   protected volatile byte[] counter;
   protected volatile int index;
   protected transient byte[] addendDigits;
   private volatile byte[] counterInput;
   private volatile boolean seeded;
   private transient MessageDigest hash;
+  private transient volatile Executor prefetchExecutor;
+  /** The batch after {@link #currentBlock}, if {@link #prefetchReady} or being encrypted. */
+  private transient byte[] prefetchBlock;
+  /** Encrypts the next batch into {@link #prefetchBlock}; null if none is in progress. */
+  private transient FutureTask<Void> prefetchTask;
+  /**
+   * True if {@link #prefetchBlock} holds the batch after {@link #currentBlock}, in which case
+   * {@link #counter} is already at the end of that batch.
+   */
+  private transient boolean prefetchReady;
 
   public CipherCounterRandom(byte[] seed) {
     super(seed);
@@ -42,13 +58,37 @@ public abstract class CipherCounterRandom extends BaseRandom implements Seekable
   }
 
   /**
-   * Returns the length of the counter, which should equal the cipher's block size.
+   * Reallocates {@link #currentBlock} and the buffer of counter values to hold {@link
+   * #getBytesAtOnce()} bytes, and discards any unread output. The superclass constructors size
+   * these buffers before subclass fields are assigned, so a subclass whose {@link
+   * #getBlocksAtOnce()} depends on a constructor parameter must call this once that parameter is
+   * stored. Since the output is the same at any batch size, this doesn't change the output unless
+   * some has already been read.
+   */
+  protected void resizeBlockBuffers() {
+    currentBlock = new byte[getBytesAtOnce()];
+    counterInput = new byte[getCounterSizeBytes() * getBlocksAtOnce()];
+    index = getBytesAtOnce();
+  }
+
+  /**
+   * Returns the length of the counter, which is normally the cipher's block size.
    * @return the length of the counter
    */
   public int getCounterSizeBytes() {
     return DEFAULT_COUNTER_SIZE_BYTES;
   }
 
+  /**
+   * Returns the number of bytes of output generated from each counter value. This is the counter
+   * size, unless the cipher is a stream cipher such as ChaCha20 whose output blocks are larger
+   * than its counter.
+   * @return the length of each block of output
+   */
+  public int getBlockSizeBytes() {
+    return getCounterSizeBytes();
+  }
+
   @Override
   public int getNewSeedLength() {
     return getMaxKeyLengthBytes();
@@ -66,18 +106,20 @@ public abstract class CipherCounterRandom extends BaseRandom implements Seekable
     if (delta == 0) {
       return;
     }
-    final long intsPerBlock = getCounterSizeBytes() / Integer.BYTES;
+    final int blockSize = getBlockSizeBytes();
+    final long intsPerBlock = blockSize / Integer.BYTES;
     long blocksDelta = delta / intsPerBlock;
     final int deltaWithinBlock = (int) (delta % intsPerBlock) * Integer.BYTES;
     lock.lock();
     try {
+      discardPrefetchedBlocks();
       int newIndex = index + deltaWithinBlock;
-      if (newIndex >= getCounterSizeBytes()) {
-        newIndex -= getCounterSizeBytes();
+      if (newIndex >= blockSize) {
+        newIndex -= blockSize;
         blocksDelta++;
       }
       if (newIndex < 0) {
-        newIndex += getCounterSizeBytes();
+        newIndex += blockSize;
         blocksDelta--;
       }
       blocksDelta -= getBlocksAtOnce(); // Compensate for the increment during nextBlock() below
@@ -111,11 +153,11 @@ public abstract class CipherCounterRandom extends BaseRandom implements Seekable
 
   /**
    * Returns the number of random bytes that can be precalculated at once, which is normally
-   * {@code getCounterSizeBytes() * getBlocksAtOnce()}.
+   * {@code getBlockSizeBytes() * getBlocksAtOnce()}.
    * @return the number of random bytes that can be precalculated at once
    */
   protected int getBytesAtOnce() {
-    return getCounterSizeBytes() * getBlocksAtOnce();
+    return getBlockSizeBytes() * getBlocksAtOnce();
   }
 
   public int getMaxTotalSeedLengthBytes() {
@@ -129,7 +171,7 @@ public abstract class CipherCounterRandom extends BaseRandom implements Seekable
       counter = new byte[getCounterSizeBytes()];
     }
     if (counterInput == null) {
-      counterInput = new byte[getBytesAtOnce()];
+      counterInput = new byte[getCounterSizeBytes() * getBlocksAtOnce()];
     }
     createCipher();
     hash = createHash();
@@ -153,18 +195,214 @@ public abstract class CipherCounterRandom extends BaseRandom implements Seekable
   protected abstract void createCipher();
 
   /**
-   * Generates BLOCKS_AT_ONCE 128-bit (16-byte) blocks. Copies them to currentBlock.
+   * Returns the executor that encrypts each batch of blocks ahead of time.
+   * @return the executor, or null if prefetching is disabled
+   */
+  @Nullable public Executor getPrefetchExecutor() {
+    return prefetchExecutor;
+  }
+
+  /**
+   * Enables or disables prefetching. When enabled, the next {@link #getBlocksAtOnce()} blocks are
+   * encrypted on the given executor while the current ones are being read, so that callers seldom
+   * have to wait for the cipher. If the executor hasn't started a prefetch by the time its output
+   * is needed, the calling thread performs it instead. The output is the same as without
+   * prefetching, and {@link #advance(long)} and {@link #setSeed(byte[])} discard any prefetched
+   * blocks. This setting is not serialized.
+   * @param executor the executor to encrypt on, or null to disable prefetching
+   */
+  public void setPrefetchExecutor(@Nullable final Executor executor) {
+    lock.lock();
+    try {
+      prefetchExecutor = executor;
+      if (executor == null) {
+        awaitPrefetch();
+      } else {
+        startPrefetch();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Starts encrypting the batch after {@link #currentBlock} on the {@link #getPrefetchExecutor()
+   * prefetch executor}, unless prefetching is disabled or that batch is already encrypted or in
+   * progress. Must be called with the lock held.
+   */
+  private void startPrefetch() {
+    final Executor executor = prefetchExecutor;
+    if ((executor == null) || (prefetchTask != null) || prefetchReady) {
+      return;
+    }
+    if ((prefetchBlock == null) || (prefetchBlock.length != getBytesAtOnce())) {
+      prefetchBlock = new byte[getBytesAtOnce()];
+    }
+    final byte[] output = prefetchBlock;
+    final FutureTask<Void> task = new FutureTask<>(() -> {
+      incrementCounter();
+      try {
+        doCipher(counterInput, output);
+      } catch (final GeneralSecurityException ex) {
+        throw new IllegalStateException("Failed creating next random block.", ex);
+      }
+    }, null);
+    prefetchTask = task;
+    try {
+      executor.execute(task);
+    } catch (final RejectedExecutionException ignored) {
+      // awaitPrefetch() will run the task when its output is needed.
+    }
+  }
+
+  /**
+   * Waits for any prefetch in progress to finish, or performs it on the calling thread if it hasn't
+   * started. Afterward, {@link #prefetchReady} indicates whether a prefetched batch is available.
+   * Must be called with the lock held, before anything else uses the cipher or {@link #counter}.
+   * @throws IllegalStateException If there is a problem with the cipher that generates the
+   *     random data.
+   */
+  private void awaitPrefetch() {
+    final FutureTask<Void> task = prefetchTask;
+    if (task == null) {
+      return;
+    }
+    prefetchTask = null;
+    task.run(); // no-op if the executor has already started it
+    boolean interrupted = false;
+    try {
+      while (true) {
+        try {
+          task.get();
+          break;
+        } catch (final InterruptedException e) {
+          interrupted = true;
+        }
+      }
+    } catch (final ExecutionException e) {
+      throw new IllegalStateException("Failed creating next random block.", e.getCause());
+    } finally {
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    prefetchReady = true;
+  }
+
+  /**
+   * Waits for any prefetch in progress, then discards any prefetched blocks and rolls the counter
+   * back to the end of {@link #currentBlock}. Must be called with the lock held. Subclasses that
+   * override {@link #advance(long)} or otherwise modify the counter must call this first.
+   */
+  protected void discardPrefetchedBlocks() {
+    awaitPrefetch();
+    if (prefetchReady) {
+      Byte16ArrayArithmetic.addInto(counter, -getBlocksAtOnce(), addendDigits);
+      prefetchReady = false;
+    }
+  }
+
+  /**
+   * Generates {@link #getBlocksAtOnce()} blocks, or takes them from the prefetch buffer, and makes
+   * them the new {@link #currentBlock}. Then starts prefetching the next batch, if enabled.
    * @throws IllegalStateException If there is a problem with the cipher that generates the
    *     random data.
    */
   protected void nextBlock() {
-    int blocks = getBlocksAtOnce();
-    for (int i = 0; i < blocks; i++) {
-      Byte16ArrayArithmetic.addInto(counter, Byte16ArrayArithmetic.ONE);
-      System.arraycopy(counter, 0, counterInput, i * getCounterSizeBytes(), getCounterSizeBytes());
+    awaitPrefetch();
+    if (prefetchReady) {
+      final byte[] oldBlock = currentBlock;
+      currentBlock = prefetchBlock;
+      prefetchBlock = oldBlock;
+      prefetchReady = false;
+    } else {
+      encryptNextBlock(currentBlock, 0);
+    }
+    startPrefetch();
+  }
+
+  /**
+   * Increments the counter {@link #getBlocksAtOnce()} times, and writes each value to {@link
+   * #counterInput}. A 128-bit counter is held in two longs for the whole batch, rather than being
+   * incremented in place as a byte array once per block.
+   */
+  private void incrementCounter() {
+    final int counterSize = getCounterSizeBytes();
+    final int inputLength = counterSize * getBlocksAtOnce();
+    final byte[] input = counterInput;
+    if (counterSize != 2 * Long.BYTES) {
+      for (int offset = 0; offset < inputLength; offset += counterSize) {
+        Byte16ArrayArithmetic.addInto(counter, Byte16ArrayArithmetic.ONE);
+        System.arraycopy(counter, 0, input, offset, counterSize);
+      }
+      return;
+    }
+    long high = BinaryUtils.convertBytesToLong(counter, 0);
+    long low = BinaryUtils.convertBytesToLong(counter, Long.BYTES);
+    for (int offset = 0; offset < inputLength; offset += counterSize) {
+      low++;
+      if (low == 0) {
+        high++;
+      }
+      BinaryUtils.convertLongToBytes(high, input, offset);
+      BinaryUtils.convertLongToBytes(low, input, offset + Long.BYTES);
     }
+    BinaryUtils.convertLongToBytes(high, counter, 0);
+    BinaryUtils.convertLongToBytes(low, counter, Long.BYTES);
+  }
+
+  /**
+   * Writes the next {@link #getBlocksAtOnce()} blocks to the given array, taking them from the
+   * prefetch buffer if they're there and encrypting them otherwise.
+   * @param output the array to write to
+   * @param offset the first index to write to
+   * @throws IllegalStateException If there is a problem with the cipher that generates the
+   *     random data.
+   */
+  private void nextBlock(final byte[] output, final int offset) {
+    awaitPrefetch();
+    if (prefetchReady) {
+      System.arraycopy(prefetchBlock, 0, output, offset, getBytesAtOnce());
+      prefetchReady = false;
+    } else {
+      encryptNextBlock(output, offset);
+    }
+  }
+
+  /**
+   * Writes the next {@link #getBlocksAtOnce()} blocks to the given buffer, taking them from the
+   * prefetch buffer if they're there and encrypting them otherwise.
+   * @param output the buffer to write to
+   * @throws IllegalStateException If there is a problem with the cipher that generates the
+   *     random data.
+   */
+  private void nextBlock(final ByteBuffer output) {
+    awaitPrefetch();
+    if (prefetchReady) {
+      output.put(prefetchBlock, 0, getBytesAtOnce());
+      prefetchReady = false;
+      return;
+    }
+    incrementCounter();
+    try {
+      doCipher(counterInput, output);
+    } catch (final GeneralSecurityException ex) {
+      throw new IllegalStateException("Failed creating next random block.", ex);
+    }
+  }
+
+  /**
+   * Increments the counter {@link #getBlocksAtOnce()} times, and writes the encrypted counter
+   * values to the given array. Must not be called while a prefetch may be in progress.
+   * @param output the array to write to
+   * @param offset the first index to write to
+   * @throws IllegalStateException If there is a problem with the cipher that generates the
+   *     random data.
+   */
+  private void encryptNextBlock(final byte[] output, final int offset) {
+    incrementCounter();
     try {
-      doCipher(counterInput, currentBlock);
+      doCipher(counterInput, output, offset);
     } catch (final GeneralSecurityException ex) {
       // Should never happen.  If initialisation succeeds without exceptions
       // we should be able to proceed indefinitely without exceptions.
@@ -173,30 +411,169 @@ public abstract class CipherCounterRandom extends BaseRandom implements Seekable
   }
 
   /**
-   * Executes the cipher.
+   * Executes the cipher. When {@link #setPrefetchExecutor(Executor) prefetching} is enabled, this
+   * may be called on the executor's threads, but never concurrently with any other use of the
+   * cipher; so it must write only to {@code output}.
    *
-   * @param input an array of input whose length is equal to {@link #getBytesAtOnce()}
+   * @param input the {@link #getBlocksAtOnce()} consecutive counter values to encrypt
    * @param output an array of output whose length is equal to {@link #getBytesAtOnce()}
    * @throws GeneralSecurityException if an internal error occurs in the cipher
    */
   protected abstract void doCipher(byte[] input, byte[] output) throws GeneralSecurityException;
 
+  /**
+   * Executes the cipher, writing the output at the given offset, so that large {@link
+   * #nextBytes(byte[])} requests can be encrypted directly into the caller's array. This
+   * implementation delegates to {@link #doCipher(byte[], byte[])} and copies the result out of
+   * {@link #currentBlock}, which is then no longer valid; subclasses should override it if their
+   * cipher can write to an offset directly.
+   *
+   * @param input the {@link #getBlocksAtOnce()} consecutive counter values to encrypt
+   * @param output an array with at least {@link #getBytesAtOnce()} bytes starting at {@code
+   *     offset}
+   * @param offset the first index of {@code output} to write to
+   * @throws GeneralSecurityException if an internal error occurs in the cipher
+   */
+  protected void doCipher(final byte[] input, final byte[] output, final int offset)
+      throws GeneralSecurityException {
+    if (output == currentBlock && offset == 0) {
+      doCipher(input, output);
+    } else {
+      doCipher(input, currentBlock);
+      System.arraycopy(currentBlock, 0, output, offset, getBytesAtOnce());
+    }
+  }
+
+  /**
+   * Executes the cipher, writing the output to a buffer and advancing its position, so that large
+   * {@link #nextBytes(ByteBuffer)} requests can be encrypted directly into direct or memory-mapped
+   * buffers. This implementation delegates to {@link #doCipher(byte[], byte[])} and copies the
+   * result out of {@link #currentBlock}, which is then no longer valid; subclasses should override
+   * it if their cipher can write to a {@link ByteBuffer} directly.
+   *
+   * @param input the {@link #getBlocksAtOnce()} consecutive counter values to encrypt
+   * @param output a buffer with at least {@link #getBytesAtOnce()} bytes remaining
+   * @throws GeneralSecurityException if an internal error occurs in the cipher
+   */
+  protected void doCipher(final byte[] input, final ByteBuffer output)
+      throws GeneralSecurityException {
+    doCipher(input, currentBlock);
+    output.put(currentBlock, 0, getBytesAtOnce());
+  }
+
   @Override protected final int next(final int bits) {
     lock.lock();
     int result;
     try {
-      if ((getBytesAtOnce() - index) < 4) {
-        nextBlock();
-        index = 0;
-      }
-      result = BinaryUtils.convertBytesToInt(currentBlock, index);
-      index += 4;
+      result = nextIntFromBlock();
     } finally {
       lock.unlock();
     }
     return result >>> (32 - bits);
   }
 
+  /**
+   * Reads the next 4 bytes of {@link #currentBlock} as an int, generating a new block if needed.
+   * Must be called with the lock held.
+   * @return the next 32 pseudorandom bits
+   */
+  private int nextIntFromBlock() {
+    if ((getBytesAtOnce() - index) < 4) {
+      nextBlock();
+      index = 0;
+    }
+    final int result = BinaryUtils.convertBytesToInt(currentBlock, index);
+    index += 4;
+    return result;
+  }
+
+  /** Reads a whole block's worth of ints at a time before generating the next one. */
+  @Override protected void nextIntsNoEntropyDebit(final int[] dest, int offset, int length) {
+    final int bytesAtOnce = getBytesAtOnce();
+    int localIndex = index;
+    while (length > 0) {
+      if ((bytesAtOnce - localIndex) < 4) {
+        nextBlock();
+        localIndex = 0;
+      }
+      final int intsFromBlock = Math.min(length, (bytesAtOnce - localIndex) / 4);
+      for (int i = 0; i < intsFromBlock; i++) {
+        dest[offset + i] = BinaryUtils.convertBytesToInt(currentBlock, localIndex);
+        localIndex += 4;
+      }
+      offset += intsFromBlock;
+      length -= intsFromBlock;
+    }
+    index = localIndex;
+  }
+
+  /**
+   * Copies bytes straight out of {@link #currentBlock}, and encrypts whole blocks directly into
+   * {@code bytes} when enough of them are requested.
+   */
+  @Override protected void nextBytesNoEntropyDebit(final byte[] bytes, int offset, int length) {
+    final int bytesAtOnce = getBytesAtOnce();
+    int localIndex = index;
+    final int fromCurrentBlock = Math.min(length, bytesAtOnce - localIndex);
+    System.arraycopy(currentBlock, localIndex, bytes, offset, fromCurrentBlock);
+    localIndex += fromCurrentBlock;
+    offset += fromCurrentBlock;
+    length -= fromCurrentBlock;
+    while (length >= bytesAtOnce) {
+      nextBlock(bytes, offset);
+      offset += bytesAtOnce;
+      length -= bytesAtOnce;
+    }
+    if (length > 0) {
+      nextBlock();
+      System.arraycopy(currentBlock, 0, bytes, offset, length);
+      localIndex = length;
+    }
+    index = localIndex;
+  }
+
+  /**
+   * Copies bytes straight out of {@link #currentBlock}, and encrypts whole blocks directly into
+   * {@code buffer} when enough of them are requested.
+   */
+  @Override protected void nextBytesNoEntropyDebit(final ByteBuffer buffer) {
+    if (buffer.hasArray()) {
+      super.nextBytesNoEntropyDebit(buffer);
+      return;
+    }
+    final int bytesAtOnce = getBytesAtOnce();
+    final int fromCurrentBlock = Math.min(buffer.remaining(), bytesAtOnce - index);
+    buffer.put(currentBlock, index, fromCurrentBlock);
+    index += fromCurrentBlock;
+    while (buffer.remaining() >= bytesAtOnce) {
+      nextBlock(buffer);
+    }
+    if (buffer.hasRemaining()) {
+      nextBlock();
+      index = buffer.remaining();
+      buffer.put(currentBlock, 0, index);
+    }
+  }
+
+  @Override protected void nextLongsNoEntropyDebit(final long[] dest, final int offset,
+      final int length) {
+    for (int i = offset; i < offset + length; i++) {
+      dest[i] = ((long) nextIntFromBlock() << 32) + nextIntFromBlock();
+    }
+  }
+
+  /**
+   * Reads two ints straight from the current block for each {@code double}, combining them the same
+   * way as {@link java.util.Random#nextDouble()}.
+   */
+  @Override protected void nextDoublesNoEntropyDebit(final double[] dest, final int offset,
+      final int length) {
+    for (int i = offset; i < offset + length; i++) {
+      final int high = nextIntFromBlock() >>> (Integer.SIZE - 26);
+      dest[i] = (((long) high << 27) + (nextIntFromBlock() >>> (Integer.SIZE - 27))) * 0x1.0p-53;
+    }
+  }
+
   /**
    * {@inheritDoc} If the seed is not of the maximum length, it is combined with the existing seed
    * using the hash algorithm.
@@ -263,6 +640,7 @@ public abstract class CipherCounterRandom extends BaseRandom implements Seekable
           "Seed length is %d bytes; need at least 16 bytes", seed.length));
     }
     super.setSeedInternal(seed);
+    discardPrefetchedBlocks();
     // determine how much of seed can go to key
     final int keyLength = getKeyLength(seed.length);
     final byte[] key = (seed.length == keyLength) ? seed : Arrays.copyOfRange(seed, 0, keyLength);
@@ -279,6 +657,7 @@ public abstract class CipherCounterRandom extends BaseRandom implements Seekable
     }
     index = getBytesAtOnce();
     seeded = true;
+    startPrefetch();
   }
 
   /**
@@ -0,0 +1,241 @@
+package io.github.pr0methean.betterrandom.prng;
+
+import com.google.common.base.MoreObjects.ToStringHelper;
+import io.github.pr0methean.betterrandom.SeekableRandom;
+import io.github.pr0methean.betterrandom.seed.DefaultSeedGenerator;
+import io.github.pr0methean.betterrandom.seed.SeedException;
+import io.github.pr0methean.betterrandom.seed.SeedGenerator;
+import io.github.pr0methean.betterrandom.util.BinaryUtils;
+import io.github.pr0methean.betterrandom.util.EntryPoint;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <p>A lock-free variant of {@link Pcg64Random} for sharing one instance between many threads. It
+ * uses the same 64-bit LCG, but each output is a single compare-and-set advance of the state, and
+ * the "RXS M XS 64/64" output function turns each step into a full 64-bit output (so {@link
+ * #nextLong()} costs one step rather than two). A thread whose compare-and-set fails retries at
+ * once a few times, then yields between retries.</p><p>Because the output function is a
+ * bijection of the state, an observer who sees one whole {@link #nextLong()} output can predict
+ * all the following ones; use {@link Pcg64Random} or {@link AesCounterRandom} when that matters.
+ * </p><p>For heavy contention, {@link #ConcurrentPcg64Random(byte[], int)} splits the state into
+ * several stripes, each on its own cache line and each starting at the seed jumped ahead by a
+ * different multiple of 2<sup>64</sup> / {@code stripes} steps. Each thread always uses the stripe
+ * that its thread ID hashes to, so a striped instance's output depends on which threads call it,
+ * as with the PRNGs in {@link io.github.pr0methean.betterrandom.prng.concurrent}; {@link
+ * #getSeed()} then only captures the first stripe. With one stripe (the default), the output
+ * sequence is the same no matter how calls from different threads interleave.</p>
+ * @author M.E. O'Neill (algorithm and C++ implementation)
+ */
+public class ConcurrentPcg64Random extends BaseRandom implements SeekableRandom {
+
+  private static final long serialVersionUID = -4186476735622512306L;
+  /** The largest supported stripe count. */
+  public static final int MAX_STRIPES = 1 << 10;
+  private static final long MULTIPLIER = 6364136223846793005L;
+  private static final long INCREMENT = 1442695040888963407L;
+  private static final long OUTPUT_MULTIPLIER = -5840758589994634535L; // 12605985483714917081
+  private static final int WANTED_OP_BITS = 5;
+  private static final int OP_SHIFT = Long.SIZE - WANTED_OP_BITS;
+  private static final int OUTPUT_SHIFT = ((2 * Long.SIZE) + 2) / 3;
+  /** Distance between stripes in {@link #states}: 8 longs, so each has its own cache line. */
+  private static final int STRIPE_STRIDE = 8;
+  /** Number of immediate retries after a failed compare-and-set before yielding between them. */
+  private static final int SPINS_BEFORE_YIELD = 4;
+
+  private final int stripeMask;
+  /** Stripe {@code i}'s state is at index {@code i * STRIPE_STRIDE}; the rest is padding. */
+  private final AtomicLongArray states;
+
+  public ConcurrentPcg64Random() {
+    this(DefaultSeedGenerator.DEFAULT_SEED_GENERATOR);
+  }
+
+  @EntryPoint public ConcurrentPcg64Random(final SeedGenerator seedGenerator)
+      throws SeedException {
+    this(seedGenerator.generateSeed(Long.BYTES));
+  }
+
+  @EntryPoint public ConcurrentPcg64Random(final byte[] seed) {
+    this(seed, 1);
+  }
+
+  /**
+   * Creates an instance with the given seed and number of stripes.
+   * @param seed an 8-byte seed
+   * @param stripes the number of independently-updated states; must be a power of 2 no greater
+   *     than {@link #MAX_STRIPES}
+   */
+  @EntryPoint public ConcurrentPcg64Random(final byte[] seed, final int stripes) {
+    super(seed);
+    if (seed.length != Long.BYTES) {
+      throw new IllegalArgumentException("ConcurrentPcg64Random requires an 8-byte seed");
+    }
+    if ((stripes < 1) || (stripes > MAX_STRIPES) || (Integer.bitCount(stripes) != 1)) {
+      throw new IllegalArgumentException(String.format(
+          "stripes must be a power of 2 between 1 and %d; was %d", MAX_STRIPES, stripes));
+    }
+    stripeMask = stripes - 1;
+    states = new AtomicLongArray(stripes * STRIPE_STRIDE);
+    initStates(BinaryUtils.convertBytesToLong(seed));
+  }
+
+  @EntryPoint public ConcurrentPcg64Random(final long seed) {
+    this(BinaryUtils.convertLongToBytes(seed));
+  }
+
+  /**
+   * Returns the number of stripes.
+   * @return the number of independently-updated states
+   */
+  public int getStripes() {
+    return stripeMask + 1;
+  }
+
+  private void initStates(final long seed) {
+    final int stripeBits = Integer.numberOfTrailingZeros(stripeMask + 1);
+    for (int i = 0; i <= stripeMask; i++) {
+      states.set(i * STRIPE_STRIDE,
+          (i == 0) ? seed : jump(seed, ((long) i) << (Long.SIZE - stripeBits)));
+    }
+  }
+
+  /**
+   * Returns the index into {@link #states} of the calling thread's stripe.
+   * @return the index of the state word
+   */
+  int currentStateIndex() {
+    if (stripeMask == 0) {
+      return 0;
+    }
+    // Finalizer of MurmurHash3, so that consecutive thread IDs spread across the stripes
+    long hash = Thread.currentThread().getId();
+    hash = (hash ^ (hash >>> 33)) * 0xff51afd7ed558ccdL;
+    hash = (hash ^ (hash >>> 33)) * 0xc4ceb9fe1a85ec53L;
+    hash ^= hash >>> 33;
+    return ((int) hash & stripeMask) * STRIPE_STRIDE;
+  }
+
+  /**
+   * Advances the calling thread's stripe by one step, and returns the output for the old state.
+   * @return 64 pseudorandom bits
+   */
+  private long nextOutput() {
+    final int index = currentStateIndex();
+    long oldState = states.get(index);
+    int failures = 0;
+    while (!states.weakCompareAndSet(index, oldState, (oldState * MULTIPLIER) + INCREMENT)) {
+      failures++;
+      if (failures > SPINS_BEFORE_YIELD) {
+        Thread.yield();
+      }
+      oldState = states.get(index);
+    }
+    // RXS M XS output function; uses old state for max ILP
+    final long word =
+        ((oldState >>> ((oldState >>> OP_SHIFT) + WANTED_OP_BITS)) ^ oldState) * OUTPUT_MULTIPLIER;
+    return (word >>> OUTPUT_SHIFT) ^ word;
+  }
+
+  @SuppressWarnings("NumericCastThatLosesPrecision") @Override protected int next(final int bits) {
+    return (int) (nextOutput() >>> (Long.SIZE - bits));
+  }
+
+  @Override protected long nextLongNoEntropyDebit() {
+    return nextOutput();
+  }
+
+  @Override protected double nextDoubleNoEntropyDebit() {
+    return (nextOutput() >>> (Long.SIZE - ENTROPY_OF_DOUBLE)) * 0x1.0p-53;
+  }
+
+  /** Returns the current state of the first stripe. */
+  @Override public byte[] getSeed() {
+    return BinaryUtils.convertLongToBytes(states.get(0)).clone();
+  }
+
+  @SuppressWarnings("NonSynchronizedMethodOverridesSynchronizedMethod") @Override
+  public void setSeed(final long seed) {
+    if (states != null) {
+      lock.lock();
+      try {
+        initStates(seed);
+        creditEntropyForNewSeed(Long.BYTES);
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+  @Override public void setSeedInternal(final byte[] seed) {
+    super.setSeedInternal(seed);
+    if (states != null) {
+      lock.lock();
+      try {
+        initStates(BinaryUtils.convertBytesToLong(seed));
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+  /** Advances every stripe by {@code delta} steps. */
+  @Override public void advance(final long delta) {
+    if (delta == 0) {
+      return;
+    }
+    final long[] multAndPlus = jumpCoefficients(delta);
+    lock.lock();
+    try {
+      for (int i = 0; i <= stripeMask; i++) {
+        states.getAndUpdate(i * STRIPE_STRIDE,
+            old -> (multAndPlus[0] * old) + multAndPlus[1]);
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private static long jump(final long state, final long delta) {
+    final long[] multAndPlus = jumpCoefficients(delta);
+    return (multAndPlus[0] * state) + multAndPlus[1];
+  }
+
+  /**
+   * Returns the multiplier and increment of the LCG step that advances {@code delta} steps at
+   * once. The method used here is based on Brown, "Random Number Generation with Arbitrary
+   * Stride," Transactions of the American Nuclear Society (Nov. 1994). The algorithm is very
+   * similar to fast exponentiation.
+   */
+  private static long[] jumpCoefficients(long delta) {
+    long curMult = MULTIPLIER;
+    long curPlus = INCREMENT;
+    long accMult = 1;
+    long accPlus = 0;
+    while (delta != 0) {
+      if ((delta & 1) == 1) {
+        accMult *= curMult;
+        accPlus = (accPlus * curMult) + curPlus;
+      }
+      curPlus = (curMult + 1) * curPlus;
+      curMult *= curMult;
+      delta >>>= 1;
+    }
+    return new long[]{accMult, accPlus};
+  }
+
+  @Override protected ToStringHelper addSubclassFields(final ToStringHelper original) {
+    return original.add("stripes", getStripes()).add("states[0]", states.get(0));
+  }
+
+  @Override public int getNewSeedLength() {
+    return Long.BYTES;
+  }
+
+  private void writeObject(final ObjectOutputStream out) throws IOException {
+    // Copy the first stripe's state back to the array seed
+    BinaryUtils.convertLongToBytes(states.get(0), seed, 0);
+    out.defaultWriteObject();
+  }
+}
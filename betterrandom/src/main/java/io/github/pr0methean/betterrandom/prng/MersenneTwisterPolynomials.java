@@ -0,0 +1,181 @@
+package io.github.pr0methean.betterrandom.prng;
+
+/**
+ * Precomputed polynomials over GF(2) for jumping {@link MersenneTwisterRandom} ahead, stored as
+ * bit arrays with the coefficient of x<sup>i</sup> in bit {@code i % 64} of element {@code i / 64}.
+ * The characteristic polynomial was found by applying the Berlekamp-Massey algorithm to the low
+ * bits of the MT19937 recurrence, and checked against the recurrence's output. Jumping ahead by n
+ * steps applies x<sup>n</sup> mod the characteristic polynomial to the state; see Haramoto et al.,
+ * "Efficient Jump Ahead for F<sub>2</sub>-Linear Random Number Generators", INFORMS Journal on
+ * Computing 20(3), 2008.
+ */
+enum MersenneTwisterPolynomials {
+  ;
+
+  /** Degree of the characteristic polynomial, which is also the period exponent of MT19937. */
+  static final int DEGREE = 19937;
+
+  /** The characteristic polynomial of the MT19937 state transition. */
+  static final long[] CHARACTERISTIC = {
+      0x0000000000000001L, 0x0000000000000000L, 0x0000000000000000L, 0x0000000000000000L,
+      0x0000000000000000L, 0x0000000000000000L, 0x0000000000000000L, 0x0000000000000000L,
+      0x0000000000000000L, 0x0000000000000000L, 0x0000000000000000L, 0x0000000000000000L,
+      0x0000000000000000L, 0x0000000000000000L, 0x0000000000000000L, 0x0000000000000000L,
+      0x0000000000000000L, 0x0000000000000000L, 0x0000002000000000L, 0x0000000000000000L,
+      0x0000000000000000L, 0x0000000000000000L, 0x0000000000000100L, 0x0000000000000000L,
+      0x0002000000000000L, 0x0000080000000000L, 0x0000000000000000L, 0x0000000000000000L,
+      0x0000000000000000L, 0x0000000000004000L, 0x0000000000000000L, 0x0000000000000000L,
+      0x0000000000000000L, 0x0000000000000000L, 0x0000000000000000L, 0x0000000000000000L,
+      0x0000000000000000L, 0x0000000000000000L, 0x2000000000000000L, 0x0000000000000000L,
+      0x0000000000000000L, 0x0000000000000000L, 0x0000000000000000L, 0x0000000000200000L,
+      0x0000000000000000L, 0x0000000000000000L, 0x0100000000000000L, 0x0000000000000000L,
+      0x0000000000000000L, 0x0000000000000000L, 0x0000000008000000L, 0x0000000000000000L,
+      0x0000000000000000L, 0x4000000000000000L, 0x0000000000000000L, 0x0000000000000000L,
+      0x0000000000000000L, 0x0000000200000000L, 0x0000000000000000L, 0x0000000000000000L,
+      0x0000000000000000L, 0x0000000000000010L, 0x0000000000000000L, 0x0000000000000000L,
+      0x0000008000000000L, 0x0000000000000000L, 0x0000000000000000L, 0x0000000000000000L,
+      0x0000000000000400L, 0x0000000000000000L, 0x0000000000000000L, 0x0000000000000000L,
+      0x0000000000000000L, 0x0000000000000000L, 0x0000000000020000L, 0x0000000000000000L,
+      0x0000000000000000L, 0x0000000000000000L, 0x0000000000000000L, 0x0000000000000000L,
+      0x0000000000000000L, 0x0000000000000000L, 0x0000000000000000L, 0x0000000000000000L,
+      0x0000000000000000L, 0x0000000000000000L, 0x0000000000000000L, 0x0000000000000000L,
+      0x0000000020000000L, 0x0000000000000000L, 0x0000000000000000L, 0x0000000000000000L,
+      0x0000000000000000L, 0x0000000000000000L, 0x0000000000000000L, 0x0000000000000000L,
+      0x0000000000000000L, 0x0000000000000000L, 0x0000000000000000L, 0x0000000000000002L,
+      0x0000000000000000L, 0x0000000000000000L, 0x0000020000000000L, 0x0000000000000000L,
+      0x0000000000000000L, 0x0000000000000000L, 0x0000000000000000L, 0x0000000000000000L,
+      0x0000000000000000L, 0x0000000000000000L, 0x0000000000000000L, 0x0000000002000000L,
+      0x0000000000000000L, 0x0000000000000000L, 0x0000000000000000L, 0x0000000000000000L,
+      0x0020000000000000L, 0x0000002000000000L, 0x0000000080000000L, 0x0000000000000000L,
+      0x0000000000000000L, 0x0000000000000100L, 0x0000000000000000L, 0x0000000000000000L,
+      0x0000080000000000L, 0x0000000000000000L, 0x0000000000000000L, 0x0000000000000000L,
+      0x0000000000004000L, 0x0000000000000000L, 0x0000000000000000L, 0x0000000000000000L,
+      0x0000000000000000L, 0x0000000000000000L, 0x0000000000000000L, 0x0000000000000000L,
+      0x0000000000000000L, 0x0000000000000000L, 0x0000000000000000L, 0x0000000000000000L,
+      0x0000000000000000L, 0x0000000000000000L, 0x0000000000000000L, 0x0000000000000000L,
+      0x0000000000000000L, 0x0000000000000000L, 0x0000000000000000L, 0x0000000000000000L,
+      0x0000000200000000L, 0x0000000000000000L, 0x0000000000000000L, 0x0000000000000000L,
+      0x0000000000000000L, 0x0000000000000000L, 0x0000200000000000L, 0x0002000000000000L,
+      0x0000000000000000L, 0x0000000000000000L, 0x0000000000010000L, 0x0000000000000000L,
+      0x0000000000000000L, 0x0000000000000000L, 0x0000000000000000L, 0x0000000000000000L,
+      0x0000000000000000L, 0x0000000000000000L, 0x0000000000000000L, 0x0000000000000020L,
+      0x0000000000000200L, 0x0000000000000000L, 0x0000010000000000L, 0x0000000000000000L,
+      0x0000000000000000L, 0x0000000000020000L, 0x0000000000200800L, 0x0000000000008000L,
+      0x0200000000000000L, 0x0100400000000000L, 0x0000000000000000L, 0x0000000020000000L,
+      0x0000000000000000L, 0x0000000008000000L, 0x0000000000000000L, 0x0000000000000021L,
+      0x4000000000000000L, 0x0000020000000000L, 0x0000010000000000L, 0x0000000020000000L,
+      0x0000000000000000L, 0x0000000000000000L, 0x0000000000000000L, 0x0020000000000000L,
+      0x0000800000000000L, 0x0000020000000000L, 0x0000000000000000L, 0x0000000021000000L,
+      0x0000000000000000L, 0x0000000000001000L, 0x0800000000000002L, 0x0020000000000001L,
+      0x0000000000000000L, 0x0000020000000000L, 0x0000000840000000L, 0x0000000000000000L,
+      0x0000000000000000L, 0x0000000000020000L, 0x0800000000000042L, 0x0020000000000000L,
+      0x0000000000000000L, 0x0000001000000000L, 0x0000000000000000L, 0x0000000021000000L,
+      0x0000000000000000L, 0x0000000000000080L, 0x0000000000000002L, 0x0020000000000001L,
+      0x0000040000000000L, 0x0000000000000000L, 0x0000000000000000L, 0x0000000000000000L,
+      0x0000000000002000L, 0x0000000000000080L, 0x0000000000000002L, 0x0021000000000000L,
+      0x0000000000000000L, 0x0000001000000000L, 0x0000000000000000L, 0x0000000001080000L,
+      0x0000000000002000L, 0x0000000000000000L, 0x0840000000000002L, 0x0000000000000000L,
+      0x0000000000000000L, 0x0000020000000000L, 0x0000000042000000L, 0x0000000000080000L,
+      0x0000000000002000L, 0x1000000000000000L, 0x0000000000000000L, 0x0021000000000000L,
+      0x0000000000000000L, 0x0000000080000000L, 0x0000000002000000L, 0x0000000001000000L,
+      0x0000000000002000L, 0x0000000000000004L, 0x0000000000000000L, 0x0000000000000000L,
+      0x0000002000000000L, 0x0000000080000000L, 0x0000000002000000L, 0x0000000000000000L,
+      0x0000000000002100L, 0x1000000000000000L, 0x0000000000000000L, 0x0001080000000000L,
+      0x0000002000000000L, 0x0000000000000000L, 0x0000000002000000L, 0x0000000000084000L,
+      0x0000000000000000L, 0x0000000000000000L, 0x0042000000000000L, 0x0000080000000000L,
+      0x0000002000000000L, 0x0000000000000000L, 0x0000000000100000L, 0x0000000000000000L,
+      0x0000000000000100L, 0x0080000000000000L, 0x0002000000000000L, 0x0000000000000000L,
+      0x0000002000000000L, 0x0000000004000000L, 0x0000000000000000L, 0x0000000000000000L,
+      0x2000000000000000L, 0x0080000000000000L, 0x0002000000000000L, 0x0000000000000000L,
+      0x0000000100000000L, 0x0000000000000000L, 0x0000000000100000L, 0x0000000000000000L,
+      0x2000000000000008L, 0x0000000000000000L, 0x0000000000000000L, 0x0000004000000000L,
+      0x0000000000000000L, 0x0000000000000000L, 0x0000000000000000L, 0x0000000000000200L,
+      0x0000000000000008L, 0x0000000000000000L, 0x0000100000000000L, 0x0000000000000000L,
+      0x0000000000000000L, 0x0000000000000000L, 0x0000000000008000L, 0x0000000000000000L,
+      0x0000000000000000L, 0x0004000000000000L, 0x0000000000000000L, 0x0000000000000000L,
+      0x0000000000000000L, 0x0000000000000000L, 0x0000000000000000L, 0x0000000000000000L,
+      0x0000000000000000L, 0x0000000000000000L, 0x0000000000000000L, 0x0000000200000000L
+  };
+
+  /** x<sup>2<sup>64</sup></sup> mod {@link #CHARACTERISTIC}, for jumping ahead by 2<sup>64</sup>. */
+  static final long[] JUMP_2_64 = {
+      0xe248a4cd4c900f63L, 0x02c5e16275555aadL, 0xcc7bdd4b775322f2L, 0xff847763b071299bL,
+      0x2dcb3bfb54b43fbfL, 0xe20b4cef5fcb8c34L, 0x53addb77e2f9e066L, 0x8b338d5e3fd01081L,
+      0xd91e533afe42e658L, 0x67f866946795d7abL, 0xb29b54347ba281b4L, 0x994909c5669bafb9L,
+      0x9358444c6230ab31L, 0xc3a7858f14341071L, 0x2d1e088c675b2dd2L, 0x41bcbedd8649eb5eL,
+      0x47de650f90116aeeL, 0x08e746508b5a7d3eL, 0xf0495cfb1d6d8688L, 0xa1fec0003ffa7ec4L,
+      0x83d63538303bd030L, 0x077fdaef583e3fa3L, 0x21f805830bb4f1efL, 0x873a5d43c44df85cL,
+      0xe981be934c18f526L, 0xd95d2fa77bf02815L, 0x4f52cb02b1ddba06L, 0x23156bfbae86e7bfL,
+      0xed5b6b3815db9670L, 0x6608c09de5ffdd1dL, 0x87d4b039b0f29645L, 0xb370a1a97775ae02L,
+      0xc6a6464c47986568L, 0xe2b2d815f304978dL, 0xd89aaa5b15cb3159L, 0x3796934817439b18L,
+      0xe27dba9be7cd403eL, 0x49502803ade001a8L, 0x6300bd737d161005L, 0x7ee8b96276a4c88bL,
+      0x77fef87e2647a4c1L, 0x0f9c923e7be21372L, 0x9b618fe8a6e0b548L, 0xa284f483dae91cf5L,
+      0xb67b9f26070f14b0L, 0x93bece6c33809a23L, 0x65e268f830f58808L, 0x94628de025bd5588L,
+      0x4eac9219ce5b2d08L, 0xbdc27b2fd5482eb5L, 0xa696a9f437cd85acL, 0x9cfbc28d0ba18097L,
+      0x2de7c4d5e2d8d1d2L, 0xf1d29bdd926ef804L, 0xc54262b9e8019c4bL, 0x10033bf8bc8f76f7L,
+      0x6c62cbbab5966524L, 0xf1c9975fc6598499L, 0x02295d93dc52d11dL, 0xa06ea369923b6811L,
+      0x50dacd95331d5badL, 0x0f2787c9186e30dfL, 0x25ca723aea1e6941L, 0x1b38c59904764cc9L,
+      0x0e882a640efaf769L, 0x2c07de2c67ab43ffL, 0x6a4e62044047a8d7L, 0x9e50e39b4b0f81deL,
+      0xce36794fbd96c036L, 0x3a8d8d7be84dafd5L, 0x30bc102cc5cba176L, 0x6dcc2704ce93dbf9L,
+      0xa4039ada697c8140L, 0x3edfba6e957299e8L, 0x4526e870721622beL, 0x5bc719102a0cacfeL,
+      0xb1b32c82b52142dbL, 0x816f9d8c381814d2L, 0x9f59cc3efd6b3731L, 0x6be77cdbebfd2dfaL,
+      0xa21b0fb7d2870108L, 0x88155c260507c199L, 0xe0990dc67d0cf5e3L, 0x9842027b415482a7L,
+      0x8ec8063bf6f21a2eL, 0x0ca3c754a512e19bL, 0xe60b8a5b0f37f158L, 0x3d1dbe43c43f6ce4L,
+      0x853ac8b5f3b1f4bcL, 0xbc6b9349f5849b5cL, 0xeee13d2ab9269dddL, 0xec1b7b91d4a643d0L,
+      0xab378fc971a29981L, 0x256bd757888b055dL, 0x84e868c96fdfe309L, 0xae118d8b5f9a5801L,
+      0x39c33c41c0e498c3L, 0x9c8a68df1645526fL, 0x93f5ac29fad14f7dL, 0xa62e2fd36546e3cbL,
+      0x89e78998d731bb47L, 0xa43bffaf90d44d69L, 0x0d95beb072226472L, 0x455441e72fbca613L,
+      0xd56aaed502c39885L, 0x4a8bdecea9ffad44L, 0xa8e0152ea2e37cefL, 0xa55abe6a37532471L,
+      0xad89bf65da2580fdL, 0x7ec360b1cc2a3decL, 0x3c4ae863c1f52676L, 0xe7c47ea0088f2b9eL,
+      0x69b35de180101c06L, 0xdb62d3f70fb8e1faL, 0xb1507762475cba2aL, 0xe90945819b30ad26L,
+      0x6def9364fea6ac93L, 0x9462f53fe86cbc87L, 0x40e02bba41907f1eL, 0x93cc884a0bdb91a2L,
+      0x9e66cba2399d4499L, 0xfaf299451b91f776L, 0x7a599a2f04c72d6fL, 0x4f0432ce1c249235L,
+      0x5d41d6d8293afeb2L, 0x7677224f7f1e8c00L, 0x6b228fa3231c2121L, 0xaa196a04c4a6232dL,
+      0x5396936fe297285eL, 0x78ddefafdb8d384fL, 0x5742fc4749a235d1L, 0x415f3088f43212cbL,
+      0x15bc30d1b73bd17bL, 0xc5dcb8bb5fc9b71aL, 0x1460f68005ae1d2cL, 0xda2c4681d696d1e0L,
+      0x512d75656cf86b69L, 0x166d0f83775e98b7L, 0x2d3edf2b0e55f238L, 0xe839f1f4f26af179L,
+      0x6c1295761a858d2fL, 0xf290c59b41dd69aeL, 0x504b9c719bbc0ba4L, 0x5fee67d487492c1fL,
+      0x4f3d6ae890078f7eL, 0x5a3ce52b461f3a63L, 0x65f1a23bf0e76abdL, 0xbb14141828cca53fL,
+      0x5e2bbe790add6cb2L, 0xb68fc91e4dcc0078L, 0xac64ca4fca0013f1L, 0xe7d10431691fddd7L,
+      0xe86a25f7d92c0753L, 0xef3320d35a461809L, 0x4e76e28b65b41bdfL, 0x4a01d87c59d977dcL,
+      0xf29e02d5fa9fd02dL, 0xb44fbc421db02d91L, 0x9a6b3f1c86411ddfL, 0x35012893a6cf8c46L,
+      0xd3ee76fd8b855699L, 0x16a5985c3cbbfbd4L, 0x188474176a0ae8d5L, 0xf56822cfbfc1110bL,
+      0x10f925746d70d28dL, 0xa089b795f18dcd35L, 0x8516795a75dc1450L, 0x8a6357024848e61dL,
+      0x4eca3ef16f483f4fL, 0x38b2aca4a4c13207L, 0x9cc2d2e95e44190fL, 0xe30ebc817786a96eL,
+      0xb5b659af44959f76L, 0x700f6c1f725f717fL, 0x75a3b6d11b4504bfL, 0x295ac88a62dee734L,
+      0x98963dcb20855e36L, 0xaf120eebc9b21ca4L, 0x6a8d016f8c429af4L, 0x641df9d8d2f60b19L,
+      0xe4305d1ff1364e2bL, 0xfee5b1d0feed5c19L, 0x3f54b57c4ef7a165L, 0xf36669a746cf7905L,
+      0x0f6b715068798550L, 0x23615cbbd237fcaeL, 0x3d63ccbe9a91c20fL, 0x84fc17dfd68b5562L,
+      0x231357a91913e423L, 0xeaaed9486fdc5382L, 0x5617e6414b0881fcL, 0x16d86236ee52947dL,
+      0x7fdb870b8cbc11fcL, 0x47491ac650b6f9d4L, 0x15272d87bb79ca1aL, 0xbf094ca5d0ca7ec3L,
+      0xb99feb6193f2ca6cL, 0xe6451411b3b6122aL, 0x8ae9ddb8e708fed4L, 0xb87bc4fcfae77a3eL,
+      0x756264e538839d5cL, 0xa758307fbdc43032L, 0xe6eac433070adfa6L, 0xcda88b18c5a37f43L,
+      0x89253009e4d4cd3aL, 0xfd0fba0baff05ff6L, 0x756d1c494935461bL, 0xabca2abd1367c444L,
+      0x37949cec21474f38L, 0xb7cda569f6323d3dL, 0x8dd8b80dde01958eL, 0xab31711500c355b9L,
+      0x150f3c15f9e5d127L, 0x9a0dbb6fa73a49a8L, 0x4b30400295080193L, 0xa6a3653a87749f7aL,
+      0x14539309c1dbf50aL, 0xfd743599adf8d6c2L, 0x94e2ba740d51bf45L, 0xe15c57a398624e76L,
+      0xddfa32b96125aec8L, 0x469ace6675b67b0fL, 0x50b3b5b601abdab4L, 0xbb1b7ae100b0e85bL,
+      0x604f2a45d6b52b08L, 0xf40cbde5061081abL, 0xf29c662654eba670L, 0x74f2bc553be4b068L,
+      0x077e35a61e31fc36L, 0x70c92e17c92288e1L, 0xaed3a5390f071907L, 0x116a44fc35354b44L,
+      0xd8c426abfb89895eL, 0x6a085ea2efca9c61L, 0x93583af14a905b2cL, 0x977c1318d8e56221L,
+      0x5349a011f118add4L, 0x6cfccedd8b6c9b1eL, 0xb15fdb98abc7e67fL, 0xa554a8165ef3dc9eL,
+      0x5fb8dff611232427L, 0x9b49e50745662685L, 0x0b955a98cd009967L, 0x6c9e13a6778e01c4L,
+      0x7974a19e3167b338L, 0xa8bfcd3566bceeebL, 0xe8dee9894f89c9d3L, 0xa61b2e07f8802348L,
+      0x32d550c2969a48f2L, 0x8ef0ab44dc755365L, 0x4fc059ca50e48f6eL, 0xebe837c5cf4fbf2eL,
+      0x8b33c56b66a955ccL, 0x90c2604fd78e0a73L, 0xde124fff71db1d82L, 0xa62c6e0e78f30ba4L,
+      0x15c9b8cead72dd6aL, 0xaf42ad0f4670f152L, 0x7c3eca52e6f8a792L, 0x27f2396c671d8003L,
+      0xb5511a05f369c598L, 0x3e40c35de792aa51L, 0x05a8ba074fdebf0bL, 0x5c75f81715d7d9c3L,
+      0xf769e5d16cb1c6e1L, 0xa26b4d0dd20d8531L, 0x90532c00a91cdb5fL, 0x70ea2cd4400128bdL,
+      0xf6f962e99c9b4320L, 0x296d79f98d80ed7eL, 0x2863459fab8e062eL, 0x340ff74ade116573L,
+      0x86912edd9eb8522eL, 0x2e2efb3cbfddd205L, 0xd8579cbf3ce0ace4L, 0x9886f6035cb1afb1L,
+      0x3554850323ec32e8L, 0x87dd0ce18b738a7cL, 0x70330c59669d9df9L, 0xeb7c539f9263e2b7L,
+      0x35bc025e149893e2L, 0x72d3ae49547a177aL, 0x7ccf065085c4fea0L, 0xf8e109f2710edc8dL,
+      0x77a63a3dc105573cL, 0x78f7d5c080c6b444L, 0x431a5704f741c57bL, 0x2efa4d315a3ffa09L,
+      0xd4ad0e3ed945c460L, 0x3085a588794d31adL, 0x903ce960bcfb9832L, 0x3fda53bc1e66d62dL,
+      0x383c9eb75bdcf1d6L, 0x9581cebc411a11f9L, 0x4f2e925c8a46dd4cL, 0x126215f857fb207eL,
+      0xd8d98c17f5ef34faL, 0x8bddb9fa657a3b9cL, 0xa63fa02627da1a8fL, 0x6273b2917b2682d6L,
+      0xf7ded42248b3213bL, 0x30ec90ea26ba215dL, 0x0cbdd6c3257a9cf5L, 0x4a542ebc29ea26c1L,
+      0xb1d505fc2f70bad6L, 0x7e3c2bda77f48b79L, 0x669f15205b1d3682L, 0x71fd82070ab77d26L,
+      0x1aaa1bd69d9efbfbL, 0x5e9cf61b883f5d32L, 0x0e42338403f0b0cbL, 0x0000000010a7a774L
+  };
+}
@@ -16,10 +16,12 @@
 package io.github.pr0methean.betterrandom.prng;
 
 import com.google.common.base.MoreObjects.ToStringHelper;
+import io.github.pr0methean.betterrandom.SeekableRandom;
 import io.github.pr0methean.betterrandom.seed.DefaultSeedGenerator;
 import io.github.pr0methean.betterrandom.seed.SeedException;
 import io.github.pr0methean.betterrandom.seed.SeedGenerator;
 import io.github.pr0methean.betterrandom.util.BinaryUtils;
+import io.github.pr0methean.betterrandom.util.Gf2PolynomialArithmetic;
 import java.util.Arrays;
 import java.util.Random;
 
@@ -39,11 +41,13 @@ import java.util.Random;
  * seeds, it is not possible to seed this RNG using the {@link #setSeed(long)} method inherited
  * from
  * {@link Random}.  Calls to this method will have no effect. Instead the seed must be set by a
- * constructor.</em></p>
+ * constructor.</em></p> <p>{@link #advance(long)} jumps by multiplying the state by a power of
+ * the transition's characteristic polynomial, so it takes milliseconds rather than the time needed
+ * to generate {@code delta} outputs; it can also step backward.</p>
  * @author Makoto Matsumoto and Takuji Nishimura (original C version)
  * @author Daniel Dyer (Java port)
  */
-public class MersenneTwisterRandom extends BaseRandom {
+public class MersenneTwisterRandom extends BaseRandom implements SeekableRandom {
 
   private static final long serialVersionUID = -4856906677508460512L;
 
@@ -62,6 +66,11 @@ public class MersenneTwisterRandom extends BaseRandom {
   private static final int SEED_FACTOR2 = 1566083941;
   private static final int GENERATE_MASK1 = 0x9d2c5680;
   private static final int GENERATE_MASK2 = 0xefc60000;
+  /**
+   * Below this, {@link #advance(long)} is faster when it simply runs the generator; above it, a
+   * polynomial jump is faster.
+   */
+  private static final long MAX_STEPPED_ADVANCE = 1 << 24;
 
   private int[] mt; // State vector.
   private volatile int mtIndex = N; // Index into state vector.
@@ -153,18 +162,7 @@ public class MersenneTwisterRandom extends BaseRandom {
     try {
       if (mtIndex >= N) // Generate N ints at a time.
       {
-        int kk;
-        for (kk = 0; kk < (N - M); kk++) {
-          y = (mt[kk] & UPPER_MASK) | (mt[kk + 1] & LOWER_MASK);
-          mt[kk] = mt[kk + M] ^ (y >>> 1) ^ MAG01[y & 0x1];
-        }
-        for (; kk < (N - 1); kk++) {
-          y = (mt[kk] & UPPER_MASK) | (mt[kk + 1] & LOWER_MASK);
-          mt[kk] = mt[kk + (M - N)] ^ (y >>> 1) ^ MAG01[y & 0x1];
-        }
-        y = (mt[N - 1] & UPPER_MASK) | (mt[0] & LOWER_MASK);
-        mt[N - 1] = mt[M - 1] ^ (y >>> 1) ^ MAG01[y & 0x1];
-
+        twist();
         mtIndex = 0;
       }
 
@@ -181,6 +179,101 @@ public class MersenneTwisterRandom extends BaseRandom {
     return y >>> (32 - bits);
   }
 
+  /** Replaces the state vector with the next N words of the sequence. */
+  private void twist() {
+    int y;
+    int kk;
+    for (kk = 0; kk < (N - M); kk++) {
+      y = (mt[kk] & UPPER_MASK) | (mt[kk + 1] & LOWER_MASK);
+      mt[kk] = mt[kk + M] ^ (y >>> 1) ^ MAG01[y & 0x1];
+    }
+    for (; kk < (N - 1); kk++) {
+      y = (mt[kk] & UPPER_MASK) | (mt[kk + 1] & LOWER_MASK);
+      mt[kk] = mt[kk + (M - N)] ^ (y >>> 1) ^ MAG01[y & 0x1];
+    }
+    y = (mt[N - 1] & UPPER_MASK) | (mt[0] & LOWER_MASK);
+    mt[N - 1] = mt[M - 1] ^ (y >>> 1) ^ MAG01[y & 0x1];
+  }
+
+  @Override public void advance(final long delta) {
+    if (delta == 0) {
+      return;
+    }
+    lock.lock();
+    try {
+      if (delta > 0 && delta <= MAX_STEPPED_ADVANCE) {
+        long remaining = delta;
+        while (remaining > 0) {
+          if (mtIndex >= N) {
+            twist();
+            mtIndex = 0;
+          }
+          final int skipped = (int) Math.min(remaining, N - mtIndex);
+          mtIndex += skipped;
+          remaining -= skipped;
+        }
+      } else {
+        jump(Gf2PolynomialArithmetic.powerOfXMod((delta < 0) ? -1 : 0, delta,
+            MersenneTwisterPolynomials.CHARACTERISTIC, MersenneTwisterPolynomials.DEGREE));
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Advances the generator forward {@code highDelta << 64 + lowDelta} steps, but does so in
+   * logarithmic time. A distance of exactly 2<sup>64</sup> uses a precomputed jump polynomial, so
+   * it's a good stride for splitting one seed into non-overlapping streams.
+   * @param highDelta high quadword of the distance to advance
+   * @param lowDelta low quadword of the distance to advance
+   */
+  public void advance(final long highDelta, final long lowDelta) {
+    if (highDelta == (lowDelta >> (Long.SIZE - 1))) {
+      advance(lowDelta); // fits in a long
+      return;
+    }
+    final long[] jumpPolynomial = (highDelta == 1 && lowDelta == 0)
+        ? MersenneTwisterPolynomials.JUMP_2_64
+        : Gf2PolynomialArithmetic.powerOfXMod(highDelta, lowDelta,
+            MersenneTwisterPolynomials.CHARACTERISTIC, MersenneTwisterPolynomials.DEGREE);
+    lock.lock();
+    try {
+      jump(jumpPolynomial);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Replaces the state with the given polynomial in the state transition, evaluated by Horner's
+   * method while running the recurrence one word at a time on a copy of the state vector. Words
+   * before {@code mtIndex} are never output again, so {@code mtIndex} stays where it is. Must be
+   * called while holding the lock.
+   * @param jumpPolynomial x<sup>delta</sup> mod the characteristic polynomial
+   */
+  private void jump(final long[] jumpPolynomial) {
+    final int[] current = mt.clone();
+    final int[] result = new int[N];
+    int start = 0;
+    for (int i = 0; i < MersenneTwisterPolynomials.DEGREE; i++) {
+      if (((jumpPolynomial[i / Long.SIZE] >>> i) & 1) != 0) {
+        for (int j = 0; j < N - start; j++) {
+          result[j] ^= current[start + j];
+        }
+        for (int j = N - start; j < N; j++) {
+          result[j] ^= current[j - (N - start)];
+        }
+      }
+      final int next = (start == N - 1) ? 0 : start + 1;
+      final int y = (current[start] & UPPER_MASK) | (current[next] & LOWER_MASK);
+      final int plusM = (start < N - M) ? start + M : start + (M - N);
+      current[start] = current[plusM] ^ (y >>> 1) ^ MAG01[y & 0x1];
+      start = next;
+    }
+    System.arraycopy(result, 0, mt, 0, N);
+  }
+
   /** Returns the only supported seed length. */
   @Override public int getNewSeedLength() {
     return SEED_SIZE_BYTES;
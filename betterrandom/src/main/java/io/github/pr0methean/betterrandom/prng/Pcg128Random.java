@@ -1,10 +1,6 @@
 package io.github.pr0methean.betterrandom.prng;
 
-import static io.github.pr0methean.betterrandom.util.Byte16ArrayArithmetic.addInto;
-import static io.github.pr0methean.betterrandom.util.Byte16ArrayArithmetic.multiplyInto;
-import static io.github.pr0methean.betterrandom.util.Byte16ArrayArithmetic.multiplyIntoAndAddInto;
-import static io.github.pr0methean.betterrandom.util.Byte16ArrayArithmetic.shiftedLeast;
-import static io.github.pr0methean.betterrandom.util.Byte16ArrayArithmetic.shiftedMost;
+import static io.github.pr0methean.betterrandom.util.Byte16ArrayArithmetic.unsignedMultiplyHigh;
 
 import com.google.common.base.MoreObjects.ToStringHelper;
 import io.github.pr0methean.betterrandom.SeekableRandom;
@@ -12,10 +8,9 @@ import io.github.pr0methean.betterrandom.seed.DefaultSeedGenerator;
 import io.github.pr0methean.betterrandom.seed.SeedException;
 import io.github.pr0methean.betterrandom.seed.SeedGenerator;
 import io.github.pr0methean.betterrandom.util.BinaryUtils;
-import io.github.pr0methean.betterrandom.util.Byte16ArrayArithmetic;
 import io.github.pr0methean.betterrandom.util.EntryPoint;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 
 /**
  * <p>From the original description, "PCG is a family of simple fast space-efficient statistically
@@ -24,6 +19,9 @@ import java.util.concurrent.locks.ReentrantLock;
  * href="http://www.pcg-random.org/">http://www.pcg-random.org/</a>. Period is 2<sup>126</sup> bits.
  * This PRNG is seekable.
  * </p><p>
+ * The 128-bit state is held as two {@code long} fields, so neither {@link #nextLong()} nor {@link
+ * #advance(long, long)} allocates; the seed is still its big-endian 16-byte representation.
+ * </p><p>
  * Sharing a single instance across threads that are frequently using it concurrently isn't
  * recommended, unless memory is too constrained to use with a
  * {@link io.github.pr0methean.betterrandom.prng.concurrent.ThreadLocalRandomWrapper}.
@@ -34,14 +32,10 @@ import java.util.concurrent.locks.ReentrantLock;
 public class Pcg128Random extends BaseRandom implements SeekableRandom {
 
   private static final int SEED_SIZE_BYTES = 2 * Long.BYTES;
-  private static final byte[] MULTIPLIER =
-      {0x00000023, 0x00000060, 0xffffffed, 0x00000005, 0x0000001f, 0xffffffc6, 0x0000005d,
-          0xffffffa4, 0x00000043, 0xffffff85, 0xffffffdf, 0x00000064, 0xffffff9f, 0xffffffcc,
-          0xfffffff6, 0x00000045};
-  private static final byte[] INCREMENT =
-      {0x00000058, 0x00000051, 0xfffffff4, 0x0000002d, 0x0000004c, 0xffffff95, 0x0000007f,
-          0x0000002d, 0x00000014, 0x00000005, 0x0000007b, 0x0000007e, 0xfffffff7, 0x00000067,
-          0xffffff81, 0x0000004f};
+  private static final long MULTIPLIER_HI = 0x2360ED051FC65DA4L;
+  private static final long MULTIPLIER_LO = 0x4385DF649FCCF645L;
+  private static final long INCREMENT_HI = 0x5851F42D4C957F2DL;
+  private static final long INCREMENT_LO = 0x14057B7EF767814FL;
   private static final int WANTED_OP_BITS = 6;
   public static final int ROTATION1 = (WANTED_OP_BITS + Long.SIZE) / 2;
   private static final int ROTATION2 = Long.SIZE - WANTED_OP_BITS;
@@ -49,21 +43,9 @@ public class Pcg128Random extends BaseRandom implements SeekableRandom {
   public static final double RANDOM_DOUBLE_INCR = 0x1.0p-53;
   private static final int MASK = (1 << WANTED_OP_BITS) - 1;
 
-  private transient byte[] curMult;
-  private transient byte[] curPlus;
-  private transient byte[] accMult;
-  private transient byte[] accPlus;
-  private transient byte[] adjMult;
-  private final Lock advancementLock = new ReentrantLock(); // guards *Mult and *Plus
-
-  @Override protected void initTransientFields() {
-    super.initTransientFields();
-    curMult = new byte[SEED_SIZE_BYTES];
-    curPlus = new byte[SEED_SIZE_BYTES];
-    accMult = new byte[SEED_SIZE_BYTES];
-    accPlus = new byte[SEED_SIZE_BYTES];
-    adjMult = new byte[SEED_SIZE_BYTES];
-  }
+  // Upper and lower 64 bits of the state; guarded by lock
+  private long stateHi;
+  private long stateLo;
 
   public Pcg128Random() {
     this(DefaultSeedGenerator.DEFAULT_SEED_GENERATOR);
@@ -88,7 +70,6 @@ public class Pcg128Random extends BaseRandom implements SeekableRandom {
     return (nextLongNoEntropyDebit() >>> (Long.SIZE - ENTROPY_OF_DOUBLE)) * RANDOM_DOUBLE_INCR;
   }
 
-  // TODO: convert to 128 bits
   @Override public void advance(final long delta) {
     advance((delta < 0) ? -1 : 0, delta);
   }
@@ -100,58 +81,95 @@ public class Pcg128Random extends BaseRandom implements SeekableRandom {
    * @param lowDelta low quadword of the distance to advance
    */
   public void advance(long highDelta, long lowDelta) {
-    advancementLock.lock();
-    try {
-      if (highDelta == 0 && lowDelta == 0) {
-        return;
-      }
-      // The method used here is based on Brown, "Random Number Generation
-      // with Arbitrary Stride,", Transactions of the American Nuclear
-      // Society (Nov. 1994).  The algorithm is very similar to fast
-      // exponentiation.
-      System.arraycopy(MULTIPLIER, 0, curMult, 0, SEED_SIZE_BYTES);
-      System.arraycopy(INCREMENT, 0, curPlus, 0, SEED_SIZE_BYTES);
-      System.arraycopy(Byte16ArrayArithmetic.ONE, 0, accMult, 0, SEED_SIZE_BYTES);
-      System.arraycopy(Byte16ArrayArithmetic.ZERO, 0, accPlus, 0, SEED_SIZE_BYTES);
-      while (lowDelta != 0 || highDelta != 0) {
-        if ((lowDelta & 1) == 1) {
-          multiplyInto(accMult, curMult);
-          multiplyIntoAndAddInto(accPlus, curMult, curPlus);
-        }
-        System.arraycopy(curMult, 0, adjMult, 0, SEED_SIZE_BYTES);
-        addInto(adjMult, Byte16ArrayArithmetic.ONE);
-        multiplyInto(curPlus, adjMult);
-        multiplyInto(curMult, curMult);
-        lowDelta >>>= 1;
-        lowDelta |= (highDelta & 1L) << 63;
-        highDelta >>>= 1;
-      }
-      lock.lock();
-      try {
-        multiplyIntoAndAddInto(seed, accMult, accPlus);
-      } finally {
-        lock.unlock();
+    if (highDelta == 0 && lowDelta == 0) {
+      return;
+    }
+    // The method used here is based on Brown, "Random Number Generation
+    // with Arbitrary Stride,", Transactions of the American Nuclear
+    // Society (Nov. 1994).  The algorithm is very similar to fast
+    // exponentiation.
+    long curMultHi = MULTIPLIER_HI;
+    long curMultLo = MULTIPLIER_LO;
+    long curPlusHi = INCREMENT_HI;
+    long curPlusLo = INCREMENT_LO;
+    long accMultHi = 0;
+    long accMultLo = 1;
+    long accPlusHi = 0;
+    long accPlusLo = 0;
+    while (lowDelta != 0 || highDelta != 0) {
+      if ((lowDelta & 1) == 1) {
+        // accMult *= curMult
+        final long newAccMultHi = multiplyHigh(accMultHi, accMultLo, curMultHi, curMultLo);
+        accMultLo *= curMultLo;
+        accMultHi = newAccMultHi;
+        // accPlus = accPlus * curMult + curPlus
+        final long productLo = accPlusLo * curMultLo;
+        final long sumLo = productLo + curPlusLo;
+        accPlusHi = multiplyHigh(accPlusHi, accPlusLo, curMultHi, curMultLo) + curPlusHi
+            + carry(productLo, sumLo);
+        accPlusLo = sumLo;
       }
+      // curPlus *= curMult + 1
+      final long adjMultLo = curMultLo + 1;
+      final long adjMultHi = curMultHi + carry(curMultLo, adjMultLo);
+      final long newCurPlusHi = multiplyHigh(curPlusHi, curPlusLo, adjMultHi, adjMultLo);
+      curPlusLo *= adjMultLo;
+      curPlusHi = newCurPlusHi;
+      // curMult *= curMult
+      final long newCurMultHi = multiplyHigh(curMultHi, curMultLo, curMultHi, curMultLo);
+      curMultLo *= curMultLo;
+      curMultHi = newCurMultHi;
+      lowDelta >>>= 1;
+      lowDelta |= (highDelta & 1L) << 63;
+      highDelta >>>= 1;
+    }
+    lock.lock();
+    try {
+      // state = state * accMult + accPlus
+      final long productLo = stateLo * accMultLo;
+      final long sumLo = productLo + accPlusLo;
+      stateHi = multiplyHigh(stateHi, stateLo, accMultHi, accMultLo) + accPlusHi
+          + carry(productLo, sumLo);
+      stateLo = sumLo;
     } finally {
-      advancementLock.unlock();
+      lock.unlock();
     }
   }
 
+  /**
+   * Returns the upper 64 bits of the lower 128 bits of the product of two 128-bit integers.
+   */
+  private static long multiplyHigh(final long aHi, final long aLo, final long bHi,
+      final long bLo) {
+    return unsignedMultiplyHigh(aLo, bLo) + (aHi * bLo) + (aLo * bHi);
+  }
+
+  /**
+   * Returns the carry out of a 64-bit addition, given one addend and the wrapped sum.
+   */
+  private static long carry(final long addend, final long sum) {
+    return (Long.compareUnsigned(addend, sum) > 0) ? 1 : 0;
+  }
+
   @Override public void setSeedInternal(final byte[] seed) {
     if (seed.length != SEED_SIZE_BYTES) {
       throw new IllegalArgumentException("Pcg128Random requires a 16-byte seed");
     }
-    final boolean locked = (advancementLock != null);
-    if (locked) {
-      advancementLock.lock();
-    }
+    super.setSeedInternal(seed);
+    stateHi = BinaryUtils.convertBytesToLong(seed, 0);
+    stateLo = BinaryUtils.convertBytesToLong(seed, Long.BYTES);
+  }
+
+  @Override public byte[] getSeed() {
+    final byte[] out = new byte[SEED_SIZE_BYTES];
+    lock.lock();
     try {
-      super.setSeedInternal(seed);
+      BinaryUtils.convertLongToBytes(stateHi, out, 0);
+      BinaryUtils.convertLongToBytes(stateLo, out, Long.BYTES);
     } finally {
-      if (locked) {
-        advancementLock.unlock();
-      }
+      lock.unlock();
     }
+    return out;
   }
 
   @Override protected int next(final int bits) {
@@ -159,32 +177,49 @@ public class Pcg128Random extends BaseRandom implements SeekableRandom {
   }
 
   @Override protected long nextLongNoEntropyDebit() {
-    long oldSeedMost;
-    long oldSeedLeast;
+    final long oldSeedMost;
+    final long oldSeedLeast;
     lock.lock();
     try {
-      oldSeedMost = BinaryUtils.convertBytesToLong(seed, 0);
-      oldSeedLeast = BinaryUtils.convertBytesToLong(seed, Long.BYTES);
-      multiplyIntoAndAddInto(seed, MULTIPLIER, INCREMENT);
+      oldSeedMost = stateHi;
+      oldSeedLeast = stateLo;
+      final long productLo = oldSeedLeast * MULTIPLIER_LO;
+      final long sumLo = productLo + INCREMENT_LO;
+      stateHi = multiplyHigh(oldSeedMost, oldSeedLeast, MULTIPLIER_HI, MULTIPLIER_LO)
+          + INCREMENT_HI + carry(productLo, sumLo);
+      stateLo = sumLo;
     } finally {
       lock.unlock();
     }
     // Calculate output function (XSH RR), uses old state for max ILP
     // int xorShifted = (int) (((oldInternal >>> ROTATION1) ^ oldInternal) >>> ROTATION2);
-    final long xorShiftedMost = shiftedMost(ROTATION1, oldSeedMost, oldSeedLeast) ^ oldSeedMost;
-    final long xorShiftedLeast = shiftedLeast(ROTATION1, oldSeedMost, oldSeedLeast) ^ oldSeedLeast;
-    final long preRotate = shiftedLeast(ROTATION2, xorShiftedMost, xorShiftedLeast);
+    final long xorShiftedMost = (oldSeedMost >>> ROTATION1) ^ oldSeedMost;
+    final long xorShiftedLeast =
+        ((oldSeedLeast >>> ROTATION1) | (oldSeedMost << (Long.SIZE - ROTATION1))) ^ oldSeedLeast;
+    final long preRotate =
+        (xorShiftedLeast >>> ROTATION2) | (xorShiftedMost << (Long.SIZE - ROTATION2));
     // int rot = (int) (oldInternal >>> (SEED_SIZE_BYTES - WANTED_OP_BITS));
-    final int rot = ((int)(oldSeedMost >>> 58)) & MASK;
-    // return ((xorshifted >>> rot) | (xorshifted << ((-rot) & MASK))) >>> (Integer.SIZE - bits);
-    return (preRotate >>> rot) | (preRotate << ((-rot) & MASK));
+    final int rot = ((int) (oldSeedMost >>> ROTATION2)) & MASK;
+    return Long.rotateRight(preRotate, rot);
   }
 
   @Override protected ToStringHelper addSubclassFields(final ToStringHelper original) {
-    return original;
+    return original.add("stateHi", stateHi).add("stateLo", stateLo);
   }
 
   @Override public int getNewSeedLength() {
     return SEED_SIZE_BYTES;
   }
+
+  private void writeObject(final ObjectOutputStream out) throws IOException {
+    // Copy the long state back to the array seed
+    lock.lock();
+    try {
+      BinaryUtils.convertLongToBytes(stateHi, seed, 0);
+      BinaryUtils.convertLongToBytes(stateLo, seed, Long.BYTES);
+    } finally {
+      lock.unlock();
+    }
+    out.defaultWriteObject();
+  }
 }
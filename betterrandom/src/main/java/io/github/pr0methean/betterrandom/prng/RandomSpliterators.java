@@ -0,0 +1,166 @@
+package io.github.pr0methean.betterrandom.prng;
+
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Spliterators backing the streams returned by {@link BaseRandom}, modeled on the ones in {@link
+ * java.util.SplittableRandom}. Each split gets its own PRNG from {@link
+ * BaseRandom#splitForStream()}, so the worker threads of a parallel stream don't all contend for
+ * one lock. An unlimited stream is represented as one of {@link Long#MAX_VALUE} elements.
+ */
+enum RandomSpliterators {
+  ;
+
+  private static final int CHARACTERISTICS =
+      Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+
+  /** Fields and splitting logic shared by the spliterators for each primitive type. */
+  private abstract static class Base<T extends Base<T>> {
+
+    protected final BaseRandom rng;
+    protected long index;
+    protected final long fence;
+
+    protected Base(final BaseRandom rng, final long index, final long fence) {
+      this.rng = rng;
+      this.index = index;
+      this.fence = fence;
+    }
+
+    /**
+     * Creates a spliterator with the same element type and range, but a different PRNG and range.
+     * @param child the PRNG for the new spliterator
+     * @param newIndex the first index of the new spliterator
+     * @param newFence one past the last index of the new spliterator
+     * @return the new spliterator
+     */
+    protected abstract T create(BaseRandom child, long newIndex, long newFence);
+
+    public T trySplit() {
+      final long oldIndex = index;
+      final long middle = (oldIndex + fence) >>> 1;
+      if (middle <= oldIndex) {
+        return null;
+      }
+      index = middle;
+      return create(rng.splitForStream(), oldIndex, middle);
+    }
+
+    public long estimateSize() {
+      return fence - index;
+    }
+
+    public int characteristics() {
+      return CHARACTERISTICS;
+    }
+  }
+
+  /** Spliterator for {@link BaseRandom#ints()} and its overloads. */
+  static final class IntSpliterator extends Base<IntSpliterator> implements Spliterator.OfInt {
+
+    private final ToIntFunction<BaseRandom> generator;
+
+    IntSpliterator(final BaseRandom rng, final long index, final long fence,
+        final ToIntFunction<BaseRandom> generator) {
+      super(rng, index, fence);
+      this.generator = generator;
+    }
+
+    @Override protected IntSpliterator create(final BaseRandom child, final long newIndex,
+        final long newFence) {
+      return new IntSpliterator(child, newIndex, newFence, generator);
+    }
+
+    @Override public boolean tryAdvance(final IntConsumer consumer) {
+      if (index >= fence) {
+        return false;
+      }
+      consumer.accept(generator.applyAsInt(rng));
+      index++;
+      return true;
+    }
+
+    @Override public void forEachRemaining(final IntConsumer consumer) {
+      final long end = fence;
+      for (long i = index; i < end; i++) {
+        consumer.accept(generator.applyAsInt(rng));
+      }
+      index = end;
+    }
+  }
+
+  /** Spliterator for {@link BaseRandom#longs()} and its overloads. */
+  static final class LongSpliterator extends Base<LongSpliterator> implements Spliterator.OfLong {
+
+    private final ToLongFunction<BaseRandom> generator;
+
+    LongSpliterator(final BaseRandom rng, final long index, final long fence,
+        final ToLongFunction<BaseRandom> generator) {
+      super(rng, index, fence);
+      this.generator = generator;
+    }
+
+    @Override protected LongSpliterator create(final BaseRandom child, final long newIndex,
+        final long newFence) {
+      return new LongSpliterator(child, newIndex, newFence, generator);
+    }
+
+    @Override public boolean tryAdvance(final LongConsumer consumer) {
+      if (index >= fence) {
+        return false;
+      }
+      consumer.accept(generator.applyAsLong(rng));
+      index++;
+      return true;
+    }
+
+    @Override public void forEachRemaining(final LongConsumer consumer) {
+      final long end = fence;
+      for (long i = index; i < end; i++) {
+        consumer.accept(generator.applyAsLong(rng));
+      }
+      index = end;
+    }
+  }
+
+  /** Spliterator for {@link BaseRandom#doubles()}, {@link BaseRandom#gaussians()} and overloads. */
+  static final class DoubleSpliterator extends Base<DoubleSpliterator>
+      implements Spliterator.OfDouble {
+
+    private final ToDoubleFunction<BaseRandom> generator;
+
+    DoubleSpliterator(final BaseRandom rng, final long index, final long fence,
+        final ToDoubleFunction<BaseRandom> generator) {
+      super(rng, index, fence);
+      this.generator = generator;
+    }
+
+    @Override protected DoubleSpliterator create(final BaseRandom child, final long newIndex,
+        final long newFence) {
+      return new DoubleSpliterator(child, newIndex, newFence, generator);
+    }
+
+    @Override public boolean tryAdvance(final DoubleConsumer consumer) {
+      if (index >= fence) {
+        return false;
+      }
+      consumer.accept(generator.applyAsDouble(rng));
+      index++;
+      return true;
+    }
+
+    @Override public void forEachRemaining(final DoubleConsumer consumer) {
+      final long end = fence;
+      for (long i = index; i < end; i++) {
+        consumer.accept(generator.applyAsDouble(rng));
+      }
+      index = end;
+    }
+  }
+}
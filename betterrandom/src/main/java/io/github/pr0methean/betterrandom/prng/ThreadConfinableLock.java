@@ -0,0 +1,84 @@
+package io.github.pr0methean.betterrandom.prng;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.annotation.Nullable;
+
+/**
+ * A {@link ReentrantLock} that can be switched into a mode where it is owned by a single thread.
+ * In that mode, {@link #lock()} and {@link #unlock()} don't synchronize at all; instead, they throw
+ * an {@link IllegalStateException} when called from any other thread.
+ */
+final class ThreadConfinableLock extends ReentrantLock {
+
+  private static final long serialVersionUID = -3474245457658914577L;
+  private transient volatile Thread owner;
+
+  /**
+   * Returns the thread this lock is confined to.
+   * @return the owner thread, or null if this lock is behaving as a normal {@link ReentrantLock}
+   */
+  @Nullable Thread getOwnerThread() {
+    return owner;
+  }
+
+  /**
+   * Confines this lock to the given thread, or returns it to normal operation. Must not be called
+   * while the calling thread holds this lock.
+   * @param newOwner the thread that will own this lock, or null to return to normal operation
+   * @param precondition run while this lock is held, just before the owner changes; may throw to
+   *     leave the owner unchanged
+   * @throws IllegalStateException if this lock is currently confined to a different thread
+   */
+  void confineTo(@Nullable final Thread newOwner, final Runnable precondition) {
+    checkOwner(owner);
+    super.lock();
+    try {
+      precondition.run();
+      owner = newOwner;
+    } finally {
+      super.unlock();
+    }
+  }
+
+  /**
+   * Throws an {@link IllegalStateException} if the given owner is non-null and is not the calling
+   * thread.
+   * @param currentOwner the value of {@link #getOwnerThread()}
+   */
+  static void checkOwner(@Nullable final Thread currentOwner) {
+    if (currentOwner != null && currentOwner != Thread.currentThread()) {
+      throw new IllegalStateException(String.format(
+          "Accessed from %s, but confined to %s", Thread.currentThread(), currentOwner));
+    }
+  }
+
+  @Override public void lock() {
+    Thread currentOwner = owner;
+    if (currentOwner == null) {
+      super.lock();
+      currentOwner = owner;
+      if (currentOwner == null) {
+        return;
+      }
+      // Confined while we were waiting, so unlock() would no longer release the lock
+      super.unlock();
+    }
+    checkOwner(currentOwner);
+  }
+
+  @Override public void unlock() {
+    final Thread currentOwner = owner;
+    if (currentOwner == null) {
+      super.unlock();
+    } else {
+      checkOwner(currentOwner);
+    }
+  }
+
+  private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    owner = null;
+  }
+}
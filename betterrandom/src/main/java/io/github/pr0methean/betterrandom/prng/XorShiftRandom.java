@@ -16,10 +16,12 @@
 package io.github.pr0methean.betterrandom.prng;
 
 import com.google.common.base.MoreObjects.ToStringHelper;
+import io.github.pr0methean.betterrandom.SeekableRandom;
 import io.github.pr0methean.betterrandom.seed.DefaultSeedGenerator;
 import io.github.pr0methean.betterrandom.seed.SeedException;
 import io.github.pr0methean.betterrandom.seed.SeedGenerator;
 import io.github.pr0methean.betterrandom.util.BinaryUtils;
+import io.github.pr0methean.betterrandom.util.Gf2PolynomialArithmetic;
 import java.util.Random;
 
 /**
@@ -30,15 +32,42 @@ import java.util.Random;
  * require 160-bit seeds, it is not possible to seed this RNG using the {@link #setSeed(long)}
  * method inherited from {@link Random}.  Calls to this method will have no effect. Instead the
  * seed
- * must be set by a constructor.</em></p>
+ * must be set by a constructor.</em></p> <p>This generator can {@link #advance(long)} in
+ * logarithmic time. The arithmetic right shift in its recurrence makes the state transition
+ * singular, so a state reached fewer than 4 steps after seeding has more than one predecessor;
+ * going backward from it lands on the one that's on the generator's cycle, whose output differs
+ * from the seeded one's for only the first few values.</p>
  * @author Daniel Dyer
  * @since 1.2
  */
-public class XorShiftRandom extends BaseRandom {
+public class XorShiftRandom extends BaseRandom implements SeekableRandom {
 
   private static final long serialVersionUID = 952521144304194886L;
   private static final int SEED_SIZE_BYTES = 20; // Needs 5 32-bit integers.
 
+  /**
+   * Minimal polynomial of the state transition over GF(2), stored as described in {@link
+   * Gf2PolynomialArithmetic}. It's x<sup>4</sup> times {@link #CYCLE_POLYNOMIAL}.
+   */
+  private static final long[] MINIMAL_POLYNOMIAL =
+      {0xfd4f0686f4551130L, 0x248cd567b4c288bcL, 0x10abaa4a2L};
+  private static final int DEGREE = 160;
+  /**
+   * {@link #MINIMAL_POLYNOMIAL} divided by x<sup>4</sup>. Every state is on the generator's cycle
+   * from 4 steps after seeding, and there the transition is invertible, with this as its minimal
+   * polynomial.
+   */
+  private static final long[] CYCLE_POLYNOMIAL =
+      {0xcfd4f0686f455113L, 0x2248cd567b4c288bL, 0x10abaa4aL};
+  private static final int CYCLE_DEGREE = DEGREE - 4;
+  /** x<sup>2<sup>64</sup></sup> mod {@link #MINIMAL_POLYNOMIAL}. */
+  private static final long[] JUMP_2_64 = {0x3d55c01f288d7d70L, 0xe3b24dc1f4141d34L, 0x9462554bL};
+  /**
+   * Below this, {@link #advance(long)} is faster when it simply runs the generator; above it, a
+   * polynomial jump is faster.
+   */
+  private static final long MAX_STEPPED_ADVANCE = 1 << 14;
+
   // Previously used an array for state but using separate fields proved to be
   // faster.
   private int state1;
@@ -126,6 +155,250 @@ public class XorShiftRandom extends BaseRandom {
     }
   }
 
+  /** Runs the generator in local variables, and writes the state back only once. */
+  @Override protected void nextIntsNoEntropyDebit(final int[] dest, final int offset,
+      final int length) {
+    int s1 = state1;
+    int s2 = state2;
+    int s3 = state3;
+    int s4 = state4;
+    int s5 = state5;
+    for (int i = offset; i < offset + length; i++) {
+      final int t = (s1 ^ (s1 >> 7));
+      s1 = s2;
+      s2 = s3;
+      s3 = s4;
+      s4 = s5;
+      s5 = (s5 ^ (s5 << 6)) ^ (t ^ (t << 13));
+      dest[i] = (s2 + s2 + 1) * s5;
+    }
+    state1 = s1;
+    state2 = s2;
+    state3 = s3;
+    state4 = s4;
+    state5 = s5;
+  }
+
+  /** Runs the generator in local variables, and writes the state back only once. */
+  @Override protected void nextLongsNoEntropyDebit(final long[] dest, final int offset,
+      final int length) {
+    int s1 = state1;
+    int s2 = state2;
+    int s3 = state3;
+    int s4 = state4;
+    int s5 = state5;
+    for (int i = offset; i < offset + length; i++) {
+      int t = (s1 ^ (s1 >> 7));
+      s1 = s2;
+      s2 = s3;
+      s3 = s4;
+      s4 = s5;
+      s5 = (s5 ^ (s5 << 6)) ^ (t ^ (t << 13));
+      final int high = (s2 + s2 + 1) * s5;
+      t = (s1 ^ (s1 >> 7));
+      s1 = s2;
+      s2 = s3;
+      s3 = s4;
+      s4 = s5;
+      s5 = (s5 ^ (s5 << 6)) ^ (t ^ (t << 13));
+      dest[i] = ((long) high << 32) + ((s2 + s2 + 1) * s5);
+    }
+    state1 = s1;
+    state2 = s2;
+    state3 = s3;
+    state4 = s4;
+    state5 = s5;
+  }
+
+  /**
+   * Runs the generator in local variables, combining two outputs into each {@code double} the same
+   * way as {@link java.util.Random#nextDouble()}, and writes the state back only once.
+   */
+  @Override protected void nextDoublesNoEntropyDebit(final double[] dest, final int offset,
+      final int length) {
+    int s1 = state1;
+    int s2 = state2;
+    int s3 = state3;
+    int s4 = state4;
+    int s5 = state5;
+    for (int i = offset; i < offset + length; i++) {
+      int t = (s1 ^ (s1 >> 7));
+      s1 = s2;
+      s2 = s3;
+      s3 = s4;
+      s4 = s5;
+      s5 = (s5 ^ (s5 << 6)) ^ (t ^ (t << 13));
+      final int high = ((s2 + s2 + 1) * s5) >>> (Integer.SIZE - 26);
+      t = (s1 ^ (s1 >> 7));
+      s1 = s2;
+      s2 = s3;
+      s3 = s4;
+      s4 = s5;
+      s5 = (s5 ^ (s5 << 6)) ^ (t ^ (t << 13));
+      final int low = ((s2 + s2 + 1) * s5) >>> (Integer.SIZE - 27);
+      dest[i] = (((long) high << 27) + low) * 0x1.0p-53;
+    }
+    state1 = s1;
+    state2 = s2;
+    state3 = s3;
+    state4 = s4;
+    state5 = s5;
+  }
+
+  /**
+   * Runs the generator in local variables, writes all 4 bytes of each output in big-endian order,
+   * and writes the state back only once.
+   */
+  @SuppressWarnings("NumericCastThatLosesPrecision")
+  @Override protected void nextBytesNoEntropyDebit(final byte[] bytes, final int offset,
+      final int length) {
+    int s1 = state1;
+    int s2 = state2;
+    int s3 = state3;
+    int s4 = state4;
+    int s5 = state5;
+    final int end = offset + length;
+    for (int i = offset; i < end; i += Integer.BYTES) {
+      final int t = (s1 ^ (s1 >> 7));
+      s1 = s2;
+      s2 = s3;
+      s3 = s4;
+      s4 = s5;
+      s5 = (s5 ^ (s5 << 6)) ^ (t ^ (t << 13));
+      final int value = (s2 + s2 + 1) * s5;
+      if (end - i >= Integer.BYTES) {
+        BinaryUtils.convertIntToBytes(value, bytes, i);
+      } else {
+        for (int j = 0; j < end - i; j++) {
+          bytes[i + j] = (byte) (value >>> (Integer.SIZE - Byte.SIZE * (j + 1)));
+        }
+      }
+    }
+    state1 = s1;
+    state2 = s2;
+    state3 = s3;
+    state4 = s4;
+    state5 = s5;
+  }
+
+  /**
+   * {@inheritDoc} Going backward returns to the generator's cycle, as described in the class
+   * documentation.
+   */
+  @Override public void advance(final long delta) {
+    if (delta == 0) {
+      return;
+    }
+    lock.lock();
+    try {
+      if (delta < 0) {
+        jump(backwardJumpPolynomial(-1, delta));
+      } else if (delta <= MAX_STEPPED_ADVANCE) {
+        int s1 = state1;
+        int s2 = state2;
+        int s3 = state3;
+        int s4 = state4;
+        int s5 = state5;
+        for (long i = 0; i < delta; i++) {
+          final int t = (s1 ^ (s1 >> 7));
+          s1 = s2;
+          s2 = s3;
+          s3 = s4;
+          s4 = s5;
+          s5 = (s5 ^ (s5 << 6)) ^ (t ^ (t << 13));
+        }
+        state1 = s1;
+        state2 = s2;
+        state3 = s3;
+        state4 = s4;
+        state5 = s5;
+      } else {
+        jump(Gf2PolynomialArithmetic.powerOfXMod(0, delta, MINIMAL_POLYNOMIAL, DEGREE));
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Advances the generator forward {@code highDelta << 64 + lowDelta} steps, but does so in
+   * logarithmic time. A distance of exactly 2<sup>64</sup> uses a precomputed jump polynomial.
+   * Going backward returns to the generator's cycle, as described in the class documentation.
+   * @param highDelta high quadword of the distance to advance
+   * @param lowDelta low quadword of the distance to advance
+   */
+  public void advance(final long highDelta, final long lowDelta) {
+    if (highDelta == 0 && lowDelta >= 0) {
+      advance(lowDelta);
+      return;
+    }
+    final long[] jumpPolynomial = (highDelta < 0) ? backwardJumpPolynomial(highDelta, lowDelta)
+        : (highDelta == 1 && lowDelta == 0) ? JUMP_2_64
+        : Gf2PolynomialArithmetic.powerOfXMod(highDelta, lowDelta, MINIMAL_POLYNOMIAL, DEGREE);
+    lock.lock();
+    try {
+      jump(jumpPolynomial);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns x<sup>4</sup> times x<sup>delta - 4</sup> mod {@link #CYCLE_POLYNOMIAL}. The first
+   * factor moves the state 4 steps forward, which puts it on the cycle; the second, which exists
+   * because the transition is invertible there, moves it {@code 4 - delta} steps back.
+   * @param highDelta high quadword of the negative distance to advance
+   * @param lowDelta low quadword of the negative distance to advance
+   * @return a jump polynomial for {@link #jump(long[])}
+   */
+  private static long[] backwardJumpPolynomial(final long highDelta, final long lowDelta) {
+    final long[] result = Gf2PolynomialArithmetic.powerOfXMod(
+        highDelta - ((Long.compareUnsigned(lowDelta, 4) < 0) ? 1 : 0), lowDelta - 4,
+        CYCLE_POLYNOMIAL, CYCLE_DEGREE);
+    for (int i = 0; i < 4; i++) {
+      Gf2PolynomialArithmetic.multiplyByXMod(result, MINIMAL_POLYNOMIAL, DEGREE);
+    }
+    return result;
+  }
+
+  /**
+   * Replaces the state with the given polynomial in the state transition, evaluated by Horner's
+   * method. Must be called while holding the lock.
+   * @param jumpPolynomial x<sup>delta</sup> mod {@link #MINIMAL_POLYNOMIAL}
+   */
+  private void jump(final long[] jumpPolynomial) {
+    int s1 = state1;
+    int s2 = state2;
+    int s3 = state3;
+    int s4 = state4;
+    int s5 = state5;
+    int r1 = 0;
+    int r2 = 0;
+    int r3 = 0;
+    int r4 = 0;
+    int r5 = 0;
+    for (int i = 0; i < DEGREE; i++) {
+      if (((jumpPolynomial[i / Long.SIZE] >>> i) & 1) != 0) {
+        r1 ^= s1;
+        r2 ^= s2;
+        r3 ^= s3;
+        r4 ^= s4;
+        r5 ^= s5;
+      }
+      final int t = (s1 ^ (s1 >> 7));
+      s1 = s2;
+      s2 = s3;
+      s3 = s4;
+      s4 = s5;
+      s5 = (s5 ^ (s5 << 6)) ^ (t ^ (t << 13));
+    }
+    state1 = r1;
+    state2 = r2;
+    state3 = r3;
+    state4 = r4;
+    state5 = r5;
+  }
+
   @Override public int getNewSeedLength() {
     return SEED_SIZE_BYTES;
   }
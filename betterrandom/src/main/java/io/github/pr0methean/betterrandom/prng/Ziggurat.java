@@ -0,0 +1,133 @@
+package io.github.pr0methean.betterrandom.prng;
+
+/**
+ * Samplers for the standard normal and exponential distributions, using the ziggurat algorithm of
+ * Marsaglia and Tsang, "The Ziggurat Method for Generating Random Variables," Journal of Statistical
+ * Software 5(8) (2000), with 256 layers. As suggested by Doornik, "An Improved Ziggurat Method to
+ * Generate Normal Random Samples" (2005), the layer index and the uniform variate are taken from
+ * disjoint bits of one {@link BaseRandom#nextLongNoEntropyDebit()} output, which is all that about
+ * 99% of samples need. Neither sampler debits entropy or takes any lock of its own.
+ */
+enum Ziggurat {
+  ;
+
+  private static final int LAYERS = 256;
+  private static final int LAYER_MASK = LAYERS - 1;
+  /** Drops the layer-index bits (and a few more), leaving 53 bits for the uniform variate. */
+  private static final int UNIFORM_SHIFT = Long.SIZE - 53;
+  private static final double SIGNED_UNIFORM_SCALE = 0x1.0p-52;
+  private static final double UNSIGNED_UNIFORM_SCALE = 0x1.0p-53;
+
+  private static final double NORMAL_R = 3.6541528853610088;
+  private static final double NORMAL_V = 4.92867323399e-3;
+  private static final double EXPONENTIAL_R = 7.69711747013104972;
+  private static final double EXPONENTIAL_V = 3.949659822581572e-3;
+
+  /**
+   * Right edges of the layers of the normal ziggurat, from the base (layer 0, whose width includes
+   * the tail's area) up to the top; {@code NORMAL_X[LAYERS]} is 0.
+   */
+  private static final double[] NORMAL_X = new double[LAYERS + 1];
+  /** {@code NORMAL_F[i] = exp(-NORMAL_X[i]^2 / 2)}, the bottom of layer {@code i}. */
+  private static final double[] NORMAL_F = new double[LAYERS + 1];
+  /** {@code NORMAL_RATIO[i] = NORMAL_X[i + 1] / NORMAL_X[i]}; below it, layer i is under the curve. */
+  private static final double[] NORMAL_RATIO = new double[LAYERS];
+  private static final double[] EXPONENTIAL_X = new double[LAYERS + 1];
+  private static final double[] EXPONENTIAL_F = new double[LAYERS + 1];
+  private static final double[] EXPONENTIAL_RATIO = new double[LAYERS];
+
+  static {
+    NORMAL_X[0] = NORMAL_V / normalDensity(NORMAL_R);
+    NORMAL_X[1] = NORMAL_R;
+    EXPONENTIAL_X[0] = EXPONENTIAL_V / Math.exp(-EXPONENTIAL_R);
+    EXPONENTIAL_X[1] = EXPONENTIAL_R;
+    for (int i = 1; i < (LAYERS - 1); i++) {
+      // Each layer has the same area V as the base
+      NORMAL_X[i + 1] = Math.sqrt(
+          -2 * Math.log((NORMAL_V / NORMAL_X[i]) + normalDensity(NORMAL_X[i])));
+      EXPONENTIAL_X[i + 1] =
+          -Math.log((EXPONENTIAL_V / EXPONENTIAL_X[i]) + Math.exp(-EXPONENTIAL_X[i]));
+    }
+    NORMAL_X[LAYERS] = 0;
+    EXPONENTIAL_X[LAYERS] = 0;
+    for (int i = 0; i <= LAYERS; i++) {
+      NORMAL_F[i] = normalDensity(NORMAL_X[i]);
+      EXPONENTIAL_F[i] = Math.exp(-EXPONENTIAL_X[i]);
+    }
+    for (int i = 0; i < LAYERS; i++) {
+      NORMAL_RATIO[i] = NORMAL_X[i + 1] / NORMAL_X[i];
+      EXPONENTIAL_RATIO[i] = EXPONENTIAL_X[i + 1] / EXPONENTIAL_X[i];
+    }
+  }
+
+  /** The standard normal density, without its normalizing constant. */
+  private static double normalDensity(final double x) {
+    return Math.exp(-0.5 * x * x);
+  }
+
+  /**
+   * Returns a sample from the standard normal distribution.
+   * @param rng the source of randomness
+   * @return a normally distributed value with mean 0 and standard deviation 1
+   */
+  static double nextNormal(final BaseRandom rng) {
+    while (true) {
+      final long bits = rng.nextLongNoEntropyDebit();
+      final int layer = (int) bits & LAYER_MASK;
+      final double u = (bits >> UNIFORM_SHIFT) * SIGNED_UNIFORM_SCALE; // in [-1, 1)
+      if (Math.abs(u) < NORMAL_RATIO[layer]) {
+        return u * NORMAL_X[layer];
+      }
+      if (layer == 0) {
+        return normalTail(rng, u < 0);
+      }
+      // Wedge between the layer's inner rectangle and the curve
+      final double x = u * NORMAL_X[layer];
+      final double y = NORMAL_F[layer]
+          + (rng.nextDoubleNoEntropyDebit() * (NORMAL_F[layer + 1] - NORMAL_F[layer]));
+      if (y < normalDensity(x)) {
+        return x;
+      }
+    }
+  }
+
+  /** Marsaglia's method for the part of the normal distribution beyond {@link #NORMAL_R}. */
+  private static double normalTail(final BaseRandom rng, final boolean negative) {
+    double x;
+    double y;
+    do {
+      // 1 - nextDouble() is in (0, 1], so its logarithm is finite
+      x = -Math.log(1 - rng.nextDoubleNoEntropyDebit()) / NORMAL_R;
+      y = -Math.log(1 - rng.nextDoubleNoEntropyDebit());
+    } while ((y + y) < (x * x));
+    return negative ? -(NORMAL_R + x) : (NORMAL_R + x);
+  }
+
+  /**
+   * Returns a sample from the exponential distribution with mean 1.
+   * @param rng the source of randomness
+   * @return an exponentially distributed, non-negative value with mean 1
+   */
+  static double nextExponential(final BaseRandom rng) {
+    double offset = 0;
+    while (true) {
+      final long bits = rng.nextLongNoEntropyDebit();
+      final int layer = (int) bits & LAYER_MASK;
+      final double u = (bits >>> UNIFORM_SHIFT) * UNSIGNED_UNIFORM_SCALE; // in [0, 1)
+      if (u < EXPONENTIAL_RATIO[layer]) {
+        return offset + (u * EXPONENTIAL_X[layer]);
+      }
+      if (layer == 0) {
+        // The tail is memoryless: it's another exponential sample, shifted right by R
+        offset += EXPONENTIAL_R;
+        continue;
+      }
+      final double x = u * EXPONENTIAL_X[layer];
+      final double y = EXPONENTIAL_F[layer]
+          + (rng.nextDoubleNoEntropyDebit() * (EXPONENTIAL_F[layer + 1] - EXPONENTIAL_F[layer]));
+      if (y < Math.exp(-x)) {
+        return offset + x;
+      }
+    }
+  }
+}
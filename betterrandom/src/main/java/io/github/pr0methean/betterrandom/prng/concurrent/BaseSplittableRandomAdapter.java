@@ -1,6 +1,7 @@
 package io.github.pr0methean.betterrandom.prng.concurrent;
 
 import io.github.pr0methean.betterrandom.prng.BaseRandom;
+import java.nio.ByteBuffer;
 import java.util.SplittableRandom;
 
 /**
@@ -61,14 +62,23 @@ public abstract class BaseSplittableRandomAdapter extends BaseRandom {
         : getSplittableRandom().nextInt(1 << bits);
   }
 
-  /** Delegates to {@link SplittableRandom#nextInt(int) SplittableRandom.nextInt(256)}. */
-  @SuppressWarnings("NumericCastThatLosesPrecision") @Override public void nextBytes(
-      final byte[] bytes) {
-    final SplittableRandom local = getSplittableRandom();
-    for (int i = 0; i < bytes.length; i++) {
-      bytes[i] = (byte) (local.nextInt(256));
-      debitEntropy(Byte.SIZE);
-    }
+  /**
+   * Delegates to {@link SplittableRandom#nextLong()}, using all 8 bytes of each result. Doesn't
+   * lock, since each {@link SplittableRandom} is only used by one thread.
+   */
+  @Override public void nextBytes(final byte[] bytes) {
+    nextBytesNoEntropyDebit(bytes, 0, bytes.length);
+    debitEntropy(Byte.SIZE * (long) bytes.length);
+  }
+
+  /**
+   * Delegates to {@link SplittableRandom#nextLong()}, using all 8 bytes of each result. Doesn't
+   * lock, since each {@link SplittableRandom} is only used by one thread.
+   */
+  @Override public void nextBytes(final ByteBuffer buffer) {
+    final int length = buffer.remaining();
+    nextBytesNoEntropyDebit(buffer);
+    debitEntropy(Byte.SIZE * (long) length);
   }
 
   /** Delegates to {@link SplittableRandom#nextInt()}. */
@@ -129,6 +139,78 @@ public abstract class BaseSplittableRandomAdapter extends BaseRandom {
     return out;
   }
 
+  /** Delegates to {@link SplittableRandom#nextInt()}. */
+  @Override public void nextInts(final int[] dest, final int offset, final int length) {
+    checkArrayRange(dest.length, offset, length);
+    final SplittableRandom local = getSplittableRandom();
+    for (int i = offset; i < offset + length; i++) {
+      dest[i] = local.nextInt();
+    }
+    debitEntropy(Integer.SIZE * (long) length);
+  }
+
+  /**
+   * Delegates to {@link SplittableRandom#nextInt(int, int) SplittableRandom.nextInt(origin,
+   * bound)}.
+   */
+  @Override public void nextInts(final int[] dest, final int offset, final int length,
+      final int origin, final int bound) {
+    checkArrayRange(dest.length, offset, length);
+    final SplittableRandom local = getSplittableRandom();
+    for (int i = offset; i < offset + length; i++) {
+      dest[i] = local.nextInt(origin, bound);
+    }
+    debitEntropy(entropyOfInt(origin, bound) * (long) length);
+  }
+
+  /** Delegates to {@link SplittableRandom#nextLong()}. */
+  @Override public void nextLongs(final long[] dest, final int offset, final int length) {
+    checkArrayRange(dest.length, offset, length);
+    final SplittableRandom local = getSplittableRandom();
+    for (int i = offset; i < offset + length; i++) {
+      dest[i] = local.nextLong();
+    }
+    debitEntropy(Long.SIZE * (long) length);
+  }
+
+  /**
+   * Delegates to {@link SplittableRandom#nextLong(long, long) SplittableRandom.nextLong(origin,
+   * bound)}.
+   */
+  @Override public void nextLongs(final long[] dest, final int offset, final int length,
+      final long origin, final long bound) {
+    checkArrayRange(dest.length, offset, length);
+    final SplittableRandom local = getSplittableRandom();
+    for (int i = offset; i < offset + length; i++) {
+      dest[i] = local.nextLong(origin, bound);
+    }
+    debitEntropy(entropyOfLong(origin, bound) * (long) length);
+  }
+
+  /** Delegates to {@link SplittableRandom#nextDouble()}. */
+  @Override public void nextDoubles(final double[] dest, final int offset, final int length) {
+    checkArrayRange(dest.length, offset, length);
+    final SplittableRandom local = getSplittableRandom();
+    for (int i = offset; i < offset + length; i++) {
+      dest[i] = local.nextDouble();
+    }
+    debitEntropy(ENTROPY_OF_DOUBLE * (long) length);
+  }
+
+  /**
+   * Delegates to {@link SplittableRandom#nextDouble(double, double)
+   * SplittableRandom.nextDouble(origin, bound)}.
+   */
+  @Override public void nextDoubles(final double[] dest, final int offset, final int length,
+      final double origin, final double bound) {
+    checkArrayRange(dest.length, offset, length);
+    final SplittableRandom local = getSplittableRandom();
+    for (int i = offset; i < offset + length; i++) {
+      dest[i] = local.nextDouble(origin, bound);
+    }
+    debitEntropy(ENTROPY_OF_DOUBLE * (long) length);
+  }
+
   /** Delegates to {@link SplittableRandom#nextDouble()}. */
   @Override protected double nextDoubleNoEntropyDebit() {
     return getSplittableRandom().nextDouble();
@@ -26,6 +26,7 @@ import io.github.pr0methean.betterrandom.seed.SeedGenerator;
 import io.github.pr0methean.betterrandom.util.BinaryUtils;
 import io.github.pr0methean.betterrandom.util.Dumpable;
 import io.github.pr0methean.betterrandom.util.EntryPoint;
+import java.nio.ByteBuffer;
 import java.security.SecureRandom;
 import java.util.Random;
 import javax.annotation.Nullable;
@@ -108,6 +109,17 @@ public class RandomWrapper extends BaseRandom {
     return true; // Streams should be parallel, in case a parallel PRNG is switched in later
   }
 
+  /**
+   * If the wrapped PRNG is a plain {@link Random}, returns a new instance wrapping a {@link Random}
+   * seeded from the wrapped one. Otherwise returns this instance, since the wrapped PRNG can't in
+   * general be copied or reseeded.
+   */
+  @Override protected BaseRandom splitForStream() {
+    final Random currentWrapped = getWrapped();
+    return (currentWrapped.getClass() == Random.class)
+        ? new RandomWrapper(currentWrapped.nextLong()) : this;
+  }
+
   @Override protected int next(final int bits) {
     return (bits >= 32) ? getWrapped().nextInt()
         : (bits == 31) ? getWrapped().nextInt() >>> 1
@@ -144,6 +156,7 @@ public class RandomWrapper extends BaseRandom {
   }
 
   private void readEntropyOfWrapped(final Random wrapped) {
+    flushEntropyDebits();
     entropyBits.set((wrapped instanceof EntropyCountingRandom) ? ((EntropyCountingRandom) wrapped)
         .getEntropyBits()
         : ((wrapped instanceof RepeatableRandom) ? (((RepeatableRandom) wrapped).getSeed().length
@@ -287,6 +300,21 @@ public class RandomWrapper extends BaseRandom {
     debitEntropy(bytes.length * (long) (Byte.SIZE));
   }
 
+  /**
+   * Delegates to {@link BaseRandom#nextBytes(ByteBuffer)} if the wrapped PRNG is a {@link
+   * BaseRandom}; otherwise, uses {@link Random#nextLong()}.
+   */
+  @Override public void nextBytes(final ByteBuffer buffer) {
+    final Random currentWrapped = getWrapped();
+    if (currentWrapped instanceof BaseRandom) {
+      final int length = buffer.remaining();
+      ((BaseRandom) currentWrapped).nextBytes(buffer);
+      debitEntropy(length * (long) (Byte.SIZE));
+    } else {
+      super.nextBytes(buffer);
+    }
+  }
+
   @Override public int nextInt() {
     final int result = getWrapped().nextInt();
     debitEntropy(Integer.SIZE);
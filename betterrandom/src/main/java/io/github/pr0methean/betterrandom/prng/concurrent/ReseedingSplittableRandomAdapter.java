@@ -1,6 +1,7 @@
 package io.github.pr0methean.betterrandom.prng.concurrent;
 
 import com.google.common.base.MoreObjects.ToStringHelper;
+import io.github.pr0methean.betterrandom.prng.BaseRandom;
 import io.github.pr0methean.betterrandom.seed.RandomSeederThread;
 import io.github.pr0methean.betterrandom.seed.SeedException;
 import io.github.pr0methean.betterrandom.seed.SeedGenerator;
@@ -8,6 +9,7 @@ import java.util.Collections;
 import java.util.Map;
 import java.util.SplittableRandom;
 import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Like {@link SplittableRandomAdapter}, but uses a {@link RandomSeederThread} to replace each
@@ -77,6 +79,27 @@ public class ReseedingSplittableRandomAdapter extends BaseSplittableRandomAdapte
     }
   }
 
+  /**
+   * Not supported, because this class uses a thread-local seed, and the thread that would set it
+   * isn't the caller.
+   * @param seedGenerator ignored.
+   * @throws UnsupportedOperationException always.
+   */
+  @Override public CompletableFuture<Void> reseedAsync(final SeedGenerator seedGenerator) {
+    throw new UnsupportedOperationException(
+        "ReseedingSplittableRandomAdapter is reseeded by its RandomSeederThread");
+  }
+
+  /** Returns true, since each thread has its own {@link SplittableRandom}. */
+  @Override protected boolean isThreadLocal() {
+    return true;
+  }
+
+  /** Returns this PRNG, since it's already thread-local. */
+  @Override protected BaseRandom splitForStream() {
+    return this;
+  }
+
   @Override public boolean usesParallelStreams() {
     return true;
   }
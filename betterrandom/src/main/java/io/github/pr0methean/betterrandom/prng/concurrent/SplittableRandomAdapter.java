@@ -3,6 +3,7 @@ package io.github.pr0methean.betterrandom.prng.concurrent;
 import static io.github.pr0methean.betterrandom.util.BinaryUtils.convertBytesToLong;
 
 import com.google.common.base.MoreObjects.ToStringHelper;
+import io.github.pr0methean.betterrandom.prng.BaseRandom;
 import io.github.pr0methean.betterrandom.seed.DefaultSeedGenerator;
 import io.github.pr0methean.betterrandom.seed.RandomSeederThread;
 import io.github.pr0methean.betterrandom.seed.SeedException;
@@ -11,6 +12,7 @@ import io.github.pr0methean.betterrandom.util.BinaryUtils;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicLong;
 import javax.annotation.Nullable;
 
@@ -69,6 +71,11 @@ public class SplittableRandomAdapter extends DirectSplittableRandomAdapter {
     initSubclassTransientFields();
   }
 
+  /** Returns this PRNG, since it's already thread-local. */
+  @Override protected BaseRandom splitForStream() {
+    return this;
+  }
+
   @Override public boolean usesParallelStreams() {
     return true;
   }
@@ -133,6 +140,21 @@ public class SplittableRandomAdapter extends DirectSplittableRandomAdapter {
     }
   }
 
+  /**
+   * Not supported, because this class uses a thread-local seed, and the thread that would set it
+   * isn't the caller.
+   * @param seedGenerator ignored.
+   * @throws UnsupportedOperationException always.
+   */
+  @Override public CompletableFuture<Void> reseedAsync(final SeedGenerator seedGenerator) {
+    throw new UnsupportedOperationException("Use ReseedingSplittableRandomAdapter instead");
+  }
+
+  /** Returns true, since each thread has its own {@link SplittableRandom}. */
+  @Override protected boolean isThreadLocal() {
+    return true;
+  }
+
   @Override public byte[] getSeed() {
     return seeds.get().clone();
   }
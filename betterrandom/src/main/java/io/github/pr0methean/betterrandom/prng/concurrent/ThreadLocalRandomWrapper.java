@@ -9,7 +9,9 @@ import io.github.pr0methean.betterrandom.util.BinaryUtils;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.nio.ByteBuffer;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.function.LongFunction;
 import java.util.function.Supplier;
@@ -89,6 +91,21 @@ public class ThreadLocalRandomWrapper extends RandomWrapper {
     }
   }
 
+  /**
+   * Not supported, because this class uses a thread-local seed, and the thread that would set it
+   * isn't the caller.
+   * @param seedGenerator ignored.
+   * @throws UnsupportedOperationException always.
+   */
+  @Override public CompletableFuture<Void> reseedAsync(final SeedGenerator seedGenerator) {
+    throw new UnsupportedOperationException("This can't be reseeded asynchronously");
+  }
+
+  /** Returns true, since each thread has its own {@link BaseRandom}. */
+  @Override protected boolean isThreadLocal() {
+    return true;
+  }
+
   @Override protected boolean withProbabilityInternal(double probability) {
     throw new AssertionError("Caller should be delegating at a higher level");
   }
@@ -113,6 +130,33 @@ public class ThreadLocalRandomWrapper extends RandomWrapper {
     return getWrapped().nextLong(origin, bound);
   }
 
+  @Override public void nextInts(final int[] dest, final int offset, final int length) {
+    getWrapped().nextInts(dest, offset, length);
+  }
+
+  @Override public void nextInts(final int[] dest, final int offset, final int length,
+      final int origin, final int bound) {
+    getWrapped().nextInts(dest, offset, length, origin, bound);
+  }
+
+  @Override public void nextLongs(final long[] dest, final int offset, final int length) {
+    getWrapped().nextLongs(dest, offset, length);
+  }
+
+  @Override public void nextLongs(final long[] dest, final int offset, final int length,
+      final long origin, final long bound) {
+    getWrapped().nextLongs(dest, offset, length, origin, bound);
+  }
+
+  @Override public void nextDoubles(final double[] dest, final int offset, final int length) {
+    getWrapped().nextDoubles(dest, offset, length);
+  }
+
+  @Override public void nextDoubles(final double[] dest, final int offset, final int length,
+      final double origin, final double bound) {
+    getWrapped().nextDoubles(dest, offset, length, origin, bound);
+  }
+
   @Override public BaseRandom getWrapped() {
     return threadLocal.get();
   }
@@ -126,6 +170,10 @@ public class ThreadLocalRandomWrapper extends RandomWrapper {
     getWrapped().nextBytes(bytes);
   }
 
+  @Override public void nextBytes(final ByteBuffer buffer) {
+    getWrapped().nextBytes(buffer);
+  }
+
   @Override public int nextInt() {
     return getWrapped().nextInt();
   }
@@ -154,6 +202,19 @@ public class ThreadLocalRandomWrapper extends RandomWrapper {
     return getWrapped().nextGaussian();
   }
 
+  @Override public double nextNormal() {
+    return getWrapped().nextNormal();
+  }
+
+  @Override public double nextExponential() {
+    return getWrapped().nextExponential();
+  }
+
+  /** Returns this PRNG, since it's already thread-local. */
+  @Override protected BaseRandom splitForStream() {
+    return this;
+  }
+
   @Override public boolean usesParallelStreams() {
     return true;
   }
@@ -0,0 +1,34 @@
+package io.github.pr0methean.betterrandom.seed;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds the executor that runs {@link SeedGenerator#generateSeedAsync(int)} for seed generators
+ * that don't override it, and {@link PrefetchingSeedGenerator}'s refills. Its threads are
+ * daemons, and there are at most {@link #MAX_THREADS} of them no matter how many seeds are pending,
+ * since most seed generators are I/O-bound and some (such as {@link RandomDotOrgSeedGenerator})
+ * rate-limit their callers anyway. Idle threads exit after {@link #KEEP_ALIVE_SECONDS}.
+ * Because the pool is so small, no task on it may block waiting for another task on it: a
+ * {@link SeedGenerator#generateSeed(byte[])} that needs results from other seed generators' {@link
+ * SeedGenerator#generateSeedAsync(int)} must instead call them on some other executor, as {@link
+ * HedgedSeedGenerator} does.
+ */
+enum AsyncSeedExecutor {
+  ;
+
+  static final int MAX_THREADS = 4;
+  static final long KEEP_ALIVE_SECONDS = 60;
+  static final ExecutorService EXECUTOR = createExecutor();
+
+  private static ExecutorService createExecutor() {
+    final ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_THREADS, MAX_THREADS,
+        KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+        new RandomSeederThread.DefaultThreadFactory("SeedGenerator.generateSeedAsync",
+            Thread.NORM_PRIORITY));
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+}
@@ -2,6 +2,7 @@ package io.github.pr0methean.betterrandom.seed;
 
 import java.io.IOException;
 import java.io.ObjectInputStream;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -57,6 +58,27 @@ public class BufferedSeedGenerator implements SeedGenerator {
     }
   }
 
+  /**
+   * Completes immediately, without a thread hop, when the buffer already holds enough bytes and
+   * isn't in use; otherwise delegates to the default implementation.
+   */
+  @Override
+  public CompletableFuture<byte[]> generateSeedAsync(final int length) {
+    if ((length > 0) && (length < size) && lock.tryLock()) {
+      try {
+        if (size - pos >= length) {
+          final byte[] output = new byte[length];
+          System.arraycopy(buffer, pos, output, 0, length);
+          pos += length;
+          return CompletableFuture.completedFuture(output);
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+    return SeedGenerator.super.generateSeedAsync(length);
+  }
+
   @Override
   public boolean isWorthTrying() {
     return pos < size || delegate.isWorthTrying();
@@ -16,6 +16,7 @@
 package io.github.pr0methean.betterrandom.seed;
 
 import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * <p>
@@ -25,7 +26,7 @@ import java.util.Arrays;
  * </p><p>
  * The default implementation maintains multiple strategies for seed generation and will delegate to
  * the best one available at any moment. It uses, in order of preference:</p><ol>
- * <li>{@link DevRandomSeedGenerator} with 128-byte buffer</li>
+ * <li>{@link DevRandomSeedGenerator#DEV_RANDOM_SEED_GENERATOR}, which has its own buffer</li>
  * <li>{@link RandomDotOrgSeedGenerator#DELAYED_RETRY} with 625-byte buffer</li>
  * <li>{@link SecureRandomSeedGenerator} with no buffer</li>
  * </ol>
@@ -40,7 +41,7 @@ public enum DefaultSeedGenerator implements SeedGenerator {
 
   private static volatile SeedGenerator delegate = new
       SeedGeneratorPreferenceList(Arrays.asList(
-          new BufferedSeedGenerator(DevRandomSeedGenerator.DEV_RANDOM_SEED_GENERATOR, 128),
+          DevRandomSeedGenerator.DEV_RANDOM_SEED_GENERATOR,
           new BufferedSeedGenerator(RandomDotOrgSeedGenerator.DELAYED_RETRY, 625),
           SecureRandomSeedGenerator.SECURE_RANDOM_SEED_GENERATOR),
       true);
@@ -71,4 +72,9 @@ public enum DefaultSeedGenerator implements SeedGenerator {
   public byte[] generateSeed(int length) throws SeedException {
     return delegate.generateSeed(length);
   }
+
+  @Override
+  public CompletableFuture<byte[]> generateSeedAsync(int length) {
+    return delegate.generateSeedAsync(length);
+  }
 }
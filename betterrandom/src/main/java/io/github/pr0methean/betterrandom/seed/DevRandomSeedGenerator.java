@@ -16,78 +16,52 @@
 package io.github.pr0methean.betterrandom.seed;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.IOException;
-import java.io.InputStream;
-import java.util.concurrent.atomic.AtomicBoolean;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /**
- * RNG seed strategy that gets data from {@code /dev/random} on systems that provide it (e.g.
- * Solaris/Linux).  If {@code /dev/random} does not exist or is not accessible, a {@link
+ * RNG seed strategy that gets data from {@code /dev/random} or {@code /dev/urandom} on systems that
+ * provide them (e.g. Solaris/Linux). If the device does not exist or is not accessible, a {@link
  * SeedException} is thrown. If it didn't exist during a previous call to this method or to {@link
  * #generateSeed(int)}, then for performance reasons, we assume for the rest of the JVM's lifespan
- * that it still doesn't exist.
+ * that it still doesn't exist. Each instance reads {@value #CHUNK_SIZE} bytes at a time when it
+ * can, through a {@link FileSeedGenerator}; use one of those directly to read a different device
+ * or file.
  * @author Daniel Dyer
  */
 public enum DevRandomSeedGenerator implements SeedGenerator {
 
-  /** Singleton instance. */
-  DEV_RANDOM_SEED_GENERATOR;
-
-  private static final Logger LOG = LoggerFactory.getLogger(DevRandomSeedGenerator.class);
-  @SuppressWarnings("HardcodedFileSeparator") private static final String DEV_RANDOM_STRING =
-      "/dev/random";
-  private static final File DEV_RANDOM = new File(DEV_RANDOM_STRING);
-  private static final AtomicBoolean DEV_RANDOM_DOES_NOT_EXIST = new AtomicBoolean(false);
-  private static volatile InputStream inputStream;
+  /** Singleton instance that reads {@code /dev/random}. */
+  @SuppressWarnings("HardcodedFileSeparator")
+  DEV_RANDOM_SEED_GENERATOR("/dev/random"),
 
   /**
-   * @throws SeedException if {@literal /dev/random} does not exist or is not accessible.
+   * Singleton instance that reads {@code /dev/urandom}, which never blocks once the kernel's
+   * entropy pool is initialized.
    */
-  @SuppressWarnings("AssignmentToStaticFieldFromInstanceMethod") @Override public void generateSeed(
-      final byte[] randomSeed) throws SeedException {
-    if (!isWorthTrying()) {
-      throw new SeedException(DEV_RANDOM_STRING + " did not exist when previously checked for");
-    }
+  @SuppressWarnings("HardcodedFileSeparator")
+  DEV_URANDOM_SEED_GENERATOR("/dev/urandom");
+
+  /** The maximum number of bytes read from the device at once. */
+  public static final int CHUNK_SIZE = 4096;
 
-    try {
-      if (inputStream == null) {
-        synchronized (DevRandomSeedGenerator.class) {
-          if (inputStream == null) {
-            inputStream = new FileInputStream(DEV_RANDOM);
-          }
-        }
-      }
-      final int length = randomSeed.length;
-      int count = 0;
-      while (count < length) {
-        final int bytesRead = inputStream.read(randomSeed, count, length - count);
-        if (bytesRead == -1) {
-          throw new SeedException("EOF encountered reading random data.");
-        }
-        count += bytesRead;
-      }
-    } catch (final IOException ex) {
-      if (!DEV_RANDOM.exists()) {
-        LOG.error("{} does not exist", DEV_RANDOM_STRING);
-        DEV_RANDOM_DOES_NOT_EXIST.lazySet(true);
-      }
-      throw new SeedException("Failed reading from " + DEV_RANDOM_STRING, ex);
-    } catch (final SecurityException ex) {
-      // Might be thrown if resource access is restricted (such as in
-      // an applet sandbox).
-      throw new SeedException("SecurityManager prevented access to " + DEV_RANDOM_STRING, ex);
-    }
+  private final FileSeedGenerator reader;
+
+  DevRandomSeedGenerator(final String path) {
+    reader = new FileSeedGenerator(new File(path), CHUNK_SIZE);
+  }
+
+  /**
+   * @throws SeedException if the device does not exist or is not accessible.
+   */
+  @Override public void generateSeed(final byte[] randomSeed) throws SeedException {
+    reader.generateSeed(randomSeed);
   }
 
   @Override public boolean isWorthTrying() {
-    return !(DEV_RANDOM_DOES_NOT_EXIST.get());
+    return reader.isWorthTrying();
   }
 
-  /** Returns "/dev/random". */
+  /** Returns the path of the device, e.g. "/dev/random". */
   @Override public String toString() {
-    return DEV_RANDOM_STRING;
+    return reader.toString();
   }
 }
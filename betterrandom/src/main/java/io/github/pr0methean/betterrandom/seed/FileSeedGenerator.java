@@ -0,0 +1,215 @@
+package io.github.pr0methean.betterrandom.seed;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>Seed generator that reads from a random device such as {@code /dev/urandom} or {@code
+ * /dev/random}, or from an ordinary file (which is mainly useful in tests, since a file's contents
+ * are finite and known). Reads are done through a {@link FileChannel} into a direct buffer of up to
+ * {@code chunkSize} bytes, so that one system call usually serves many seeds. Seeds smaller than
+ * the buffer are copied out of it; callers claim their ranges with a compare-and-swap, so they only
+ * wait for each other while the buffer is being refilled. Seeds at least as large as the buffer are
+ * read directly.</p>
+ * <p>If the file doesn't exist when a read fails, then for performance reasons, this instance
+ * assumes for the rest of the JVM's lifespan that it still doesn't exist.</p>
+ * @see DevRandomSeedGenerator
+ */
+public class FileSeedGenerator implements SeedGenerator {
+
+  private static final long serialVersionUID = -1547604633588815449L;
+  private static final Logger LOG = LoggerFactory.getLogger(FileSeedGenerator.class);
+
+  private final File file;
+  private final int chunkSize;
+
+  /** Guards refills of {@link #buffer} and opening {@link #channel}. */
+  private transient Lock lock;
+  private transient volatile FileChannel channel;
+  private transient ByteBuffer buffer;
+  /**
+   * The number of valid bytes in {@link #buffer} in the high 32 bits, and the index of the first
+   * unclaimed one in the low 32 bits. Packing them together means a claim can't succeed against a
+   * limit left over from before a refill.
+   */
+  private transient AtomicLong limitAndCursor;
+  /** Total length of the claims whose bytes have been copied out of {@link #buffer}. */
+  private transient AtomicInteger copied;
+  private transient volatile boolean doesNotExist;
+
+  /**
+   * Creates an instance.
+   * @param file the device or file to read
+   * @param chunkSize the size of the buffer, and thus the most bytes read per system call
+   * @throws IllegalArgumentException if {@code chunkSize} is not positive
+   */
+  public FileSeedGenerator(final File file, final int chunkSize) {
+    if (chunkSize <= 0) {
+      throw new IllegalArgumentException("chunkSize must be positive; was " + chunkSize);
+    }
+    this.file = Objects.requireNonNull(file, "file must not be null");
+    this.chunkSize = chunkSize;
+    initTransientFields();
+  }
+
+  private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    initTransientFields();
+  }
+
+  private void initTransientFields() {
+    lock = new ReentrantLock();
+    buffer = ByteBuffer.allocateDirect(chunkSize);
+    limitAndCursor = new AtomicLong(0);
+    copied = new AtomicInteger(0);
+  }
+
+  /**
+   * @throws SeedException if the file does not exist, is not accessible, or runs out of data.
+   */
+  @Override public void generateSeed(final byte[] output) throws SeedException {
+    if (!isWorthTrying()) {
+      throw new SeedException(file + " did not exist when previously checked for");
+    }
+    final int length = output.length;
+    if (length == 0) {
+      return;
+    }
+    try {
+      if (length >= chunkSize) {
+        readFully(ByteBuffer.wrap(output), length);
+        return;
+      }
+      while (!tryCopy(output)) {
+        refill(length);
+      }
+    } catch (final IOException ex) {
+      if (!file.exists()) {
+        LOG.error("{} does not exist", file);
+        doesNotExist = true;
+      }
+      throw new SeedException("Failed reading from " + file, ex);
+    } catch (final SecurityException ex) {
+      // Might be thrown if resource access is restricted (such as in
+      // an applet sandbox).
+      throw new SeedException("SecurityManager prevented access to " + file, ex);
+    }
+  }
+
+  /**
+   * Claims and copies {@code output.length} bytes from the buffer, if it has that many left.
+   * @param output the array to fill
+   * @return true if {@code output} was filled; false if the buffer must be refilled first
+   */
+  private boolean tryCopy(final byte[] output) {
+    final int length = output.length;
+    long oldValue;
+    int start;
+    do {
+      oldValue = limitAndCursor.get();
+      start = (int) oldValue;
+      if (start > (int) (oldValue >>> 32) - length) {
+        return false;
+      }
+    } while (!limitAndCursor.compareAndSet(oldValue, oldValue + length));
+    for (int i = 0; i < length; i++) {
+      output[i] = buffer.get(start + i);
+    }
+    copied.addAndGet(length);
+    return true;
+  }
+
+  /**
+   * Refills the buffer with at least {@code minLength} bytes, unless another thread already has.
+   * Waits for the copies from already-claimed ranges to finish before overwriting them.
+   */
+  private void refill(final int minLength) throws IOException {
+    lock.lock();
+    try {
+      final long oldValue = limitAndCursor.get();
+      if ((int) oldValue <= (int) (oldValue >>> 32) - minLength) {
+        return;
+      }
+      // Prevent any further claims
+      final int claimed = (int) limitAndCursor.getAndSet(0);
+      while (copied.get() < claimed) {
+        Thread.yield();
+      }
+      copied.set(0);
+      buffer.clear();
+      try {
+        readFully(buffer, minLength);
+      } finally {
+        // On failure, this publishes whatever was read, which is unclaimed and thus still usable
+        limitAndCursor.set(((long) buffer.position()) << 32);
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Reads into {@code dest} until it has at least {@code minLength} bytes, using as few reads as
+   * the file allows.
+   */
+  private void readFully(final ByteBuffer dest, final int minLength) throws IOException {
+    final FileChannel channel = getChannel();
+    while (dest.position() < minLength) {
+      if (channel.read(dest) < 0) {
+        throw new SeedException("EOF encountered reading random data.");
+      }
+    }
+  }
+
+  private FileChannel getChannel() throws IOException {
+    FileChannel current = channel;
+    if (current == null) {
+      lock.lock();
+      try {
+        current = channel;
+        if (current == null) {
+          current = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+          channel = current;
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+    return current;
+  }
+
+  @Override public boolean isWorthTrying() {
+    return !doesNotExist;
+  }
+
+  @Override public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final FileSeedGenerator that = (FileSeedGenerator) o;
+    return chunkSize == that.chunkSize && file.equals(that.file);
+  }
+
+  @Override public int hashCode() {
+    return Objects.hash(file, chunkSize);
+  }
+
+  /** Returns the path of the file. */
+  @Override public String toString() {
+    return file.getPath();
+  }
+}
@@ -0,0 +1,152 @@
+package io.github.pr0methean.betterrandom.seed;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>A {@link SeedGenerator} that sends each request to all of its delegates at once, and combines
+ * the results according to its {@link Mode}. Compared to a {@link SeedGeneratorPreferenceList},
+ * this trades extra load on the seed sources for lower tail latency ({@link Mode#FIRST_SUCCESS}) or
+ * for a seed that's no weaker than the strongest source ({@link Mode#XOR}). To race only the top
+ * two of several sources, pass those two, or the first one and a {@link
+ * SeedGeneratorPreferenceList} of the rest.</p>
+ * <p>Delegates whose {@link SeedGenerator#isWorthTrying()} is false are skipped, even in {@link
+ * Mode#XOR}. A request that loses a {@link Mode#FIRST_SUCCESS} race isn't cancelled, since most
+ * seed generators can't be interrupted, and its bytes are discarded when it completes.</p>
+ * <p>The delegates are called on this class's own pool of daemon threads, which grows as needed,
+ * rather than through their {@link SeedGenerator#generateSeedAsync(int)}. Because that pool has no
+ * fixed size, {@link #generateSeed(byte[])} can wait on it without risk of deadlock, even when it's
+ * called from a thread of the shared pool behind the default {@code generateSeedAsync}; and a
+ * delegate that never returns ties up only one thread of its own.</p>
+ */
+public class HedgedSeedGenerator implements SeedGenerator {
+
+  private static final long serialVersionUID = -3176620815367282217L;
+  private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(
+      new RandomSeederThread.DefaultThreadFactory("HedgedSeedGenerator", Thread.NORM_PRIORITY));
+
+  /** How the seeds from the delegates are combined. */
+  public enum Mode {
+    /** Use the first seed that any delegate delivers. */
+    FIRST_SUCCESS,
+    /**
+     * Wait for every delegate, and XOR together their seeds. The result is unpredictable as long as
+     * any of those seeds is. If any delegate fails, so does the request, rather than quietly
+     * combining fewer sources.
+     */
+    XOR
+  }
+
+  private final Mode mode;
+  private final SeedGenerator[] delegates;
+
+  /**
+   * Creates an instance.
+   * @param mode how to combine the delegates' seeds
+   * @param delegates the seed generators to race
+   * @throws IllegalArgumentException if there are no delegates
+   * @throws NullPointerException if {@code mode} is null
+   */
+  public HedgedSeedGenerator(final Mode mode, final SeedGenerator... delegates) {
+    if (delegates.length == 0) {
+      throw new IllegalArgumentException("Need at least one delegate");
+    }
+    this.mode = Objects.requireNonNull(mode, "mode must not be null");
+    this.delegates = delegates.clone();
+  }
+
+  @Override public void generateSeed(final byte[] output) throws SeedException {
+    final byte[] seed;
+    try {
+      seed = generateSeedAsync(output.length).join();
+    } catch (final CompletionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof SeedException) {
+        throw (SeedException) cause;
+      }
+      throw new SeedException("Failed to generate a seed", cause);
+    }
+    System.arraycopy(seed, 0, output, 0, output.length);
+  }
+
+  @Override public CompletableFuture<byte[]> generateSeedAsync(final int length) {
+    if (length <= 0) {
+      return CompletableFuture.completedFuture(EMPTY_SEED);
+    }
+    final List<CompletableFuture<byte[]>> requests = new ArrayList<>(delegates.length);
+    for (final SeedGenerator delegate : delegates) {
+      if (delegate.isWorthTrying()) {
+        requests.add(CompletableFuture.supplyAsync(() -> delegate.generateSeed(length), EXECUTOR));
+      }
+    }
+    if (requests.isEmpty()) {
+      return failed();
+    }
+    return (mode == Mode.XOR) ? xor(requests, length) : firstSuccess(requests);
+  }
+
+  private static CompletableFuture<byte[]> firstSuccess(
+      final List<CompletableFuture<byte[]>> requests) {
+    final CompletableFuture<byte[]> result = new CompletableFuture<>();
+    final AtomicInteger failuresLeft = new AtomicInteger(requests.size());
+    for (final CompletableFuture<byte[]> request : requests) {
+      request.whenComplete((seed, failure) -> {
+        if (failure == null) {
+          result.complete(seed);
+        } else if (failuresLeft.decrementAndGet() == 0) {
+          result.completeExceptionally(allFailed());
+        }
+      });
+    }
+    return result;
+  }
+
+  private static CompletableFuture<byte[]> xor(final List<CompletableFuture<byte[]>> requests,
+      final int length) {
+    return CompletableFuture.allOf(requests.toArray(new CompletableFuture<?>[0]))
+        .handle((ignored, anyFailure) -> {
+          if (anyFailure != null) {
+            throw new SeedException("A delegate failed, so its seed can't be combined",
+                (anyFailure instanceof CompletionException) ? anyFailure.getCause() : anyFailure);
+          }
+          final byte[] combined = requests.get(0).join().clone();
+          for (final CompletableFuture<byte[]> request : requests.subList(1, requests.size())) {
+            final byte[] seed = request.join();
+            for (int i = 0; i < length; i++) {
+              combined[i] ^= seed[i];
+            }
+          }
+          return combined;
+        });
+  }
+
+  private static SeedException allFailed() {
+    return new SeedException("All available seed generation strategies failed.");
+  }
+
+  private static CompletableFuture<byte[]> failed() {
+    final CompletableFuture<byte[]> failed = new CompletableFuture<>();
+    failed.completeExceptionally(allFailed());
+    return failed;
+  }
+
+  @Override public boolean isWorthTrying() {
+    for (final SeedGenerator delegate : delegates) {
+      if (delegate.isWorthTrying()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override public String toString() {
+    return String.format("HedgedSeedGenerator(%s,%s)", mode, Arrays.toString(delegates));
+  }
+}
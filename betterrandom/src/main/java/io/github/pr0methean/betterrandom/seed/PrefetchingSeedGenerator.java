@@ -0,0 +1,191 @@
+package io.github.pr0methean.betterrandom.seed;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>A seed generator that wraps another, like {@link BufferedSeedGenerator}, but keeps its buffer
+ * topped up in the background instead of refilling it while callers wait. The buffer is a ring:
+ * whenever a read leaves fewer than {@code lowWatermark} bytes in it, a background task asks the
+ * delegate for enough bytes to bring it back up to {@code highWatermark}. Callers claim byte ranges
+ * with a compare-and-swap and copy them out, so a seed that's already buffered costs only a memory
+ * copy. A request that the buffer can't fill right away goes straight to the delegate, without
+ * waiting for the refill or for other callers.</p>
+ * <p>The refills run on the same small pool of daemon threads as the default {@link
+ * SeedGenerator#generateSeedAsync(int)}. The buffer starts empty, so the first request always goes
+ * to the delegate. The delegate must be thread-safe, since it may be called by a refill and by
+ * callers whose requests missed at the same time.</p>
+ */
+public class PrefetchingSeedGenerator implements SeedGenerator {
+  private static final long serialVersionUID = 6104218227512935812L;
+  private static final Logger LOG = LoggerFactory.getLogger(PrefetchingSeedGenerator.class);
+
+  private final SeedGenerator delegate;
+  private final int capacity;
+  private final int lowWatermark;
+  private final int highWatermark;
+  private transient byte[] ring;
+  /** Total bytes ever claimed by callers. */
+  private transient AtomicLong claimed;
+  /**
+   * Total bytes ever copied out by callers. Advanced in the order the bytes were claimed, so that
+   * every byte before this position can be overwritten.
+   */
+  private transient AtomicLong released;
+  /** Total bytes ever written by refills. Only the refill task writes this. */
+  private transient volatile long written;
+  private transient AtomicBoolean refillScheduled;
+
+  /**
+   * Creates an instance.
+   * @param delegate the seed generator to buffer
+   * @param capacity the size of the ring buffer
+   * @param lowWatermark the number of buffered bytes below which a refill is started
+   * @param highWatermark the number of buffered bytes a refill aims for
+   * @throws IllegalArgumentException unless {@code 0 <= lowWatermark < highWatermark <= capacity}
+   */
+  public PrefetchingSeedGenerator(final SeedGenerator delegate, final int capacity,
+      final int lowWatermark, final int highWatermark) {
+    if ((lowWatermark < 0) || (lowWatermark >= highWatermark) || (highWatermark > capacity)) {
+      throw new IllegalArgumentException(String.format(
+          "Need 0 <= lowWatermark < highWatermark <= capacity; got %d, %d, %d", lowWatermark,
+          highWatermark, capacity));
+    }
+    this.delegate = delegate;
+    this.capacity = capacity;
+    this.lowWatermark = lowWatermark;
+    this.highWatermark = highWatermark;
+    initTransientFields();
+  }
+
+  private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    initTransientFields();
+  }
+
+  private void initTransientFields() {
+    ring = new byte[capacity];
+    claimed = new AtomicLong(0);
+    released = new AtomicLong(0);
+    written = 0;
+    refillScheduled = new AtomicBoolean(false);
+  }
+
+  @Override public void generateSeed(final byte[] output) throws SeedException {
+    if (output.length == 0) {
+      return;
+    }
+    if (!tryCopy(output)) {
+      scheduleRefill();
+      delegate.generateSeed(output);
+    }
+  }
+
+  /**
+   * Completes immediately, without a thread hop, when the buffer already holds enough bytes;
+   * otherwise delegates to the default implementation.
+   */
+  @Override public CompletableFuture<byte[]> generateSeedAsync(final int length) {
+    if (length > 0) {
+      final byte[] output = new byte[length];
+      if (tryCopy(output)) {
+        return CompletableFuture.completedFuture(output);
+      }
+      scheduleRefill();
+    }
+    return SeedGenerator.super.generateSeedAsync(length);
+  }
+
+  /**
+   * Claims and copies {@code output.length} bytes from the buffer, if it has that many.
+   * @param output the array to fill
+   * @return true if {@code output} was filled; false if the buffer didn't have enough bytes
+   */
+  private boolean tryCopy(final byte[] output) {
+    final int length = output.length;
+    long start;
+    do {
+      start = claimed.get();
+      if (written - start < length) {
+        return false;
+      }
+    } while (!claimed.compareAndSet(start, start + length));
+    final int index = (int) (start % capacity);
+    final int firstPart = Math.min(length, capacity - index);
+    System.arraycopy(ring, index, output, 0, firstPart);
+    System.arraycopy(ring, 0, output, firstPart, length - firstPart);
+    // Wait for callers that claimed earlier bytes to finish copying them; this takes no longer
+    // than an arraycopy, since nothing else happens between claiming and releasing
+    while (released.get() != start) {
+      Thread.yield();
+    }
+    released.set(start + length);
+    if (written - (start + length) < lowWatermark) {
+      scheduleRefill();
+    }
+    return true;
+  }
+
+  private void scheduleRefill() {
+    if (refillScheduled.compareAndSet(false, true)) {
+      AsyncSeedExecutor.EXECUTOR.execute(this::refill);
+    }
+  }
+
+  /**
+   * Fetches enough bytes from the delegate to bring the buffer up to {@link #highWatermark}, or as
+   * close to it as the bytes that callers are still copying allow.
+   */
+  private void refill() {
+    try {
+      while (true) {
+        final long oldWritten = written;
+        final int wanted = (int) (highWatermark - (oldWritten - claimed.get()));
+        final int free = (int) ((released.get() + capacity) - oldWritten);
+        final int length = Math.min(wanted, free);
+        if (length <= 0) {
+          break;
+        }
+        final byte[] newBytes = delegate.generateSeed(length);
+        final int index = (int) (oldWritten % capacity);
+        final int firstPart = Math.min(length, capacity - index);
+        System.arraycopy(newBytes, 0, ring, index, firstPart);
+        System.arraycopy(newBytes, firstPart, ring, 0, length - firstPart);
+        written = oldWritten + length;
+      }
+    } catch (final RuntimeException e) {
+      // Callers will fall through to the delegate and see the failure for themselves
+      LOG.warn("Failed to refill buffer from " + delegate, e);
+      refillScheduled.set(false);
+      return;
+    }
+    refillScheduled.set(false);
+    // A caller may have gone below the low watermark after we stopped refilling, but before it
+    // could schedule another refill
+    if (written - claimed.get() < lowWatermark) {
+      scheduleRefill();
+    }
+  }
+
+  /**
+   * Returns the number of bytes in the buffer that have not been claimed.
+   * @return the number of buffered bytes
+   */
+  int getBufferedBytes() {
+    return (int) (written - claimed.get());
+  }
+
+  @Override public boolean isWorthTrying() {
+    return getBufferedBytes() > 0 || delegate.isWorthTrying();
+  }
+
+  @Override public String toString() {
+    return String.format("PrefetchingSeedGenerator(%s,%d,%d,%d)", delegate, capacity, lowWatermark,
+        highWatermark);
+  }
+}
@@ -8,28 +8,31 @@ import io.github.pr0methean.betterrandom.util.LooperThread;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
-import java.util.Collections;
-import java.util.Map;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.Random;
-import java.util.Set;
-import java.util.WeakHashMap;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
+import javax.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Thread that loops over {@link Random} instances and reseeds them. No {@link
- * EntropyCountingRandom} will be reseeded when it's already had more input than output.
+ * EntropyCountingRandom} will be reseeded when it's already had more input than output. The
+ * registered PRNGs are only weakly reachable from this thread, and each has its own seed buffer,
+ * so that reseeding them doesn't allocate once every one has been reseeded once.
  * @author Chris Hennick
  */
 public final class RandomSeederThread extends LooperThread {
-  private transient Set<ByteArrayReseedableRandom> byteArrayPrngs;
-  private transient Set<Random> otherPrngs;
-  private transient Set<ByteArrayReseedableRandom> byteArrayPrngsThisIteration;
-  private transient Set<Random> otherPrngsThisIteration;
+  private static final Registration[] NO_REGISTRATIONS = {};
+  /**
+   * Copy-on-write: replaced, never modified, when a PRNG is added or removed or one is found to
+   * have been garbage-collected. Only replaced while holding {@link #lock}.
+   */
+  private transient volatile Registration[] registrations;
   private transient Condition waitWhileEmpty;
   private transient Condition waitForEntropyDrain;
   private static final Logger LOG = LoggerFactory.getLogger(RandomSeederThread.class);
@@ -37,10 +40,7 @@ public final class RandomSeederThread extends LooperThread {
   private final long stopIfEmptyForNanos;
 
   private void initTransientFields() {
-    byteArrayPrngs = Collections.newSetFromMap(Collections.synchronizedMap(new WeakHashMap<>(1)));
-    otherPrngs = Collections.newSetFromMap(Collections.synchronizedMap(new WeakHashMap<>(1)));
-    byteArrayPrngsThisIteration = Collections.newSetFromMap(new WeakHashMap<>(1));
-    otherPrngsThisIteration = Collections.newSetFromMap(new WeakHashMap<>(1));
+    registrations = NO_REGISTRATIONS;
     waitWhileEmpty = lock.newCondition();
     waitForEntropyDrain = lock.newCondition();
   }
@@ -60,30 +60,81 @@ public final class RandomSeederThread extends LooperThread {
     if (randoms.length == 0) {
       return;
     }
+    removeClearedAnd(randoms);
+  }
+
+  /**
+   * Drops the registrations of the given PRNGs and of any that have been garbage-collected.
+   * @param randoms the PRNGs to remove, if any
+   */
+  private void removeClearedAnd(final Random... randoms) {
     lock.lock();
     try {
-      for (Random random : randoms) {
-        byteArrayPrngs.remove(random);
-        otherPrngs.remove(random);
+      final Registration[] oldRegistrations = registrations;
+      final Registration[] newRegistrations = new Registration[oldRegistrations.length];
+      int count = 0;
+      for (final Registration registration : oldRegistrations) {
+        final Random registered = registration.get();
+        if ((registered != null) && !contains(randoms, registered)) {
+          newRegistrations[count] = registration;
+          count++;
+        }
+      }
+      if (count < oldRegistrations.length) {
+        registrations = Arrays.copyOf(newRegistrations, count);
       }
     } finally {
       lock.unlock();
     }
   }
 
+  private static boolean contains(final Random[] randoms, final Random random) {
+    for (final Random candidate : randoms) {
+      if (candidate == random) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   public void add(Random... randoms) {
+    add(false, randoms);
+  }
+
+  /**
+   * Adds PRNGs that were seeded provisionally, e.g. from a fast but weak source so that their
+   * constructors wouldn't block, and should be reseeded from this thread's {@link SeedGenerator} as
+   * soon as possible, even if they still have entropy. Until then, they keep using their
+   * provisional seeds. After that, they're reseeded as if they'd been passed to {@link
+   * #add(Random...)}, which PRNGs that are already registered don't need to be passed to again.
+   * @param randoms the PRNGs to reseed
+   */
+  public void addProvisional(Random... randoms) {
+    add(true, randoms);
+  }
+
+  private void add(final boolean provisional, final Random... randoms) {
     if (randoms.length == 0) {
       return;
     }
     lock.lock();
     try {
+      final Registration[] oldRegistrations = registrations;
+      final Registration[] newRegistrations =
+          Arrays.copyOf(oldRegistrations, oldRegistrations.length + randoms.length);
+      int count = oldRegistrations.length;
       for (final Random random : randoms) {
-        if (random instanceof ByteArrayReseedableRandom) {
-          byteArrayPrngs.add((ByteArrayReseedableRandom) random);
-        } else {
-          otherPrngs.add(random);
+        final int index = indexOf(newRegistrations, count, random);
+        if (index < 0) {
+          newRegistrations[count] = new Registration(random, provisional);
+          count++;
+        } else if (provisional) {
+          newRegistrations[index].provisional = true;
         }
       }
+      registrations =
+          (count == newRegistrations.length) ? newRegistrations
+              : Arrays.copyOf(newRegistrations, count);
       start();
       waitForEntropyDrain.signalAll();
       waitWhileEmpty.signalAll();
@@ -149,13 +200,48 @@ public final class RandomSeederThread extends LooperThread {
     }
   }
 
+  /**
+   * A registered PRNG, weakly referenced, and the buffer its seeds are generated into. Only
+   * accessed while holding {@link #lock}.
+   */
+  private static final class Registration extends WeakReference<Random> {
+    @Nullable private byte[] seed;
+    /** True if the PRNG should be reseeded on the next iteration even if it has entropy. */
+    boolean provisional;
+
+    Registration(final Random random, final boolean provisional) {
+      super(random);
+      this.provisional = provisional;
+    }
+
+    /**
+     * Returns this registration's seed buffer, which is created or resized (and thus allocated)
+     * only when its length changes.
+     */
+    byte[] getSeedArray(final int length) {
+      byte[] current = seed;
+      if ((current == null) || (current.length != length)) {
+        current = new byte[length];
+        seed = current;
+      }
+      return current;
+    }
+  }
+
+  private static int indexOf(final Registration[] registrations, final int count,
+      final Random random) {
+    for (int i = 0; i < count; i++) {
+      if (registrations[i].get() == random) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
   private final SeedGenerator seedGenerator;
 
   private final byte[] longSeedArray = new byte[8];
 
-  private static Map<ByteArrayReseedableRandom, byte[]> SEED_ARRAYS =
-      Collections.synchronizedMap(new WeakHashMap<>(1));
-
   public RandomSeederThread(final SeedGenerator seedGenerator, ThreadFactory threadFactory) {
     this(seedGenerator, threadFactory, 5_000_000_000L);
   }
@@ -177,13 +263,13 @@ public final class RandomSeederThread extends LooperThread {
     this(seedGenerator, new DefaultThreadFactory("RandomSeederThread for " + seedGenerator));
   }
 
-  @SuppressWarnings({"InfiniteLoopStatement", "ObjectAllocationInLoop", "AwaitNotInLoop"}) @Override
+  @SuppressWarnings({"InfiniteLoopStatement", "AwaitNotInLoop"}) @Override
   protected boolean iterate() {
     try {
+      Registration[] registrationsThisIteration;
       while (true) {
-        otherPrngsThisIteration.addAll(otherPrngs);
-        byteArrayPrngsThisIteration.addAll(byteArrayPrngs);
-        if (otherPrngsThisIteration.isEmpty() && byteArrayPrngsThisIteration.isEmpty()) {
+        registrationsThisIteration = registrations;
+        if (registrationsThisIteration.length == 0) {
           if (!waitWhileEmpty.await(stopIfEmptyForNanos, TimeUnit.NANOSECONDS)) {
             return false;
           }
@@ -192,33 +278,32 @@ public final class RandomSeederThread extends LooperThread {
         }
       }
       boolean entropyConsumed = false;
-      try {
-        for (ByteArrayReseedableRandom random : byteArrayPrngsThisIteration) {
-          if (stillDefinitelyHasEntropy(random)) {
-            continue;
-          }
-          entropyConsumed = true;
-          if (random.preferSeedWithLong()) {
-            reseedWithLong((Random) random);
-          } else {
-            final byte[] seedArray =
-                SEED_ARRAYS.computeIfAbsent(random, random_ -> new byte[random_.getNewSeedLength()]);
-            seedGenerator.generateSeed(seedArray);
-            random.setSeed(seedArray);
-          }
+      boolean anyCleared = false;
+      for (final Registration registration : registrationsThisIteration) {
+        final Random random = registration.get();
+        if (random == null) {
+          anyCleared = true;
+          continue;
         }
-      } finally {
-        byteArrayPrngsThisIteration.clear();
-      }
-      try {
-        for (Random random : otherPrngsThisIteration) {
-          if (!stillDefinitelyHasEntropy(random)) {
-            entropyConsumed = true;
-            reseedWithLong(random);
-          }
+        if (registration.provisional) {
+          registration.provisional = false;
+        } else if (stillDefinitelyHasEntropy(random)) {
+          continue;
         }
-      } finally {
-        otherPrngsThisIteration.clear();
+        entropyConsumed = true;
+        if ((random instanceof ByteArrayReseedableRandom)
+            && !((ByteArrayReseedableRandom) random).preferSeedWithLong()) {
+          final ByteArrayReseedableRandom byteArrayRandom = (ByteArrayReseedableRandom) random;
+          final byte[] seedArray =
+              registration.getSeedArray(byteArrayRandom.getNewSeedLength());
+          seedGenerator.generateSeed(seedArray);
+          byteArrayRandom.setSeed(seedArray);
+        } else {
+          reseedWithLong(random);
+        }
+      }
+      if (anyCleared) {
+        removeClearedAnd();
       }
       if (!entropyConsumed) {
         waitForEntropyDrain.await(POLL_INTERVAL, TimeUnit.SECONDS);
@@ -248,15 +333,14 @@ public final class RandomSeederThread extends LooperThread {
   private void clear() {
     lock.lock();
     try {
-      for (final ByteArrayReseedableRandom random : byteArrayPrngs) {
+      final Registration[] oldRegistrations = registrations;
+      registrations = NO_REGISTRATIONS;
+      for (final Registration registration : oldRegistrations) {
+        final Random random = registration.get();
         if (random instanceof BaseRandom) {
           ((BaseRandom) random).setRandomSeeder((RandomSeederThread) null);
         }
       }
-      byteArrayPrngs.clear();
-      byteArrayPrngsThisIteration.clear();
-      otherPrngs.clear();
-      otherPrngsThisIteration.clear();
     } finally {
       lock.unlock();
     }
@@ -267,12 +351,12 @@ public final class RandomSeederThread extends LooperThread {
    * @return true if no {@link Random} instances are registered with this RandomSeederThread.
    */
   public boolean isEmpty() {
-    lock.lock();
-    try {
-      return byteArrayPrngs.isEmpty() && otherPrngs.isEmpty();
-    } finally {
-      lock.unlock();
+    for (final Registration registration : registrations) {
+      if (registration.get() != null) {
+        return false;
+      }
     }
+    return true;
   }
 
   /**
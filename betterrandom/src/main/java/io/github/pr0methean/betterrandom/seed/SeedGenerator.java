@@ -16,6 +16,7 @@
 package io.github.pr0methean.betterrandom.seed;
 
 import java.io.Serializable;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Strategy interface for seeding random number generators. Implementations that can have multiple
@@ -51,6 +52,24 @@ public interface SeedGenerator extends Serializable {
     return output;
   }
 
+  /**
+   * Generates a seed without blocking the caller. The default implementation calls {@link
+   * #generateSeed(int)} on a shared executor with a small, fixed number of daemon threads;
+   * implementations that can deliver a seed without blocking a thread should override it. Since
+   * {@link #generateSeed(byte[])} may run on one of those threads, it must never wait for a future
+   * that this default implementation returned, or else a few concurrent requests could leave every
+   * thread waiting for a task that is queued behind them.
+   * @param length The length of the seed to generate (in bytes).
+   * @return A future that completes with the seed, or exceptionally (with a {@link SeedException}
+   *     as the cause) if a seed cannot be generated.
+   */
+  default CompletableFuture<byte[]> generateSeedAsync(final int length) {
+    if (length <= 0) {
+      return CompletableFuture.completedFuture(EMPTY_SEED);
+    }
+    return CompletableFuture.supplyAsync(() -> generateSeed(length), AsyncSeedExecutor.EXECUTOR);
+  }
+
   /**
    * Returns true if we cannot determine quickly (i.e. without I/O calls) that this SeedGenerator
    * would throw a {@link SeedException} if {@link #generateSeed(int)} or {@link
@@ -1,20 +1,56 @@
 package io.github.pr0methean.betterrandom.seed;
 
+import com.google.common.base.MoreObjects;
 import io.github.pr0methean.betterrandom.util.EntryPoint;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.time.Duration;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 /**
- * A {@link SeedGenerator} implementation that iterates over multiple delegates until one succeeds.
+ * <p>A {@link SeedGenerator} implementation that iterates over multiple delegates until one
+ * succeeds.</p>
+ * <p>Each delegate has a circuit breaker. After {@code failureThreshold} consecutive failures, its
+ * circuit opens, and it's only tried after all the delegates with closed circuits have failed.
+ * Once {@code retryDelay} has passed, one caller probes it in its usual place in the list
+ * (half-open); if the probe succeeds, or it succeeds as a last resort, its circuit closes again.
+ * Thus a flaky delegate near the head of the list doesn't cost every request a failure. Each
+ * delegate's failure counts, moving-average latency and circuit state are available from {@link
+ * #getStats()}.</p>
  */
 public class SeedGeneratorPreferenceList extends CopyOnWriteArrayList<SeedGenerator>
     implements SeedGenerator {
 
   private static final long serialVersionUID = -4429919137592899776L;
+  /** Default for {@code failureThreshold}. */
+  public static final int DEFAULT_FAILURE_THRESHOLD = 3;
+  /** Default for {@code retryDelay}. */
+  public static final Duration DEFAULT_RETRY_DELAY = Duration.ofSeconds(10);
+  /** Weight of the newest sample in the moving-average latency. */
+  private static final double LATENCY_SMOOTHING = 0.2;
+
   private final boolean isAlwaysWorthTrying;
+  // Not final, so that readObject can supply defaults for instances serialized before they existed
+  private int failureThreshold;
+  private long retryDelayNanos;
+  private transient Map<SeedGenerator, Health> health;
 
   /**
-   * Creates an instance.
+   * Creates an instance with a {@link #DEFAULT_FAILURE_THRESHOLD} and a {@link
+   * #DEFAULT_RETRY_DELAY}.
    *
    * @param contents the initial list of delegates.
    * @param isAlwaysWorthTrying true if {@link #isWorthTrying()} should return true without
@@ -23,23 +59,213 @@ public class SeedGeneratorPreferenceList extends CopyOnWriteArrayList<SeedGenera
   @EntryPoint
   public SeedGeneratorPreferenceList(Collection<? extends SeedGenerator> contents,
       boolean isAlwaysWorthTrying) {
+    this(contents, isAlwaysWorthTrying, DEFAULT_FAILURE_THRESHOLD, DEFAULT_RETRY_DELAY);
+  }
+
+  /**
+   * Creates an instance.
+   *
+   * @param contents the initial list of delegates.
+   * @param isAlwaysWorthTrying true if {@link #isWorthTrying()} should return true without
+   *     consulting the delegate seed generators.
+   * @param failureThreshold the number of consecutive failures that opens a delegate's circuit.
+   * @param retryDelay how long a delegate's circuit stays open before it's probed again.
+   * @throws IllegalArgumentException if {@code failureThreshold} is not positive or {@code
+   *     retryDelay} is negative.
+   */
+  @EntryPoint
+  public SeedGeneratorPreferenceList(Collection<? extends SeedGenerator> contents,
+      boolean isAlwaysWorthTrying, int failureThreshold, Duration retryDelay) {
+    if (failureThreshold <= 0) {
+      throw new IllegalArgumentException("failureThreshold must be positive");
+    }
+    if (retryDelay.isNegative()) {
+      throw new IllegalArgumentException("retryDelay must not be negative");
+    }
     addAll(contents);
     this.isAlwaysWorthTrying = isAlwaysWorthTrying;
+    this.failureThreshold = failureThreshold;
+    this.retryDelayNanos = retryDelay.toNanos();
+    initTransientFields();
+  }
+
+  private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    if (failureThreshold == 0) {
+      // Serialized by a version without circuit breakers
+      failureThreshold = DEFAULT_FAILURE_THRESHOLD;
+      retryDelayNanos = DEFAULT_RETRY_DELAY.toNanos();
+    } else if ((failureThreshold < 0) || (retryDelayNanos < 0)) {
+      throw new InvalidObjectException(String.format(
+          "Invalid failureThreshold %d or retryDelayNanos %d", failureThreshold, retryDelayNanos));
+    }
+    initTransientFields();
+  }
+
+  private void initTransientFields() {
+    health = new ConcurrentHashMap<>();
+  }
+
+  private Health getHealth(final SeedGenerator generator) {
+    return health.computeIfAbsent(generator, generator_ -> new Health());
+  }
+
+  /** Forgets the health of delegates that are no longer in the list. */
+  private void pruneHealth() {
+    health.keySet().retainAll(this);
+  }
+
+  @Override public SeedGenerator set(final int index, final SeedGenerator element) {
+    final SeedGenerator old = super.set(index, element);
+    pruneHealth();
+    return old;
+  }
+
+  @Override public SeedGenerator remove(final int index) {
+    final SeedGenerator old = super.remove(index);
+    pruneHealth();
+    return old;
+  }
+
+  @Override public boolean remove(final Object o) {
+    final boolean changed = super.remove(o);
+    pruneHealth();
+    return changed;
+  }
+
+  @Override public boolean removeAll(final Collection<?> c) {
+    final boolean changed = super.removeAll(c);
+    pruneHealth();
+    return changed;
+  }
+
+  @Override public boolean retainAll(final Collection<?> c) {
+    final boolean changed = super.retainAll(c);
+    pruneHealth();
+    return changed;
+  }
+
+  @Override public boolean removeIf(final Predicate<? super SeedGenerator> filter) {
+    final boolean changed = super.removeIf(filter);
+    pruneHealth();
+    return changed;
+  }
+
+  @Override public void replaceAll(final UnaryOperator<SeedGenerator> operator) {
+    super.replaceAll(operator);
+    pruneHealth();
+  }
+
+  @Override public void clear() {
+    super.clear();
+    health.clear();
+  }
+
+  /**
+   * Returns whether {@code generator} should be tried on the given pass: on the first pass, if its
+   * circuit is closed or due for a probe; on the last-resort pass, if its circuit is open.
+   */
+  private boolean shouldTry(final SeedGenerator generator, final boolean lastResort) {
+    if (!generator.isWorthTrying()) {
+      return false;
+    }
+    final Health generatorHealth = getHealth(generator);
+    return lastResort ? (generatorHealth.state.get() == CircuitState.OPEN)
+        : generatorHealth.tryAcquire(retryDelayNanos);
   }
 
   @Override
   public void generateSeed(byte[] output) throws SeedException {
+    if (tryGenerateSeed(output, false) || tryGenerateSeed(output, true)) {
+      return;
+    }
+    throw new SeedException("All available seed generation strategies failed.");
+  }
+
+  private boolean tryGenerateSeed(final byte[] output, final boolean lastResort) {
     for (final SeedGenerator generator : this) {
-      if (generator.isWorthTrying()) {
+      if (shouldTry(generator, lastResort)) {
+        final long start = System.nanoTime();
+        boolean succeeded = false;
         try {
           generator.generateSeed(output);
-          return;
+          succeeded = true;
         } catch (final SeedException ignored) {
           // Try the next one
+        } finally {
+          // Also reached when the delegate throws something other than a SeedException, which
+          // would otherwise leave a probed circuit half-open for good
+          final long latency = System.nanoTime() - start;
+          if (succeeded) {
+            getHealth(generator).recordSuccess(latency);
+          } else {
+            getHealth(generator).recordFailure(latency, failureThreshold);
+          }
+        }
+        if (succeeded) {
+          return true;
         }
       }
     }
-    throw new SeedException("All available seed generation strategies failed.");
+    return false;
+  }
+
+  /**
+   * Tries each delegate's {@link SeedGenerator#generateSeedAsync(int)} in the same order as {@link
+   * #generateSeed(byte[])} until one succeeds, so that no thread is blocked waiting for a delegate
+   * that's blocked in turn.
+   */
+  @Override
+  public CompletableFuture<byte[]> generateSeedAsync(final int length) {
+    if (length <= 0) {
+      return CompletableFuture.completedFuture(EMPTY_SEED);
+    }
+    return generateSeedAsync(iterator(), false, length);
+  }
+
+  private CompletableFuture<byte[]> generateSeedAsync(final Iterator<SeedGenerator> remaining,
+      final boolean lastResort, final int length) {
+    while (remaining.hasNext()) {
+      final SeedGenerator generator = remaining.next();
+      if (shouldTry(generator, lastResort)) {
+        final long start = System.nanoTime();
+        final CompletableFuture<byte[]> request;
+        try {
+          request = generator.generateSeedAsync(length);
+        } catch (final RuntimeException | Error e) {
+          getHealth(generator).recordFailure(System.nanoTime() - start, failureThreshold);
+          throw e;
+        }
+        return request.handle((seed, failure) -> {
+          final long latency = System.nanoTime() - start;
+          if (failure == null) {
+            getHealth(generator).recordSuccess(latency);
+            return CompletableFuture.completedFuture(seed);
+          }
+          getHealth(generator).recordFailure(latency, failureThreshold);
+          return generateSeedAsync(remaining, lastResort, length);
+        }).thenCompose(future -> future);
+      }
+    }
+    if (!lastResort) {
+      return generateSeedAsync(iterator(), true, length);
+    }
+    final CompletableFuture<byte[]> failed = new CompletableFuture<>();
+    failed.completeExceptionally(
+        new SeedException("All available seed generation strategies failed."));
+    return failed;
+  }
+
+  /**
+   * Returns a snapshot of each delegate's health, for monitoring.
+   * @return an unmodifiable map from each delegate, in order of preference, to its statistics
+   */
+  public Map<SeedGenerator, GeneratorStats> getStats() {
+    final Map<SeedGenerator, GeneratorStats> stats = new LinkedHashMap<>();
+    for (final SeedGenerator generator : this) {
+      stats.put(generator, getHealth(generator).snapshot());
+    }
+    return Collections.unmodifiableMap(stats);
   }
 
   @Override
@@ -54,4 +280,136 @@ public class SeedGeneratorPreferenceList extends CopyOnWriteArrayList<SeedGenera
     }
     return false;
   }
+
+  /** The state of a delegate's circuit breaker. */
+  public enum CircuitState {
+    /** The delegate is tried in its usual place in the list. */
+    CLOSED,
+    /** The delegate has failed repeatedly, and is only tried as a last resort. */
+    OPEN,
+    /** The delegate's retry delay has passed, and one caller is probing it. */
+    HALF_OPEN
+  }
+
+  /** A snapshot of a delegate's health. */
+  public static final class GeneratorStats {
+    private final CircuitState state;
+    private final long successes;
+    private final long failures;
+    private final int consecutiveFailures;
+    private final double averageLatencyNanos;
+
+    GeneratorStats(final CircuitState state, final long successes, final long failures,
+        final int consecutiveFailures, final double averageLatencyNanos) {
+      this.state = state;
+      this.successes = successes;
+      this.failures = failures;
+      this.consecutiveFailures = consecutiveFailures;
+      this.averageLatencyNanos = averageLatencyNanos;
+    }
+
+    /**
+     * Returns the state of the delegate's circuit breaker.
+     * @return the circuit state
+     */
+    public CircuitState getState() {
+      return state;
+    }
+
+    /**
+     * Returns the number of seeds the delegate has generated.
+     * @return the number of successful calls
+     */
+    public long getSuccesses() {
+      return successes;
+    }
+
+    /**
+     * Returns the number of times the delegate has failed to generate a seed.
+     * @return the number of failed calls
+     */
+    public long getFailures() {
+      return failures;
+    }
+
+    /**
+     * Returns the number of times the delegate has failed since it last succeeded.
+     * @return the number of consecutive failed calls
+     */
+    public int getConsecutiveFailures() {
+      return consecutiveFailures;
+    }
+
+    /**
+     * Returns the exponential moving average of the delegate's latency, counting both successful
+     * and failed calls.
+     * @return the average latency in nanoseconds, or {@link Double#NaN} if it hasn't been called
+     */
+    public double getAverageLatencyNanos() {
+      return averageLatencyNanos;
+    }
+
+    @Override public String toString() {
+      return MoreObjects.toStringHelper(this).add("state", state).add("successes", successes)
+          .add("failures", failures).add("consecutiveFailures", consecutiveFailures)
+          .add("averageLatencyNanos", averageLatencyNanos).toString();
+    }
+  }
+
+  /** Mutable, thread-safe counterpart of {@link GeneratorStats}. */
+  private static final class Health {
+    final AtomicReference<CircuitState> state = new AtomicReference<>(CircuitState.CLOSED);
+    private volatile long openedAt;
+    private final AtomicLong successes = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong averageLatencyBits =
+        new AtomicLong(Double.doubleToLongBits(Double.NaN));
+
+    /**
+     * Returns true if the circuit is closed, or if it's been open for {@code retryDelayNanos} and
+     * the caller has won the right to probe it.
+     */
+    boolean tryAcquire(final long retryDelayNanos) {
+      switch (state.get()) {
+        case CLOSED:
+          return true;
+        case OPEN:
+          return (System.nanoTime() - openedAt >= retryDelayNanos)
+              && state.compareAndSet(CircuitState.OPEN, CircuitState.HALF_OPEN);
+        default:
+          return false;
+      }
+    }
+
+    void recordSuccess(final long latencyNanos) {
+      successes.incrementAndGet();
+      consecutiveFailures.set(0);
+      updateLatency(latencyNanos);
+      state.set(CircuitState.CLOSED);
+    }
+
+    void recordFailure(final long latencyNanos, final int failureThreshold) {
+      failures.incrementAndGet();
+      updateLatency(latencyNanos);
+      if ((consecutiveFailures.incrementAndGet() >= failureThreshold)
+          || (state.get() != CircuitState.CLOSED)) {
+        openedAt = System.nanoTime();
+        state.set(CircuitState.OPEN);
+      }
+    }
+
+    private void updateLatency(final long latencyNanos) {
+      averageLatencyBits.getAndUpdate(oldBits -> {
+        final double oldAverage = Double.longBitsToDouble(oldBits);
+        return Double.doubleToLongBits(Double.isNaN(oldAverage) ? latencyNanos
+            : oldAverage + LATENCY_SMOOTHING * (latencyNanos - oldAverage));
+      });
+    }
+
+    GeneratorStats snapshot() {
+      return new GeneratorStats(state.get(), successes.get(), failures.get(),
+          consecutiveFailures.get(), Double.longBitsToDouble(averageLatencyBits.get()));
+    }
+  }
 }
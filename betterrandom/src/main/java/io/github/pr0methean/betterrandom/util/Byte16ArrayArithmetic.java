@@ -56,18 +56,7 @@ public enum Byte16ArrayArithmetic {
       final byte[] counter, final byte[] mult) {
     final long x = convertBytesToLong(counter, Long.BYTES);
     final long y = convertBytesToLong(mult, Long.BYTES);
-
-    // https://stackoverflow.com/a/38880097/833771
-    final long x_high = x >>> 32;
-    final long x_low = x & UNSIGNED_INT_TO_LONG_MASK;
-    final long y_high = y >>> 32;
-    final long y_low = y & UNSIGNED_INT_TO_LONG_MASK;
-    final long z2 = x_low * y_low;
-    final long t = x_high * y_low + (z2 >>> 32);
-    long z1 = t & UNSIGNED_INT_TO_LONG_MASK;
-    final long z0 = t >>> 32;
-    z1 += x_low * y_high;
-    final long highOut = x_high * y_high + z0 + (z1 >>> 32) + convertBytesToLong(counter, 0) * y
+    final long highOut = unsignedMultiplyHigh(x, y) + convertBytesToLong(counter, 0) * y
         + convertBytesToLong(mult, 0) * x;
 
     final long lowOut = x * y;
@@ -85,7 +74,26 @@ public enum Byte16ArrayArithmetic {
       final byte[] counter, final byte[] mult, final byte[] add) {
     final long x = convertBytesToLong(counter, Long.BYTES);
     final long y = convertBytesToLong(mult, Long.BYTES);
+    final long lowProduct = x * y;
+    final long lowOut = lowProduct + convertBytesToLong(add, Long.BYTES);
+    final long highOut = unsignedMultiplyHigh(x, y)
+        + (convertBytesToLong(counter, 0) * y)
+        + (convertBytesToLong(mult, 0) * x)
+        + convertBytesToLong(add, 0)
+        + (Long.compareUnsigned(lowProduct, lowOut) > 0 ? 1 : 0);
+
+    convertLongToBytes(highOut, counter, 0);
+    convertLongToBytes(lowOut, counter, Long.BYTES);
+  }
 
+  /**
+   * Returns the upper 64 bits of the 128-bit product of two unsigned 64-bit integers. Equivalent to
+   * Java 18's {@code Math.unsignedMultiplyHigh}, which isn't available on Java 8.
+   * @param x the first input, as unsigned
+   * @param y the second input, as unsigned
+   * @return the upper 64 bits of {@code x * y}
+   */
+  public static long unsignedMultiplyHigh(final long x, final long y) {
     // https://stackoverflow.com/a/38880097/833771
     final long x_high = x >>> 32;
     final long x_low = x & UNSIGNED_INT_TO_LONG_MASK;
@@ -96,16 +104,7 @@ public enum Byte16ArrayArithmetic {
     long z1 = t & UNSIGNED_INT_TO_LONG_MASK;
     final long z0 = t >>> 32;
     z1 += x_low * y_high;
-    final long lowProduct = x * y;
-    final long lowOut = lowProduct + convertBytesToLong(add, Long.BYTES);
-    final long highOut = (x_high * y_high) + z0 + (z1 >>> 32)
-        + (convertBytesToLong(counter, 0) * y)
-        + (convertBytesToLong(mult, 0) * x)
-        + convertBytesToLong(add, 0)
-        + (Long.compareUnsigned(lowProduct, lowOut) > 0 ? 1 : 0);
-
-    convertLongToBytes(highOut, counter, 0);
-    convertLongToBytes(lowOut, counter, Long.BYTES);
+    return x_high * y_high + z0 + (z1 >>> 32);
   }
 
   private static long trueShiftRight(final long input, final int amount) {
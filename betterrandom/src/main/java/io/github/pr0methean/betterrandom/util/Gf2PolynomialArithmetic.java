@@ -0,0 +1,174 @@
+package io.github.pr0methean.betterrandom.util;
+
+/**
+ * Collection of arithmetic methods that treat {@code long[]} arrays as polynomials over GF(2),
+ * with the coefficient of x<sup>i</sup> in bit {@code i % 64} of element {@code i / 64}. Used to
+ * jump linear generators such as {@link io.github.pr0methean.betterrandom.prng.MersenneTwisterRandom}
+ * ahead in logarithmic time.
+ */
+public enum Gf2PolynomialArithmetic {
+  ;
+
+  /**
+   * Returns the number of {@code long} words needed to hold a polynomial of the given degree.
+   * @param degree the degree
+   * @return {@code degree / 64 + 1}
+   */
+  public static int wordsForDegree(final int degree) {
+    return (degree / Long.SIZE) + 1;
+  }
+
+  /**
+   * Computes x<sup>n</sup> mod {@code modulus}, where n is the signed 128-bit integer {@code
+   * highExponent << 64 + lowExponent}. A negative n requires the modulus to have a constant term
+   * of 1, so that x is invertible.
+   * @param highExponent high quadword of the exponent
+   * @param lowExponent low quadword of the exponent
+   * @param modulus the modulus, with exactly {@link #wordsForDegree(int) wordsForDegree(degree)}
+   *     words
+   * @param degree the degree of {@code modulus}
+   * @return x<sup>n</sup> mod {@code modulus}, with the same length as {@code modulus}
+   * @throws ArithmeticException if n is negative and the constant term of {@code modulus} is 0
+   */
+  public static long[] powerOfXMod(final long highExponent, final long lowExponent,
+      final long[] modulus, final int degree) {
+    final boolean negative = highExponent < 0;
+    if (negative && (modulus[0] & 1) == 0) {
+      throw new ArithmeticException("x has no inverse modulo a polynomial divisible by x");
+    }
+    long high = highExponent;
+    long low = lowExponent;
+    if (negative) {
+      // Two's-complement negation; -2^127 is left as is and read as an unsigned magnitude.
+      high = ~high + ((low == 0) ? 1 : 0);
+      low = -low;
+    }
+    final long[] result = new long[modulus.length];
+    result[0] = 1;
+    final long[] product = new long[modulus.length * 2];
+    boolean started = false;
+    for (int bit = (2 * Long.SIZE) - 1; bit >= 0; bit--) {
+      if (started) {
+        squareMod(result, modulus, degree, product);
+      }
+      final long word = (bit >= Long.SIZE) ? high : low;
+      if (((word >>> bit) & 1) != 0) {
+        if (negative) {
+          divideByXMod(result, modulus);
+        } else {
+          multiplyByXMod(result, modulus, degree);
+        }
+        started = true;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * {@code poly = poly * x mod modulus}. {@code poly} must already be reduced.
+   * @param poly the input and result
+   * @param modulus the modulus
+   * @param degree the degree of {@code modulus}
+   */
+  public static void multiplyByXMod(final long[] poly, final long[] modulus, final int degree) {
+    for (int i = poly.length - 1; i > 0; i--) {
+      poly[i] = (poly[i] << 1) | (poly[i - 1] >>> (Long.SIZE - 1));
+    }
+    poly[0] <<= 1;
+    if (((poly[degree / Long.SIZE] >>> degree) & 1) != 0) {
+      xorInto(poly, modulus);
+    }
+  }
+
+  /**
+   * {@code poly = poly / x mod modulus}. {@code poly} must already be reduced, and {@code modulus}
+   * must have a constant term of 1.
+   * @param poly the input and result
+   * @param modulus the modulus
+   */
+  public static void divideByXMod(final long[] poly, final long[] modulus) {
+    if ((poly[0] & 1) != 0) {
+      xorInto(poly, modulus);
+    }
+    for (int i = 0; i < poly.length - 1; i++) {
+      poly[i] = (poly[i] >>> 1) | (poly[i + 1] << (Long.SIZE - 1));
+    }
+    poly[poly.length - 1] >>>= 1;
+  }
+
+  /**
+   * {@code poly = poly * poly mod modulus}. {@code poly} must already be reduced.
+   * @param poly the input and result
+   * @param modulus the modulus
+   * @param degree the degree of {@code modulus}
+   * @param product working register, at least twice as long as {@code poly}
+   */
+  public static void squareMod(final long[] poly, final long[] modulus, final int degree,
+      final long[] product) {
+    // Squaring is linear over GF(2): it just spreads each coefficient out to an even position.
+    for (int i = 0; i < poly.length; i++) {
+      product[2 * i] = spreadBits((int) poly[i]);
+      product[(2 * i) + 1] = spreadBits((int) (poly[i] >>> Integer.SIZE));
+    }
+    for (int i = 2 * poly.length; i < product.length; i++) {
+      product[i] = 0;
+    }
+    reduce(product, modulus, degree);
+    System.arraycopy(product, 0, poly, 0, poly.length);
+  }
+
+  /**
+   * Reduces {@code poly} in place modulo {@code modulus}, leaving a result of degree less than
+   * {@code degree}.
+   * @param poly the input and result
+   * @param modulus the modulus
+   * @param degree the degree of {@code modulus}
+   */
+  private static void reduce(final long[] poly, final long[] modulus, final int degree) {
+    final int lowestWord = degree / Long.SIZE;
+    for (int word = poly.length - 1; word >= lowestWord; word--) {
+      while (poly[word] != 0) {
+        final int bit = (word * Long.SIZE) + (Long.SIZE - 1)
+            - Long.numberOfLeadingZeros(poly[word]);
+        if (bit < degree) {
+          break;
+        }
+        xorShiftedInto(poly, modulus, bit - degree);
+      }
+    }
+  }
+
+  private static void xorInto(final long[] target, final long[] source) {
+    for (int i = 0; i < source.length; i++) {
+      target[i] ^= source[i];
+    }
+  }
+
+  private static void xorShiftedInto(final long[] target, final long[] source, final int shift) {
+    final int wordShift = shift / Long.SIZE;
+    final int bitShift = shift % Long.SIZE;
+    if (bitShift == 0) {
+      for (int i = 0; i < source.length; i++) {
+        target[i + wordShift] ^= source[i];
+      }
+      return;
+    }
+    for (int i = 0; i < source.length; i++) {
+      target[i + wordShift] ^= source[i] << bitShift;
+      if (i + wordShift + 1 < target.length) {
+        target[i + wordShift + 1] ^= source[i] >>> (Long.SIZE - bitShift);
+      }
+    }
+  }
+
+  /** Moves bit i of the input to bit 2i of the output, and clears all odd bits. */
+  private static long spreadBits(final int input) {
+    long spread = input & 0xFFFF_FFFFL;
+    spread = (spread | (spread << 16)) & 0x0000_FFFF_0000_FFFFL;
+    spread = (spread | (spread << 8)) & 0x00FF_00FF_00FF_00FFL;
+    spread = (spread | (spread << 4)) & 0x0F0F_0F0F_0F0F_0F0FL;
+    spread = (spread | (spread << 2)) & 0x3333_3333_3333_3333L;
+    spread = (spread | (spread << 1)) & 0x5555_5555_5555_5555L;
+    return spread;
+  }
+}
@@ -0,0 +1,62 @@
+package io.github.pr0methean.betterrandom.distribution;
+
+import static io.github.pr0methean.betterrandom.distribution.DistributionTestUtils.SAMPLES;
+import static io.github.pr0methean.betterrandom.distribution.DistributionTestUtils.checkFrequencies;
+import static org.testng.Assert.assertEquals;
+
+import io.github.pr0methean.betterrandom.prng.BaseRandom;
+import io.github.pr0methean.betterrandom.prng.Pcg64Random;
+import org.testng.annotations.Test;
+
+public class AliasDistributionTest {
+
+  private static final double[] WEIGHTS = {1, 0, 3, 0.5, 7, 2.5};
+  private static final double TOTAL_WEIGHT = 14;
+
+  private static double pmf(final int index) {
+    return WEIGHTS[index] / TOTAL_WEIGHT;
+  }
+
+  @Test(timeOut = 40_000, groups = "non-deterministic")
+  public void testSample() {
+    final BaseRandom rng = new Pcg64Random();
+    final AliasDistribution distribution = new AliasDistribution(WEIGHTS);
+    assertEquals(distribution.size(), WEIGHTS.length);
+    checkFrequencies(() -> distribution.sample(rng), AliasDistributionTest::pmf, 0,
+        WEIGHTS.length - 1);
+  }
+
+  @Test(timeOut = 40_000, groups = "non-deterministic")
+  public void testBulkSample() {
+    final BaseRandom rng = new Pcg64Random();
+    final AliasDistribution distribution = new AliasDistribution(WEIGHTS);
+    final int[] output = new int[SAMPLES + 1];
+    output[SAMPLES] = -1;
+    distribution.sample(rng, output, 0, SAMPLES);
+    assertEquals(output[SAMPLES], -1);
+    final int[] index = {0};
+    checkFrequencies(() -> output[index[0]++], AliasDistributionTest::pmf, 0, WEIGHTS.length - 1);
+  }
+
+  @Test(timeOut = 40_000, groups = "non-deterministic")
+  public void testSamples() {
+    final BaseRandom rng = new Pcg64Random();
+    final AliasDistribution distribution = new AliasDistribution(new double[]{0, 0, 1, 0});
+    assertEquals(distribution.samples(rng, 1000).filter(output -> output != 2).count(), 0);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testEmptyWeights() {
+    new AliasDistribution(new double[0]);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testAllZeroWeights() {
+    new AliasDistribution(new double[]{0, 0});
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testNegativeWeight() {
+    new AliasDistribution(new double[]{1, -1});
+  }
+}
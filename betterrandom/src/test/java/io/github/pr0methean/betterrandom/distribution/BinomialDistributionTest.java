@@ -0,0 +1,87 @@
+package io.github.pr0methean.betterrandom.distribution;
+
+import static io.github.pr0methean.betterrandom.distribution.DistributionTestUtils.SAMPLES;
+import static io.github.pr0methean.betterrandom.distribution.DistributionTestUtils.checkFrequencies;
+import static org.testng.Assert.assertEquals;
+
+import io.github.pr0methean.betterrandom.prng.BaseRandom;
+import io.github.pr0methean.betterrandom.prng.Pcg64Random;
+import org.testng.annotations.Test;
+
+public class BinomialDistributionTest {
+
+  private static void checkBinomial(final int trials, final double probability) {
+    checkBinomial(trials, probability, 0, trials);
+  }
+
+  private static void checkBinomial(final int trials, final double probability, final int min,
+      final int max) {
+    final BaseRandom rng = new Pcg64Random();
+    final BinomialDistribution distribution = new BinomialDistribution(trials, probability);
+    final org.apache.commons.math3.distribution.BinomialDistribution reference =
+        new org.apache.commons.math3.distribution.BinomialDistribution(trials, probability);
+    checkFrequencies(() -> distribution.sample(rng), reference::probability, min, max);
+  }
+
+  /** Exercises the inversion algorithm. */
+  @Test(timeOut = 40_000, groups = "non-deterministic")
+  public void testSmallMean() {
+    checkBinomial(20, 0.2);
+  }
+
+  /** Exercises the BTRD algorithm. */
+  @Test(timeOut = 40_000, groups = "non-deterministic")
+  public void testLargeMean() {
+    checkBinomial(1000, 0.3);
+  }
+
+  /** Exercises the symmetry transformation. */
+  @Test(timeOut = 40_000, groups = "non-deterministic")
+  public void testHighProbability() {
+    checkBinomial(70, 0.9);
+  }
+
+  /**
+   * Checks that {@code trials + 1} and similar terms don't overflow. Only the outputs within 8
+   * standard deviations of the mean are binned, since the full range has too many.
+   */
+  @Test(timeOut = 40_000, groups = "non-deterministic")
+  public void testMaxTrials() {
+    final int halfWidth = (int) (8 * Math.sqrt(Integer.MAX_VALUE * 0.25));
+    final int mean = Integer.MAX_VALUE / 2;
+    checkBinomial(Integer.MAX_VALUE, 0.5, mean - halfWidth, mean + halfWidth);
+  }
+
+  /** Like {@link #testMaxTrials()}, but with the mode close to {@code trials}. */
+  @Test(timeOut = 40_000, groups = "non-deterministic")
+  public void testMaxTrialsHighProbability() {
+    final int failures = 1000;
+    final int halfWidth = (int) (8 * Math.sqrt(failures));
+    checkBinomial(Integer.MAX_VALUE, 1 - ((double) failures / Integer.MAX_VALUE),
+        Integer.MAX_VALUE - failures - halfWidth, Integer.MAX_VALUE - failures + halfWidth);
+  }
+
+  @Test(timeOut = 40_000, groups = "non-deterministic")
+  public void testSamples() {
+    final BaseRandom rng = new Pcg64Random();
+    assertEquals(new BinomialDistribution(100, 0.5).samples(rng, SAMPLES)
+        .filter(output -> (output < 0) || (output > 100)).count(), 0);
+  }
+
+  @Test public void testDegenerate() {
+    final BaseRandom rng = new Pcg64Random();
+    assertEquals(new BinomialDistribution(0, 0.5).sample(rng), 0);
+    assertEquals(new BinomialDistribution(10, 0).sample(rng), 0);
+    assertEquals(new BinomialDistribution(10, 1).sample(rng), 10);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testNegativeTrials() {
+    new BinomialDistribution(-1, 0.5);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testProbabilityTooHigh() {
+    new BinomialDistribution(10, 1.5);
+  }
+}
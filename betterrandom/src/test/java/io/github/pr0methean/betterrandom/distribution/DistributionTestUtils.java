@@ -0,0 +1,86 @@
+package io.github.pr0methean.betterrandom.distribution;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.util.function.DoubleSupplier;
+import java.util.function.IntSupplier;
+import java.util.function.IntToDoubleFunction;
+import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
+import org.apache.commons.math3.stat.inference.ChiSquareTest;
+import org.testng.Reporter;
+
+enum DistributionTestUtils {
+  ;
+
+  static final int SAMPLES = 200_000;
+  /** Expected count below which bins are merged, as is usual for a chi-squared test. */
+  private static final double MIN_EXPECTED_COUNT = 5;
+  private static final double CHI_SQUARED_ALPHA = 1e-4;
+
+  static void checkMeanAndVariance(final DoubleSupplier sampler, final double expectedMean,
+      final double expectedVariance) {
+    final SummaryStatistics stats = new SummaryStatistics();
+    for (int i = 0; i < SAMPLES; i++) {
+      stats.addValue(sampler.getAsDouble());
+    }
+    checkMeanAndVariance(stats, expectedMean, expectedVariance);
+  }
+
+  /**
+   * Checks that the mean is within 6 standard errors of the expected value and the variance within
+   * 5%.
+   */
+  static void checkMeanAndVariance(final SummaryStatistics stats, final double expectedMean,
+      final double expectedVariance) {
+    Reporter.log(String.format("Mean %f (expected %f), variance %f (expected %f)", stats.getMean(),
+        expectedMean, stats.getVariance(), expectedVariance));
+    assertEquals(stats.getMean(), expectedMean,
+        (6 * Math.sqrt(expectedVariance / stats.getN())) + 1e-12);
+    assertEquals(stats.getVariance(), expectedVariance, (0.05 * expectedVariance) + 1e-12);
+  }
+
+  /**
+   * Runs a chi-squared goodness-of-fit test of {@link #SAMPLES} outputs in {@code [min, max]}
+   * against a probability mass function, which should have negligible mass outside that range. Bins
+   * with too few expected outputs are merged with their neighbors.
+   */
+  static void checkFrequencies(final IntSupplier sampler, final IntToDoubleFunction pmf,
+      final int min, final int max) {
+    final int size = (max - min) + 1;
+    final long[] counts = new long[size];
+    for (int i = 0; i < SAMPLES; i++) {
+      final int value = sampler.getAsInt();
+      assertTrue((value >= min) && (value <= max), "Output out of range: " + value);
+      counts[value - min]++;
+    }
+    final double[] expected = new double[size];
+    for (int i = 0; i < size; i++) {
+      expected[i] = pmf.applyAsDouble(min + i) * SAMPLES;
+    }
+    final double[] mergedExpected = new double[size + 1];
+    final long[] mergedCounts = new long[size + 1];
+    int bins = 0;
+    for (int i = 0; i < size; i++) {
+      mergedExpected[bins] += expected[i];
+      mergedCounts[bins] += counts[i];
+      if (mergedExpected[bins] >= MIN_EXPECTED_COUNT) {
+        bins++;
+      }
+    }
+    // Fold the incomplete last bin into its predecessor
+    if (bins > 0) {
+      mergedExpected[bins - 1] += mergedExpected[bins];
+      mergedCounts[bins - 1] += mergedCounts[bins];
+    } else {
+      bins = 1;
+    }
+    final double[] finalExpected = new double[bins];
+    final long[] finalCounts = new long[bins];
+    System.arraycopy(mergedExpected, 0, finalExpected, 0, bins);
+    System.arraycopy(mergedCounts, 0, finalCounts, 0, bins);
+    final double pValue = new ChiSquareTest().chiSquareTest(finalExpected, finalCounts);
+    Reporter.log(String.format("Chi-squared p-value %f over %d bins", pValue, bins));
+    assertTrue(pValue > CHI_SQUARED_ALPHA, "Chi-squared test failed: p = " + pValue);
+  }
+}
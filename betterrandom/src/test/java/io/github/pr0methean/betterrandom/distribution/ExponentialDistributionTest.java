@@ -0,0 +1,60 @@
+package io.github.pr0methean.betterrandom.distribution;
+
+import static io.github.pr0methean.betterrandom.distribution.DistributionTestUtils.SAMPLES;
+import static io.github.pr0methean.betterrandom.distribution.DistributionTestUtils.checkMeanAndVariance;
+import static org.testng.Assert.assertEquals;
+
+import io.github.pr0methean.betterrandom.prng.BaseRandom;
+import io.github.pr0methean.betterrandom.prng.Pcg64Random;
+import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
+import org.testng.annotations.Test;
+
+public class ExponentialDistributionTest {
+
+  @Test(timeOut = 40_000, groups = "non-deterministic")
+  public void testSample() {
+    final BaseRandom rng = new Pcg64Random();
+    final ExponentialDistribution distribution = new ExponentialDistribution(4);
+    checkMeanAndVariance(() -> distribution.sample(rng), 0.25, 0.0625);
+  }
+
+  @Test(timeOut = 40_000, groups = "non-deterministic")
+  public void testBulkSample() {
+    final BaseRandom rng = new Pcg64Random();
+    final ExponentialDistribution distribution = new ExponentialDistribution(0.5);
+    final double[] output = new double[SAMPLES + 2];
+    distribution.sample(rng, output, 1, SAMPLES);
+    assertEquals(output[0], 0.0);
+    assertEquals(output[SAMPLES + 1], 0.0);
+    final SummaryStatistics stats = new SummaryStatistics();
+    for (int i = 1; i <= SAMPLES; i++) {
+      stats.addValue(output[i]);
+    }
+    checkMeanAndVariance(stats, 2, 4);
+  }
+
+  @Test(timeOut = 40_000, groups = "non-deterministic")
+  public void testSamples() {
+    final BaseRandom rng = new Pcg64Random();
+    final ExponentialDistribution distribution = new ExponentialDistribution(1);
+    final SummaryStatistics stats = new SummaryStatistics();
+    distribution.samples(rng, SAMPLES).forEach(stats::addValue);
+    assertEquals(stats.getN(), SAMPLES);
+    checkMeanAndVariance(stats, 1, 1);
+  }
+
+  @Test(expectedExceptions = IndexOutOfBoundsException.class)
+  public void testBulkSampleOutOfBounds() {
+    new ExponentialDistribution(1).sample(new Pcg64Random(), new double[10], 5, 6);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testNegativeStreamSize() {
+    new ExponentialDistribution(1).samples(new Pcg64Random(), -1);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testZeroRate() {
+    new ExponentialDistribution(0);
+  }
+}
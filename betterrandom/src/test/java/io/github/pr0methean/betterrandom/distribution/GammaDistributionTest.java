@@ -0,0 +1,46 @@
+package io.github.pr0methean.betterrandom.distribution;
+
+import static io.github.pr0methean.betterrandom.distribution.DistributionTestUtils.checkMeanAndVariance;
+import static org.testng.Assert.assertTrue;
+
+import io.github.pr0methean.betterrandom.prng.BaseRandom;
+import io.github.pr0methean.betterrandom.prng.Pcg64Random;
+import org.testng.annotations.Test;
+
+public class GammaDistributionTest {
+
+  private static void checkGamma(final double shape, final double scale) {
+    final BaseRandom rng = new Pcg64Random();
+    final GammaDistribution distribution = new GammaDistribution(shape, scale);
+    checkMeanAndVariance(() -> {
+      final double output = distribution.sample(rng);
+      assertTrue(output >= 0, "Negative output " + output);
+      return output;
+    }, shape * scale, shape * scale * scale);
+  }
+
+  @Test(timeOut = 40_000, groups = "non-deterministic")
+  public void testSmallShape() {
+    checkGamma(0.5, 2);
+  }
+
+  @Test(timeOut = 40_000, groups = "non-deterministic")
+  public void testUnitShape() {
+    checkGamma(1, 3);
+  }
+
+  @Test(timeOut = 40_000, groups = "non-deterministic")
+  public void testLargeShape() {
+    checkGamma(30, 0.1);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testNaNShape() {
+    new GammaDistribution(Double.NaN, 1);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testNegativeScale() {
+    new GammaDistribution(1, -1);
+  }
+}
@@ -0,0 +1,50 @@
+package io.github.pr0methean.betterrandom.distribution;
+
+import static io.github.pr0methean.betterrandom.distribution.DistributionTestUtils.SAMPLES;
+import static io.github.pr0methean.betterrandom.distribution.DistributionTestUtils.checkFrequencies;
+import static org.testng.Assert.assertEquals;
+
+import io.github.pr0methean.betterrandom.prng.BaseRandom;
+import io.github.pr0methean.betterrandom.prng.Pcg64Random;
+import org.testng.annotations.Test;
+
+public class GeometricDistributionTest {
+
+  private static final double PROBABILITY = 0.2;
+
+  private static double pmf(final int failures) {
+    return Math.pow(1 - PROBABILITY, failures) * PROBABILITY;
+  }
+
+  @Test(timeOut = 40_000, groups = "non-deterministic")
+  public void testSample() {
+    final BaseRandom rng = new Pcg64Random();
+    final GeometricDistribution distribution = new GeometricDistribution(PROBABILITY);
+    checkFrequencies(() -> (int) distribution.sample(rng), GeometricDistributionTest::pmf, 0, 100);
+  }
+
+  @Test(timeOut = 40_000, groups = "non-deterministic")
+  public void testBulkSample() {
+    final BaseRandom rng = new Pcg64Random();
+    final GeometricDistribution distribution = new GeometricDistribution(PROBABILITY);
+    final long[] output = new long[SAMPLES + 1];
+    output[0] = -1;
+    distribution.sample(rng, output, 1, SAMPLES);
+    assertEquals(output[0], -1);
+    final int[] index = {1};
+    checkFrequencies(() -> (int) output[index[0]++], GeometricDistributionTest::pmf, 0, 100);
+  }
+
+  @Test public void testCertainSuccess() {
+    final BaseRandom rng = new Pcg64Random();
+    final GeometricDistribution distribution = new GeometricDistribution(1);
+    for (int i = 0; i < 20; i++) {
+      assertEquals(distribution.sample(rng), 0);
+    }
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testZeroProbability() {
+    new GeometricDistribution(0);
+  }
+}
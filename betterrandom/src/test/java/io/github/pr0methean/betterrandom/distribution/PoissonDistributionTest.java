@@ -0,0 +1,40 @@
+package io.github.pr0methean.betterrandom.distribution;
+
+import static io.github.pr0methean.betterrandom.distribution.DistributionTestUtils.checkFrequencies;
+
+import io.github.pr0methean.betterrandom.prng.BaseRandom;
+import io.github.pr0methean.betterrandom.prng.Pcg64Random;
+import org.testng.annotations.Test;
+
+public class PoissonDistributionTest {
+
+  private static void checkPoisson(final double mean, final int max) {
+    final BaseRandom rng = new Pcg64Random();
+    final PoissonDistribution distribution = new PoissonDistribution(mean);
+    final org.apache.commons.math3.distribution.PoissonDistribution reference =
+        new org.apache.commons.math3.distribution.PoissonDistribution(mean);
+    checkFrequencies(() -> (int) distribution.sample(rng), reference::probability, 0, max);
+  }
+
+  /** Exercises the inversion algorithm. */
+  @Test(timeOut = 40_000, groups = "non-deterministic")
+  public void testSmallMean() {
+    checkPoisson(3, 40);
+  }
+
+  /** Exercises the PTRS algorithm. */
+  @Test(timeOut = 40_000, groups = "non-deterministic")
+  public void testLargeMean() {
+    checkPoisson(50, 150);
+  }
+
+  @Test(timeOut = 40_000, groups = "non-deterministic")
+  public void testVeryLargeMean() {
+    checkPoisson(1000, 1300);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testNegativeMean() {
+    new PoissonDistribution(-1);
+  }
+}
@@ -0,0 +1,130 @@
+package io.github.pr0methean.betterrandom.distribution;
+
+import static io.github.pr0methean.betterrandom.distribution.DistributionTestUtils.SAMPLES;
+import static io.github.pr0methean.betterrandom.distribution.DistributionTestUtils.checkFrequencies;
+import static org.testng.Assert.assertEquals;
+
+import io.github.pr0methean.betterrandom.prng.BaseRandom;
+import io.github.pr0methean.betterrandom.prng.Pcg64Random;
+import io.github.pr0methean.betterrandom.prng.concurrent.ThreadLocalRandomWrapper;
+import java.util.Arrays;
+import java.util.Collections;
+import org.testng.annotations.Test;
+
+public class WeightedSamplerTest {
+
+  private static WeightedSampler<String> createSampler() {
+    return new WeightedSampler<>(Arrays.asList("a", "b", "c", "d"), new double[]{1, 2, 3, 4});
+  }
+
+  @Test(timeOut = 40_000, groups = "non-deterministic")
+  public void testSampleIndex() {
+    final BaseRandom rng = new Pcg64Random();
+    final WeightedSampler<String> sampler = createSampler();
+    checkFrequencies(() -> sampler.sampleIndex(rng), index -> (index + 1) / 10.0, 0, 3);
+  }
+
+  @Test(timeOut = 40_000, groups = "non-deterministic")
+  public void testNextWeightedElement() {
+    final BaseRandom rng = new Pcg64Random();
+    final WeightedSampler<String> sampler = createSampler();
+    checkFrequencies(() -> rng.nextWeightedElement(sampler).charAt(0) - 'a',
+        index -> (index + 1) / 10.0, 0, 3);
+  }
+
+  @Test(timeOut = 40_000, groups = "non-deterministic")
+  public void testNextWeightedElementThreadLocal() {
+    final BaseRandom rng = new ThreadLocalRandomWrapper(Pcg64Random::new);
+    final WeightedSampler<String> sampler = createSampler();
+    checkFrequencies(() -> rng.nextWeightedElement(sampler).charAt(0) - 'a',
+        index -> (index + 1) / 10.0, 0, 3);
+  }
+
+  @Test(timeOut = 40_000, groups = "non-deterministic")
+  public void testBulkSample() {
+    final BaseRandom rng = new Pcg64Random();
+    final WeightedSampler<String> sampler = createSampler();
+    final int[] output = new int[SAMPLES];
+    sampler.sample(rng, output);
+    final int[] index = {0};
+    checkFrequencies(() -> output[index[0]++], i -> (i + 1) / 10.0, 0, 3);
+  }
+
+  @Test(timeOut = 40_000, groups = "non-deterministic")
+  public void testSetWeight() {
+    final BaseRandom rng = new Pcg64Random();
+    final WeightedSampler<String> sampler = createSampler();
+    sampler.sampleIndex(rng); // build the tables before changing them
+    sampler.setWeight(0, 0);
+    sampler.setWeight(3, 1);
+    assertEquals(sampler.getWeight(3), 1.0);
+    final double[] expected = {0, 2 / 6.0, 3 / 6.0, 1 / 6.0};
+    checkFrequencies(() -> sampler.sampleIndex(rng), index -> expected[index], 0, 3);
+  }
+
+  @Test(timeOut = 40_000, groups = "non-deterministic")
+  public void testAdd() {
+    final BaseRandom rng = new Pcg64Random();
+    final WeightedSampler<Integer> sampler = new WeightedSampler<>();
+    assertEquals(sampler.add(0, 1), 0);
+    assertEquals(rng.nextWeightedElement(sampler), Integer.valueOf(0));
+    for (int i = 1; i < 40; i++) {
+      assertEquals(sampler.add(i, 1), i);
+    }
+    assertEquals(sampler.size(), 40);
+    assertEquals(sampler.get(39), Integer.valueOf(39));
+    checkFrequencies(() -> rng.nextWeightedElement(sampler), index -> 1 / 40.0, 0, 39);
+  }
+
+  @Test public void testIndexDistributionIsSnapshot() {
+    final BaseRandom rng = new Pcg64Random();
+    final WeightedSampler<String> sampler = createSampler();
+    sampler.setWeight(1, 0);
+    sampler.setWeight(2, 0);
+    sampler.setWeight(3, 0);
+    final IntDistribution before = sampler.getIndexDistribution();
+    sampler.setWeight(0, 0);
+    sampler.setWeight(3, 1);
+    assertEquals(before.samples(rng, 1000).filter(index -> index != 0).count(), 0);
+    assertEquals(sampler.getIndexDistribution().samples(rng, 1000)
+        .filter(index -> index != 3).count(), 0);
+  }
+
+  @Test(expectedExceptions = IllegalStateException.class)
+  public void testEmpty() {
+    new WeightedSampler<>().sampleIndex(new Pcg64Random());
+  }
+
+  @Test(expectedExceptions = IllegalStateException.class)
+  public void testAllZeroWeights() {
+    new WeightedSampler<>(Collections.singletonList("a"), new double[]{0})
+        .sampleIndex(new Pcg64Random());
+  }
+
+  @Test(expectedExceptions = IllegalStateException.class,
+      expectedExceptionsMessageRegExp = ".*overflows to infinity")
+  public void testTotalWeightOverflows() {
+    new WeightedSampler<>(Arrays.asList("a", "b"), new double[]{Double.MAX_VALUE, Double.MAX_VALUE})
+        .sampleIndex(new Pcg64Random());
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testMismatchedLengths() {
+    new WeightedSampler<>(Collections.singletonList("a"), new double[]{1, 2});
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testNegativeWeight() {
+    createSampler().setWeight(0, -1);
+  }
+
+  @Test(expectedExceptions = IndexOutOfBoundsException.class)
+  public void testSetWeightOutOfBounds() {
+    createSampler().setWeight(4, 1);
+  }
+
+  @Test(expectedExceptions = IndexOutOfBoundsException.class)
+  public void testBulkSampleOutOfBounds() {
+    createSampler().sample(new Pcg64Random(), new int[4], 2, 3);
+  }
+}
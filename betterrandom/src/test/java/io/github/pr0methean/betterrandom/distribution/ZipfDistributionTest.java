@@ -0,0 +1,38 @@
+package io.github.pr0methean.betterrandom.distribution;
+
+import static io.github.pr0methean.betterrandom.distribution.DistributionTestUtils.checkFrequencies;
+
+import io.github.pr0methean.betterrandom.prng.BaseRandom;
+import io.github.pr0methean.betterrandom.prng.Pcg64Random;
+import org.testng.annotations.Test;
+
+public class ZipfDistributionTest {
+
+  private static void checkZipf(final int n, final double exponent) {
+    final BaseRandom rng = new Pcg64Random();
+    final ZipfDistribution distribution = new ZipfDistribution(n, exponent);
+    final org.apache.commons.math3.distribution.ZipfDistribution reference =
+        new org.apache.commons.math3.distribution.ZipfDistribution(n, exponent);
+    checkFrequencies(() -> distribution.sample(rng), reference::probability, 1, n);
+  }
+
+  @Test(timeOut = 40_000, groups = "non-deterministic")
+  public void testSmallExponent() {
+    checkZipf(50, 0.5);
+  }
+
+  @Test(timeOut = 40_000, groups = "non-deterministic")
+  public void testUnitExponent() {
+    checkZipf(1000, 1);
+  }
+
+  @Test(timeOut = 40_000, groups = "non-deterministic")
+  public void testLargeExponent() {
+    checkZipf(100, 2.5);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testZeroElements() {
+    new ZipfDistribution(0, 1);
+  }
+}
@@ -15,6 +15,8 @@
 // ============================================================================
 package io.github.pr0methean.betterrandom.prng;
 
+import static org.testng.Assert.assertEquals;
+
 import io.github.pr0methean.betterrandom.seed.SeedException;
 import java.security.NoSuchAlgorithmException;
 import javax.crypto.Cipher;
@@ -55,4 +57,38 @@ public class AesCounterRandomTest extends CipherCounterRandomTest {
   @Override protected BaseRandom createRng(final byte[] seed) throws SeedException {
     return new AesCounterRandom(seed);
   }
+
+  /**
+   * The batch size should affect only performance, so output should be the same whether it's read
+   * one int at a time or in bulk.
+   */
+  @Test(timeOut = 15000) public void testBlocksAtOnceDoesNotChangeOutput() throws SeedException {
+    final byte[] seed = getTestSeedGenerator().generateSeed(seedSizeBytes);
+    final BaseRandom defaultBatch = createRng(seed);
+    final int[] expectedInts = new int[3 * AesCounterRandom.DEFAULT_BLOCKS_AT_ONCE + 1];
+    defaultBatch.nextInts(expectedInts, 0, expectedInts.length);
+    final byte[] expectedBytes = new byte[70_000];
+    defaultBatch.nextBytes(expectedBytes);
+    for (final int blocksAtOnce : new int[]{1, 3, 64, AesCounterRandom.MAX_BLOCKS_AT_ONCE}) {
+      final AesCounterRandom rng = new AesCounterRandom(seed, blocksAtOnce);
+      assertEquals(rng.getBlocksAtOnce(), blocksAtOnce);
+      for (final int expected : expectedInts) {
+        assertEquals(rng.nextInt(), expected);
+      }
+      final byte[] actualBytes = new byte[expectedBytes.length];
+      rng.nextBytes(actualBytes);
+      assertEquals(actualBytes, expectedBytes);
+    }
+  }
+
+  @Test(timeOut = 15000, expectedExceptions = IllegalArgumentException.class)
+  public void testBlocksAtOnceTooSmall() throws SeedException {
+    new AesCounterRandom(getTestSeedGenerator().generateSeed(seedSizeBytes), 0);
+  }
+
+  @Test(timeOut = 15000, expectedExceptions = IllegalArgumentException.class)
+  public void testBlocksAtOnceTooLarge() throws SeedException {
+    new AesCounterRandom(getTestSeedGenerator().generateSeed(seedSizeBytes),
+        AesCounterRandom.MAX_BLOCKS_AT_ONCE + 1);
+  }
 }
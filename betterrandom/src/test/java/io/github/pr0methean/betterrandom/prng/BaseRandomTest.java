@@ -1,6 +1,7 @@
 package io.github.pr0methean.betterrandom.prng;
 
 import static io.github.pr0methean.betterrandom.TestUtils.assertGreaterOrEqual;
+import static io.github.pr0methean.betterrandom.TestUtils.assertLess;
 import static io.github.pr0methean.betterrandom.TestUtils.assertLessOrEqual;
 import static io.github.pr0methean.betterrandom.prng.BaseRandom.ENTROPY_OF_DOUBLE;
 import static io.github.pr0methean.betterrandom.prng.BaseRandom.ENTROPY_OF_FLOAT;
@@ -10,7 +11,11 @@ import static io.github.pr0methean.betterrandom.prng.RandomTestUtils.checkStream
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
@@ -29,7 +34,10 @@ import io.github.pr0methean.betterrandom.seed.SeedGenerator;
 import io.github.pr0methean.betterrandom.seed.SemiFakeSeedGenerator;
 import io.github.pr0methean.betterrandom.util.BinaryUtils;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.security.GeneralSecurityException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -37,17 +45,24 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.SortedSet;
+import java.util.Spliterator;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntSupplier;
 import java.util.function.Supplier;
 import org.apache.commons.math3.stat.descriptive.SynchronizedDescriptiveStatistics;
 import org.powermock.modules.testng.PowerMockTestCase;
 import org.testng.Reporter;
+import org.testng.SkipException;
 import org.testng.annotations.Test;
 
 public abstract class BaseRandomTest extends PowerMockTestCase {
@@ -86,6 +101,8 @@ public abstract class BaseRandomTest extends PowerMockTestCase {
       functionsForThreadCrashTest =
       ImmutableList.of(NEXT_LONG, NEXT_INT, NEXT_DOUBLE, NEXT_GAUSSIAN, setSeed);
   private static final int TEST_BYTE_ARRAY_LENGTH = 20;
+  /** Long enough that bulk methods must cross several blocks of {@link CipherCounterRandom}. */
+  private static final int TEST_BULK_LENGTH = 300;
   private static final String HELLO = "Hello";
   private static final String HOW_ARE_YOU = "How are you?";
   private static final String GOODBYE = "Goodbye";
@@ -239,6 +256,60 @@ public abstract class BaseRandomTest extends PowerMockTestCase {
     assertLessOrEqual(median, 0.1);
   }
 
+  /**
+   * Test to ensure that the output from nextNormal is broadly as expected.
+   */
+  @Test(timeOut = 40_000, groups = "non-deterministic") public void testNextNormalStatistically()
+      throws SeedException {
+    final BaseRandom rng = createRng();
+    final int iterations = 20_000;
+    final SynchronizedDescriptiveStatistics stats = new SynchronizedDescriptiveStatistics();
+    for (int i = 0; i < iterations; i++) {
+      stats.addValue(rng.nextNormal());
+    }
+    final double observedSD = stats.getStandardDeviation();
+    Reporter.log("Expected SD for normals: 1, observed SD: " + observedSD);
+    assertGreaterOrEqual(observedSD, 0.965);
+    assertLessOrEqual(observedSD, 1.035);
+    assertGreaterOrEqual(stats.getMax(), 2.0);
+    assertLessOrEqual(stats.getMin(), -2.0);
+    assertGreaterOrEqual(stats.getMean(), -0.1);
+    assertLessOrEqual(stats.getMean(), 0.1);
+    final double median = stats.getPercentile(50);
+    assertGreaterOrEqual(median, -0.1);
+    assertLessOrEqual(median, 0.1);
+    // The 2.275th and 97.725th percentiles of the standard normal distribution are -2 and 2
+    assertGreaterOrEqual(stats.getPercentile(2.275), -2.1);
+    assertLessOrEqual(stats.getPercentile(2.275), -1.9);
+    assertGreaterOrEqual(stats.getPercentile(97.725), 1.9);
+    assertLessOrEqual(stats.getPercentile(97.725), 2.1);
+  }
+
+  /**
+   * Test to ensure that the output from nextExponential is broadly as expected.
+   */
+  @Test(timeOut = 40_000, groups = "non-deterministic")
+  public void testNextExponentialStatistically() throws SeedException {
+    final BaseRandom rng = createRng();
+    final int iterations = 20_000;
+    final SynchronizedDescriptiveStatistics stats = new SynchronizedDescriptiveStatistics();
+    for (int i = 0; i < iterations; i++) {
+      stats.addValue(rng.nextExponential());
+    }
+    Reporter.log("Expected mean and SD for exponentials: 1, observed mean: " + stats.getMean()
+        + ", observed SD: " + stats.getStandardDeviation());
+    assertGreaterOrEqual(stats.getMin(), 0.0);
+    assertGreaterOrEqual(stats.getMax(), 7.0);
+    assertGreaterOrEqual(stats.getMean(), 0.965);
+    assertLessOrEqual(stats.getMean(), 1.035);
+    assertGreaterOrEqual(stats.getStandardDeviation(), 0.95);
+    assertLessOrEqual(stats.getStandardDeviation(), 1.05);
+    // The median of an exponential distribution with mean 1 is ln 2
+    final double median = stats.getPercentile(50);
+    assertGreaterOrEqual(median, Math.log(2) - 0.03);
+    assertLessOrEqual(median, Math.log(2) + 0.03);
+  }
+
   /**
    * Make sure that the RNG does not accept seeds that are too small since this could affect the
    * distribution of the output.
@@ -280,6 +351,17 @@ public abstract class BaseRandomTest extends PowerMockTestCase {
     createRng().setSeed(0x0123456789ABCDEFL);
   }
 
+  @Test(timeOut = 15_000) public void testReseedAsync() {
+    final BaseRandom rng = createRng();
+    final BaseRandom rng2 = createRng();
+    final byte[] seed = getTestSeedGenerator().generateSeed(rng.getNewSeedLength());
+    rng.nextLong(); // ensure rng & rng2 won't both be in initial state before reseeding
+    rng.reseedAsync(output -> System.arraycopy(seed, 0, output, 0, seed.length)).join();
+    rng2.setSeed(seed);
+    RandomTestUtils.assertEquivalent(rng, rng2, 64,
+        "Output mismatch after reseeding asynchronously and synchronously with same seed");
+  }
+
   @Test(timeOut = 15_000) public void testSetSeedAfterNextLong() throws SeedException {
     final byte[] seed =
         getTestSeedGenerator().generateSeed(getNewSeedLength(createRng()));
@@ -424,8 +506,13 @@ public abstract class BaseRandomTest extends PowerMockTestCase {
     final long oldEntropy = prng.getEntropyBits();
     prng.nextBytes(testBytes);
     assertFalse(Arrays.equals(testBytes, new byte[TEST_BYTE_ARRAY_LENGTH]));
+    checkEntropySpent(prng, oldEntropy, 8 * TEST_BYTE_ARRAY_LENGTH);
+  }
+
+  private void checkEntropySpent(final BaseRandom prng, final long oldEntropy,
+      final long expectedEntropySpent) {
     final long entropy = prng.getEntropyBits();
-    final long expectedEntropy = oldEntropy - (8 * TEST_BYTE_ARRAY_LENGTH);
+    final long expectedEntropy = oldEntropy - expectedEntropySpent;
     EntropyCheckMode entropyCheckMode = getEntropyCheckMode();
     switch (entropyCheckMode) {
       case EXACT:
@@ -441,6 +528,153 @@ public abstract class BaseRandomTest extends PowerMockTestCase {
     }
   }
 
+  @Test public void testNextBytesByteBuffer() {
+    final BaseRandom prng = createRng();
+    final ByteBuffer[] buffers = {ByteBuffer.allocate(TEST_BULK_LENGTH),
+        ByteBuffer.allocateDirect(TEST_BULK_LENGTH),
+        ByteBuffer.allocateDirect(TEST_BULK_LENGTH).order(ByteOrder.LITTLE_ENDIAN)};
+    for (final ByteBuffer buffer : buffers) {
+      buffer.position(3);
+      buffer.limit(TEST_BULK_LENGTH - 2);
+      final long oldEntropy = prng.getEntropyBits();
+      prng.nextBytes(buffer);
+      checkEntropySpent(prng, oldEntropy, 8L * (TEST_BULK_LENGTH - 5));
+      assertEquals(buffer.position(), TEST_BULK_LENGTH - 2);
+      buffer.clear();
+      final byte[] contents = new byte[TEST_BULK_LENGTH];
+      buffer.get(contents);
+      assertEquals(contents[2], 0);
+      assertEquals(contents[TEST_BULK_LENGTH - 2], 0);
+      assertFalse(Arrays.equals(contents, new byte[TEST_BULK_LENGTH]));
+    }
+  }
+
+  @Test public void testNextInts() {
+    final BaseRandom prng = createRng();
+    final int[] output = new int[TEST_BULK_LENGTH + 2];
+    final long oldEntropy = prng.getEntropyBits();
+    prng.nextInts(output, 1, TEST_BULK_LENGTH);
+    checkEntropySpent(prng, oldEntropy, Integer.SIZE * (long) TEST_BULK_LENGTH);
+    assertEquals(output[0], 0);
+    assertEquals(output[TEST_BULK_LENGTH + 1], 0);
+    assertTrue(Arrays.stream(output).distinct().count() > TEST_BULK_LENGTH / 2);
+  }
+
+  @Test public void testNextIntsBounded() {
+    final BaseRandom prng = createRng();
+    final int[] output = new int[TEST_BULK_LENGTH];
+    final long oldEntropy = prng.getEntropyBits();
+    prng.nextInts(output, 0, TEST_BULK_LENGTH, 1 << 27, 1 << 29);
+    checkEntropySpent(prng, oldEntropy, 29L * TEST_BULK_LENGTH);
+    for (final int value : output) {
+      assertGreaterOrEqual(value, 1 << 27);
+      assertLess(value, 1 << 29);
+    }
+    prng.nextInts(output, 0, TEST_BULK_LENGTH, Integer.MIN_VALUE, 1 << 29);
+    for (final int value : output) {
+      assertLess(value, 1 << 29);
+    }
+  }
+
+  @Test public void testNextLongs() {
+    final BaseRandom prng = createRng();
+    final long[] output = new long[TEST_BULK_LENGTH + 2];
+    final long oldEntropy = prng.getEntropyBits();
+    prng.nextLongs(output, 1, TEST_BULK_LENGTH);
+    checkEntropySpent(prng, oldEntropy, Long.SIZE * (long) TEST_BULK_LENGTH);
+    assertEquals(output[0], 0);
+    assertEquals(output[TEST_BULK_LENGTH + 1], 0);
+    assertTrue(Arrays.stream(output).distinct().count() > TEST_BULK_LENGTH / 2);
+  }
+
+  @Test public void testNextLongsBounded() {
+    final BaseRandom prng = createRng();
+    final long[] output = new long[TEST_BULK_LENGTH];
+    final long oldEntropy = prng.getEntropyBits();
+    prng.nextLongs(output, 0, TEST_BULK_LENGTH, 1L << 40, 1L << 42);
+    checkEntropySpent(prng, oldEntropy, 42L * TEST_BULK_LENGTH);
+    for (final long value : output) {
+      assertGreaterOrEqual(value, 1L << 40);
+      assertLess(value, 1L << 42);
+    }
+  }
+
+  @Test public void testNextDoubles() {
+    final BaseRandom prng = createRng();
+    final double[] output = new double[TEST_BULK_LENGTH];
+    final long oldEntropy = prng.getEntropyBits();
+    prng.nextDoubles(output, 0, TEST_BULK_LENGTH);
+    checkEntropySpent(prng, oldEntropy, ENTROPY_OF_DOUBLE * (long) TEST_BULK_LENGTH);
+    for (final double value : output) {
+      assertGreaterOrEqual(value, 0.0);
+      assertLess(value, 1.0);
+    }
+  }
+
+  @Test public void testNextDoublesBounded() {
+    final BaseRandom prng = createRng();
+    final double[] output = new double[TEST_BULK_LENGTH];
+    final long oldEntropy = prng.getEntropyBits();
+    prng.nextDoubles(output, 0, TEST_BULK_LENGTH, -1.0, 13.37);
+    checkEntropySpent(prng, oldEntropy, ENTROPY_OF_DOUBLE * (long) TEST_BULK_LENGTH);
+    for (final double value : output) {
+      assertGreaterOrEqual(value, -1.0);
+      assertLess(value, 13.37);
+    }
+  }
+
+  @Test(expectedExceptions = IndexOutOfBoundsException.class)
+  public void testNextIntsOutOfBounds() {
+    createRng().nextInts(new int[10], 5, 6);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testNextLongsInvalidBound() {
+    createRng().nextLongs(new long[10], 0, 10, 1, 1);
+  }
+
+  /**
+   * Test that the bulk methods produce the same output as the corresponding single-value methods.
+   */
+  @Test(timeOut = 15_000) public void testBulkRepeatability() throws SeedException {
+    final BaseRandom rng = createRng();
+    final BaseRandom duplicateRNG = createRng(rng.getSeed());
+    checkBulkRepeatability(rng, duplicateRNG);
+  }
+
+  /**
+   * Checks that the bulk methods of one PRNG produce the same output as the corresponding
+   * single-value methods of another that started in the same state.
+   * @param rng the PRNG whose bulk methods are tested
+   * @param duplicateRNG a PRNG in the same initial state as {@code rng}
+   */
+  protected static void checkBulkRepeatability(final BaseRandom rng,
+      final BaseRandom duplicateRNG) {
+    final int[] ints = new int[TEST_BULK_LENGTH];
+    rng.nextInts(ints, 0, TEST_BULK_LENGTH);
+    for (final int value : ints) {
+      assertEquals(value, duplicateRNG.nextInt());
+    }
+    final long[] longs = new long[TEST_BULK_LENGTH];
+    rng.nextLongs(longs, 0, TEST_BULK_LENGTH);
+    for (final long value : longs) {
+      assertEquals(value, duplicateRNG.nextLong());
+    }
+    rng.nextLongs(longs, 0, TEST_BULK_LENGTH, -5, 1L << 42);
+    for (final long value : longs) {
+      assertEquals(value, duplicateRNG.nextLong(-5, 1L << 42));
+    }
+    final double[] doubles = new double[TEST_BULK_LENGTH];
+    rng.nextDoubles(doubles, 0, TEST_BULK_LENGTH);
+    for (final double value : doubles) {
+      assertEquals(value, duplicateRNG.nextDouble());
+    }
+    rng.nextDoubles(doubles, 0, TEST_BULK_LENGTH, 1.0, 13.37);
+    for (final double value : doubles) {
+      assertEquals(value, duplicateRNG.nextDouble(1.0, 13.37));
+    }
+  }
+
   @Test public void testNextInt1() {
     final BaseRandom prng = createRng();
     final Supplier<? extends Number> numberSupplier = () -> prng.nextInt(3 << 29);
@@ -477,6 +711,37 @@ public abstract class BaseRandomTest extends PowerMockTestCase {
         getEntropyCheckMode());
   }
 
+  /**
+   * The range is 3 * 2**30, so without rejection, a multiply-shift mapping would give residues mod 3
+   * probabilities of 1/2, 1/4 and 1/4.
+   */
+  @Test(timeOut = 40_000, groups = "non-deterministic")
+  public void testNextInt2HugeRangeUnbiased() {
+    final BaseRandom prng = createRng();
+    checkResiduesMod3Uniform(
+        () -> (int) ((prng.nextInt(Integer.MIN_VALUE, 1 << 30) - (long) Integer.MIN_VALUE) % 3));
+  }
+
+  /** As with {@link #testNextInt2HugeRangeUnbiased()}, but with a range of 3 * 2**62. */
+  @Test(timeOut = 40_000, groups = "non-deterministic")
+  public void testNextLong2HugeRangeUnbiased() {
+    final BaseRandom prng = createRng();
+    checkResiduesMod3Uniform(() -> (int) Long.remainderUnsigned(
+        prng.nextLong(Long.MIN_VALUE, 1L << 62) - Long.MIN_VALUE, 3));
+  }
+
+  private static void checkResiduesMod3Uniform(final IntSupplier residueSupplier) {
+    final int iterations = 30_000;
+    final int[] counts = new int[3];
+    for (int i = 0; i < iterations; i++) {
+      counts[residueSupplier.getAsInt()]++;
+    }
+    Reporter.log("Residue counts: " + Arrays.toString(counts));
+    for (final int count : counts) {
+      assertEquals(count, iterations / 3.0, iterations * 0.02);
+    }
+  }
+
   @Test public void testNextLong() {
     final BaseRandom prng = createRng();
     checkRangeAndEntropy(prng, 64, (Supplier<? extends Number>) prng::nextLong, Long.MIN_VALUE,
@@ -660,6 +925,28 @@ public abstract class BaseRandomTest extends PowerMockTestCase {
         Double.MAX_VALUE, true);
   }
 
+  @Test public void testStreamSplit() {
+    final BaseRandom prng = createRng();
+    final Spliterator.OfInt first = prng.ints(1 << 10).spliterator();
+    final Spliterator.OfInt second = first.trySplit();
+    assertNotNull(second);
+    assertEquals(first.estimateSize() + second.estimateSize(), 1 << 10);
+    final int[] firstOutput = new int[(int) first.estimateSize()];
+    final int[] secondOutput = new int[(int) second.estimateSize()];
+    final AtomicInteger index = new AtomicInteger();
+    first.forEachRemaining((IntConsumer) value -> firstOutput[index.getAndIncrement()] = value);
+    index.set(0);
+    second.forEachRemaining((IntConsumer) value -> secondOutput[index.getAndIncrement()] = value);
+    assertFalse(Arrays.equals(firstOutput, secondOutput), "Splits produced identical output");
+    assertEquals(first.estimateSize(), 0);
+    assertFalse(first.tryAdvance((IntConsumer) value -> fail("Exhausted split produced output")));
+  }
+
+  @Test public void testParallelStream() {
+    final BaseRandom prng = createRng();
+    assertEquals(prng.longs(1 << 16, 0, 1 << 20).parallel().filter(x -> x >= 0).count(), 1 << 16);
+  }
+
   @Test public void testNextElementArray() {
     final BaseRandom prng = createRng();
     testGeneratesAll(() -> prng.nextElement(STRING_ARRAY), STRING_ARRAY);
@@ -690,6 +977,94 @@ public abstract class BaseRandomTest extends PowerMockTestCase {
         functionsForThreadCrashTest);
   }
 
+  /**
+   * Checks that entropy debits from several threads at once all count once the threads are done,
+   * both before and after the PRNG switches to holding them in per-thread stripes.
+   */
+  @Test(timeOut = 60_000) public void testConcurrentEntropyDebits() throws Exception {
+    final BaseRandom prng = createRng();
+    checkConcurrentEntropyDebits(prng);
+    prng.inflateEntropyDebits();
+    checkConcurrentEntropyDebits(prng);
+    checkRangeAndEntropy(prng, 64, (Supplier<? extends Number>) prng::nextLong, Long.MIN_VALUE,
+        Long.MAX_VALUE + 1.0, getEntropyCheckMode());
+  }
+
+  private void checkConcurrentEntropyDebits(final BaseRandom prng) throws Exception {
+    final long before = prng.getEntropyBits();
+    final int tasks = 4;
+    final int iterations = 25_000;
+    final List<ForkJoinTask<?>> running = new ArrayList<>(tasks);
+    for (int i = 0; i < tasks; i++) {
+      running.add(pool.submit(() -> {
+        for (int j = 0; j < iterations; j++) {
+          prng.nextLong();
+        }
+      }));
+    }
+    for (final ForkJoinTask<?> task : running) {
+      task.join();
+    }
+    assertEquals(prng.getEntropyBits(), before - ((long) tasks * iterations * Long.SIZE));
+  }
+
+  @Test(timeOut = 15_000) public void testConfineTo() {
+    final BaseRandom prng = createRng();
+    if (prng.isThreadLocal()) {
+      // Already thread-local, so confining to one thread makes no sense
+      try {
+        prng.confineTo(Thread.currentThread());
+        fail("Thread-local PRNG was confined");
+      } catch (final UnsupportedOperationException expected) {
+      }
+      prng.confineTo(null);
+      return;
+    }
+    prng.confineTo(Thread.currentThread());
+    assertSame(prng.getConfinedThread(), Thread.currentThread());
+    checkRangeAndEntropy(prng, 64, (Supplier<? extends Number>) prng::nextLong, Long.MIN_VALUE,
+        Long.MAX_VALUE + 1.0, getEntropyCheckMode());
+    try {
+      pool.submit(() -> prng.nextLong()).join();
+      fail("Confined PRNG was accessible from another thread");
+    } catch (final IllegalStateException expected) {
+    }
+    prng.confineTo(null);
+    assertNull(prng.getConfinedThread());
+    pool.submit(() -> prng.nextLong()).join();
+  }
+
+  @Test(timeOut = 15_000, expectedExceptions = IllegalStateException.class)
+  public void testConfineToWithRandomSeeder() {
+    final BaseRandom prng = createRng();
+    if (prng.isThreadLocal()) {
+      throw new SkipException("Can't be confined");
+    }
+    prng.confineTo(Thread.currentThread());
+    prng.setRandomSeeder(new RandomSeederThread(getTestSeedGenerator()));
+  }
+
+  /** A PRNG confined to a thread before an asynchronous reseed arrives should reject the seed. */
+  @Test(timeOut = 15_000) public void testConfineToDuringReseedAsync() {
+    final BaseRandom prng = createRng();
+    if (prng.isThreadLocal()) {
+      throw new SkipException("Can't be confined");
+    }
+    final CountDownLatch release = new CountDownLatch(1);
+    final CompletableFuture<Void> reseed = prng.reseedAsync(output -> {
+      Uninterruptibles.awaitUninterruptibly(release);
+      getTestSeedGenerator().generateSeed(output);
+    });
+    prng.confineTo(Thread.currentThread());
+    release.countDown();
+    try {
+      reseed.join();
+      fail("Reseeded a PRNG confined to another thread");
+    } catch (final CompletionException expected) {
+      assertTrue(expected.getCause() instanceof IllegalStateException, expected.toString());
+    }
+  }
+
   protected void testThreadSafetyVsCrashesOnly(final int timeoutSec,
       final List<NamedFunction<Random, Double>> functions) {
     testThreadSafetyVsCrashesOnly(timeoutSec, functions, functions);
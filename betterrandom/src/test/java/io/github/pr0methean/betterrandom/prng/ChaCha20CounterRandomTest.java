@@ -0,0 +1,43 @@
+package io.github.pr0methean.betterrandom.prng;
+
+import static org.testng.Assert.assertEquals;
+
+import io.github.pr0methean.betterrandom.seed.SeedException;
+import io.github.pr0methean.betterrandom.util.BinaryUtils;
+import org.testng.annotations.Test;
+
+@Test(testName = "ChaCha20CounterRandom")
+public class ChaCha20CounterRandomTest extends CipherCounterRandomTest {
+
+  @Override protected int getExpectedMaxSize() {
+    return 48;
+  }
+
+  @Override protected Class<? extends BaseRandom> getClassUnderTest() {
+    return ChaCha20CounterRandom.class;
+  }
+
+  @Override protected BaseRandom createRng() throws SeedException {
+    return new ChaCha20CounterRandom(getTestSeedGenerator().generateSeed(seedSizeBytes));
+  }
+
+  @Override protected BaseRandom createRng(final byte[] seed) throws SeedException {
+    return new ChaCha20CounterRandom(seed);
+  }
+
+  /**
+   * Checks the output against the block function test vector from RFC 7539 section 2.3.2. The
+   * counter is one less than the vector's block counter and nonce, since it's incremented before
+   * each block.
+   */
+  @Test(timeOut = 15000) public void testRfc7539TestVector() {
+    final byte[] seed = BinaryUtils.convertHexStringToBytes(
+        "000102030405060708090A0B0C0D0E0F101112131415161718191A1B1C1D1E1F"
+            + "000000004A0000000900000000000000");
+    final byte[] output = new byte[64];
+    new ChaCha20CounterRandom(seed).nextBytes(output);
+    assertEquals(BinaryUtils.convertBytesToHexString(output),
+        "10F1E7E4D13B5915500FDD1FA32071C4C7D1F4C733C068030422AA9AC3D46C4E"
+            + "D2826446079FAA0914C2D705D98B02A2B5129CD1DE164EB9CBD083E8A2503C4E");
+  }
+}
@@ -1,10 +1,16 @@
 package io.github.pr0methean.betterrandom.prng;
 
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
 import io.github.pr0methean.betterrandom.seed.SeedException;
+import java.nio.ByteBuffer;
 import java.util.Random;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import org.testng.SkipException;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Optional;
@@ -101,6 +107,98 @@ public abstract class CipherCounterRandomTest extends SeekableRandomTest {
         : "Shouldn't allow a key longer than " + getExpectedMaxSize() + "bytes";
   }
 
+  /**
+   * Large nextBytes requests are encrypted directly into the output array; check that this gives
+   * the same output as smaller requests served from the current block.
+   */
+  @Test(timeOut = 15000) public void testNextBytesChunked() throws SeedException {
+    final BaseRandom rng = createRng();
+    final BaseRandom duplicateRNG = createRng(rng.getSeed());
+    final byte[] output = new byte[10_000];
+    rng.nextBytes(output);
+    final byte[] chunkedOutput = new byte[output.length];
+    int offset = 0;
+    for (final int chunkSize : new int[]{3, 17, 5000, 1, 4979}) {
+      final byte[] chunk = new byte[chunkSize];
+      duplicateRNG.nextBytes(chunk);
+      System.arraycopy(chunk, 0, chunkedOutput, offset, chunkSize);
+      offset += chunkSize;
+    }
+    assertEquals(chunkedOutput, output);
+    assertEquals(duplicateRNG.nextInt(), rng.nextInt());
+  }
+
+  /**
+   * Large nextBytes requests are encrypted directly into direct buffers; check that this gives
+   * the same output as filling an array.
+   */
+  @Test(timeOut = 15000) public void testNextBytesDirectBuffer() throws SeedException {
+    final BaseRandom rng = createRng();
+    final BaseRandom duplicateRNG = createRng(rng.getSeed());
+    final byte[] expected = new byte[10_000];
+    duplicateRNG.nextBytes(new byte[7]);
+    duplicateRNG.nextBytes(expected);
+    rng.nextBytes(ByteBuffer.allocateDirect(7));
+    final ByteBuffer buffer = ByteBuffer.allocateDirect(expected.length);
+    rng.nextBytes(buffer);
+    buffer.flip();
+    final byte[] actual = new byte[expected.length];
+    buffer.get(actual);
+    assertEquals(actual, expected);
+    assertEquals(rng.nextInt(), duplicateRNG.nextInt());
+  }
+
+  /**
+   * Prefetching shouldn't change the output, even across {@link CipherCounterRandom#advance(long)}
+   * and {@link CipherCounterRandom#setSeed(byte[])}.
+   */
+  @Test(timeOut = 30000) public void testPrefetch() throws SeedException {
+    checkPrefetch(ForkJoinPool.commonPool());
+  }
+
+  /**
+   * If the executor never runs a prefetch, then the thread that needs its output should run it.
+   */
+  @Test(timeOut = 30000) public void testPrefetchNotStarted() throws SeedException {
+    checkPrefetch(task -> {});
+  }
+
+  private void checkPrefetch(final Executor executor) throws SeedException {
+    final CipherCounterRandom rng = (CipherCounterRandom) createRng();
+    final CipherCounterRandom duplicateRNG = (CipherCounterRandom) createRng(rng.getSeed());
+    rng.setPrefetchExecutor(executor);
+    assertSame(rng.getPrefetchExecutor(), executor);
+    final int intsPerBatch = rng.getBytesAtOnce() / Integer.BYTES;
+    for (int i = 0; i < (3 * intsPerBatch) + 1; i++) {
+      assertEquals(rng.nextInt(), duplicateRNG.nextInt());
+    }
+    final byte[] expected = new byte[(2 * rng.getBytesAtOnce()) + 5];
+    duplicateRNG.nextBytes(expected);
+    final byte[] actual = new byte[expected.length];
+    rng.nextBytes(actual);
+    assertEquals(actual, expected);
+    duplicateRNG.nextBytes(expected);
+    final ByteBuffer buffer = ByteBuffer.allocateDirect(expected.length);
+    rng.nextBytes(buffer);
+    buffer.flip();
+    buffer.get(actual);
+    assertEquals(actual, expected);
+    for (final long delta : new long[]{1, intsPerBatch + 3, -2 * intsPerBatch, -1}) {
+      rng.advance(delta);
+      duplicateRNG.advance(delta);
+      assertEquals(rng.nextLong(), duplicateRNG.nextLong());
+    }
+    final byte[] newSeed = getTestSeedGenerator().generateSeed(16);
+    rng.setSeed(newSeed);
+    duplicateRNG.setSeed(newSeed);
+    assertEquals(rng.nextLong(), duplicateRNG.nextLong());
+    rng.setPrefetchExecutor(null);
+    assertNull(rng.getPrefetchExecutor());
+    for (int i = 0; i < (2 * intsPerBatch) + 1; i++) {
+      assertEquals(rng.nextInt(), duplicateRNG.nextInt());
+    }
+  }
+
   @Override protected abstract BaseRandom createRng() throws SeedException;
 
   @Override protected abstract BaseRandom createRng(byte[] seed) throws SeedException;
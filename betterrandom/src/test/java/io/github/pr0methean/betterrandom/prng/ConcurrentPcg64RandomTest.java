@@ -0,0 +1,62 @@
+package io.github.pr0methean.betterrandom.prng;
+
+import static org.testng.Assert.assertEquals;
+
+import io.github.pr0methean.betterrandom.seed.SeedException;
+import io.github.pr0methean.betterrandom.util.BinaryUtils;
+import org.testng.annotations.Test;
+
+@Test(testName = "ConcurrentPcg64Random")
+public class ConcurrentPcg64RandomTest extends SeekableRandomTest {
+
+  @Override public void testSetSeedLong() throws SeedException {
+    final BaseRandom rng = createRng();
+    final BaseRandom rng2 = createRng();
+    rng.nextLong(); // ensure they won't both be in initial state before reseeding
+    rng.setSeed(0x0123456789ABCDEFL);
+    rng2.setSeed(0x0123456789ABCDEFL);
+    RandomTestUtils.assertEquivalent(rng, rng2, 20,
+        "Output mismatch after reseeding with same seed");
+  }
+
+  /** Checks the RXS M XS output function against the reference implementation's output. */
+  @Test public void testKnownOutput() {
+    final ConcurrentPcg64Random rng = new ConcurrentPcg64Random(0x0123456789ABCDEFL);
+    assertEquals(rng.nextLong(), 0x5ba34217f8e973e8L);
+    assertEquals(rng.nextLong(), 0x06c41f936cd67f88L);
+    assertEquals(rng.nextLong(), 0x2fe33ebd16995565L);
+  }
+
+  @Test public void testStripeIsJumpedAhead() {
+    final byte[] seed = getTestSeedGenerator().generateSeed(Long.BYTES);
+    final ConcurrentPcg64Random striped = new ConcurrentPcg64Random(seed, 4);
+    final long stripe = striped.currentStateIndex() / 8;
+    final ConcurrentPcg64Random unstriped = new ConcurrentPcg64Random(seed);
+    unstriped.advance(stripe << 62);
+    RandomTestUtils.assertEquivalent(striped, unstriped, 100,
+        "Stripe " + stripe + " isn't the seed jumped ahead by " + stripe + " * 2^62");
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testStripesNotPowerOf2() {
+    new ConcurrentPcg64Random(BinaryUtils.convertLongToBytes(TEST_SEED), 3);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testTooManyStripes() {
+    new ConcurrentPcg64Random(BinaryUtils.convertLongToBytes(TEST_SEED),
+        ConcurrentPcg64Random.MAX_STRIPES * 2);
+  }
+
+  @Override protected Class<? extends BaseRandom> getClassUnderTest() {
+    return ConcurrentPcg64Random.class;
+  }
+
+  @Override protected ConcurrentPcg64Random createRng() {
+    return new ConcurrentPcg64Random(getTestSeedGenerator());
+  }
+
+  @Override protected ConcurrentPcg64Random createRng(final byte[] seed) {
+    return new ConcurrentPcg64Random(seed);
+  }
+}
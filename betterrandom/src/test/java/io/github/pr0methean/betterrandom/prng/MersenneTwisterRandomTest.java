@@ -16,6 +16,7 @@
 package io.github.pr0methean.betterrandom.prng;
 
 import io.github.pr0methean.betterrandom.seed.SeedException;
+import java.util.Random;
 import org.testng.annotations.Test;
 
 /**
@@ -24,7 +25,7 @@ import org.testng.annotations.Test;
  * @author Chris Hennick
  */
 @Test(testName = "MersenneTwisterRandom")
-public class MersenneTwisterRandomTest extends AbstractLargeSeedRandomTest {
+public class MersenneTwisterRandomTest extends SeekableRandomTest {
 
   @Override protected Class<? extends BaseRandom> getClassUnderTest() {
     return MersenneTwisterRandom.class;
@@ -37,4 +38,32 @@ public class MersenneTwisterRandomTest extends AbstractLargeSeedRandomTest {
   @Override protected BaseRandom createRng(final byte[] seed) throws SeedException {
     return new MersenneTwisterRandom(seed);
   }
+
+  /** Large enough to use a polynomial jump rather than stepping. */
+  @Test public void testAdvanceByJump() {
+    checkAdvanceMatchesStepping((1 << 24) + 12345);
+  }
+
+  @Test public void testAdvanceBackwardByJump() {
+    final long delta = 5_000_000_011L;
+    final BaseRandom copy1 = createRng();
+    final Random copy2 = createRng(copy1.getSeed());
+    copy1.nextInt();
+    copy2.nextInt();
+    ((MersenneTwisterRandom) copy1).advance(-delta);
+    ((MersenneTwisterRandom) copy1).advance(delta);
+    RandomTestUtils.assertEquivalent(copy1, copy2, 1000,
+        "Output mismatch after advancing backward and then forward by " + delta);
+  }
+
+  @Test public void testAdvance2To64() {
+    final MersenneTwisterRandom copy1 = (MersenneTwisterRandom) createRng();
+    final MersenneTwisterRandom copy2 = (MersenneTwisterRandom) createRng(copy1.getSeed());
+    copy1.advance(1, 0);
+    for (int i = 0; i < 4; i++) {
+      copy2.advance(1L << 62);
+    }
+    RandomTestUtils.assertEquivalent(copy1, copy2, 1000,
+        "Precomputed jump by 2^64 doesn't match 4 jumps by 2^62");
+  }
 }
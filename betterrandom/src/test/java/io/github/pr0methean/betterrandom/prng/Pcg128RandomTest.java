@@ -1,6 +1,14 @@
 package io.github.pr0methean.betterrandom.prng;
 
+import static org.testng.Assert.assertEquals;
+
+import io.github.pr0methean.betterrandom.util.BinaryUtils;
+import org.testng.annotations.Test;
+
 public class Pcg128RandomTest extends SeekableRandomTest {
+  private static final byte[] KNOWN_SEED =
+      BinaryUtils.convertHexStringToBytes("0123456789ABCDEFFEDCBA9876543210");
+
   @Override protected Class<? extends BaseRandom> getClassUnderTest() {
     return Pcg128Random.class;
   }
@@ -12,4 +20,28 @@ public class Pcg128RandomTest extends SeekableRandomTest {
   @Override protected BaseRandom createRng(final byte[] seed) {
     return new Pcg128Random(seed);
   }
-}
\ No newline at end of file
+
+  /** Checks the output and seed format against those of the earlier byte-array implementation. */
+  @Test public void testKnownOutput() {
+    final Pcg128Random rng = new Pcg128Random(KNOWN_SEED);
+    assertEquals(rng.nextLong(), 0x48d159e263e950c3L);
+    assertEquals(rng.nextLong(), 0xad9c7898b2fb8adaL);
+    assertEquals(rng.nextLong(), 0x51e63400977fb0d6L);
+    assertEquals(BinaryUtils.convertBytesToHexString(rng.getSeed()),
+        "F4A514E1B0F680415A9467ED46AE7DA1");
+  }
+
+  /** Checks a 128-bit jump and a backward jump against the earlier byte-array implementation. */
+  @Test public void testKnownAdvance() {
+    final Pcg128Random rng = new Pcg128Random(KNOWN_SEED);
+    rng.nextLong();
+    rng.nextLong();
+    rng.nextLong();
+    rng.advance(0x1234L, 0x56789abcdef01234L);
+    assertEquals(rng.nextLong(), 0xe4acc4825ea6cc35L);
+    rng.advance(-5);
+    assertEquals(rng.nextLong(), 0x44cf4f3f17ef9bd8L);
+    assertEquals(BinaryUtils.convertBytesToHexString(rng.getSeed()),
+        "6783CF141CAC406524244DE4CAF735E4");
+  }
+}
@@ -1,5 +1,7 @@
 package io.github.pr0methean.betterrandom.prng;
 
+import static org.testng.Assert.assertEquals;
+
 import io.github.pr0methean.betterrandom.seed.SeedException;
 import org.testng.annotations.Test;
 
@@ -16,6 +18,14 @@ public class Pcg64RandomTest extends SeekableRandomTest {
         "Output mismatch after reseeding with same seed");
   }
 
+  /** Trying to split a PRNG that can't be split shouldn't consume its output. */
+  @Test public void testUnsplittableSplitDoesntConsumeOutput() {
+    final BaseRandom prng = new UnsplittablePcg64Random(0x0123456789ABCDEFL);
+    final BaseRandom reference = new Pcg64Random(0x0123456789ABCDEFL);
+    prng.ints(1 << 10).spliterator().trySplit();
+    assertEquals(prng.nextLong(), reference.nextLong());
+  }
+
   @Override protected Class<? extends BaseRandom> getClassUnderTest() {
     return Pcg64Random.class;
   }
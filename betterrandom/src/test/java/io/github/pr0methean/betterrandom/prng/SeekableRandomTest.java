@@ -32,6 +32,23 @@ public abstract class SeekableRandomTest extends AbstractLargeSeedRandomTest {
     }
   }
 
+  /**
+   * Checks that {@link SeekableRandom#advance(long)} matches generating {@code delta} ints, for
+   * deltas too large for {@link #testAdvanceForward(int)}.
+   * @param delta the distance to advance
+   */
+  protected void checkAdvanceMatchesStepping(final int delta) {
+    final BaseRandom copy1 = createRng();
+    final BaseRandom copy2 = createRng(copy1.getSeed());
+    final int[] discarded = new int[1 << 16];
+    for (int remaining = delta; remaining > 0; remaining -= discarded.length) {
+      copy1.nextInts(discarded, 0, Math.min(remaining, discarded.length));
+    }
+    ((SeekableRandom) copy2).advance(delta);
+    RandomTestUtils.assertEquivalent(copy1, copy2, DELTA,
+        "Output mismatch after advancing forward by " + delta);
+  }
+
   @Test public void testAdvanceZero() {
     final Random copy1AsRandom = createRng();
     final SeekableRandom copy1 = (SeekableRandom) copy1AsRandom;
@@ -84,6 +84,7 @@ public class TwoFishCounterRandom extends CipherCounterRandom {
     final int deltaWithinBlock = (int) (delta % intsPerBlock) * Integer.BYTES;
     lock.lock();
     try {
+      discardPrefetchedBlocks();
       int newIndex = index + deltaWithinBlock;
       if (newIndex >= getCounterSizeBytes()) {
         newIndex -= getCounterSizeBytes();
@@ -0,0 +1,14 @@
+package io.github.pr0methean.betterrandom.prng;
+
+/**
+ * A {@link Pcg64Random} with no public constructor that takes a {@code byte[]} seed, so {@link
+ * BaseRandom#splitForStream()} can't create new instances of it. Not nested in {@link
+ * Pcg64RandomTest}, because PowerMock would then prepare it and its superclasses for that test.
+ */
+class UnsplittablePcg64Random extends Pcg64Random {
+  private static final long serialVersionUID = 1L;
+
+  UnsplittablePcg64Random(final long seed) {
+    super(seed);
+  }
+}
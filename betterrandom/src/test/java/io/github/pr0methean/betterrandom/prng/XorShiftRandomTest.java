@@ -23,7 +23,7 @@ import org.testng.annotations.Test;
  * @author Daniel Dyer
  */
 @Test(testName = "XorShiftRandom")
-public class XorShiftRandomTest extends AbstractLargeSeedRandomTest {
+public class XorShiftRandomTest extends SeekableRandomTest {
 
   @Override protected Class<? extends BaseRandom> getClassUnderTest() {
     return XorShiftRandom.class;
@@ -36,4 +36,51 @@ public class XorShiftRandomTest extends AbstractLargeSeedRandomTest {
   @Override protected BaseRandom createRng(final byte[] seed) throws SeedException {
     return new XorShiftRandom(seed);
   }
+
+  /**
+   * XorShiftRandom's state transition is only invertible on its cycle, so both copies start 4 steps
+   * past the seed.
+   */
+  @Override @Test(dataProvider = "deltas") public void testAdvanceBackward(final int delta) {
+    final XorShiftRandom copy1 = (XorShiftRandom) createRng();
+    final XorShiftRandom copy2 = (XorShiftRandom) createRng(copy1.getSeed());
+    copy1.advance(4);
+    copy2.advance(4);
+    for (int j = 0; j < delta; j++) {
+      copy1.nextInt();
+    }
+    copy1.advance(-delta);
+    RandomTestUtils.assertEquivalent(copy1, copy2, delta + 8,
+        "Output mismatch after advancing backward by " + delta);
+  }
+
+  @Test public void testAdvanceBackwardByJump() {
+    final XorShiftRandom copy1 = (XorShiftRandom) createRng();
+    final XorShiftRandom copy2 = (XorShiftRandom) createRng(copy1.getSeed());
+    copy1.advance(4);
+    copy2.advance(4);
+    copy1.advance(20_000_003);
+    copy1.advance(-20_000_003);
+    copy1.advance(1, 0);
+    copy1.advance(-1, 0);
+    RandomTestUtils.assertEquivalent(copy1, copy2, 1000,
+        "Output mismatch after advancing forward and then backward");
+  }
+
+  /** Large enough to use a polynomial jump rather than stepping. */
+  @Test public void testAdvanceByJump() {
+    checkAdvanceMatchesStepping((1 << 14) + 37);
+    checkAdvanceMatchesStepping(20_000_003);
+  }
+
+  @Test public void testAdvance2To64() {
+    final XorShiftRandom copy1 = (XorShiftRandom) createRng();
+    final XorShiftRandom copy2 = (XorShiftRandom) createRng(copy1.getSeed());
+    copy1.advance(1, 0);
+    for (int i = 0; i < 4; i++) {
+      copy2.advance(1L << 62);
+    }
+    RandomTestUtils.assertEquivalent(copy1, copy2, 1000,
+        "Precomputed jump by 2^64 doesn't match 4 jumps by 2^62");
+  }
 }
@@ -40,6 +40,14 @@ public class RandomWrapperAesCounterRandomTest extends AesCounterRandomTest {
     // No-op: RandomWrapper isn't seekable
   }
 
+  @Override @Test(enabled = false) public void testPrefetch() {
+    // No-op: RandomWrapper doesn't prefetch
+  }
+
+  @Override @Test(enabled = false) public void testPrefetchNotStarted() {
+    // No-op: RandomWrapper doesn't prefetch
+  }
+
   @Override protected Class<? extends BaseRandom> getClassUnderTest() {
     return RandomWrapper.class;
   }
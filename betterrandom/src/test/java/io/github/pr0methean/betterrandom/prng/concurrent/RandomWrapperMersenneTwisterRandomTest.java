@@ -38,6 +38,30 @@ public class RandomWrapperMersenneTwisterRandomTest extends MersenneTwisterRando
         ImmutableList.of(NEXT_LONG, NEXT_INT, NEXT_DOUBLE, NEXT_GAUSSIAN, setWrapped));
   }
 
+  @Override @Test(enabled = false) public void testAdvanceForward(int delta) {
+    // No-op: RandomWrapper isn't seekable
+  }
+
+  @Override @Test(enabled = false) public void testAdvanceBackward(int delta) {
+    // No-op: RandomWrapper isn't seekable
+  }
+
+  @Override @Test(enabled = false) public void testAdvanceZero() {
+    // No-op: RandomWrapper isn't seekable
+  }
+
+  @Override @Test(enabled = false) public void testAdvanceByJump() {
+    // No-op: RandomWrapper isn't seekable
+  }
+
+  @Override @Test(enabled = false) public void testAdvanceBackwardByJump() {
+    // No-op: RandomWrapper isn't seekable
+  }
+
+  @Override @Test(enabled = false) public void testAdvance2To64() {
+    // No-op: RandomWrapper isn't seekable
+  }
+
   @Override protected Class<? extends BaseRandom> getClassUnderTest() {
     return RandomWrapper.class;
   }
@@ -72,6 +72,17 @@ public class RandomWrapperSecureRandomTest extends AbstractLargeSeedRandomTest {
     prng.nextLong();
   }
 
+  /**
+   * Only test for crashes, since {@link SecureRandom#setSeed(long)} doesn't completely replace the
+   * existing seed.
+   */
+  @Override public void testReseedAsync() {
+    final BaseRandom prng = createRng();
+    prng.nextLong();
+    prng.reseedAsync(getTestSeedGenerator()).join();
+    prng.nextLong();
+  }
+
   /**
    * Only test for crashes, since {@link SecureRandom#setSeed(long)} doesn't completely replace the
    * existing seed.
@@ -92,6 +103,10 @@ public class RandomWrapperSecureRandomTest extends AbstractLargeSeedRandomTest {
     // No-op.
   }
 
+  @Override @Test(enabled = false) public void testBulkRepeatability() {
+    // No-op.
+  }
+
   @Override protected RandomWrapper createRng() throws SeedException {
     final RandomWrapper wrapper = createRngInternal();
     wrapper.setSeed(SEED_GEN.nextLong());
@@ -79,6 +79,10 @@ public class ReseedingSplittableRandomAdapterTest extends SingleThreadSplittable
     // No-op.
   }
 
+  @Override @Test(enabled = false) public void testBulkRepeatability() {
+    // No-op.
+  }
+
   @SuppressWarnings("BusyWait") @Override @Test(retryAnalyzer = FlakyRetryAnalyzer.class)
   public void testReseeding() {
     RandomTestUtils.testReseeding(getTestSeedGenerator(), createRng(), false);
@@ -118,6 +122,12 @@ public class ReseedingSplittableRandomAdapterTest extends SingleThreadSplittable
     }
   }
 
+  /** Seeding of this PRNG is thread-local, so reseeding it from another thread makes no sense. */
+  @Override @Test(expectedExceptions = UnsupportedOperationException.class)
+  public void testReseedAsync() {
+    createRng().reseedAsync(getTestSeedGenerator());
+  }
+
   @Test public void testSetSeedGeneratorNoOp() {
     ReseedingSplittableRandomAdapter.getInstance(thread, getTestSeedGenerator())
         .setRandomSeeder(thread);
@@ -69,4 +69,8 @@ public class SingleThreadSplittableRandomAdapterTest extends AbstractLargeSeedRa
   @Override @Test(enabled = false) public void testHashCode() {
     // No-op.
   }
+
+  @Override @Test(enabled = false) public void testConcurrentEntropyDebits() {
+    // No-op: entropy is counted per thread.
+  }
 }
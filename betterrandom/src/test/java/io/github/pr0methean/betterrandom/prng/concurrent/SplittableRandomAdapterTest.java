@@ -25,6 +25,15 @@ public class SplittableRandomAdapterTest extends SingleThreadSplittableRandomAda
     RandomTestUtils.assertEquivalent(rng, duplicateRNG, 1000, "Generated sequences do not match");
   }
 
+  /** SplittableRandomAdapter isn't repeatable until its seed has been specified. */
+  @Override public void testBulkRepeatability() throws SeedException {
+    final BaseRandom rng = createRng();
+    rng.setSeed(TEST_SEED);
+    final BaseRandom duplicateRNG = createRng();
+    duplicateRNG.setSeed(TEST_SEED);
+    checkBulkRepeatability(rng, duplicateRNG);
+  }
+
   /** SplittableRandomAdapter isn't repeatable until its seed has been specified. */
   @TestingDeficiency // Failing
   @Override @Test(enabled = false)
@@ -49,6 +58,12 @@ public class SplittableRandomAdapterTest extends SingleThreadSplittableRandomAda
     createRng().setRandomSeeder(new RandomSeederThread(getTestSeedGenerator()));
   }
 
+  /** Seeding of this PRNG is thread-local, so reseeding it from another thread makes no sense. */
+  @Override @Test(expectedExceptions = UnsupportedOperationException.class)
+  public void testReseedAsync() {
+    createRng().reseedAsync(getTestSeedGenerator());
+  }
+
   @Test public void testSetSeedGeneratorNoOp() {
     createRng().setRandomSeeder(null);
   }
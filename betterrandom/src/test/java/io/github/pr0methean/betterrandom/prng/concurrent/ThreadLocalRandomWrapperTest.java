@@ -64,12 +64,22 @@ public class ThreadLocalRandomWrapperTest extends AbstractLargeSeedRandomTest {
     // No-op: ThreadLocalRandomWrapper isn't repeatable.
   }
 
+  @Override @Test(enabled = false) public void testBulkRepeatability() {
+    // No-op: ThreadLocalRandomWrapper isn't repeatable.
+  }
+
   /** setRandomSeeder doesn't work on this class and shouldn't pretend to. */
   @Override @Test(expectedExceptions = UnsupportedOperationException.class)
   public void testRandomSeederThreadIntegration() {
     createRng().setRandomSeeder(new RandomSeederThread(getTestSeedGenerator()));
   }
 
+  /** Seeding of this PRNG is thread-local, so reseeding it from another thread makes no sense. */
+  @Override @Test(expectedExceptions = UnsupportedOperationException.class)
+  public void testReseedAsync() {
+    createRng().reseedAsync(getTestSeedGenerator());
+  }
+
   @Test public void testSetSeedGeneratorNoOp() {
     createRng().setRandomSeeder(null);
   }
@@ -128,4 +138,8 @@ public class ThreadLocalRandomWrapperTest extends AbstractLargeSeedRandomTest {
   @Test public void testGetWrapped() {
     assertSame(createRng().getWrapped().getClass(), Pcg64Random.class);
   }
+
+  @Override @Test(enabled = false) public void testConcurrentEntropyDebits() {
+    // No-op: ThreadLocalRandomWrapper's entropy count is per thread.
+  }
 }
@@ -18,7 +18,14 @@ public abstract class AbstractSeedGeneratorTest {
   }
 
   protected void generateAndCheckFakeSeed(int length) {
-    byte[] seed = seedGenerator.generateSeed(length);
+    checkFakeSeed(seedGenerator.generateSeed(length), length);
+  }
+
+  protected void generateAndCheckFakeSeedAsync(int length) {
+    checkFakeSeed(seedGenerator.generateSeedAsync(length).join(), length);
+  }
+
+  private static void checkFakeSeed(byte[] seed, int length) {
     assertEquals(seed.length, length);
     for (int i = 0; i < length; i++) {
       assertEquals(seed[i], 1, "BufferedSeedGenerator failed to populate index " + i);
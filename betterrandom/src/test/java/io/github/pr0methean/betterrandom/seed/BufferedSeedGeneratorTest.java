@@ -1,6 +1,7 @@
 package io.github.pr0methean.betterrandom.seed;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
 
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -38,4 +39,14 @@ public class BufferedSeedGeneratorTest extends AbstractSeedGeneratorTest {
     generateAndCheckFakeSeed(BUFFER_SIZE / 2);
     assertEquals(FAKE_SEED_GENERATOR.countCalls(), 2);
   }
+
+  @Test(timeOut = 10_000)
+  public void testSmallRequestsAsync() {
+    generateAndCheckFakeSeedAsync(BUFFER_SIZE / 2);
+    assertEquals(FAKE_SEED_GENERATOR.countCalls(), 1);
+    assertTrue(seedGenerator.generateSeedAsync(BUFFER_SIZE / 2).isDone(),
+        "Seed already in the buffer should be returned without blocking");
+    generateAndCheckFakeSeedAsync(BUFFER_SIZE / 2);
+    assertEquals(FAKE_SEED_GENERATOR.countCalls(), 2);
+  }
 }
@@ -44,4 +44,11 @@ public class DevRandomSeedGeneratorTest extends AbstractSeedGeneratorTest {
       } catch (SeedException expected) {}
     }
   }
+
+  @Test(timeOut = 60_000) public void testUrandom() {
+    if (new File("/dev/urandom").exists()) {
+      SeedTestUtils.testGenerator(DevRandomSeedGenerator.DEV_URANDOM_SEED_GENERATOR, true);
+      assertTrue(DevRandomSeedGenerator.DEV_URANDOM_SEED_GENERATOR.isWorthTrying());
+    }
+  }
 }
@@ -0,0 +1,124 @@
+package io.github.pr0methean.betterrandom.seed;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import io.github.pr0methean.betterrandom.util.BinaryUtils;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Tests {@link FileSeedGenerator} against a file whose {@code i}th 4-byte word is {@code i}, so that
+ * each seed's position in the file can be read back from it.
+ */
+public class FileSeedGeneratorTest extends AbstractSeedGeneratorTest {
+
+  private static final int WORDS = 1 << 14;
+  private static final int CHUNK_SIZE = 256;
+  private File file;
+
+  public FileSeedGeneratorTest() {
+    super(null);
+  }
+
+  @BeforeClass public void setUpClass() throws IOException {
+    file = File.createTempFile("FileSeedGeneratorTest", ".bin");
+    file.deleteOnExit();
+    final byte[] contents = new byte[WORDS * Integer.BYTES];
+    for (int i = 0; i < WORDS; i++) {
+      BinaryUtils.convertIntToBytes(i, contents, i * Integer.BYTES);
+    }
+    Files.write(file.toPath(), contents);
+    seedGenerator = new FileSeedGenerator(file, CHUNK_SIZE);
+  }
+
+  @AfterClass public void tearDownClass() {
+    file.delete();
+  }
+
+  @Test public void testSequentialReads() {
+    final FileSeedGenerator generator = new FileSeedGenerator(file, CHUNK_SIZE);
+    for (int i = 0; i < 3 * CHUNK_SIZE / Integer.BYTES; i++) {
+      assertEquals(BinaryUtils.convertBytesToInt(generator.generateSeed(Integer.BYTES), 0), i);
+    }
+  }
+
+  @Test public void testLargeReadBypassesBuffer() {
+    final FileSeedGenerator generator = new FileSeedGenerator(file, CHUNK_SIZE);
+    assertEquals(BinaryUtils.convertBytesToInt(generator.generateSeed(Integer.BYTES), 0), 0);
+    final byte[] large = generator.generateSeed(2 * CHUNK_SIZE);
+    // The first chunk was buffered, so the large read continues after it
+    assertEquals(BinaryUtils.convertBytesToInt(large, 0), CHUNK_SIZE / Integer.BYTES);
+    assertEquals(BinaryUtils.convertBytesToInt(generator.generateSeed(Integer.BYTES), 0), 1);
+  }
+
+  @Test(timeOut = 30_000) public void testConcurrentReadsAreDisjoint() {
+    final FileSeedGenerator generator = new FileSeedGenerator(file, CHUNK_SIZE);
+    final int threads = 4;
+    final int seedsPerThread = WORDS / threads;
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      final List<CompletableFuture<int[]>> results = new ArrayList<>(threads);
+      for (int thread = 0; thread < threads; thread++) {
+        results.add(CompletableFuture.supplyAsync(() -> {
+          final int[] words = new int[seedsPerThread];
+          final byte[] seed = new byte[Integer.BYTES];
+          for (int i = 0; i < seedsPerThread; i++) {
+            generator.generateSeed(seed);
+            words[i] = BinaryUtils.convertBytesToInt(seed, 0);
+          }
+          return words;
+        }, executor));
+      }
+      final BitSet seen = new BitSet(WORDS);
+      for (final CompletableFuture<int[]> result : results) {
+        for (final int word : result.join()) {
+          assertFalse(seen.get(word), "Word " + word + " was handed out twice");
+          seen.set(word);
+        }
+      }
+      assertEquals(seen.cardinality(), WORDS);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test public void testEndOfFile() {
+    final FileSeedGenerator generator = new FileSeedGenerator(file, CHUNK_SIZE);
+    generator.generateSeed(WORDS * Integer.BYTES - 1);
+    try {
+      generator.generateSeed(2);
+      fail("Should have thrown a SeedException");
+    } catch (final SeedException expected) {
+    }
+    assertTrue(generator.isWorthTrying());
+  }
+
+  @Test public void testMissingFile() {
+    final FileSeedGenerator generator =
+        new FileSeedGenerator(new File(file.getPath() + ".missing"), CHUNK_SIZE);
+    try {
+      generator.generateSeed(1);
+      fail("Should have thrown a SeedException");
+    } catch (final SeedException expected) {
+    }
+    assertFalse(generator.isWorthTrying());
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testChunkSizeMustBePositive() {
+    new FileSeedGenerator(file, 0);
+  }
+}
@@ -0,0 +1,132 @@
+package io.github.pr0methean.betterrandom.seed;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import io.github.pr0methean.betterrandom.seed.HedgedSeedGenerator.Mode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import org.testng.annotations.Test;
+
+public class HedgedSeedGeneratorTest extends AbstractSeedGeneratorTest {
+
+  public HedgedSeedGeneratorTest() {
+    super(new HedgedSeedGenerator(Mode.FIRST_SUCCESS, new FakeSeedGenerator()));
+  }
+
+  private static SeedGenerator failing(final String name) {
+    final FakeSeedGenerator generator = new FakeSeedGenerator(name);
+    generator.setThrowException(true);
+    return generator;
+  }
+
+  private static SeedGenerator filling(final byte value) {
+    return output -> Arrays.fill(output, value);
+  }
+
+  @Test(timeOut = 10_000)
+  public void testFirstSuccessDoesntWaitForSlowDelegate() {
+    final CountDownLatch release = new CountDownLatch(1);
+    final SeedGenerator blocked = output -> {
+      try {
+        release.await();
+      } catch (final InterruptedException e) {
+        throw new SeedException("Interrupted", e);
+      }
+    };
+    try {
+      seedGenerator =
+          new HedgedSeedGenerator(Mode.FIRST_SUCCESS, blocked, new FakeSeedGenerator());
+      generateAndCheckFakeSeed(32);
+      generateAndCheckFakeSeedAsync(32);
+    } finally {
+      release.countDown();
+    }
+  }
+
+  /**
+   * Calls a hedged generator with a stuck delegate from more tasks than the shared async executor
+   * has threads. This would deadlock if the delegates ran on that executor.
+   */
+  @Test(timeOut = 10_000)
+  public void testWrappedInDefaultAsync() {
+    final CountDownLatch release = new CountDownLatch(1);
+    final SeedGenerator blocked = output -> {
+      try {
+        release.await();
+      } catch (final InterruptedException e) {
+        throw new SeedException("Interrupted", e);
+      }
+    };
+    try {
+      final SeedGenerator hedged =
+          new HedgedSeedGenerator(Mode.FIRST_SUCCESS, blocked, new FakeSeedGenerator());
+      final SeedGenerator wrapper = hedged::generateSeed;
+      final List<CompletableFuture<byte[]>> seeds = new ArrayList<>();
+      for (int i = 0; i < 2 * AsyncSeedExecutor.MAX_THREADS; i++) {
+        seeds.add(wrapper.generateSeedAsync(32));
+      }
+      for (final CompletableFuture<byte[]> seed : seeds) {
+        assertEquals(seed.join().length, 32);
+      }
+    } finally {
+      release.countDown();
+    }
+  }
+
+  @Test(timeOut = 10_000)
+  public void testFirstSuccessIgnoresFailure() {
+    seedGenerator = new HedgedSeedGenerator(Mode.FIRST_SUCCESS,
+        failing("testFirstSuccessIgnoresFailure"), new FakeSeedGenerator());
+    generateAndCheckFakeSeed(32);
+  }
+
+  @Test(timeOut = 10_000, expectedExceptions = SeedException.class)
+  public void testFirstSuccessAllFail() {
+    new HedgedSeedGenerator(Mode.FIRST_SUCCESS, failing("testFirstSuccessAllFail1"),
+        failing("testFirstSuccessAllFail2")).generateSeed(32);
+  }
+
+  @Test(timeOut = 10_000)
+  public void testXor() {
+    seedGenerator =
+        new HedgedSeedGenerator(Mode.XOR, filling((byte) 0x0F), filling((byte) 0x3C));
+    final byte[] seed = seedGenerator.generateSeed(32);
+    for (final byte b : seed) {
+      assertEquals(b, (byte) 0x33);
+    }
+    assertEquals(seedGenerator.generateSeedAsync(32).join()[31], (byte) 0x33);
+  }
+
+  @Test(timeOut = 10_000, expectedExceptions = SeedException.class)
+  public void testXorFailsIfAnyDelegateFails() {
+    new HedgedSeedGenerator(Mode.XOR, failing("testXorFailsIfAnyDelegateFails"),
+        new FakeSeedGenerator()).generateSeed(32);
+  }
+
+  @Test(timeOut = 10_000, expectedExceptions = SeedException.class)
+  public void testXorAllFail() {
+    new HedgedSeedGenerator(Mode.XOR, failing("testXorAllFail")).generateSeed(32);
+  }
+
+  @Test
+  public void testSkipsDelegatesNotWorthTrying() {
+    seedGenerator = new HedgedSeedGenerator(Mode.XOR,
+        FailingSeedGenerator.FAILING_SEED_GENERATOR, new FakeSeedGenerator());
+    assertTrue(seedGenerator.isWorthTrying());
+    generateAndCheckFakeSeed(32);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testNeedsDelegates() {
+    new HedgedSeedGenerator(Mode.XOR);
+  }
+
+  @Test(expectedExceptions = NullPointerException.class)
+  public void testNeedsMode() {
+    new HedgedSeedGenerator(null, new FakeSeedGenerator());
+  }
+}
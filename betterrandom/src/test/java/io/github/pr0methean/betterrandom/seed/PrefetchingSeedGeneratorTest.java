@@ -0,0 +1,139 @@
+package io.github.pr0methean.betterrandom.seed;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import io.github.pr0methean.betterrandom.prng.RandomTestUtils;
+import io.github.pr0methean.betterrandom.util.BinaryUtils;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+@Test(singleThreaded = true)
+public class PrefetchingSeedGeneratorTest extends AbstractSeedGeneratorTest {
+
+  private static final int CAPACITY = 256;
+  private static final int LOW_WATERMARK = 64;
+  private static final int HIGH_WATERMARK = 192;
+  private FakeSeedGenerator fakeSeedGenerator;
+
+  public PrefetchingSeedGeneratorTest() {
+    super(null);
+  }
+
+  @BeforeMethod
+  public void setUp() {
+    fakeSeedGenerator = new FakeSeedGenerator("PrefetchingSeedGeneratorTest");
+    seedGenerator = new PrefetchingSeedGenerator(fakeSeedGenerator, CAPACITY, LOW_WATERMARK,
+        HIGH_WATERMARK);
+  }
+
+  private static void awaitBufferedBytes(final SeedGenerator seedGenerator, final int bytes) {
+    while (((PrefetchingSeedGenerator) seedGenerator).getBufferedBytes() < bytes) {
+      RandomTestUtils.sleepUninterruptibly(1_000_000);
+    }
+  }
+
+  @Test(timeOut = 10_000)
+  public void testFirstRequestMissesAndStartsRefill() {
+    generateAndCheckFakeSeed(16);
+    awaitBufferedBytes(seedGenerator, HIGH_WATERMARK);
+    assertEquals(fakeSeedGenerator.countCalls(), 2);
+  }
+
+  @Test(timeOut = 10_000)
+  public void testBufferedRequestsDontCallDelegate() {
+    generateAndCheckFakeSeed(16);
+    awaitBufferedBytes(seedGenerator, HIGH_WATERMARK);
+    final long calls = fakeSeedGenerator.countCalls();
+    for (int i = 0; i < (HIGH_WATERMARK - LOW_WATERMARK) / 16; i++) {
+      generateAndCheckFakeSeed(16);
+    }
+    assertEquals(fakeSeedGenerator.countCalls(), calls);
+    assertTrue(seedGenerator.generateSeedAsync(16).isDone(),
+        "Seed already in the buffer should be returned without blocking");
+  }
+
+  @Test(timeOut = 10_000)
+  public void testRefillsBelowLowWatermark() {
+    generateAndCheckFakeSeed(16);
+    awaitBufferedBytes(seedGenerator, HIGH_WATERMARK);
+    generateAndCheckFakeSeed(HIGH_WATERMARK - LOW_WATERMARK + 1);
+    awaitBufferedBytes(seedGenerator, HIGH_WATERMARK);
+  }
+
+  @Test(timeOut = 10_000)
+  public void testLargeRequestGoesToDelegate() {
+    generateAndCheckFakeSeed(CAPACITY + 1);
+    generateAndCheckFakeSeedAsync(CAPACITY + 1);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testWatermarksOutOfOrder() {
+    new PrefetchingSeedGenerator(fakeSeedGenerator, CAPACITY, HIGH_WATERMARK, LOW_WATERMARK);
+  }
+
+  @Test(timeOut = 10_000)
+  public void testFailingDelegate() {
+    fakeSeedGenerator.setThrowException(true);
+    try {
+      generateAndCheckFakeSeed(16);
+    } catch (final SeedException expected) {
+      // Refills will fail too, so the buffer should stay empty
+    }
+    RandomTestUtils.sleepUninterruptibly(100_000_000);
+    assertEquals(((PrefetchingSeedGenerator) seedGenerator).getBufferedBytes(), 0);
+    assertTrue(seedGenerator.isWorthTrying());
+  }
+
+  /**
+   * Uses a delegate whose output is consecutive 4-byte words, and checks that concurrent callers
+   * never get the same word twice, as they would if they claimed overlapping ranges or read bytes
+   * that a refill had overwritten.
+   */
+  @Test(timeOut = 60_000)
+  public void testConcurrentReadsAreDisjoint() {
+    final AtomicInteger nextWord = new AtomicInteger();
+    final SeedGenerator countingSeedGenerator = output -> {
+      for (int i = 0; i < output.length; i += Integer.BYTES) {
+        BinaryUtils.convertIntToBytes(nextWord.getAndIncrement(), output, i);
+      }
+    };
+    seedGenerator = new PrefetchingSeedGenerator(countingSeedGenerator, CAPACITY, LOW_WATERMARK,
+        HIGH_WATERMARK);
+    final int threads = 4;
+    final int seedsPerThread = 10_000;
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      final List<CompletableFuture<int[]>> results = new ArrayList<>(threads);
+      for (int thread = 0; thread < threads; thread++) {
+        results.add(CompletableFuture.supplyAsync(() -> {
+          final int[] words = new int[seedsPerThread];
+          final byte[] seed = new byte[Integer.BYTES];
+          for (int i = 0; i < seedsPerThread; i++) {
+            seedGenerator.generateSeed(seed);
+            words[i] = BinaryUtils.convertBytesToInt(seed, 0);
+          }
+          return words;
+        }, executor));
+      }
+      final BitSet seen = new BitSet();
+      for (final CompletableFuture<int[]> result : results) {
+        for (final int word : result.join()) {
+          assertFalse(seen.get(word), "Word " + word + " was handed out twice");
+          seen.set(word);
+        }
+      }
+      assertTrue(seen.length() <= nextWord.get());
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
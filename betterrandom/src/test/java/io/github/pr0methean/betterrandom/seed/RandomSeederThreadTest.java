@@ -2,6 +2,7 @@ package io.github.pr0methean.betterrandom.seed;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
 import com.google.common.collect.ImmutableMap;
@@ -10,8 +11,12 @@ import io.github.pr0methean.betterrandom.FlakyRetryAnalyzer;
 import io.github.pr0methean.betterrandom.TestUtils;
 import io.github.pr0methean.betterrandom.prng.Pcg64Random;
 import io.github.pr0methean.betterrandom.prng.RandomTestUtils;
+import io.github.pr0methean.betterrandom.prng.XorShiftRandom;
 import java.lang.ref.WeakReference;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Random;
 import java.util.concurrent.ThreadFactory;
 import org.testng.annotations.Test;
@@ -59,6 +64,63 @@ public class RandomSeederThreadTest {
     assertFalse(Arrays.equals(secondBytesWithOldSeed, bytesWithNewSeed), "Repeated output after reseeding");
   }
 
+  @Test public void testAddIsIdempotent() {
+    final Random prng = new Random(TEST_SEED);
+    final RandomSeederThread randomSeeder =
+        new RandomSeederThread(new FakeSeedGenerator("testAddIsIdempotent"));
+    try {
+      randomSeeder.add(prng, prng);
+      randomSeeder.add(prng);
+      assertFalse(randomSeeder.isEmpty());
+      randomSeeder.remove(prng);
+      assertTrue(randomSeeder.isEmpty());
+    } finally {
+      randomSeeder.stopIfEmpty();
+    }
+  }
+
+  @Test(timeOut = 25_000) public void testReusesSeedArray() {
+    final List<byte[]> seedArrays = Collections.synchronizedList(new ArrayList<>());
+    final SeedGenerator seedGenerator = output -> {
+      seedArrays.add(output);
+      Arrays.fill(output, (byte) seedArrays.size());
+    };
+    final XorShiftRandom prng = new XorShiftRandom(new FakeSeedGenerator("testReusesSeedArray"));
+    final RandomSeederThread randomSeeder = new RandomSeederThread(seedGenerator);
+    prng.setRandomSeeder(randomSeeder);
+    try {
+      for (int reseeds = 1; reseeds <= 2; reseeds++) {
+        while (prng.getEntropyBits() > 0) {
+          prng.nextLong();
+        }
+        while (seedArrays.size() < reseeds) {
+          RandomTestUtils.sleepUninterruptibly(10_000_000);
+        }
+      }
+    } finally {
+      RandomTestUtils.removeAndAssertEmpty(randomSeeder, prng);
+    }
+    assertSame(seedArrays.get(1), seedArrays.get(0), "Seed array was reallocated");
+  }
+
+  @Test(timeOut = 25_000) public void testAddProvisional() {
+    final FakeSeedGenerator seedGenerator = new FakeSeedGenerator("testAddProvisional");
+    final byte[] provisionalSeed = new byte[Long.BYTES];
+    final Pcg64Random prng = new Pcg64Random(provisionalSeed);
+    final RandomSeederThread randomSeeder = new RandomSeederThread(seedGenerator);
+    try {
+      randomSeeder.addProvisional(prng);
+      assertTrue(prng.getEntropyBits() > 0);
+      while (seedGenerator.countCalls() < 1) {
+        RandomTestUtils.sleepUninterruptibly(10_000_000);
+      }
+    } finally {
+      RandomTestUtils.removeAndAssertEmpty(randomSeeder, (Random) prng);
+    }
+    assertFalse(Arrays.equals(prng.getSeed(), provisionalSeed),
+        "Provisional seed wasn't replaced");
+  }
+
   @Test(retryAnalyzer = FlakyRetryAnalyzer.class) public void testResurrection() throws InterruptedException {
     final FakeSeedGenerator seedGenerator = new FakeSeedGenerator("testResurrection");
     seedGenerator.setThrowException(true);
@@ -2,10 +2,18 @@ package io.github.pr0methean.betterrandom.seed;
 
 import static io.github.pr0methean.betterrandom.seed.FailingSeedGenerator.FAILING_SEED_GENERATOR;
 import static java.util.Collections.singletonList;
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 
+import io.github.pr0methean.betterrandom.CloneViaSerialization;
+import io.github.pr0methean.betterrandom.seed.SeedGeneratorPreferenceList.CircuitState;
+import io.github.pr0methean.betterrandom.seed.SeedGeneratorPreferenceList.GeneratorStats;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
 import org.testng.annotations.Test;
 
 public class SeedGeneratorPreferenceListTest extends AbstractSeedGeneratorTest {
@@ -42,6 +50,114 @@ public class SeedGeneratorPreferenceListTest extends AbstractSeedGeneratorTest {
     generateAndCheckFakeSeed(32);
   }
 
+  @Test(timeOut = 10_000)
+  public void testSecondSucceedsAsync() {
+    FakeSeedGenerator failing = new FakeSeedGenerator("testSecondSucceedsAsync");
+    failing.setThrowException(true);
+    seedGenerator = new SeedGeneratorPreferenceList(
+        Arrays.asList(failing, new FakeSeedGenerator()),
+        true);
+    generateAndCheckFakeSeedAsync(32);
+    assertEquals(failing.countCalls(), 1);
+  }
+
+  @Test(timeOut = 10_000)
+  public void testAllFailAsync() throws InterruptedException {
+    FakeSeedGenerator failing = new FakeSeedGenerator("testAllFailAsync");
+    failing.setThrowException(true);
+    seedGenerator = new SeedGeneratorPreferenceList(singletonList(failing), true);
+    try {
+      seedGenerator.generateSeedAsync(32).get();
+      fail("Should have thrown");
+    } catch (ExecutionException expected) {
+      assertTrue(expected.getCause() instanceof SeedException);
+    }
+  }
+
+  @Test
+  public void testCircuitOpensAfterThreshold() {
+    FakeSeedGenerator flaky = new FakeSeedGenerator("testCircuitOpensAfterThreshold");
+    flaky.setThrowException(true);
+    FakeSeedGenerator fallback = new FakeSeedGenerator();
+    SeedGeneratorPreferenceList list = new SeedGeneratorPreferenceList(
+        Arrays.asList(flaky, fallback), true, 2, Duration.ofDays(1));
+    seedGenerator = list;
+    for (int i = 0; i < 5; i++) {
+      generateAndCheckFakeSeed(32);
+    }
+    assertEquals(flaky.countCalls(), 2);
+    Map<SeedGenerator, GeneratorStats> stats = list.getStats();
+    assertEquals(stats.get(flaky).getState(), CircuitState.OPEN);
+    assertEquals(stats.get(flaky).getFailures(), 2);
+    assertEquals(stats.get(flaky).getConsecutiveFailures(), 2);
+    assertEquals(stats.get(fallback).getState(), CircuitState.CLOSED);
+    assertEquals(stats.get(fallback).getSuccesses(), 5);
+    assertFalse(Double.isNaN(stats.get(fallback).getAverageLatencyNanos()));
+  }
+
+  @Test
+  public void testProbeClosesCircuit() {
+    FakeSeedGenerator flaky = new FakeSeedGenerator("testProbeClosesCircuit");
+    flaky.setThrowException(true);
+    FakeSeedGenerator fallback = new FakeSeedGenerator();
+    SeedGeneratorPreferenceList list = new SeedGeneratorPreferenceList(
+        Arrays.asList(flaky, fallback), true, 1, Duration.ZERO);
+    seedGenerator = list;
+    generateAndCheckFakeSeed(32);
+    assertEquals(list.getStats().get(flaky).getState(), CircuitState.OPEN);
+    flaky.setThrowException(false);
+    generateAndCheckFakeSeedAsync(32);
+    assertEquals(list.getStats().get(flaky).getState(), CircuitState.CLOSED);
+    assertEquals(fallback.countCalls(), 1);
+  }
+
+  @Test
+  public void testUncheckedExceptionReopensCircuit() {
+    SeedGenerator throwing = output -> {
+      throw new IllegalStateException("testUncheckedExceptionReopensCircuit");
+    };
+    SeedGeneratorPreferenceList list = new SeedGeneratorPreferenceList(
+        Arrays.asList(throwing, new FakeSeedGenerator()), true, 1, Duration.ZERO);
+    for (int i = 0; i < 2; i++) {
+      try {
+        list.generateSeed(32);
+        fail("Should have thrown an IllegalStateException");
+      } catch (final IllegalStateException expected) {
+      }
+      // The second time, the exception is thrown by a probe
+      assertEquals(list.getStats().get(throwing).getState(), CircuitState.OPEN);
+    }
+  }
+
+  @Test
+  public void testOpenCircuitIsLastResort() {
+    FakeSeedGenerator flaky = new FakeSeedGenerator("testOpenCircuitIsLastResort");
+    flaky.setThrowException(true);
+    FakeSeedGenerator fallback = new FakeSeedGenerator();
+    SeedGeneratorPreferenceList list = new SeedGeneratorPreferenceList(
+        Arrays.asList(flaky, fallback), true, 1, Duration.ofDays(1));
+    seedGenerator = list;
+    generateAndCheckFakeSeed(32);
+    flaky.setThrowException(false);
+    fallback.setThrowException(true);
+    generateAndCheckFakeSeed(32);
+    assertEquals(list.getStats().get(flaky).getState(), CircuitState.CLOSED);
+    assertEquals(list.getStats().get(fallback).getFailures(), 1);
+  }
+
+  @Test
+  public void testSerializable() {
+    seedGenerator = CloneViaSerialization.clone(new SeedGeneratorPreferenceList(
+        Arrays.asList(new FakeSeedGenerator(), new FakeSeedGenerator()), true));
+    generateAndCheckFakeSeed(32);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testFailureThresholdMustBePositive() {
+    new SeedGeneratorPreferenceList(singletonList(new FakeSeedGenerator()), true, 0,
+        Duration.ZERO);
+  }
+
   @Test
   public void testAlwaysWorthTrying() {
     FakeSeedGenerator doNotCall = new FakeSeedGenerator() {
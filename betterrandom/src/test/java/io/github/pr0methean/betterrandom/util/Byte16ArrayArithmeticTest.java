@@ -131,4 +131,11 @@ public class Byte16ArrayArithmeticTest {
     Byte16ArrayArithmetic.unsignedShiftRight(result, -128);
     assertByteArrayEqualsLongs(result, 0, 0);
   }
-}
\ No newline at end of file
+
+  @Test public void testUnsignedMultiplyHigh() {
+    assertEquals(Byte16ArrayArithmetic.unsignedMultiplyHigh(0x38FD_07E7_D607_B6EDL,
+        0x631B_C188_2D24_D6E9L), 0x1610_07D3_90A7_37E3L);
+    assertEquals(Byte16ArrayArithmetic.unsignedMultiplyHigh(-1, -1), 0xFFFF_FFFF_FFFF_FFFEL);
+    assertEquals(Byte16ArrayArithmetic.unsignedMultiplyHigh(-1, 1), 0);
+  }
+}
@@ -0,0 +1,55 @@
+package io.github.pr0methean.betterrandom.util;
+
+import static io.github.pr0methean.betterrandom.util.Gf2PolynomialArithmetic.powerOfXMod;
+import static org.testng.Assert.assertEquals;
+
+import org.testng.annotations.Test;
+
+public class Gf2PolynomialArithmeticTest {
+
+  /** x^3 + x + 1, which is primitive, so x has multiplicative order 7. */
+  private static final long[] PRIMITIVE_CUBIC = {0b1011};
+  /** x^127 + x + 1, which is primitive. */
+  private static final long[] PRIMITIVE_127 = {0b11, 1L << 63};
+
+  @Test public void testPowerOfXModSmall() {
+    assertEquals(powerOfXMod(0, 0, PRIMITIVE_CUBIC, 3), new long[]{1});
+    assertEquals(powerOfXMod(0, 2, PRIMITIVE_CUBIC, 3), new long[]{0b100});
+    assertEquals(powerOfXMod(0, 3, PRIMITIVE_CUBIC, 3), new long[]{0b011});
+    assertEquals(powerOfXMod(0, 7, PRIMITIVE_CUBIC, 3), new long[]{1});
+    assertEquals(powerOfXMod(0, 7 * 1234567 + 2, PRIMITIVE_CUBIC, 3), new long[]{0b100});
+  }
+
+  @Test public void testPowerOfXModNegative() {
+    assertEquals(powerOfXMod(-1, -1, PRIMITIVE_CUBIC, 3), new long[]{0b101});
+    assertEquals(powerOfXMod(-1, -6, PRIMITIVE_CUBIC, 3), new long[]{0b010});
+  }
+
+  @Test public void testPowerOfXMod128BitExponent() {
+    // 2^64 = 2 (mod 7)
+    assertEquals(powerOfXMod(1, 0, PRIMITIVE_CUBIC, 3), new long[]{0b100});
+  }
+
+  @Test public void testPowerOfXModMultiWord() {
+    // x has order 2^127 - 1
+    assertEquals(powerOfXMod(Long.MAX_VALUE, -1, PRIMITIVE_127, 127), new long[]{1, 0});
+    final long[] backward = powerOfXMod(-1, -1_000_003, PRIMITIVE_127, 127);
+    for (int i = 0; i < 1_000_003; i++) {
+      Gf2PolynomialArithmetic.multiplyByXMod(backward, PRIMITIVE_127, 127);
+    }
+    assertEquals(backward, new long[]{1, 0});
+    final long[] forward = powerOfXMod(0, 1_000_003, PRIMITIVE_127, 127);
+    assertEquals(powerOfXMod(0, 2_000_006, PRIMITIVE_127, 127), squared(forward));
+  }
+
+  private static long[] squared(final long[] poly) {
+    final long[] result = poly.clone();
+    Gf2PolynomialArithmetic.squareMod(result, PRIMITIVE_127, 127, new long[4]);
+    return result;
+  }
+
+  @Test(expectedExceptions = ArithmeticException.class)
+  public void testNegativePowerNotInvertible() {
+    powerOfXMod(-1, -1, new long[]{0b110}, 2);
+  }
+}
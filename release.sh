@@ -16,14 +16,24 @@ if [[ -n "${VERSION}" ]]; then
   mvn versions:set "-DnewVersion=${VERSION}"
   sed -i "s/${OLDVERSION}<!--updateme-->/${VERSION}<!--updateme-->/" ../benchmark/pom.xml
   sed -i "s/${OLDVERSION}<!--updateme-->/${VERSION}<!--updateme-->/" ../FifoFiller/pom.xml
+  sed -i "s/${OLDVERSION}<!--updateme-->/${VERSION}<!--updateme-->/" ../vector/pom.xml
   git add pom.xml
   git add ../benchmark/pom.xml
   git add ../FifoFiller/pom.xml
+  git add ../vector/pom.xml
   git commit -m "🤖 Update version numbers"
 fi
 mvn -DskipTests -Darguments=-DskipTests -Dmaven.test.skip=true -P!jdk9 -P release-sign-artifacts \
     clean compile pre-integration-test deploy ${MAYBE_P} ${MAYBE_RELEASE}
 STATUS=$?
+if [ ${STATUS} -eq 0 ]; then
+  # Must run on JDK 17+, or the JAR will lack the Vector API kernels
+  cd ../vector || exit 1
+  mvn -DskipTests -Darguments=-DskipTests -Dmaven.test.skip=true -P release-sign-artifacts \
+      clean deploy ${MAYBE_P} ${MAYBE_RELEASE}
+  STATUS=$?
+  cd ../betterrandom || exit 1
+fi
 if [[ -n "${VERSION}" ]]; then
   if [ ${STATUS} -eq 0 ]; then
     cd ..
@@ -40,11 +50,14 @@ if [[ -n "${VERSION}" ]]; then
     # For some reason we end up with -SNAPSHOT-SNAPSHOT without next 2 lines:
     sed -i "s/${VERSION}-SNAPSHOT<!--updateme-->/${NEWVERSION}<!--updateme-->/" ../benchmark/pom.xml
     sed -i "s/${VERSION}-SNAPSHOT<!--updateme-->/${NEWVERSION}<!--updateme-->/" ../FifoFiller/pom.xml
+    sed -i "s/${VERSION}-SNAPSHOT<!--updateme-->/${NEWVERSION}<!--updateme-->/" ../vector/pom.xml
     sed -i "s/${VERSION}<!--updateme-->/${NEWVERSION}<!--updateme-->/" ../benchmark/pom.xml
     sed -i "s/${VERSION}<!--updateme-->/${NEWVERSION}<!--updateme-->/" ../FifoFiller/pom.xml
+    sed -i "s/${VERSION}<!--updateme-->/${NEWVERSION}<!--updateme-->/" ../vector/pom.xml
     git add pom.xml
     git add ../benchmark/pom.xml
     git add ../FifoFiller/pom.xml
+    git add ../vector/pom.xml
     git commit -m "🤖 Update version numbers"
     git push
   fi
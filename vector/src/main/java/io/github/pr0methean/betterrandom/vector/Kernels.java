@@ -0,0 +1,13 @@
+package io.github.pr0methean.betterrandom.vector;
+
+import static io.github.pr0methean.betterrandom.vector.ScalarLaneKernel.SCALAR_LANE_KERNEL;
+
+/**
+ * Holds the {@link LaneKernel} in use. On Java 8 through 16 it is always the scalar one; this class
+ * is replaced on Java 17 and later by a version that can choose SIMD kernels.
+ */
+enum Kernels {
+  ;
+
+  static final LaneKernel KERNEL = SCALAR_LANE_KERNEL;
+}
@@ -0,0 +1,64 @@
+package io.github.pr0methean.betterrandom.vector;
+
+/**
+ * Runs several lanes of a PRNG at once. Every method advances every lane by the same number of
+ * steps, which is enough for each lane to supply {@code ceil(length / lanes)} outputs, and writes
+ * lane {@code i}'s {@code k}th output to {@code dest[offset + k * lanes + i]} if that index is
+ * within the requested range. Callers have already checked the range, and the length is always
+ * positive. Implementations must produce identical output, so that it depends only on the lane
+ * count and not on the hardware.
+ */
+interface LaneKernel {
+
+  /**
+   * Runs lanes of {@link io.github.pr0methean.betterrandom.prng.XorShiftRandom}.
+   * @param state the 5 state words, each an array with one element per lane
+   * @param dest the array to fill
+   * @param offset the index of the first element to fill
+   * @param length the number of elements to fill
+   */
+  void xorShiftInts(int[][] state, int[] dest, int offset, int length);
+
+  /**
+   * Runs lanes of {@link io.github.pr0methean.betterrandom.prng.XorShiftRandom}, with 2 steps per
+   * output.
+   * @param state the 5 state words, each an array with one element per lane
+   * @param dest the array to fill
+   * @param offset the index of the first element to fill
+   * @param length the number of elements to fill
+   */
+  void xorShiftLongs(int[][] state, long[] dest, int offset, int length);
+
+  /**
+   * Runs lanes of {@link io.github.pr0methean.betterrandom.prng.Pcg64Random}.
+   * @param state the state of each lane
+   * @param dest the array to fill
+   * @param offset the index of the first element to fill
+   * @param length the number of elements to fill
+   */
+  void pcgInts(long[] state, int[] dest, int offset, int length);
+
+  /**
+   * Runs lanes of {@link io.github.pr0methean.betterrandom.prng.Pcg64Random}, with 2 steps per
+   * output.
+   * @param state the state of each lane
+   * @param dest the array to fill
+   * @param offset the index of the first element to fill
+   * @param length the number of elements to fill
+   */
+  void pcgLongs(long[] state, long[] dest, int offset, int length);
+
+  /**
+   * Returns the number of {@link io.github.pr0methean.betterrandom.prng.XorShiftRandom} lanes this
+   * kernel runs at once.
+   * @return the natural lane count for XorShift
+   */
+  int xorShiftWidth();
+
+  /**
+   * Returns the number of {@link io.github.pr0methean.betterrandom.prng.Pcg64Random} lanes this
+   * kernel runs at once.
+   * @return the natural lane count for PCG
+   */
+  int pcgWidth();
+}
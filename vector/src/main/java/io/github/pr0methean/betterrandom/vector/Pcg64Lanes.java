@@ -0,0 +1,132 @@
+package io.github.pr0methean.betterrandom.vector;
+
+import static io.github.pr0methean.betterrandom.vector.ScalarLaneKernel.SCALAR_LANE_KERNEL;
+
+import io.github.pr0methean.betterrandom.prng.Pcg64Random;
+import io.github.pr0methean.betterrandom.util.BinaryUtils;
+
+/**
+ * <p>Fills arrays from several independent copies, or <i>lanes</i>, of a {@link Pcg64Random} at
+ * once. On Java 17 and later, when the JVM is started with {@code --add-modules
+ * jdk.incubator.vector}, the lanes run in SIMD registers; otherwise they run one after another, and
+ * there is no speedup. Either way, the output depends only on the source's state and the lane
+ * count.</p>
+ * <p>Lane {@code i} starts where the source would be after {@link Pcg64Random#advance(long)
+ * advancing} {@code i} &times; 2<sup>64</sup> / {@link #MAX_LANES} steps, so the lanes partition
+ * the period into segments of 2<sup>58</sup> steps and won't overlap before then. Lane 0 continues
+ * the source's own sequence; the source itself isn't changed. The output is interleaved: the bulk
+ * methods write lane {@code i}'s {@code k}th output to {@code dest[offset + k * getLanes() + i]},
+ * and advance every lane by the same number of steps, discarding the outputs that don't fit. Thus a
+ * single lane reproduces the output of {@link Pcg64Random#nextInts(int[], int, int)} and {@link
+ * Pcg64Random#nextLongs(long[], int, int)}.</p>
+ * <p>Instances aren't thread-safe, don't debit entropy, and can't be reseeded.</p>
+ */
+public final class Pcg64Lanes {
+
+  /** The most lanes an instance can have. */
+  public static final int MAX_LANES = 64;
+  private static final long LANE_SPACING = 1L << 58; // 2^64 / MAX_LANES
+
+  /** The state of each lane. */
+  private final long[] state;
+
+  /**
+   * Creates an instance.
+   * @param source the PRNG whose state lane 0 starts from
+   * @param lanes the number of lanes; see {@link #getPreferredLanes()}
+   * @throws IllegalArgumentException if {@code lanes} is not between 1 and {@link #MAX_LANES}
+   */
+  public Pcg64Lanes(final Pcg64Random source, final int lanes) {
+    if ((lanes < 1) || (lanes > MAX_LANES)) {
+      throw new IllegalArgumentException(
+          String.format("lanes must be between 1 and %d; was %d", MAX_LANES, lanes));
+    }
+    state = new long[lanes];
+    final Pcg64Random copy = new Pcg64Random(source.getSeed());
+    for (int lane = 0; lane < lanes; lane++) {
+      if (lane > 0) {
+        copy.advance(LANE_SPACING);
+      }
+      state[lane] = BinaryUtils.convertBytesToLong(copy.getSeed());
+    }
+  }
+
+  /**
+   * Returns whether the lanes run in SIMD registers.
+   * @return true if the Java 17 SIMD kernels are in use
+   */
+  public static boolean isVectorized() {
+    return Kernels.KERNEL != SCALAR_LANE_KERNEL;
+  }
+
+  /**
+   * Returns the lane count that makes best use of this machine's SIMD registers. This varies with
+   * the hardware and JVM, so use a fixed lane count when output must be reproducible.
+   * @return the preferred lane count; 1 if the lanes don't run in SIMD registers
+   */
+  public static int getPreferredLanes() {
+    return Kernels.KERNEL.pcgWidth();
+  }
+
+  /**
+   * Returns the number of lanes.
+   * @return the number of lanes
+   */
+  public int getLanes() {
+    return state.length;
+  }
+
+  /**
+   * Fills an array with pseudorandom {@code int} values, interleaved as described in the class
+   * documentation.
+   * @param dest the array to fill
+   */
+  public void nextInts(final int[] dest) {
+    nextInts(dest, 0, dest.length);
+  }
+
+  /**
+   * Fills part of an array with pseudorandom {@code int} values, interleaved as described in the
+   * class documentation.
+   * @param dest the array to fill
+   * @param offset the index of the first element to fill
+   * @param length the number of elements to fill
+   * @throws IndexOutOfBoundsException if {@code offset} or {@code length} is negative, or {@code
+   *     offset + length > dest.length}
+   */
+  public void nextInts(final int[] dest, final int offset, final int length) {
+    XorShiftLanes.checkArrayRange(dest.length, offset, length);
+    if (length > 0) {
+      Kernels.KERNEL.pcgInts(state, dest, offset, length);
+    }
+  }
+
+  /**
+   * Fills an array with pseudorandom {@code long} values, interleaved as described in the class
+   * documentation. Each uses 2 steps of its lane.
+   * @param dest the array to fill
+   */
+  public void nextLongs(final long[] dest) {
+    nextLongs(dest, 0, dest.length);
+  }
+
+  /**
+   * Fills part of an array with pseudorandom {@code long} values, interleaved as described in the
+   * class documentation. Each uses 2 steps of its lane.
+   * @param dest the array to fill
+   * @param offset the index of the first element to fill
+   * @param length the number of elements to fill
+   * @throws IndexOutOfBoundsException if {@code offset} or {@code length} is negative, or {@code
+   *     offset + length > dest.length}
+   */
+  public void nextLongs(final long[] dest, final int offset, final int length) {
+    XorShiftLanes.checkArrayRange(dest.length, offset, length);
+    if (length > 0) {
+      Kernels.KERNEL.pcgLongs(state, dest, offset, length);
+    }
+  }
+
+  @Override public String toString() {
+    return "Pcg64Lanes(lanes=" + getLanes() + ")";
+  }
+}
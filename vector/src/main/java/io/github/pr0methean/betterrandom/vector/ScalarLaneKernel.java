@@ -0,0 +1,175 @@
+package io.github.pr0methean.betterrandom.vector;
+
+/**
+ * Runs the lanes one after another, each in local variables. The Java 17 kernel also uses these
+ * methods for lanes left over after the last full vector.
+ */
+enum ScalarLaneKernel implements LaneKernel {
+  SCALAR_LANE_KERNEL;
+
+  // Same as in Pcg64Random
+  static final long PCG_MULTIPLIER = 6364136223846793005L;
+  static final long PCG_INCREMENT = 1442695040888963407L;
+  static final int PCG_ROTATION1 = 18;
+  static final int PCG_ROTATION2 = 27;
+  static final int PCG_ROTATION3 = 59;
+  static final int PCG_MASK = 31;
+
+  /**
+   * Returns the number of steps before the last one, in which every lane's output is written.
+   * @param lanes the number of lanes
+   * @param length the number of outputs, which must be positive
+   * @return {@code ceil(length / lanes) - 1}
+   */
+  static int fullSteps(final int lanes, final int length) {
+    return (length - 1) / lanes;
+  }
+
+  @SuppressWarnings("NumericCastThatLosesPrecision")
+  static int pcgOutput(final long oldState) {
+    final int xorshifted = (int) (((oldState >>> PCG_ROTATION1) ^ oldState) >>> PCG_ROTATION2);
+    final int rot = (int) (oldState >>> PCG_ROTATION3);
+    return (xorshifted >>> rot) | (xorshifted << ((-rot) & PCG_MASK));
+  }
+
+  static void xorShiftInts(final int[][] state, final int[] dest, final int offset,
+      final int length, final int fromLane) {
+    final int lanes = state[0].length;
+    final int fullSteps = fullSteps(lanes, length);
+    final int lastStepLanes = length - (fullSteps * lanes);
+    for (int lane = fromLane; lane < lanes; lane++) {
+      int s1 = state[0][lane];
+      int s2 = state[1][lane];
+      int s3 = state[2][lane];
+      int s4 = state[3][lane];
+      int s5 = state[4][lane];
+      int index = offset + lane;
+      for (int step = 0; step <= fullSteps; step++) {
+        final int t = (s1 ^ (s1 >> 7));
+        s1 = s2;
+        s2 = s3;
+        s3 = s4;
+        s4 = s5;
+        s5 = (s5 ^ (s5 << 6)) ^ (t ^ (t << 13));
+        if ((step < fullSteps) || (lane < lastStepLanes)) {
+          dest[index] = (s2 + s2 + 1) * s5;
+        }
+        index += lanes;
+      }
+      state[0][lane] = s1;
+      state[1][lane] = s2;
+      state[2][lane] = s3;
+      state[3][lane] = s4;
+      state[4][lane] = s5;
+    }
+  }
+
+  static void xorShiftLongs(final int[][] state, final long[] dest, final int offset,
+      final int length, final int fromLane) {
+    final int lanes = state[0].length;
+    final int fullSteps = fullSteps(lanes, length);
+    final int lastStepLanes = length - (fullSteps * lanes);
+    for (int lane = fromLane; lane < lanes; lane++) {
+      int s1 = state[0][lane];
+      int s2 = state[1][lane];
+      int s3 = state[2][lane];
+      int s4 = state[3][lane];
+      int s5 = state[4][lane];
+      int index = offset + lane;
+      for (int step = 0; step <= fullSteps; step++) {
+        int t = (s1 ^ (s1 >> 7));
+        s1 = s2;
+        s2 = s3;
+        s3 = s4;
+        s4 = s5;
+        s5 = (s5 ^ (s5 << 6)) ^ (t ^ (t << 13));
+        final int high = (s2 + s2 + 1) * s5;
+        t = (s1 ^ (s1 >> 7));
+        s1 = s2;
+        s2 = s3;
+        s3 = s4;
+        s4 = s5;
+        s5 = (s5 ^ (s5 << 6)) ^ (t ^ (t << 13));
+        if ((step < fullSteps) || (lane < lastStepLanes)) {
+          dest[index] = ((long) high << 32) + ((s2 + s2 + 1) * s5);
+        }
+        index += lanes;
+      }
+      state[0][lane] = s1;
+      state[1][lane] = s2;
+      state[2][lane] = s3;
+      state[3][lane] = s4;
+      state[4][lane] = s5;
+    }
+  }
+
+  static void pcgInts(final long[] state, final int[] dest, final int offset, final int length,
+      final int fromLane) {
+    final int lanes = state.length;
+    final int fullSteps = fullSteps(lanes, length);
+    final int lastStepLanes = length - (fullSteps * lanes);
+    for (int lane = fromLane; lane < lanes; lane++) {
+      long s = state[lane];
+      int index = offset + lane;
+      for (int step = 0; step <= fullSteps; step++) {
+        final long old = s;
+        s = (s * PCG_MULTIPLIER) + PCG_INCREMENT;
+        if ((step < fullSteps) || (lane < lastStepLanes)) {
+          dest[index] = pcgOutput(old);
+        }
+        index += lanes;
+      }
+      state[lane] = s;
+    }
+  }
+
+  static void pcgLongs(final long[] state, final long[] dest, final int offset, final int length,
+      final int fromLane) {
+    final int lanes = state.length;
+    final int fullSteps = fullSteps(lanes, length);
+    final int lastStepLanes = length - (fullSteps * lanes);
+    for (int lane = fromLane; lane < lanes; lane++) {
+      long s = state[lane];
+      int index = offset + lane;
+      for (int step = 0; step <= fullSteps; step++) {
+        final long highState = s;
+        final long lowState = (s * PCG_MULTIPLIER) + PCG_INCREMENT;
+        s = (lowState * PCG_MULTIPLIER) + PCG_INCREMENT;
+        if ((step < fullSteps) || (lane < lastStepLanes)) {
+          dest[index] = ((long) pcgOutput(highState) << 32) + pcgOutput(lowState);
+        }
+        index += lanes;
+      }
+      state[lane] = s;
+    }
+  }
+
+  @Override public void xorShiftInts(final int[][] state, final int[] dest, final int offset,
+      final int length) {
+    xorShiftInts(state, dest, offset, length, 0);
+  }
+
+  @Override public void xorShiftLongs(final int[][] state, final long[] dest, final int offset,
+      final int length) {
+    xorShiftLongs(state, dest, offset, length, 0);
+  }
+
+  @Override public void pcgInts(final long[] state, final int[] dest, final int offset,
+      final int length) {
+    pcgInts(state, dest, offset, length, 0);
+  }
+
+  @Override public void pcgLongs(final long[] state, final long[] dest, final int offset,
+      final int length) {
+    pcgLongs(state, dest, offset, length, 0);
+  }
+
+  /** Lanes gain nothing without SIMD, so one lane, which reproduces the source PRNG, is best. */
+  @Override public int xorShiftWidth() {
+    return 1;
+  }
+
+  @Override public int pcgWidth() {
+    return 1;
+  }
+}
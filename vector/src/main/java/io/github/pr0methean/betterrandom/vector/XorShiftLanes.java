@@ -0,0 +1,143 @@
+package io.github.pr0methean.betterrandom.vector;
+
+import static io.github.pr0methean.betterrandom.vector.ScalarLaneKernel.SCALAR_LANE_KERNEL;
+
+import io.github.pr0methean.betterrandom.prng.XorShiftRandom;
+import io.github.pr0methean.betterrandom.util.BinaryUtils;
+
+/**
+ * <p>Fills arrays from several independent copies, or <i>lanes</i>, of an {@link XorShiftRandom}
+ * at once. On Java 17 and later, when the JVM is started with {@code --add-modules
+ * jdk.incubator.vector}, the lanes run in SIMD registers; otherwise they run one after another, and
+ * there is no speedup. Either way, the output depends only on the source's state and the lane
+ * count.</p>
+ * <p>Lane {@code i} starts where the source would be after {@link XorShiftRandom#advance(long,
+ * long) advancing} 2<sup>64</sup>&times;{@code i} steps, so the lanes won't overlap in any
+ * practical amount of output. Lane 0 continues the source's own sequence; the source itself isn't
+ * changed. The output is interleaved: the bulk methods write lane {@code i}'s {@code k}th output
+ * to {@code dest[offset + k * getLanes() + i]}, and advance every lane by the same number of
+ * steps, discarding the outputs that don't fit. Thus a single lane reproduces the output of
+ * {@link XorShiftRandom#nextInts(int[], int, int)} and {@link XorShiftRandom#nextLongs(long[], int,
+ * int)}.</p>
+ * <p>Instances aren't thread-safe, don't debit entropy, and can't be reseeded.</p>
+ */
+public final class XorShiftLanes {
+
+  /** The most lanes an instance can have. */
+  public static final int MAX_LANES = 64;
+  private static final int STATE_WORDS = 5;
+
+  /** One array per state word, each with one element per lane. */
+  private final int[][] state;
+
+  /**
+   * Creates an instance.
+   * @param source the PRNG whose state lane 0 starts from
+   * @param lanes the number of lanes; see {@link #getPreferredLanes()}
+   * @throws IllegalArgumentException if {@code lanes} is not between 1 and {@link #MAX_LANES}
+   */
+  public XorShiftLanes(final XorShiftRandom source, final int lanes) {
+    if ((lanes < 1) || (lanes > MAX_LANES)) {
+      throw new IllegalArgumentException(
+          String.format("lanes must be between 1 and %d; was %d", MAX_LANES, lanes));
+    }
+    state = new int[STATE_WORDS][lanes];
+    final XorShiftRandom copy = new XorShiftRandom(source.getSeed());
+    for (int lane = 0; lane < lanes; lane++) {
+      if (lane > 0) {
+        copy.advance(1, 0);
+      }
+      final int[] laneState = BinaryUtils.convertBytesToInts(copy.getSeed());
+      for (int word = 0; word < STATE_WORDS; word++) {
+        state[word][lane] = laneState[word];
+      }
+    }
+  }
+
+  /**
+   * Returns whether the lanes run in SIMD registers.
+   * @return true if the Java 17 SIMD kernels are in use
+   */
+  public static boolean isVectorized() {
+    return Kernels.KERNEL != SCALAR_LANE_KERNEL;
+  }
+
+  /**
+   * Returns the lane count that makes best use of this machine's SIMD registers. This varies with
+   * the hardware and JVM, so use a fixed lane count when output must be reproducible.
+   * @return the preferred lane count; 1 if the lanes don't run in SIMD registers
+   */
+  public static int getPreferredLanes() {
+    return Kernels.KERNEL.xorShiftWidth();
+  }
+
+  /**
+   * Returns the number of lanes.
+   * @return the number of lanes
+   */
+  public int getLanes() {
+    return state[0].length;
+  }
+
+  /**
+   * Fills an array with pseudorandom {@code int} values, interleaved as described in the class
+   * documentation.
+   * @param dest the array to fill
+   */
+  public void nextInts(final int[] dest) {
+    nextInts(dest, 0, dest.length);
+  }
+
+  /**
+   * Fills part of an array with pseudorandom {@code int} values, interleaved as described in the
+   * class documentation.
+   * @param dest the array to fill
+   * @param offset the index of the first element to fill
+   * @param length the number of elements to fill
+   * @throws IndexOutOfBoundsException if {@code offset} or {@code length} is negative, or {@code
+   *     offset + length > dest.length}
+   */
+  public void nextInts(final int[] dest, final int offset, final int length) {
+    checkArrayRange(dest.length, offset, length);
+    if (length > 0) {
+      Kernels.KERNEL.xorShiftInts(state, dest, offset, length);
+    }
+  }
+
+  /**
+   * Fills an array with pseudorandom {@code long} values, interleaved as described in the class
+   * documentation. Each uses 2 steps of its lane.
+   * @param dest the array to fill
+   */
+  public void nextLongs(final long[] dest) {
+    nextLongs(dest, 0, dest.length);
+  }
+
+  /**
+   * Fills part of an array with pseudorandom {@code long} values, interleaved as described in the
+   * class documentation. Each uses 2 steps of its lane.
+   * @param dest the array to fill
+   * @param offset the index of the first element to fill
+   * @param length the number of elements to fill
+   * @throws IndexOutOfBoundsException if {@code offset} or {@code length} is negative, or {@code
+   *     offset + length > dest.length}
+   */
+  public void nextLongs(final long[] dest, final int offset, final int length) {
+    checkArrayRange(dest.length, offset, length);
+    if (length > 0) {
+      Kernels.KERNEL.xorShiftLongs(state, dest, offset, length);
+    }
+  }
+
+  static void checkArrayRange(final int arrayLength, final int offset, final int length) {
+    if (offset < 0 || length < 0 || length > arrayLength - offset) {
+      throw new IndexOutOfBoundsException(String.format(
+          "Range of %d elements starting at %d is out of bounds for length %d", length, offset,
+          arrayLength));
+    }
+  }
+
+  @Override public String toString() {
+    return "XorShiftLanes(lanes=" + getLanes() + ")";
+  }
+}
@@ -0,0 +1,23 @@
+package io.github.pr0methean.betterrandom.vector;
+
+import static io.github.pr0methean.betterrandom.vector.ScalarLaneKernel.SCALAR_LANE_KERNEL;
+import static io.github.pr0methean.betterrandom.vector.VectorLaneKernel.VECTOR_LANE_KERNEL;
+
+/**
+ * Holds the {@link LaneKernel} in use: {@link VectorLaneKernel} if the {@code
+ * jdk.incubator.vector} module is present and the hardware has SIMD registers, and otherwise the
+ * scalar one. Replaces the Java 8 version of this class on Java 17 and later.
+ */
+enum Kernels {
+  ;
+
+  static final LaneKernel KERNEL = chooseKernel();
+
+  private static LaneKernel chooseKernel() {
+    // VectorLaneKernel can't even be loaded without the module
+    if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+      return SCALAR_LANE_KERNEL;
+    }
+    return VectorLaneKernel.isAccelerated() ? VECTOR_LANE_KERNEL : SCALAR_LANE_KERNEL;
+  }
+}
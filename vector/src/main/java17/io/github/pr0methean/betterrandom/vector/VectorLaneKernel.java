@@ -0,0 +1,225 @@
+package io.github.pr0methean.betterrandom.vector;
+
+import static io.github.pr0methean.betterrandom.vector.ScalarLaneKernel.PCG_INCREMENT;
+import static io.github.pr0methean.betterrandom.vector.ScalarLaneKernel.PCG_MASK;
+import static io.github.pr0methean.betterrandom.vector.ScalarLaneKernel.PCG_MULTIPLIER;
+import static io.github.pr0methean.betterrandom.vector.ScalarLaneKernel.PCG_ROTATION1;
+import static io.github.pr0methean.betterrandom.vector.ScalarLaneKernel.PCG_ROTATION2;
+import static io.github.pr0methean.betterrandom.vector.ScalarLaneKernel.PCG_ROTATION3;
+import static io.github.pr0methean.betterrandom.vector.ScalarLaneKernel.fullSteps;
+import static jdk.incubator.vector.VectorOperators.ASHR;
+import static jdk.incubator.vector.VectorOperators.I2L;
+import static jdk.incubator.vector.VectorOperators.L2I;
+import static jdk.incubator.vector.VectorOperators.LSHL;
+import static jdk.incubator.vector.VectorOperators.LSHR;
+import static jdk.incubator.vector.VectorOperators.OR;
+import static jdk.incubator.vector.VectorOperators.XOR;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Runs as many lanes as fit in the preferred vector shape at once, and leaves any remaining lanes to
+ * {@link ScalarLaneKernel}. Only loaded when the {@code jdk.incubator.vector} module is present.
+ */
+enum VectorLaneKernel implements LaneKernel {
+  VECTOR_LANE_KERNEL;
+
+  private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+  /** Same shape as {@link #INTS}, so an int vector converts to 2 parts of this species. */
+  private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+  /** Half the shape of {@link #LONGS}, so a long vector converts to exactly one of this species. */
+  private static final VectorSpecies<Integer> NARROWED_INTS = VectorSpecies.of(int.class,
+      VectorShape.forBitSize(LONGS.vectorBitSize() / 2));
+  private static final long LOW_INT_MASK = 0xFFFF_FFFFL;
+
+  /**
+   * Returns whether the preferred vector shape holds at least 2 longs. If not, the vector
+   * operations would run in software.
+   * @return true if this kernel is worth using
+   */
+  static boolean isAccelerated() {
+    return LONGS.length() >= 2;
+  }
+
+  private static LongVector pcgOutput(final LongVector oldState) {
+    final LongVector xorshifted = oldState.lanewise(LSHR, PCG_ROTATION1).lanewise(XOR, oldState)
+        .lanewise(LSHR, PCG_ROTATION2).and(LOW_INT_MASK);
+    final LongVector rot = oldState.lanewise(LSHR, PCG_ROTATION3);
+    // Only the low 32 bits of the result are meaningful
+    return xorshifted.lanewise(LSHR, rot)
+        .lanewise(OR, xorshifted.lanewise(LSHL, rot.neg().and(PCG_MASK)));
+  }
+
+  @Override public void xorShiftInts(final int[][] state, final int[] dest, final int offset,
+      final int length) {
+    final int lanes = state[0].length;
+    final int width = INTS.length();
+    final int fullSteps = fullSteps(lanes, length);
+    final int lastStepLanes = length - (fullSteps * lanes);
+    int lane = 0;
+    for (; lane <= lanes - width; lane += width) {
+      IntVector s1 = IntVector.fromArray(INTS, state[0], lane);
+      IntVector s2 = IntVector.fromArray(INTS, state[1], lane);
+      IntVector s3 = IntVector.fromArray(INTS, state[2], lane);
+      IntVector s4 = IntVector.fromArray(INTS, state[3], lane);
+      IntVector s5 = IntVector.fromArray(INTS, state[4], lane);
+      int index = offset + lane;
+      for (int step = 0; step <= fullSteps; step++) {
+        final IntVector t = s1.lanewise(XOR, s1.lanewise(ASHR, 7));
+        s1 = s2;
+        s2 = s3;
+        s3 = s4;
+        s4 = s5;
+        s5 = s5.lanewise(XOR, s5.lanewise(LSHL, 6))
+            .lanewise(XOR, t.lanewise(XOR, t.lanewise(LSHL, 13)));
+        final IntVector output = s2.add(s2).add(1).mul(s5);
+        if (step < fullSteps) {
+          output.intoArray(dest, index);
+        } else if (lane < lastStepLanes) {
+          output.intoArray(dest, index, INTS.indexInRange(lane, lastStepLanes));
+        }
+        index += lanes;
+      }
+      s1.intoArray(state[0], lane);
+      s2.intoArray(state[1], lane);
+      s3.intoArray(state[2], lane);
+      s4.intoArray(state[3], lane);
+      s5.intoArray(state[4], lane);
+    }
+    if (lane < lanes) {
+      ScalarLaneKernel.xorShiftInts(state, dest, offset, length, lane);
+    }
+  }
+
+  @Override public void xorShiftLongs(final int[][] state, final long[] dest, final int offset,
+      final int length) {
+    final int lanes = state[0].length;
+    final int width = INTS.length();
+    final int halfWidth = LONGS.length();
+    final int fullSteps = fullSteps(lanes, length);
+    final int lastStepLanes = length - (fullSteps * lanes);
+    int lane = 0;
+    for (; lane <= lanes - width; lane += width) {
+      IntVector s1 = IntVector.fromArray(INTS, state[0], lane);
+      IntVector s2 = IntVector.fromArray(INTS, state[1], lane);
+      IntVector s3 = IntVector.fromArray(INTS, state[2], lane);
+      IntVector s4 = IntVector.fromArray(INTS, state[3], lane);
+      IntVector s5 = IntVector.fromArray(INTS, state[4], lane);
+      int index = offset + lane;
+      for (int step = 0; step <= fullSteps; step++) {
+        IntVector t = s1.lanewise(XOR, s1.lanewise(ASHR, 7));
+        s1 = s2;
+        s2 = s3;
+        s3 = s4;
+        s4 = s5;
+        s5 = s5.lanewise(XOR, s5.lanewise(LSHL, 6))
+            .lanewise(XOR, t.lanewise(XOR, t.lanewise(LSHL, 13)));
+        final IntVector high = s2.add(s2).add(1).mul(s5);
+        t = s1.lanewise(XOR, s1.lanewise(ASHR, 7));
+        s1 = s2;
+        s2 = s3;
+        s3 = s4;
+        s4 = s5;
+        s5 = s5.lanewise(XOR, s5.lanewise(LSHL, 6))
+            .lanewise(XOR, t.lanewise(XOR, t.lanewise(LSHL, 13)));
+        final IntVector low = s2.add(s2).add(1).mul(s5);
+        // I2L sign-extends the low half, as adding an int to a long does
+        final LongVector firstHalf = ((LongVector) high.convertShape(I2L, LONGS, 0))
+            .lanewise(LSHL, 32).add((LongVector) low.convertShape(I2L, LONGS, 0));
+        final LongVector secondHalf = ((LongVector) high.convertShape(I2L, LONGS, 1))
+            .lanewise(LSHL, 32).add((LongVector) low.convertShape(I2L, LONGS, 1));
+        if (step < fullSteps) {
+          firstHalf.intoArray(dest, index);
+          secondHalf.intoArray(dest, index + halfWidth);
+        } else {
+          if (lane < lastStepLanes) {
+            firstHalf.intoArray(dest, index, LONGS.indexInRange(lane, lastStepLanes));
+          }
+          if (lane + halfWidth < lastStepLanes) {
+            secondHalf.intoArray(dest, index + halfWidth,
+                LONGS.indexInRange(lane + halfWidth, lastStepLanes));
+          }
+        }
+        index += lanes;
+      }
+      s1.intoArray(state[0], lane);
+      s2.intoArray(state[1], lane);
+      s3.intoArray(state[2], lane);
+      s4.intoArray(state[3], lane);
+      s5.intoArray(state[4], lane);
+    }
+    if (lane < lanes) {
+      ScalarLaneKernel.xorShiftLongs(state, dest, offset, length, lane);
+    }
+  }
+
+  @Override public void pcgInts(final long[] state, final int[] dest, final int offset,
+      final int length) {
+    final int lanes = state.length;
+    final int width = LONGS.length();
+    final int fullSteps = fullSteps(lanes, length);
+    final int lastStepLanes = length - (fullSteps * lanes);
+    int lane = 0;
+    for (; lane <= lanes - width; lane += width) {
+      LongVector s = LongVector.fromArray(LONGS, state, lane);
+      int index = offset + lane;
+      for (int step = 0; step <= fullSteps; step++) {
+        final LongVector old = s;
+        s = s.mul(PCG_MULTIPLIER).add(PCG_INCREMENT);
+        final IntVector output = (IntVector) pcgOutput(old).convertShape(L2I, NARROWED_INTS, 0);
+        if (step < fullSteps) {
+          output.intoArray(dest, index);
+        } else if (lane < lastStepLanes) {
+          output.intoArray(dest, index, NARROWED_INTS.indexInRange(lane, lastStepLanes));
+        }
+        index += lanes;
+      }
+      s.intoArray(state, lane);
+    }
+    if (lane < lanes) {
+      ScalarLaneKernel.pcgInts(state, dest, offset, length, lane);
+    }
+  }
+
+  @Override public void pcgLongs(final long[] state, final long[] dest, final int offset,
+      final int length) {
+    final int lanes = state.length;
+    final int width = LONGS.length();
+    final int fullSteps = fullSteps(lanes, length);
+    final int lastStepLanes = length - (fullSteps * lanes);
+    int lane = 0;
+    for (; lane <= lanes - width; lane += width) {
+      LongVector s = LongVector.fromArray(LONGS, state, lane);
+      int index = offset + lane;
+      for (int step = 0; step <= fullSteps; step++) {
+        final LongVector highState = s;
+        final LongVector lowState = s.mul(PCG_MULTIPLIER).add(PCG_INCREMENT);
+        s = lowState.mul(PCG_MULTIPLIER).add(PCG_INCREMENT);
+        // Shifting left then arithmetic right sign-extends the low half
+        final LongVector output = pcgOutput(highState).lanewise(LSHL, 32)
+            .add(pcgOutput(lowState).lanewise(LSHL, 32).lanewise(ASHR, 32));
+        if (step < fullSteps) {
+          output.intoArray(dest, index);
+        } else if (lane < lastStepLanes) {
+          output.intoArray(dest, index, LONGS.indexInRange(lane, lastStepLanes));
+        }
+        index += lanes;
+      }
+      s.intoArray(state, lane);
+    }
+    if (lane < lanes) {
+      ScalarLaneKernel.pcgLongs(state, dest, offset, length, lane);
+    }
+  }
+
+  @Override public int xorShiftWidth() {
+    return INTS.length();
+  }
+
+  @Override public int pcgWidth() {
+    return LONGS.length();
+  }
+}
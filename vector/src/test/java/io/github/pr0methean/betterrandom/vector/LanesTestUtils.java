@@ -0,0 +1,86 @@
+package io.github.pr0methean.betterrandom.vector;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+enum LanesTestUtils {
+  ;
+
+  /** Lengths to fill in turn, as multiples of the lane count plus a constant. */
+  private static final int[][] LENGTHS = {{0, 1}, {3, 0}, {0, 7}, {5, 1}, {0, 1000}, {0, 0}, {2, 3}};
+  private static final int OFFSET = 3;
+  private static final int SENTINEL = 0x5EED;
+
+  static Object[][] laneCounts() {
+    return new Object[][]{{1}, {3}, {8}, {16}, {19}, {32}, {64}};
+  }
+
+  interface IntFiller {
+    void fill(int[] dest, int offset, int length);
+  }
+
+  interface LongFiller {
+    void fill(long[] dest, int offset, int length);
+  }
+
+  /**
+   * Fills several arrays in turn and checks them against the interleaved output of a reference PRNG
+   * for each lane, including that every lane discards the outputs that don't fit.
+   * @param lanes the lanes under test
+   * @param references a supplier of each lane's expected output
+   */
+  static void checkInts(final IntFiller lanes, final IntSupplier[] references) {
+    final int laneCount = references.length;
+    for (final int[] lengthTerms : LENGTHS) {
+      final int length = (lengthTerms[0] * laneCount) + lengthTerms[1];
+      final int[] expected = new int[length + (2 * OFFSET)];
+      final int[] actual = new int[expected.length];
+      Arrays.fill(expected, SENTINEL);
+      Arrays.fill(actual, SENTINEL);
+      final int steps = (length + laneCount - 1) / laneCount;
+      for (int step = 0; step < steps; step++) {
+        for (int lane = 0; lane < laneCount; lane++) {
+          final int output = references[lane].getAsInt();
+          final int index = (step * laneCount) + lane;
+          if (index < length) {
+            expected[OFFSET + index] = output;
+          }
+        }
+      }
+      lanes.fill(actual, OFFSET, length);
+      assertEquals(actual, expected, "Wrong output for length " + length);
+    }
+  }
+
+  /**
+   * Fills several arrays in turn and checks them against the interleaved output of a reference PRNG
+   * for each lane, including that every lane discards the outputs that don't fit.
+   * @param lanes the lanes under test
+   * @param references a supplier of each lane's expected output
+   */
+  static void checkLongs(final LongFiller lanes, final LongSupplier[] references) {
+    final int laneCount = references.length;
+    for (final int[] lengthTerms : LENGTHS) {
+      final int length = (lengthTerms[0] * laneCount) + lengthTerms[1];
+      final long[] expected = new long[length + (2 * OFFSET)];
+      final long[] actual = new long[expected.length];
+      Arrays.fill(expected, SENTINEL);
+      Arrays.fill(actual, SENTINEL);
+      final int steps = (length + laneCount - 1) / laneCount;
+      for (int step = 0; step < steps; step++) {
+        for (int lane = 0; lane < laneCount; lane++) {
+          final long output = references[lane].getAsLong();
+          final int index = (step * laneCount) + lane;
+          if (index < length) {
+            expected[OFFSET + index] = output;
+          }
+        }
+      }
+      lanes.fill(actual, OFFSET, length);
+      assertEquals(actual, expected, "Wrong output for length " + length);
+    }
+  }
+}
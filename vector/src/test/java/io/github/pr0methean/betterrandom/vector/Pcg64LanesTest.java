@@ -0,0 +1,89 @@
+package io.github.pr0methean.betterrandom.vector;
+
+import static org.testng.Assert.assertEquals;
+
+import io.github.pr0methean.betterrandom.prng.Pcg64Random;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+public class Pcg64LanesTest {
+
+  private static final byte[] SEED = {1, 2, 3, 4, 5, 6, 7, 8};
+  private static final long LANE_SPACING = 1L << 58;
+
+  @DataProvider(name = "lanes") public static Object[][] getLaneCounts() {
+    return LanesTestUtils.laneCounts();
+  }
+
+  /** Returns a copy of the source PRNG for each lane, advanced to where that lane starts. */
+  private static Pcg64Random[] createReferences(final int lanes) {
+    final Pcg64Random[] references = new Pcg64Random[lanes];
+    for (int lane = 0; lane < lanes; lane++) {
+      references[lane] = new Pcg64Random(SEED);
+      references[lane].advance(lane * LANE_SPACING);
+    }
+    return references;
+  }
+
+  @Test(dataProvider = "lanes") public void testNextInts(final int lanes) {
+    final Pcg64Lanes lanesUnderTest = new Pcg64Lanes(new Pcg64Random(SEED), lanes);
+    assertEquals(lanesUnderTest.getLanes(), lanes);
+    final Pcg64Random[] references = createReferences(lanes);
+    final IntSupplier[] suppliers = new IntSupplier[lanes];
+    for (int lane = 0; lane < lanes; lane++) {
+      suppliers[lane] = references[lane]::nextInt;
+    }
+    LanesTestUtils.checkInts(lanesUnderTest::nextInts, suppliers);
+  }
+
+  @Test(dataProvider = "lanes") public void testNextLongs(final int lanes) {
+    final Pcg64Lanes lanesUnderTest = new Pcg64Lanes(new Pcg64Random(SEED), lanes);
+    final Pcg64Random[] references = createReferences(lanes);
+    final LongSupplier[] suppliers = new LongSupplier[lanes];
+    for (int lane = 0; lane < lanes; lane++) {
+      suppliers[lane] = references[lane]::nextLong;
+    }
+    LanesTestUtils.checkLongs(lanesUnderTest::nextLongs, suppliers);
+  }
+
+  @Test public void testOneLaneMatchesSource() {
+    final Pcg64Lanes lanes = new Pcg64Lanes(new Pcg64Random(SEED), 1);
+    final Pcg64Random source = new Pcg64Random(SEED);
+    final int[] expectedInts = new int[100];
+    final int[] actualInts = new int[100];
+    source.nextInts(expectedInts, 0, 100);
+    lanes.nextInts(actualInts);
+    assertEquals(actualInts, expectedInts);
+    final long[] expectedLongs = new long[100];
+    final long[] actualLongs = new long[100];
+    source.nextLongs(expectedLongs, 0, 100);
+    lanes.nextLongs(actualLongs);
+    assertEquals(actualLongs, expectedLongs);
+  }
+
+  @Test public void testSourceUnchanged() {
+    final Pcg64Random source = new Pcg64Random(SEED);
+    new Pcg64Lanes(source, Pcg64Lanes.MAX_LANES).nextInts(new int[1000]);
+    assertEquals(source.getSeed(), SEED);
+  }
+
+  @Test public void testPreferredLanes() {
+    final int preferredLanes = Pcg64Lanes.getPreferredLanes();
+    assertEquals(preferredLanes > 1, Pcg64Lanes.isVectorized());
+    new Pcg64Lanes(new Pcg64Random(SEED), preferredLanes);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class) public void testZeroLanes() {
+    new Pcg64Lanes(new Pcg64Random(SEED), 0);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class) public void testTooManyLanes() {
+    new Pcg64Lanes(new Pcg64Random(SEED), Pcg64Lanes.MAX_LANES + 1);
+  }
+
+  @Test(expectedExceptions = IndexOutOfBoundsException.class) public void testRangeCheck() {
+    new Pcg64Lanes(new Pcg64Random(SEED), 4).nextLongs(new long[10], 5, 6);
+  }
+}
@@ -0,0 +1,16 @@
+package io.github.pr0methean.betterrandom.vector;
+
+import static org.testng.Assert.assertTrue;
+
+import org.testng.annotations.Test;
+
+/**
+ * Runs the tests of {@link XorShiftLanesTest} against the multi-release JAR on Java 17 and later, so
+ * that they cover the SIMD kernels.
+ */
+public class XorShiftLanesIT extends XorShiftLanesTest {
+
+  @Test public void testVectorized() {
+    assertTrue(XorShiftLanes.isVectorized(), "SIMD kernels not in use");
+  }
+}
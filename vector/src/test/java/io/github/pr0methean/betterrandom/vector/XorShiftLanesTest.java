@@ -0,0 +1,91 @@
+package io.github.pr0methean.betterrandom.vector;
+
+import static org.testng.Assert.assertEquals;
+
+import io.github.pr0methean.betterrandom.prng.XorShiftRandom;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+public class XorShiftLanesTest {
+
+  private static final byte[] SEED = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17,
+      18, 19, 20};
+
+  @DataProvider(name = "lanes") public static Object[][] getLaneCounts() {
+    return LanesTestUtils.laneCounts();
+  }
+
+  /** Returns a copy of the source PRNG for each lane, advanced to where that lane starts. */
+  private static XorShiftRandom[] createReferences(final int lanes) {
+    final XorShiftRandom[] references = new XorShiftRandom[lanes];
+    for (int lane = 0; lane < lanes; lane++) {
+      references[lane] = new XorShiftRandom(SEED);
+      for (int i = 0; i < lane; i++) {
+        references[lane].advance(1, 0);
+      }
+    }
+    return references;
+  }
+
+  @Test(dataProvider = "lanes") public void testNextInts(final int lanes) {
+    final XorShiftLanes lanesUnderTest = new XorShiftLanes(new XorShiftRandom(SEED), lanes);
+    assertEquals(lanesUnderTest.getLanes(), lanes);
+    final XorShiftRandom[] references = createReferences(lanes);
+    final IntSupplier[] suppliers = new IntSupplier[lanes];
+    for (int lane = 0; lane < lanes; lane++) {
+      suppliers[lane] = references[lane]::nextInt;
+    }
+    LanesTestUtils.checkInts(lanesUnderTest::nextInts, suppliers);
+  }
+
+  @Test(dataProvider = "lanes") public void testNextLongs(final int lanes) {
+    final XorShiftLanes lanesUnderTest = new XorShiftLanes(new XorShiftRandom(SEED), lanes);
+    final XorShiftRandom[] references = createReferences(lanes);
+    final LongSupplier[] suppliers = new LongSupplier[lanes];
+    for (int lane = 0; lane < lanes; lane++) {
+      suppliers[lane] = references[lane]::nextLong;
+    }
+    LanesTestUtils.checkLongs(lanesUnderTest::nextLongs, suppliers);
+  }
+
+  @Test public void testOneLaneMatchesSource() {
+    final XorShiftLanes lanes = new XorShiftLanes(new XorShiftRandom(SEED), 1);
+    final XorShiftRandom source = new XorShiftRandom(SEED);
+    final int[] expectedInts = new int[100];
+    final int[] actualInts = new int[100];
+    source.nextInts(expectedInts, 0, 100);
+    lanes.nextInts(actualInts);
+    assertEquals(actualInts, expectedInts);
+    final long[] expectedLongs = new long[100];
+    final long[] actualLongs = new long[100];
+    source.nextLongs(expectedLongs, 0, 100);
+    lanes.nextLongs(actualLongs);
+    assertEquals(actualLongs, expectedLongs);
+  }
+
+  @Test public void testSourceUnchanged() {
+    final XorShiftRandom source = new XorShiftRandom(SEED);
+    new XorShiftLanes(source, XorShiftLanes.MAX_LANES).nextInts(new int[1000]);
+    assertEquals(source.getSeed(), SEED);
+  }
+
+  @Test public void testPreferredLanes() {
+    final int preferredLanes = XorShiftLanes.getPreferredLanes();
+    assertEquals(preferredLanes > 1, XorShiftLanes.isVectorized());
+    new XorShiftLanes(new XorShiftRandom(SEED), preferredLanes);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class) public void testZeroLanes() {
+    new XorShiftLanes(new XorShiftRandom(SEED), 0);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class) public void testTooManyLanes() {
+    new XorShiftLanes(new XorShiftRandom(SEED), XorShiftLanes.MAX_LANES + 1);
+  }
+
+  @Test(expectedExceptions = IndexOutOfBoundsException.class) public void testRangeCheck() {
+    new XorShiftLanes(new XorShiftRandom(SEED), 4).nextLongs(new long[10], 5, 6);
+  }
+}